@@ -6,6 +6,7 @@ import org.orury.admin.post.application.PostService;
 import org.orury.admin.user.UserService;
 import org.orury.domain.admin.domain.dto.AdminDto;
 import org.orury.domain.auth.domain.RefreshTokenStore;
+import org.orury.domain.auth.domain.TokenRevocationStore;
 import org.orury.domain.post.domain.dto.PostDto;
 import org.orury.domain.user.domain.dto.UserDto;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ public class AdminFacade {
     private final PostService postService;
     private final UserService userService;
     private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationStore tokenRevocationStore;
 
     public AdminDto getAdmin(Long adminId) {
         return adminService.getAdmin(adminId);
@@ -42,6 +44,8 @@ public class AdminFacade {
         var user = userService.getUser(userId);
         refreshTokenStore.delete(userId);
         userService.banUser(user);
+        // 이미 발급된 액세스 토큰은 클라이언트 서버들이 폐기 기록을 읽어 다음 갱신 주기부터 거절합니다.
+        tokenRevocationStore.revoke(userId);
     }
 
     public PostDto getPost(Long postId) {
@@ -3,62 +3,81 @@ package org.orury.batch.client;
 import lombok.extern.slf4j.Slf4j;
 import org.orury.batch.dto.GymResponse;
 import org.orury.batch.dto.KakaoMapGymResponse;
-import org.orury.batch.util.Constant;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
-@Configuration
+@Component
 public class KakaoMapClient {
-    @Value("${spring.kakao.key}")
-    private String env;
+    // 카카오 키워드 검색은 최대 3페이지(45건)까지만 제공합니다.
+    private static final int MAXIMUM_PAGE = 3;
 
-    @Value("${spring.kakao.baseurl}")
-    private String BASE_URL;
+    private final WebClient webClient;
 
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl(BASE_URL)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, env)
+    public KakaoMapClient(
+            @Value("${spring.kakao.key}") String key,
+            @Value("${spring.kakao.baseurl}") String baseUrl
+    ) {
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, key)
                 .build();
     }
 
-    public KakaoMapGymResponse searchGyms(String location, int page) {
+    public Mono<KakaoMapGymResponse> searchGyms(String location, int page) {
         String queryParam = "서울시" + location + "클라이밍";
-        return webClient().get()
+        return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .queryParam("query", queryParam)
                         .queryParam("page", page)
                         .build()
                 )
                 .retrieve()
-                .bodyToMono(KakaoMapGymResponse.class)
-                .block();
+                .bodyToMono(KakaoMapGymResponse.class);
     }
 
-    public List<GymResponse> getItems() {
-        List<KakaoMapGymResponse> items = new ArrayList<>();
-        Constant.LOCATIONS.forEach(location -> {
-            for (int page = 1; page <= 3; page++) {
-                var response = searchGyms(location, page);
-                items.add(response);
-                if (response.getMeta()
-                        .getIsEnd()) break;
-            }
-        });
+    /**
+     * 지역별 검색 결과를 페이지 단위로 이어 받습니다.
+     * 최대 concurrency개 지역을 동시에 조회하되, 결과는 locations 순서(지역 안에서는 페이지 순서)대로 내보냅니다.
+     * 구독자가 요청한 만큼만 페이지를 가져오므로(backpressure), 전체 결과를 메모리에 모으지 않습니다.
+     */
+    public Flux<LocatedGym> streamGyms(List<String> locations, int concurrency) {
+        return Flux.range(0, locations.size())
+                .flatMapSequential(
+                        locationIndex -> streamGyms(locationIndex, locations.get(locationIndex)),
+                        concurrency,
+                        1
+                );
+    }
+
+    private Flux<LocatedGym> streamGyms(int locationIndex, String location) {
+        return searchPage(location, 1)
+                .expand(page -> (page.isLast()) ? Mono.empty() : searchPage(location, page.page() + 1))
+                .concatMapIterable(page -> page.response().getDocuments())
+                .map(document -> new LocatedGym(locationIndex, GymResponse.from(document)));
+    }
+
+    private Mono<SearchedPage> searchPage(String location, int page) {
+        return searchGyms(location, page)
+                .map(response -> new SearchedPage(
+                        page,
+                        response,
+                        page >= MAXIMUM_PAGE || response.getMeta().getIsEnd())
+                );
+    }
+
+    /**
+     * locationIndex: 검색한 지역의 locations 내 위치
+     */
+    public record LocatedGym(int locationIndex, GymResponse gym) {
+    }
 
-        return items.stream()
-                .map(KakaoMapGymResponse::getDocuments)
-                .flatMap(List::stream)
-                .map(GymResponse::from)
-                .collect(Collectors.toList());
+    private record SearchedPage(int page, KakaoMapGymResponse response, boolean isLast) {
     }
 }
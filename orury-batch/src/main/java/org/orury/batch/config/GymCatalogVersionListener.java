@@ -0,0 +1,40 @@
+package org.orury.batch.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.job.GymUpsertWriter;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 암장 배치가 끝나면 catalog_version을 올려, client의 GymCatalog가 다음 갱신 주기에 다시 적재하게 합니다.
+ * 새로 들어오거나 바뀐 암장이 없다면 버전을 그대로 두어, 불필요한 재적재를 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymCatalogVersionListener implements JobExecutionListener {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) return;
+
+        long changedCount = jobExecution.getStepExecutions().stream()
+                .mapToLong(stepExecution -> stepExecution.getExecutionContext().getLong(GymUpsertWriter.INSERTED_COUNT_KEY, 0L)
+                        + stepExecution.getExecutionContext().getLong(GymUpsertWriter.UPDATED_COUNT_KEY, 0L))
+                .sum();
+        if (changedCount == 0) {
+            log.info("gym catalog version kept after {}, no gym changed", jobExecution.getJobInstance().getJobName());
+            return;
+        }
+        jdbcTemplate.update(SqlQuery.INCREASE_GYM_CATALOG_VERSION, Map.of());
+        log.info("gym catalog version increased after {}, {} gyms changed", jobExecution.getJobInstance().getJobName(), changedCount);
+    }
+}
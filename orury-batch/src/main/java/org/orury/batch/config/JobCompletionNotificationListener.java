@@ -1,9 +1,11 @@
 package org.orury.batch.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.job.GymUpsertWriter;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,5 +16,16 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
         if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
             log.info("!!! JOB FINISHED! Time to verify the results");
         }
+        jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getExecutionContext().containsKey(GymUpsertWriter.INSERTED_COUNT_KEY))
+                .forEach(stepExecution -> {
+                    ExecutionContext context = stepExecution.getExecutionContext();
+                    log.info("{} gyms inserted: {}, updated: {}, unchanged: {}, disappeared: {}",
+                            stepExecution.getStepName(),
+                            context.getLong(GymUpsertWriter.INSERTED_COUNT_KEY, 0L),
+                            context.getLong(GymUpsertWriter.UPDATED_COUNT_KEY, 0L),
+                            context.getLong(GymUpsertWriter.UNCHANGED_COUNT_KEY, 0L),
+                            (context.containsKey(GymUpsertWriter.DISAPPEARED_COUNT_KEY)) ? context.getLong(GymUpsertWriter.DISAPPEARED_COUNT_KEY) : "-");
+                });
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.orury.batch.dto;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -11,6 +13,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class KakaoMapGymResponse {
     private List<Documents> documents;
 
@@ -19,6 +22,7 @@ public class KakaoMapGymResponse {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static class Documents {
         private String addressName;
         private String categoryGroupCode;
@@ -37,6 +41,7 @@ public class KakaoMapGymResponse {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static class Meta {
         private Boolean isEnd;
         private Integer pageableCount;
@@ -45,6 +50,7 @@ public class KakaoMapGymResponse {
         @Getter
         @NoArgsConstructor
         @AllArgsConstructor
+        @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
         public static class SameName {
             private String keyword;
             private List<String> region;
@@ -0,0 +1,44 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.config.JobCompletionNotificationListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@Configuration
+public class CrewJobConfiguration {
+    private static final int CREW_CHUNK_SIZE = 500;
+
+    @Bean
+    public Job crewLastMeetingAtJob(
+            JobRepository jobRepository,
+            @Qualifier("crewLastMeetingAtStep") Step step
+    ) {
+        return new JobBuilder("crewLastMeetingAtJob", jobRepository)
+                .listener(new JobCompletionNotificationListener())
+                .start(step)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    @Bean
+    public Step crewLastMeetingAtStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            NamedParameterJdbcTemplate jdbcTemplate
+    ) {
+        return new StepBuilder("crewLastMeetingAtStep", jobRepository)
+                .tasklet(new CrewLastMeetingAtTasklet(jdbcTemplate, CREW_CHUNK_SIZE), transactionManager)
+                .build();
+    }
+}
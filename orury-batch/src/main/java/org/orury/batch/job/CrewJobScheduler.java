@@ -0,0 +1,34 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CrewJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job crewLastMeetingAtJob;
+
+    public CrewJobScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("crewLastMeetingAtJob") Job crewLastMeetingAtJob
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.crewLastMeetingAtJob = crewLastMeetingAtJob;
+    }
+
+    //매일 새벽 4시 30분마다 (기존 크루 backfill 및 누락분 보정)
+    @Scheduled(cron = "0 30 4 * * *")
+    public void runCrewLastMeetingAtJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+        jobLauncher.run(crewLastMeetingAtJob, jobParameters);
+    }
+}
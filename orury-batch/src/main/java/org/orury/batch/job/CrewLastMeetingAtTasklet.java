@@ -0,0 +1,48 @@
+package org.orury.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * crew.last_meeting_at 을 crew_meeting 의 MAX(created_at) 으로 다시 채운다.
+ * 크루 id 순으로 chunkSize 만큼씩 끊어서 갱신하고, 마지막으로 처리한 id를 ExecutionContext 에 남겨 재시작 시 이어서 진행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CrewLastMeetingAtTasklet implements Tasklet {
+    static final String LAST_CREW_ID_KEY = "lastCrewId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastCrewId = executionContext.getLong(LAST_CREW_ID_KEY, 0L);
+
+        List<Long> crewIds = jdbcTemplate.queryForList(
+                SqlQuery.SELECT_CREW_IDS_AFTER,
+                Map.of("lastCrewId", lastCrewId, "limit", chunkSize),
+                Long.class
+        );
+        if (crewIds.isEmpty()) {
+            log.info("crew last_meeting_at backfill finished. lastCrewId: {}", lastCrewId);
+            return RepeatStatus.FINISHED;
+        }
+
+        int updated = jdbcTemplate.update(SqlQuery.UPDATE_CREW_LAST_MEETING_AT, Map.of("crewIds", crewIds));
+        contribution.incrementWriteCount(updated);
+        executionContext.putLong(LAST_CREW_ID_KEY, crewIds.get(crewIds.size() - 1));
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -1,22 +1,84 @@
 package org.orury.batch.job;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.client.KakaoMapClient;
+import org.orury.batch.client.KakaoMapClient.LocatedGym;
 import org.orury.batch.dto.GymResponse;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * 카카오 지역 검색 결과를 필요한 만큼씩 받아 읽는 reader입니다.
+ * 완료한 지역 수와 현재 지역에서 읽은 건수를 ExecutionContext에 저장해, 재시작하면 그 다음 건부터 읽습니다.
+ */
 @Slf4j
-@RequiredArgsConstructor
-public class GymItemReader implements ItemReader<GymResponse> {
-    private final List<GymResponse> items;
+public class GymItemReader implements ItemStreamReader<GymResponse> {
+    static final String LOCATION_INDEX_KEY = "gymItemReader.locationIndex";
+    static final String READ_COUNT_IN_LOCATION_KEY = "gymItemReader.readCountInLocation";
+
+    private final KakaoMapClient kakaoMapClient;
+    private final List<String> locations;
+    private final int concurrency;
+    private final int bufferSize;
+
+    private Stream<LocatedGym> stream;
+    private Iterator<LocatedGym> iterator;
+    private int locationIndex;
+    private int readCountInLocation;
+
+    public GymItemReader(KakaoMapClient kakaoMapClient, List<String> locations, int concurrency, int bufferSize) {
+        this.kakaoMapClient = kakaoMapClient;
+        this.locations = locations;
+        this.concurrency = concurrency;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        locationIndex = executionContext.getInt(LOCATION_INDEX_KEY, 0);
+        readCountInLocation = executionContext.getInt(READ_COUNT_IN_LOCATION_KEY, 0);
+        if (locationIndex > 0 || readCountInLocation > 0) {
+            log.info("restart gym reader from location {}({}), skip {} items", locationIndex,
+                    (locationIndex < locations.size()) ? locations.get(locationIndex) : "-", readCountInLocation);
+        }
+
+        int startIndex = locationIndex;
+        stream = kakaoMapClient.streamGyms(locations.subList(startIndex, locations.size()), concurrency)
+                .map(located -> new LocatedGym(startIndex + located.locationIndex(), located.gym()))
+                .skip(readCountInLocation)
+                .toStream(bufferSize);
+        iterator = stream.iterator();
+    }
 
     @Override
     public GymResponse read() {
-        if (!items.isEmpty()) {
-            return items.remove(0);
+        if (!iterator.hasNext()) return null;
+
+        LocatedGym located = iterator.next();
+        if (located.locationIndex() != locationIndex) {
+            locationIndex = located.locationIndex();
+            readCountInLocation = 0;
         }
-        return null;
+        readCountInLocation++;
+        return located.gym();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(LOCATION_INDEX_KEY, locationIndex);
+        executionContext.putInt(READ_COUNT_IN_LOCATION_KEY, readCountInLocation);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        // 다 읽기 전에 step이 끝나도 남은 페이지 요청을 취소합니다.
+        if (stream != null) stream.close();
+        stream = null;
+        iterator = null;
     }
 }
@@ -3,25 +3,25 @@ package org.orury.batch.job;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.orury.batch.client.KakaoMapClient;
+import org.orury.batch.config.GymCatalogVersionListener;
 import org.orury.batch.config.JobCompletionNotificationListener;
 import org.orury.batch.dto.GymResponse;
-import org.orury.batch.util.SqlQuery;
+import org.orury.batch.util.Constant;
 import org.orury.domain.gym.domain.entity.Gym;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import javax.sql.DataSource;
-
 @Slf4j
 @RequiredArgsConstructor
 @Configuration
@@ -31,10 +31,12 @@ public class GymJobConfiguration {
     @Bean
     public Job job(
             JobRepository jobRepository,
-            @Qualifier("kakaoClientStep") Step step
+            @Qualifier("kakaoClientStep") Step step,
+            GymCatalogVersionListener gymCatalogVersionListener
     ) {
         return new JobBuilder("job", jobRepository)
                 .listener(new JobCompletionNotificationListener())
+                .listener(gymCatalogVersionListener)
                 .start(step)
                 .incrementer(new RunIdIncrementer())
                 .build();
@@ -44,19 +46,25 @@ public class GymJobConfiguration {
     public Step kakaoClientStep(
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager,
-            DataSource dataSource
+            GymItemReader itemReader,
+            GymUpsertWriter itemWriter
     ) {
         return new StepBuilder("kakaoClientStep", jobRepository)
                 .<GymResponse, Gym>chunk(100, transactionManager)
-                .reader(itemReader())
+                .reader(itemReader)
                 .processor(itemProcessor())
-                .writer(itemWriter(dataSource))
+                .writer(itemWriter)
                 .build();
     }
 
+    // step이 시작될 때 만들어지고, 읽는 만큼만 카카오 API를 호출합니다.
     @Bean
-    public GymItemReader itemReader() {
-        return new GymItemReader(kakaoMapClient.getItems());
+    @StepScope
+    public GymItemReader itemReader(
+            @Value("${orury.batch.kakao.concurrency:4}") int concurrency,
+            @Value("${orury.batch.kakao.buffer-size:100}") int bufferSize
+    ) {
+        return new GymItemReader(kakaoMapClient, Constant.LOCATIONS, concurrency, bufferSize);
     }
 
     @Bean
@@ -64,12 +72,10 @@ public class GymJobConfiguration {
         return new GymItemProcessor();
     }
 
+    // 처리 건수를 step마다 새로 세도록 step 범위로 만듭니다. stream, listener로도 자동 등록됩니다.
     @Bean
-    public ItemWriter<Gym> itemWriter(DataSource dataSource) {
-        return new JdbcBatchItemWriterBuilder<Gym>()
-                .dataSource(dataSource)
-                .sql(SqlQuery.INSERT_GYM)
-                .beanMapped()
-                .build();
+    @StepScope
+    public GymUpsertWriter itemWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new GymUpsertWriter(jdbcTemplate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.config.JobCompletionNotificationListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+@Slf4j
+@Configuration
+public class GymReviewStatsJobConfiguration {
+    private static final int GYM_CHUNK_SIZE = 200;
+
+    @Bean
+    public Job gymReviewStatsJob(
+            JobRepository jobRepository,
+            @Qualifier("gymReviewStatsStep") Step step
+    ) {
+        return new JobBuilder("gymReviewStatsJob", jobRepository)
+                .listener(new JobCompletionNotificationListener())
+                .start(step)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    @Bean
+    public Step gymReviewStatsStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            NamedParameterJdbcTemplate jdbcTemplate
+    ) {
+        // 통계 행을 잠근 뒤 커밋된 리뷰까지 읽도록, chunk 마다 READ COMMITTED 로 실행한다.
+        DefaultTransactionAttribute transactionAttribute = new DefaultTransactionAttribute();
+        transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        return new StepBuilder("gymReviewStatsStep", jobRepository)
+                .tasklet(new GymReviewStatsTasklet(jdbcTemplate, GYM_CHUNK_SIZE), transactionManager)
+                .transactionAttribute(transactionAttribute)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class GymReviewStatsJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job gymReviewStatsJob;
+
+    public GymReviewStatsJobScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("gymReviewStatsJob") Job gymReviewStatsJob
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.gymReviewStatsJob = gymReviewStatsJob;
+    }
+
+    //매일 새벽 5시마다 (리뷰 통계 증감분 보정)
+    @Scheduled(cron = "0 0 5 * * *")
+    public void runGymReviewStatsJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+        jobLauncher.run(gymReviewStatsJob, jobParameters);
+    }
+}
@@ -0,0 +1,81 @@
+package org.orury.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.util.SqlQuery;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
+import org.orury.domain.gym.domain.entity.MonthlyScoresConverter;
+import org.orury.domain.gym.domain.entity.ScoreCountsConverter;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.Month;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gym_review_stats 를 review 테이블로부터 다시 계산한다. 리뷰 작성/수정/삭제 시 증감하던 값이 어긋났을 때의 보정용이다.
+ * 암장 id 순으로 chunkSize 만큼씩 끊어서 덮어쓰고, 마지막으로 처리한 id를 ExecutionContext 에 남겨 재시작 시 이어서 진행한다.
+ * 다시 계산하는 동안 들어온 리뷰 변경을 덮어쓰지 않도록, chunk 의 통계 행을 먼저 잠근 뒤 리뷰를 읽는다.
+ * 잠근 뒤에 커밋된 리뷰까지 읽어야 하므로 READ COMMITTED 트랜잭션에서 실행한다(GymReviewStatsJobConfiguration).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GymReviewStatsTasklet implements Tasklet {
+    static final String LAST_GYM_ID_KEY = "lastGymId";
+
+    private final ScoreCountsConverter scoreCountsConverter = new ScoreCountsConverter();
+    private final MonthlyScoresConverter monthlyScoresConverter = new MonthlyScoresConverter();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastGymId = executionContext.getLong(LAST_GYM_ID_KEY, 0L);
+
+        List<Long> gymIds = jdbcTemplate.queryForList(
+                SqlQuery.SELECT_GYM_IDS_AFTER,
+                Map.of("lastGymId", lastGymId, "limit", chunkSize),
+                Long.class
+        );
+        if (gymIds.isEmpty()) {
+            log.info("gym review stats rebuild finished. lastGymId: {}", lastGymId);
+            return RepeatStatus.FINISHED;
+        }
+
+        // 통계 행이 없는 암장도 행을 만들어 잠가, 첫 리뷰의 통계 변경도 이 chunk 가 커밋될 때까지 기다리게 한다.
+        // 리뷰 변경은 통계 행을 잠근 뒤에 반영하므로, 이미 반영된 변경은 아래에서 읽히고 반영되지 않은 변경은 덮어쓴 값 위에 더해진다.
+        SqlParameterSource[] gymIdParameters = gymIds.stream()
+                .map(gymId -> new MapSqlParameterSource("gymId", gymId))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(SqlQuery.LOCK_GYM_REVIEW_STATS, gymIdParameters);
+
+        // 리뷰가 없는 암장도 빈 통계로 덮어쓰도록 chunk 의 모든 암장으로 시작한다.
+        Map<Long, GymReviewStats> statsByGymId = new LinkedHashMap<>();
+        gymIds.forEach(gymId -> statsByGymId.put(gymId, GymReviewStats.of(gymId)));
+        jdbcTemplate.query(SqlQuery.SELECT_GYM_REVIEW_SCORE_COUNTS, Map.of("gymIds", gymIds), resultSet -> {
+            statsByGymId.get(resultSet.getLong("gym_id"))
+                    .add(resultSet.getFloat("score"), Month.of(resultSet.getInt("month")), resultSet.getInt("review_count"));
+        });
+
+        SqlParameterSource[] parameters = statsByGymId.values().stream()
+                .map(stats -> new MapSqlParameterSource()
+                        .addValue("gymId", stats.getGymId())
+                        .addValue("scoreCounts", scoreCountsConverter.convertToDatabaseColumn(stats.getScoreCounts()))
+                        .addValue("monthlyScores", monthlyScoresConverter.convertToDatabaseColumn(stats.getMonthlyScores())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(SqlQuery.UPSERT_GYM_REVIEW_STATS, parameters);
+        contribution.incrementWriteCount(parameters.length);
+        executionContext.putLong(LAST_GYM_ID_KEY, gymIds.get(gymIds.size() - 1));
+        return RepeatStatus.CONTINUABLE;
+    }
+}
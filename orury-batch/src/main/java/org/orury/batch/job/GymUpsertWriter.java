@@ -0,0 +1,147 @@
+package org.orury.batch.job;
+
+import org.orury.batch.util.SqlQuery;
+import org.orury.domain.gym.domain.entity.Gym;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 카카오 원본 데이터의 해시(source_hash)를 비교해, 새 암장은 INSERT하고 내용이 바뀐 암장만 UPDATE합니다.
+ * 바뀌지 않은 암장은 쓰지 않으므로 updated_at, 인덱스, binlog가 그대로 유지됩니다.
+ * 처리 건수는 step의 ExecutionContext에 남겨 JobCompletionNotificationListener가 보고합니다.
+ */
+public class GymUpsertWriter implements ItemStreamWriter<Gym>, StepExecutionListener {
+    public static final String INSERTED_COUNT_KEY = "gymUpsertWriter.inserted";
+    public static final String UPDATED_COUNT_KEY = "gymUpsertWriter.updated";
+    public static final String UNCHANGED_COUNT_KEY = "gymUpsertWriter.unchanged";
+    public static final String DISAPPEARED_COUNT_KEY = "gymUpsertWriter.disappeared";
+    private static final String FIELD_SEPARATOR = "\u001F";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    // 같은 암장이 인접한 구 검색에도 나오므로, 이번 실행에서 이미 처리한 kakaoId는 건너뜁니다.
+    private final Set<String> seenKakaoIds = new HashSet<>();
+    private long insertedCount;
+    private long updatedCount;
+    private long unchangedCount;
+    private boolean restarted;
+
+    public GymUpsertWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        insertedCount = executionContext.getLong(INSERTED_COUNT_KEY, 0L);
+        updatedCount = executionContext.getLong(UPDATED_COUNT_KEY, 0L);
+        unchangedCount = executionContext.getLong(UNCHANGED_COUNT_KEY, 0L);
+        restarted = executionContext.containsKey(INSERTED_COUNT_KEY);
+    }
+
+    @Override
+    public void write(Chunk<? extends Gym> chunk) {
+        Map<String, Gym> gyms = new LinkedHashMap<>();
+        for (Gym gym : chunk) {
+            if (!seenKakaoIds.contains(gym.getKakaoId())) gyms.putIfAbsent(gym.getKakaoId(), gym);
+        }
+        if (gyms.isEmpty()) return;
+
+        Map<String, String> storedHashes = findStoredHashes(gyms.keySet());
+        List<SqlParameterSource> inserts = new ArrayList<>();
+        List<SqlParameterSource> updates = new ArrayList<>();
+        gyms.forEach((kakaoId, gym) -> {
+            String sourceHash = sourceHash(gym);
+            if (!storedHashes.containsKey(kakaoId)) {
+                inserts.add(toParameters(gym, sourceHash));
+            } else if (!sourceHash.equals(storedHashes.get(kakaoId))) {
+                updates.add(toParameters(gym, sourceHash));
+            } else {
+                unchangedCount++;
+            }
+        });
+
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(SqlQuery.INSERT_GYM, inserts.toArray(SqlParameterSource[]::new));
+        if (!updates.isEmpty()) jdbcTemplate.batchUpdate(SqlQuery.UPDATE_GYM_SOURCE, updates.toArray(SqlParameterSource[]::new));
+        insertedCount += inserts.size();
+        updatedCount += updates.size();
+        seenKakaoIds.addAll(gyms.keySet());
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(INSERTED_COUNT_KEY, insertedCount);
+        executionContext.putLong(UPDATED_COUNT_KEY, updatedCount);
+        executionContext.putLong(UNCHANGED_COUNT_KEY, unchangedCount);
+    }
+
+    /**
+     * 이번 실행의 카카오 검색 결과에 없었던 암장 수를 기록합니다. 삭제하지는 않습니다.
+     * 재시작한 실행이라면 이전 실행에서 처리한 암장을 알 수 없으므로 기록하지 않습니다.
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStatus().isUnsuccessful() || stepExecution.getExecutionContext().containsKey(DISAPPEARED_COUNT_KEY)) {
+            return stepExecution.getExitStatus();
+        }
+        if (!restarted) {
+            Long kakaoGymCount = jdbcTemplate.queryForObject(SqlQuery.COUNT_KAKAO_GYMS, Map.of(), Long.class);
+            long disappearedCount = Math.max(0L, ((kakaoGymCount == null) ? 0L : kakaoGymCount) - seenKakaoIds.size());
+            stepExecution.getExecutionContext().putLong(DISAPPEARED_COUNT_KEY, disappearedCount);
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    private Map<String, String> findStoredHashes(Set<String> kakaoIds) {
+        Map<String, String> storedHashes = new HashMap<>();
+        jdbcTemplate.query(
+                SqlQuery.SELECT_GYM_SOURCE_HASHES,
+                Map.of("kakaoIds", kakaoIds),
+                resultSet -> {
+                    // source_hash가 없는 기존 행은 빈 문자열로 두어, 한 번은 UPDATE되게 합니다.
+                    String sourceHash = resultSet.getString("source_hash");
+                    storedHashes.put(resultSet.getString("kakao_id"), (sourceHash == null) ? "" : sourceHash);
+                }
+        );
+        return storedHashes;
+    }
+
+    private static SqlParameterSource toParameters(Gym gym, String sourceHash) {
+        return new MapSqlParameterSource()
+                .addValue("name", gym.getName())
+                .addValue("roadAddress", gym.getRoadAddress())
+                .addValue("address", gym.getAddress())
+                .addValue("latitude", gym.getLatitude())
+                .addValue("longitude", gym.getLongitude())
+                .addValue("phoneNumber", gym.getPhoneNumber())
+                .addValue("kakaoId", gym.getKakaoId())
+                .addValue("sourceHash", sourceHash);
+    }
+
+    static String sourceHash(Gym gym) {
+        String source = String.join(FIELD_SEPARATOR,
+                String.valueOf(gym.getName()),
+                String.valueOf(gym.getRoadAddress()),
+                String.valueOf(gym.getAddress()),
+                String.valueOf(gym.getLatitude()),
+                String.valueOf(gym.getLongitude()),
+                String.valueOf(gym.getPhoneNumber())
+        );
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.config.JobCompletionNotificationListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@Configuration
+public class RefreshTokenJobConfiguration {
+    private static final int REFRESH_TOKEN_CHUNK_SIZE = 1000;
+
+    @Bean
+    public Job refreshTokenSweepJob(
+            JobRepository jobRepository,
+            @Qualifier("refreshTokenSweepStep") Step step
+    ) {
+        return new JobBuilder("refreshTokenSweepJob", jobRepository)
+                .listener(new JobCompletionNotificationListener())
+                .start(step)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    @Bean
+    public Step refreshTokenSweepStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            NamedParameterJdbcTemplate jdbcTemplate
+    ) {
+        return new StepBuilder("refreshTokenSweepStep", jobRepository)
+                .tasklet(new RefreshTokenSweepTasklet(jdbcTemplate, REFRESH_TOKEN_CHUNK_SIZE), transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package org.orury.batch.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RefreshTokenJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job refreshTokenSweepJob;
+
+    public RefreshTokenJobScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("refreshTokenSweepJob") Job refreshTokenSweepJob
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.refreshTokenSweepJob = refreshTokenSweepJob;
+    }
+
+    //매시 15분마다 (만료된 리프레시토큰 삭제)
+    @Scheduled(cron = "0 15 * * * *")
+    public void runRefreshTokenSweepJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+        jobLauncher.run(refreshTokenSweepJob, jobParameters);
+    }
+}
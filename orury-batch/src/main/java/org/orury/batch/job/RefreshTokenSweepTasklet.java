@@ -0,0 +1,49 @@
+package org.orury.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 만료된 refresh_token 행을 expires_at 인덱스로 chunkSize 개씩 지운다.
+ * 한 번에 지우는 행을 작게 유지해 잠금 시간을 짧게 하고, 덜 지워진 chunk 가 나오면 끝난 것으로 본다.
+ * 기준 시각은 첫 실행 때 ExecutionContext 에 남겨, 실행 중에 만료되는 토큰 때문에 끝나지 않는 일이 없게 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenSweepTasklet implements Tasklet {
+    static final String SWEEP_BEFORE_KEY = "sweepBefore";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        if (!executionContext.containsKey(SWEEP_BEFORE_KEY)) {
+            executionContext.put(SWEEP_BEFORE_KEY, Timestamp.valueOf(LocalDateTime.now()));
+        }
+        Timestamp sweepBefore = (Timestamp) executionContext.get(SWEEP_BEFORE_KEY);
+
+        int deleted = jdbcTemplate.update(
+                SqlQuery.DELETE_EXPIRED_REFRESH_TOKENS,
+                Map.of("now", sweepBefore, "limit", chunkSize)
+        );
+        contribution.incrementWriteCount(deleted);
+        if (deleted < chunkSize) {
+            log.info("expired refresh token sweep finished. sweepBefore: {}", sweepBefore);
+            return RepeatStatus.FINISHED;
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+}
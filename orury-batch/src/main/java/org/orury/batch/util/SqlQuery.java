@@ -1,14 +1,44 @@
 package org.orury.batch.util;
 
 public class SqlQuery {
-    public static final String INSERT_GYM = "INSERT INTO gym (name, road_address, address, latitude, longitude, phone_number, kakao_id, created_at, updated_at) " +
-            "VALUES (:name, :roadAddress, :address, :latitude, :longitude, :phoneNumber, :kakaoId, now(), now()) " +
-            "ON DUPLICATE KEY UPDATE " +
+    public static final String SELECT_GYM_SOURCE_HASHES = "SELECT kakao_id, source_hash FROM gym WHERE kakao_id IN (:kakaoIds)";
+
+    public static final String INSERT_GYM = "INSERT INTO gym (name, road_address, address, latitude, longitude, phone_number, kakao_id, source_hash, created_at, updated_at) " +
+            "VALUES (:name, :roadAddress, :address, :latitude, :longitude, :phoneNumber, :kakaoId, :sourceHash, now(), now())";
+
+    public static final String UPDATE_GYM_SOURCE = "UPDATE gym SET " +
             "name = :name, " +
             "road_address = :roadAddress, " +
             "address = :address, " +
             "latitude = :latitude, " +
             "longitude = :longitude, " +
             "phone_number = :phoneNumber, " +
-            "updated_at = now()";
+            "source_hash = :sourceHash, " +
+            "updated_at = now() " +
+            "WHERE kakao_id = :kakaoId";
+
+    public static final String COUNT_KAKAO_GYMS = "SELECT COUNT(*) FROM gym WHERE kakao_id IS NOT NULL";
+
+    public static final String SELECT_CREW_IDS_AFTER = "SELECT id FROM crew WHERE id > :lastCrewId ORDER BY id LIMIT :limit";
+
+    public static final String UPDATE_CREW_LAST_MEETING_AT = "UPDATE crew c " +
+            "SET c.last_meeting_at = (SELECT MAX(m.created_at) FROM crew_meeting m WHERE m.crew_id = c.id) " +
+            "WHERE c.id IN (:crewIds)";
+
+    public static final String SELECT_GYM_IDS_AFTER = "SELECT id FROM gym WHERE id > :lastGymId ORDER BY id LIMIT :limit";
+
+    public static final String SELECT_GYM_REVIEW_SCORE_COUNTS = "SELECT gym_id, score, MONTH(created_at) AS month, COUNT(*) AS review_count " +
+            "FROM review WHERE gym_id IN (:gymIds) " +
+            "GROUP BY gym_id, score, MONTH(created_at)";
+
+    public static final String LOCK_GYM_REVIEW_STATS = "INSERT INTO gym_review_stats (gym_id) VALUES (:gymId) " +
+            "ON DUPLICATE KEY UPDATE gym_id = gym_id";
+
+    public static final String UPSERT_GYM_REVIEW_STATS = "INSERT INTO gym_review_stats (gym_id, score_counts, monthly_scores) " +
+            "VALUES (:gymId, :scoreCounts, :monthlyScores) " +
+            "ON DUPLICATE KEY UPDATE score_counts = VALUES(score_counts), monthly_scores = VALUES(monthly_scores)";
+
+    public static final String DELETE_EXPIRED_REFRESH_TOKENS = "DELETE FROM refresh_token WHERE expires_at < :now ORDER BY expires_at LIMIT :limit";
+
+    public static final String INCREASE_GYM_CATALOG_VERSION = "UPDATE catalog_version SET version = version + 1, updated_at = now() WHERE name = 'gym'";
 }
@@ -0,0 +1,83 @@
+package org.orury.batch.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orury.batch.job.GymUpsertWriter;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("암장 카탈로그 버전 갱신 Listener 테스트")
+class GymCatalogVersionListenerTest {
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private GymCatalogVersionListener listener;
+
+    @Test
+    @DisplayName("Job이 성공적으로 끝나고 새로 들어오거나 바뀐 암장이 있으면, catalog_version을 1 올린다.")
+    void when_JobCompleted_Then_IncreaseCatalogVersion() {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.createStepExecution("kakaoClientStep");
+        stepExecution.getExecutionContext().putLong(GymUpsertWriter.INSERTED_COUNT_KEY, 0L);
+        stepExecution.getExecutionContext().putLong(GymUpsertWriter.UPDATED_COUNT_KEY, 2L);
+
+        // when
+        listener.afterJob(jobExecution);
+
+        // then
+        then(jdbcTemplate).should()
+                .update(SqlQuery.INCREASE_GYM_CATALOG_VERSION, Map.of());
+    }
+
+    @Test
+    @DisplayName("바뀐 암장이 하나도 없으면, catalog_version을 올리지 않는다.")
+    void when_NoGymChanged_Then_KeepCatalogVersion() {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.createStepExecution("kakaoClientStep");
+        stepExecution.getExecutionContext().putLong(GymUpsertWriter.INSERTED_COUNT_KEY, 0L);
+        stepExecution.getExecutionContext().putLong(GymUpsertWriter.UNCHANGED_COUNT_KEY, 300L);
+
+        // when
+        listener.afterJob(jobExecution);
+
+        // then
+        then(jdbcTemplate).should(never())
+                .update(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Job이 실패하면, catalog_version을 올리지 않는다.")
+    void when_JobFailed_Then_KeepCatalogVersion() {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        jobExecution.setStatus(BatchStatus.FAILED);
+
+        // when
+        listener.afterJob(jobExecution);
+
+        // then
+        then(jdbcTemplate).should(never())
+                .update(anyString(), anyMap());
+    }
+}
@@ -0,0 +1,77 @@
+package org.orury.batch.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("크루 마지막 일정 생성일자 backfill Tasklet 테스트")
+class CrewLastMeetingAtTaskletTest {
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private CrewLastMeetingAtTasklet tasklet;
+    private StepExecution stepExecution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new CrewLastMeetingAtTasklet(jdbcTemplate, 2);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @DisplayName("갱신할 크루가 남아있으면, 해당 크루들을 갱신하고 마지막 크루id를 저장한 뒤 계속 진행한다.")
+    @Test
+    void when_CrewsRemain_Then_UpdateAndContinue() {
+        // given
+        given(jdbcTemplate.queryForList(eq(SqlQuery.SELECT_CREW_IDS_AFTER), anyMap(), eq(Long.class)))
+                .willReturn(List.of(3L, 7L));
+        given(jdbcTemplate.update(SqlQuery.UPDATE_CREW_LAST_MEETING_AT, Map.of("crewIds", List.of(3L, 7L))))
+                .willReturn(2);
+
+        // when
+        RepeatStatus status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getExecutionContext().getLong(CrewLastMeetingAtTasklet.LAST_CREW_ID_KEY)).isEqualTo(7L);
+    }
+
+    @DisplayName("갱신할 크루가 없으면, 갱신하지 않고 종료한다.")
+    @Test
+    void when_NoCrewsRemain_Then_Finish() {
+        // given
+        given(jdbcTemplate.queryForList(eq(SqlQuery.SELECT_CREW_IDS_AFTER), anyMap(), eq(Long.class)))
+                .willReturn(List.of());
+
+        // when
+        RepeatStatus status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        then(jdbcTemplate).should(never())
+                .update(eq(SqlQuery.UPDATE_CREW_LAST_MEETING_AT), anyMap());
+    }
+}
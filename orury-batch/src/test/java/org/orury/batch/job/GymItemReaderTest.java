@@ -0,0 +1,155 @@
+package org.orury.batch.job;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.batch.client.KakaoMapClient;
+import org.orury.batch.dto.GymResponse;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("카카오 암장 스트리밍 ItemReader 테스트")
+class GymItemReaderTest {
+    private static final List<String> LOCATIONS = List.of("강남구", "강동구", "강북구");
+
+    private HttpServer server;
+    private KakaoMapClient kakaoMapClient;
+    // query -> 페이지별 kakaoId 목록
+    private final Map<String, List<List<String>>> pages = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<String> requestedQueries = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/local/search/keyword.json", exchange -> {
+            requestCount.incrementAndGet();
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            requestedQueries.add(params.get("query"));
+            List<List<String>> locationPages = pages.getOrDefault(params.get("query"), List.of(List.of()));
+            int page = Integer.parseInt(params.get("page"));
+            List<String> ids = (page <= locationPages.size()) ? locationPages.get(page - 1) : List.of();
+            byte[] body = toResponse(ids, page >= locationPages.size()).getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        kakaoMapClient = new KakaoMapClient(
+                "KakaoAK test",
+                "http://localhost:" + server.getAddress().getPort() + "/v2/local/search/keyword.json"
+        );
+
+        pages.put("서울시강남구클라이밍", List.of(List.of("1", "2"), List.of("3", "4")));
+        pages.put("서울시강동구클라이밍", List.of(List.of("5")));
+        pages.put("서울시강북구클라이밍", List.of(List.of("6"), List.of("7"), List.of("8"), List.of("9")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("지역 순서, 페이지 순서대로 모든 암장을 읽고, 지역당 최대 3페이지까지만 요청한다.")
+    void when_Read_Then_StreamAllGymsInLocationOrder() {
+        // given
+        GymItemReader reader = new GymItemReader(kakaoMapClient, LOCATIONS, 2, 10);
+        reader.open(new ExecutionContext());
+
+        // when
+        List<String> kakaoIds = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(kakaoIds).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(requestCount.get()).isEqualTo(2 + 1 + 3);
+    }
+
+    @Test
+    @DisplayName("읽은 위치를 ExecutionContext에 저장하고, 재시작하면 완료한 지역은 요청하지 않고 다음 건부터 읽는다.")
+    void when_Restart_Then_ContinueFromSavedPosition() {
+        // given
+        GymItemReader reader = new GymItemReader(kakaoMapClient, LOCATIONS, 1, 10);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        for (int i = 0; i < 5; i++) reader.read();
+        reader.update(executionContext);
+        reader.close();
+        requestedQueries.clear();
+
+        // when
+        GymItemReader restarted = new GymItemReader(kakaoMapClient, LOCATIONS, 1, 10);
+        restarted.open(executionContext);
+        List<String> kakaoIds = readAll(restarted);
+        restarted.update(executionContext);
+        restarted.close();
+
+        // then
+        assertThat(executionContext.getInt(GymItemReader.LOCATION_INDEX_KEY)).isEqualTo(2);
+        assertThat(executionContext.getInt(GymItemReader.READ_COUNT_IN_LOCATION_KEY)).isEqualTo(3);
+        assertThat(kakaoIds).containsExactly("6", "7", "8");
+        assertThat(requestedQueries).doesNotContain("서울시강남구클라이밍");
+    }
+
+    @Test
+    @DisplayName("같은 지역 안에서 멈췄다면, 그 지역을 다시 요청해 이미 읽은 건수만큼 건너뛴다.")
+    void when_RestartInLocation_Then_SkipReadItems() {
+        // given
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt(GymItemReader.LOCATION_INDEX_KEY, 0);
+        executionContext.putInt(GymItemReader.READ_COUNT_IN_LOCATION_KEY, 3);
+        GymItemReader reader = new GymItemReader(kakaoMapClient, LOCATIONS, 2, 10);
+
+        // when
+        reader.open(executionContext);
+        List<String> kakaoIds = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(kakaoIds).containsExactly("4", "5", "6", "7", "8");
+    }
+
+    private List<String> readAll(GymItemReader reader) {
+        List<String> kakaoIds = new ArrayList<>();
+        GymResponse gym;
+        while ((gym = reader.read()) != null) {
+            kakaoIds.add(gym.kakaoId());
+        }
+        return kakaoIds;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            params.put(keyValue[0], URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static String toResponse(List<String> ids, boolean isEnd) {
+        StringJoiner documents = new StringJoiner(",");
+        ids.forEach(id -> documents.add("""
+                {"id": "%s", "place_name": "암장%s", "road_address_name": "도로명%s", "address_name": "지번%s",
+                 "phone": "02-000-0000", "x": "127.0", "y": "37.5"}""".formatted(id, id, id, id)));
+        return """
+                {"documents": [%s], "meta": {"is_end": %s, "pageable_count": %d, "total_count": %d}}"""
+                .formatted(documents, isEnd, ids.size(), ids.size());
+    }
+}
@@ -0,0 +1,110 @@
+package org.orury.batch.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("암장 리뷰 통계 재계산 Tasklet 테스트")
+class GymReviewStatsTaskletTest {
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private GymReviewStatsTasklet tasklet;
+    private StepExecution stepExecution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new GymReviewStatsTasklet(jdbcTemplate, 2);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @DisplayName("재계산할 암장이 남아있으면, 통계 행을 먼저 잠그고 리뷰가 없는 암장까지 통계를 덮어쓴 뒤 마지막 암장id를 저장하고 계속 진행한다.")
+    @Test
+    void when_GymsRemain_Then_RebuildAndContinue() throws Exception {
+        // given
+        given(jdbcTemplate.queryForList(eq(SqlQuery.SELECT_GYM_IDS_AFTER), anyMap(), eq(Long.class)))
+                .willReturn(List.of(3L, 7L));
+        ResultSet resultSet = mock(ResultSet.class);
+        given(resultSet.getLong("gym_id")).willReturn(3L);
+        given(resultSet.getFloat("score")).willReturn(4.5f);
+        given(resultSet.getInt("month")).willReturn(5);
+        given(resultSet.getInt("review_count")).willReturn(2);
+        willAnswer(invocation -> {
+            invocation.getArgument(2, RowCallbackHandler.class).processRow(resultSet);
+            return null;
+        }).given(jdbcTemplate).query(eq(SqlQuery.SELECT_GYM_REVIEW_SCORE_COUNTS), anyMap(), any(RowCallbackHandler.class));
+
+        // when
+        RepeatStatus status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        ArgumentCaptor<SqlParameterSource[]> lockCaptor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        inOrder.verify(jdbcTemplate)
+                .batchUpdate(eq(SqlQuery.LOCK_GYM_REVIEW_STATS), lockCaptor.capture());
+        inOrder.verify(jdbcTemplate)
+                .query(eq(SqlQuery.SELECT_GYM_REVIEW_SCORE_COUNTS), anyMap(), any(RowCallbackHandler.class));
+        assertThat(lockCaptor.getValue())
+                .extracting(parameter -> parameter.getValue("gymId"))
+                .containsExactly(3L, 7L);
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        then(jdbcTemplate).should()
+                .batchUpdate(eq(SqlQuery.UPSERT_GYM_REVIEW_STATS), captor.capture());
+        SqlParameterSource[] parameters = captor.getValue();
+        assertThat(parameters).hasSize(2);
+        assertThat(parameters[0].getValue("scoreCounts")).isEqualTo("4.5:2");
+        assertThat(parameters[0].getValue("monthlyScores")).isEqualTo("0.0:0,0.0:0,0.0:0,0.0:0,9.0:2,0.0:0,0.0:0,0.0:0,0.0:0,0.0:0,0.0:0,0.0:0");
+        assertThat(parameters[1].getValue("scoreCounts")).isEqualTo("");
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getExecutionContext().getLong(GymReviewStatsTasklet.LAST_GYM_ID_KEY)).isEqualTo(7L);
+    }
+
+    @DisplayName("재계산할 암장이 없으면, 통계를 쓰지 않고 종료한다.")
+    @Test
+    void when_NoGymsRemain_Then_Finish() {
+        // given
+        given(jdbcTemplate.queryForList(eq(SqlQuery.SELECT_GYM_IDS_AFTER), anyMap(), eq(Long.class)))
+                .willReturn(List.of());
+
+        // when
+        RepeatStatus status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        then(jdbcTemplate).should(never())
+                .batchUpdate(eq(SqlQuery.UPSERT_GYM_REVIEW_STATS), any(SqlParameterSource[].class));
+    }
+}
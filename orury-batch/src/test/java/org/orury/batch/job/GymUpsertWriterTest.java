@@ -0,0 +1,161 @@
+package org.orury.batch.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.orury.batch.util.SqlQuery;
+import org.orury.domain.gym.domain.entity.Gym;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.orury.domain.GymDomainFixture.TestGym.createGym;
+
+@DisplayName("변경 감지 암장 upsert Writer 테스트")
+class GymUpsertWriterTest {
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private GymUpsertWriter writer;
+    private ExecutionContext executionContext;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        writer = new GymUpsertWriter(jdbcTemplate);
+        executionContext = new ExecutionContext();
+        writer.open(executionContext);
+    }
+
+    @Test
+    @DisplayName("저장된 해시가 없으면 INSERT, 다르면 UPDATE하고, 같으면 쓰지 않는다.")
+    void when_Write_Then_InsertNewAndUpdateChangedOnly() throws Exception {
+        // given
+        Gym newGym = createGym().kakaoId("1").build().get();
+        Gym changedGym = createGym().kakaoId("2").name("새 이름").build().get();
+        Gym unchangedGym = createGym().kakaoId("3").build().get();
+        givenStoredHashes(Map.of(
+                "2", GymUpsertWriter.sourceHash(createGym().kakaoId("2").build().get()),
+                "3", GymUpsertWriter.sourceHash(unchangedGym)
+        ));
+
+        // when
+        writer.write(Chunk.of(newGym, changedGym, unchangedGym));
+        writer.update(executionContext);
+
+        // then
+        assertThat(captureBatchUpdate(SqlQuery.INSERT_GYM)).containsExactly("1");
+        assertThat(captureBatchUpdate(SqlQuery.UPDATE_GYM_SOURCE)).containsExactly("2");
+        assertThat(executionContext.getLong(GymUpsertWriter.INSERTED_COUNT_KEY)).isEqualTo(1);
+        assertThat(executionContext.getLong(GymUpsertWriter.UPDATED_COUNT_KEY)).isEqualTo(1);
+        assertThat(executionContext.getLong(GymUpsertWriter.UNCHANGED_COUNT_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이번 실행에서 이미 처리한 암장은 다른 지역 검색에 다시 나와도 건너뛴다.")
+    void when_DuplicatedKakaoId_Then_WriteOnce() throws Exception {
+        // given
+        givenStoredHashes(Map.of());
+        Gym gym = createGym().kakaoId("1").build().get();
+
+        // when
+        writer.write(Chunk.of(gym, gym));
+        writer.write(Chunk.of(gym));
+        writer.update(executionContext);
+
+        // then
+        assertThat(captureBatchUpdate(SqlQuery.INSERT_GYM)).containsExactly("1");
+        assertThat(executionContext.getLong(GymUpsertWriter.INSERTED_COUNT_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바뀐 암장이 없으면 아무것도 쓰지 않는다.")
+    void when_AllUnchanged_Then_SkipWrite() throws Exception {
+        // given
+        Gym gym = createGym().kakaoId("1").build().get();
+        givenStoredHashes(Map.of("1", GymUpsertWriter.sourceHash(gym)));
+
+        // when
+        writer.write(Chunk.of(gym));
+
+        // then
+        then(jdbcTemplate).should(never())
+                .batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("step이 끝나면, 카카오 암장 중 이번 검색 결과에 없던 수를 기록한다.")
+    void when_AfterStep_Then_RecordDisappearedCount() throws Exception {
+        // given
+        givenStoredHashes(Map.of());
+        given(jdbcTemplate.queryForObject(SqlQuery.COUNT_KAKAO_GYMS, Map.of(), Long.class))
+                .willReturn(5L);
+        writer.write(Chunk.of(createGym().kakaoId("1").build().get(), createGym().kakaoId("2").build().get()));
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // when
+        writer.afterStep(stepExecution);
+
+        // then
+        assertThat(stepExecution.getExecutionContext().getLong(GymUpsertWriter.DISAPPEARED_COUNT_KEY)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시작한 step이면, 이전 실행에서 처리한 암장을 알 수 없으므로 사라진 수를 기록하지 않는다.")
+    void when_Restarted_Then_SkipDisappearedCount() {
+        // given
+        ExecutionContext restartedContext = new ExecutionContext();
+        restartedContext.putLong(GymUpsertWriter.INSERTED_COUNT_KEY, 10L);
+        writer.open(restartedContext);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // when
+        writer.afterStep(stepExecution);
+
+        // then
+        assertThat(stepExecution.getExecutionContext().containsKey(GymUpsertWriter.DISAPPEARED_COUNT_KEY)).isFalse();
+        then(jdbcTemplate).should(never())
+                .queryForObject(anyString(), anyMap(), eq(Long.class));
+    }
+
+    private void givenStoredHashes(Map<String, String> storedHashes) throws SQLException {
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (Map.Entry<String, String> entry : storedHashes.entrySet()) {
+                ResultSet resultSet = mock(ResultSet.class);
+                given(resultSet.getString("kakao_id")).willReturn(entry.getKey());
+                given(resultSet.getString("source_hash")).willReturn(entry.getValue());
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).given(jdbcTemplate).query(eq(SqlQuery.SELECT_GYM_SOURCE_HASHES), anyMap(), any(RowCallbackHandler.class));
+    }
+
+    private List<Object> captureBatchUpdate(String sql) {
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        then(jdbcTemplate).should()
+                .batchUpdate(eq(sql), captor.capture());
+        return Arrays.stream(captor.getValue())
+                .map(parameters -> parameters.getValue("kakaoId"))
+                .toList();
+    }
+}
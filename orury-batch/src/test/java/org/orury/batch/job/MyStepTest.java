@@ -14,10 +14,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 
 @Disabled
@@ -54,8 +55,8 @@ class MyStepTest {
 
     @Test
     void testMyStep() throws Exception {
-        var expected = List.of(createResponse());
-        when(kakaoMapClient.getItems()).thenReturn(expected);
+        var expected = new KakaoMapClient.LocatedGym(0, createResponse());
+        when(kakaoMapClient.streamGyms(anyList(), anyInt())).thenReturn(Flux.just(expected));
 
         JobExecution jobExecution = jobLauncherTestUtils.launchJob();
 
@@ -0,0 +1,74 @@
+package org.orury.batch.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orury.batch.util.SqlQuery;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("만료 리프레시토큰 삭제 Tasklet 테스트")
+class RefreshTokenSweepTaskletTest {
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private RefreshTokenSweepTasklet tasklet;
+    private StepExecution stepExecution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new RefreshTokenSweepTasklet(jdbcTemplate, 2);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @DisplayName("chunk 크기만큼 지워졌으면, 같은 기준 시각으로 계속 진행한다.")
+    @Test
+    void when_ChunkFilled_Then_Continue() {
+        // given
+        given(jdbcTemplate.update(eq(SqlQuery.DELETE_EXPIRED_REFRESH_TOKENS), anyMap()))
+                .willReturn(2);
+
+        // when
+        RepeatStatus first = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+        Object sweepBefore = stepExecution.getExecutionContext().get(RefreshTokenSweepTasklet.SWEEP_BEFORE_KEY);
+        RepeatStatus second = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(second).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(sweepBefore).isInstanceOf(Timestamp.class);
+        assertThat(stepExecution.getExecutionContext().get(RefreshTokenSweepTasklet.SWEEP_BEFORE_KEY)).isEqualTo(sweepBefore);
+    }
+
+    @DisplayName("chunk 크기보다 적게 지워졌으면, 만료된 토큰이 남지 않은 것이므로 종료한다.")
+    @Test
+    void when_ChunkNotFilled_Then_Finish() {
+        // given
+        given(jdbcTemplate.update(eq(SqlQuery.DELETE_EXPIRED_REFRESH_TOKENS), anyMap()))
+                .willReturn(1);
+
+        // when
+        RepeatStatus status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    }
+}
@@ -3,7 +3,9 @@ package org.orury.client;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"org.orury.common", "org.orury.client", "org.orury.domain"}, exclude = FlywayAutoConfiguration.class)
 public class OruryClientApplication {
     public static void main(String[] args) {
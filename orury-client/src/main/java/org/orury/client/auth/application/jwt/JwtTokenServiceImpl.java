@@ -3,6 +3,7 @@ package org.orury.client.auth.application.jwt;
 import io.jsonwebtoken.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.orury.common.error.code.AuthErrorCode;
 import org.orury.common.error.code.TokenErrorCode;
 import org.orury.common.error.exception.AuthException;
 import org.orury.domain.auth.domain.RefreshTokenReader;
@@ -19,6 +20,8 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -31,49 +34,108 @@ public class JwtTokenServiceImpl implements JwtTokenService {
     private static final String JWT_TOKEN_PREFIX = "Bearer ";
     private static final String TOKEN_HEADER_NAME = "Authorization";
 
-    private static final long ACCESS_TOKEN_EXPIRATION_TIME = 1000 * 60 * 60 * 24L; // 1일
+    static final long ACCESS_TOKEN_EXPIRATION_TIME = 1000 * 60 * 60 * 24L; // 1일
     private static final long REFRESH_TOKEN_EXPIRATION_TIME = 1000 * 60 * 60 * 24 * 7L; // 7일
 
     // 비회원 전용 토큰
     private static final long NO_USER_ACCESS_TOKEN_EXPIRATION_TIME = 1000 * 60 * 30L; // 30분
 
+    // 토큰마다 같은 권한이므로 한 번만 만들어 둡니다.
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = Collections.singletonList(new SimpleGrantedAuthority(UserStatus.ENABLE.getStatus()));
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final RefreshTokenReader refreshTokenReader;
     private final RefreshTokenStore refreshTokenStore;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     public JwtTokenServiceImpl(
             @Value("${spring.jwt.secret}") String secret,
             RefreshTokenReader refreshTokenReader,
-            RefreshTokenStore refreshTokenStore
+            RefreshTokenStore refreshTokenStore,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationRegistry tokenRevocationRegistry
     ) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.refreshTokenReader = refreshTokenReader;
         this.refreshTokenStore = refreshTokenStore;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
     }
 
+    /**
+     * 이미 검증한 액세스 토큰이면 캐시된 인증 객체를 반환하고, 처음 보는 토큰만 서명 검증 후 캐시에 넣습니다.
+     * 캐시 여부와 관계없이, 제재 등으로 폐기된 유저의 토큰은 매 요청 메모리에서 걸러냅니다.
+     */
     @Override
     public Authentication getAuthenticationFromRequest(HttpServletRequest request) {
-        var token = getTokenFromRequest(request, TokenErrorCode.INVALID_ACCESS_TOKEN);
-        return getAuthenticationFromAccessToken(token);
+        String tokenHeader = request.getHeader(TOKEN_HEADER_NAME);
+        validateTokenHeader(tokenHeader, TokenErrorCode.INVALID_ACCESS_TOKEN);
+        int start = tokenStart(tokenHeader);
+        int end = tokenEnd(tokenHeader, start);
+
+        var digest = VerifiedTokenCache.digest(tokenHeader, start, end);
+        if (digest != null) {
+            var cached = verifiedTokenCache.get(digest);
+            if (cached != null) {
+                validateNotRevoked(cached.authentication(), cached.issuedAtMillis());
+                return cached.authentication();
+            }
+        }
+
+        Claims claims = parseAccessToken(tokenHeader.substring(start, end));
+        Authentication authentication = getUsernamePasswordAuthenticationToken(claims, AUTHORITIES);
+        long issuedAtMillis = claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+        validateNotRevoked(authentication, issuedAtMillis);
+        if (digest != null && claims.getExpiration() != null) {
+            verifiedTokenCache.put(digest, authentication, issuedAtMillis, claims.getExpiration().getTime());
+        }
+        return authentication;
+    }
+
+    // 폐기 watermark 이전에 발급된 토큰이면 제재된 유저로 보고 예외 처리
+    private void validateNotRevoked(Authentication authentication, long issuedAtMillis) {
+        if (authentication.getPrincipal() instanceof UserPrincipal userPrincipal
+                && tokenRevocationRegistry.isRevoked(userPrincipal.id(), issuedAtMillis)) {
+            throw new AuthException(AuthErrorCode.BAN_USER);
+        }
     }
 
     private String getTokenFromRequest(HttpServletRequest request, TokenErrorCode tokenErrorCode) {
         String tokenHeader = request.getHeader(TOKEN_HEADER_NAME);
+        validateTokenHeader(tokenHeader, tokenErrorCode);
+        int start = tokenStart(tokenHeader);
+        return tokenHeader.substring(start, tokenEnd(tokenHeader, start));
+    }
 
-        // Token 헤더가 없거나 Bearer 토큰이 아닌 경우
+    // Token 헤더가 없거나 Bearer 토큰이 아닌 경우
+    private void validateTokenHeader(String tokenHeader, TokenErrorCode tokenErrorCode) {
         if (tokenHeader == null || !tokenHeader.startsWith(JWT_TOKEN_PREFIX)) {
             throw new AuthException(tokenErrorCode);
         }
+    }
 
-        // Token 추출
-        return tokenHeader.split(" ")[1].trim();
+    // "Bearer " 뒤의 공백을 건너뛴 토큰 시작 위치
+    private int tokenStart(String tokenHeader) {
+        int start = JWT_TOKEN_PREFIX.length();
+        while (start < tokenHeader.length() && tokenHeader.charAt(start) <= ' ') start++;
+        return start;
     }
 
-    private Authentication getAuthenticationFromAccessToken(String accessToken) {
-        Claims claims;
-        List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(UserStatus.ENABLE.getStatus()));
+    // 토큰 뒤의 공백을 제외한 토큰 끝 위치
+    private int tokenEnd(String tokenHeader, int start) {
+        int end = tokenHeader.length();
+        while (end > start && tokenHeader.charAt(end - 1) <= ' ') end--;
+        return end;
+    }
+
+    private Claims parseAccessToken(String accessToken) {
         try {
-            claims = parseToken(accessToken);
+            return parseToken(accessToken);
         } catch (final MalformedJwtException | IllegalArgumentException exception) {
             throw new AuthException(TokenErrorCode.INVALID_ACCESS_TOKEN);
         } catch (final ExpiredJwtException exception) {
@@ -84,7 +146,6 @@ public class JwtTokenServiceImpl implements JwtTokenService {
         } catch (final JwtException exception) {
             throw new AuthException(TokenErrorCode.EXPIRED_ACCESS_TOKEN);
         }
-        return getUsernamePasswordAuthenticationToken(claims, authorities);
     }
 
     /**
@@ -137,7 +198,7 @@ public class JwtTokenServiceImpl implements JwtTokenService {
         String accessToken = createJwtToken(id, email, ACCESS_TOKEN_EXPIRATION_TIME);
         String refreshToken = createJwtToken(id, email, REFRESH_TOKEN_EXPIRATION_TIME);
 
-        refreshTokenStore.save(id, refreshToken);
+        refreshTokenStore.save(id, refreshToken, LocalDateTime.now().plus(Duration.ofMillis(REFRESH_TOKEN_EXPIRATION_TIME)));
 
         return JwtToken.of(accessToken, refreshToken);
     }
@@ -150,10 +211,7 @@ public class JwtTokenServiceImpl implements JwtTokenService {
     }
 
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload();
     }
 
@@ -0,0 +1,85 @@
+package org.orury.client.auth.application.jwt;
+
+import java.util.Map;
+
+/**
+ * 유저 id별 토큰 폐기 watermark(epoch millis)를 담는 불변 open addressing 테이블입니다.
+ * long 배열 두 개로만 이뤄져 있어 조회할 때 boxing이 없고, 갱신할 때는 새 테이블을 만들어 통째로 교체합니다.
+ */
+final class RevokedUsers {
+    static final long NOT_REVOKED = Long.MIN_VALUE;
+    static final RevokedUsers EMPTY = new RevokedUsers(new long[2], new long[2], 0);
+
+    // 유저 id는 1부터 시작하므로 0을 빈 칸 표시로 씁니다. 비회원 토큰의 id 0은 폐기 대상이 아닙니다.
+    private static final long EMPTY_KEY = 0L;
+
+    private final long[] userIds;
+    private final long[] watermarks;
+    private final int size;
+    private final int mask;
+
+    private RevokedUsers(long[] userIds, long[] watermarks, int size) {
+        this.userIds = userIds;
+        this.watermarks = watermarks;
+        this.size = size;
+        this.mask = userIds.length - 1;
+    }
+
+    /**
+     * 유저의 watermark를 반환합니다. 폐기된 적 없으면 NOT_REVOKED를 반환합니다.
+     */
+    long watermarkOf(long userId) {
+        if (userId == EMPTY_KEY) return NOT_REVOKED;
+        for (int i = slot(userId, mask); ; i = (i + 1) & mask) {
+            long key = userIds[i];
+            if (key == userId) return watermarks[i];
+            if (key == EMPTY_KEY) return NOT_REVOKED;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 기존 watermark에 updates를 합친 새 테이블을 만듭니다. 같은 유저는 더 늦은 watermark를 남기고,
+     * retainAfter 이전의 watermark는 그 전에 발급된 토큰이 이미 모두 만료됐으므로 버립니다.
+     */
+    RevokedUsers with(Map<Long, Long> updates, long retainAfter) {
+        int capacity = Integer.highestOneBit(Math.max(2, (size + updates.size()) * 2 - 1)) << 1;
+        long[] newUserIds = new long[capacity];
+        long[] newWatermarks = new long[capacity];
+        int newSize = 0;
+        for (int i = 0; i < userIds.length; i++) {
+            if (userIds[i] == EMPTY_KEY || watermarks[i] < retainAfter) continue;
+            long watermark = Math.max(watermarks[i], updates.getOrDefault(userIds[i], NOT_REVOKED));
+            newSize += put(newUserIds, newWatermarks, userIds[i], watermark);
+        }
+        for (Map.Entry<Long, Long> update : updates.entrySet()) {
+            if (update.getKey() == EMPTY_KEY || update.getValue() < retainAfter) continue;
+            newSize += put(newUserIds, newWatermarks, update.getKey(), update.getValue());
+        }
+        return new RevokedUsers(newUserIds, newWatermarks, newSize);
+    }
+
+    // 이미 있는 유저면 더 늦은 watermark를 남기고 0을, 새 유저면 1을 반환합니다.
+    private static int put(long[] userIds, long[] watermarks, long userId, long watermark) {
+        int mask = userIds.length - 1;
+        for (int i = slot(userId, mask); ; i = (i + 1) & mask) {
+            if (userIds[i] == userId) {
+                watermarks[i] = Math.max(watermarks[i], watermark);
+                return 0;
+            }
+            if (userIds[i] == EMPTY_KEY) {
+                userIds[i] = userId;
+                watermarks[i] = watermark;
+                return 1;
+            }
+        }
+    }
+
+    private static int slot(long userId, int mask) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,93 @@
+package org.orury.client.auth.application.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.auth.domain.TokenRevocationReader;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제재 등으로 폐기된 유저의 "이 시각 이전에 발급된 토큰은 무효" watermark를 메모리에 들고 있습니다.
+ * token_revocation 테이블을 짧은 주기로 최근 폐기만 읽어 반영하므로, 요청마다 DB를 거치지 않고 O(1) 조회로 폐기된 토큰을 걸러냅니다.
+ * AUTO_INCREMENT id는 커밋 순서와 다를 수 있어 id cursor 대신 폐기 시각으로 읽고, 지난 갱신보다 REREAD_GRACE만큼 앞선 폐기부터 다시 읽습니다.
+ * 같은 폐기를 여러 번 읽어도 유저별로 더 늦은 watermark만 남기므로 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+    private static final int REFRESH_PAGE_SIZE = 500;
+    // 늦게 커밋된 폐기와 노드 간 시계 차이를 덮을 만큼 지난 갱신 시각보다 앞서서 다시 읽습니다.
+    static final long REREAD_GRACE_MILLIS = 60_000L;
+
+    private final TokenRevocationReader tokenRevocationReader;
+    private final Clock clock;
+
+    // 갱신은 refresh()에서만 하고, 요청 스레드는 교체된 테이블을 그대로 읽습니다.
+    private volatile RevokedUsers revokedUsers = RevokedUsers.EMPTY;
+    // 마지막 갱신을 시작한 시각입니다. 아직 갱신한 적 없으면 null입니다.
+    private Long lastRefreshedAt;
+
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public TokenRevocationRegistry(TokenRevocationReader tokenRevocationReader, MeterRegistry meterRegistry) {
+        this(tokenRevocationReader, meterRegistry, Clock.systemUTC());
+    }
+
+    TokenRevocationRegistry(TokenRevocationReader tokenRevocationReader, MeterRegistry meterRegistry, Clock clock) {
+        this.tokenRevocationReader = tokenRevocationReader;
+        this.clock = clock;
+
+        this.rejectedCounter = meterRegistry.counter("jwt.token_revocation.rejected");
+        Gauge.builder("jwt.token_revocation.users", this, registry -> registry.revokedUsers.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유저의 watermark 이전(같은 시각 포함)에 발급된 토큰이면 폐기된 토큰입니다.
+     * 토큰의 iat는 초 단위로 잘리므로, 폐기와 같은 초에 발급된 토큰도 폐기된 것으로 봅니다.
+     */
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        boolean revoked = issuedAtMillis <= revokedUsers.watermarkOf(userId);
+        if (revoked) rejectedCounter.increment();
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${orury.jwt.token-revocation.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        long now = clock.millis();
+        // 처음에는 아직 유효한 액세스 토큰이 있을 수 있는 폐기만 읽습니다.
+        long revokedAfter = (lastRefreshedAt == null)
+                ? now - JwtTokenServiceImpl.ACCESS_TOKEN_EXPIRATION_TIME
+                : lastRefreshedAt - REREAD_GRACE_MILLIS;
+
+        Map<Long, Long> updates = new HashMap<>();
+        List<TokenRevocation> revocations;
+        long cursor = 0L;
+        do {
+            revocations = tokenRevocationReader.findRevocationsSince(revokedAfter, cursor, REFRESH_PAGE_SIZE);
+            for (TokenRevocation revocation : revocations) {
+                updates.merge(revocation.getUserId(), revocation.getRevokedAtMillis(), Math::max);
+                cursor = revocation.getId();
+            }
+        } while (revocations.size() == REFRESH_PAGE_SIZE);
+        lastRefreshedAt = now;
+
+        // 다시 읽은 폐기는 이미 반영돼 있으므로, watermark가 늦어진 유저가 없으면 테이블을 새로 만들지 않습니다.
+        updates.entrySet().removeIf(update -> update.getValue() <= revokedUsers.watermarkOf(update.getKey()));
+        if (updates.isEmpty()) return;
+
+        // 액세스 토큰 유효기간보다 오래된 watermark는, 그 전에 발급된 토큰이 모두 만료됐으므로 더 들고 있지 않습니다.
+        revokedUsers = revokedUsers.with(updates, now - JwtTokenServiceImpl.ACCESS_TOKEN_EXPIRATION_TIME);
+        log.info("token revocations refreshed. updated users: {}, revoked after: {}", updates.size(), revokedAfter);
+    }
+}
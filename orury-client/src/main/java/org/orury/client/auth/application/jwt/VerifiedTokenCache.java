@@ -0,0 +1,158 @@
+package org.orury.client.auth.application.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.orury.domain.user.domain.dto.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 객체와 발급 시각을 토큰 만료 시각까지 보관합니다.
+ * 같은 토큰으로 다시 들어온 요청은 HMAC 검증과 claim 디코딩 없이 만들어 둔 인증 객체를 재사용합니다.
+ * 토큰 원문 대신 SHA-256 digest를 key로 쓰고, 노드당 maximumSize개까지만 보관합니다.
+ * 가득 차면 용량의 2%를 순서와 관계없이 한 번에 버리고, 만료된 토큰은 주기적인 sweep에서 치웁니다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private final Clock clock;
+    private final int maximumSize;
+    private final int evictionBatchSize;
+    private final Map<TokenDigest, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    // 가득 찼을 때 동시에 들어온 miss들이 각자 버리지 않도록, 한 스레드만 버립니다.
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredEvictedCounter;
+    private final Counter sizeEvictedCounter;
+
+    @Autowired
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${orury.jwt.verified-token-cache.maximum-size:50000}") int maximumSize
+    ) {
+        this(meterRegistry, Clock.systemUTC(), maximumSize);
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, Clock clock, int maximumSize) {
+        this.clock = clock;
+        this.maximumSize = maximumSize;
+        this.evictionBatchSize = Math.max(1, maximumSize / 50);
+
+        this.hitCounter = meterRegistry.counter("jwt.verified_token_cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.verified_token_cache.requests", "result", "miss");
+        this.expiredEvictedCounter = meterRegistry.counter("jwt.verified_token_cache.evicted", "reason", "expired");
+        this.sizeEvictedCounter = meterRegistry.counter("jwt.verified_token_cache.evicted", "reason", "size");
+        Gauge.builder("jwt.verified_token_cache.size", tokens, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * value[start, end) 구간의 토큰 digest를 계산합니다. 부분 문자열을 만들지 않고 문자를 그대로 digest에 넣습니다.
+     * JWT는 base64url 문자와 '.'만 쓰므로, ASCII가 아닌 문자가 있으면 캐시 대상이 아닌 것으로 보고 null을 반환합니다.
+     */
+    public static TokenDigest digest(CharSequence value, int start, int end) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c > 0x7F) return null;
+            sha256.update((byte) c);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(sha256.digest());
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * 만료되지 않은 검증 결과를 반환합니다. 없거나 만료됐으면 null을 반환하고, 호출한 쪽에서 토큰을 다시 검증합니다.
+     */
+    public VerifiedToken get(TokenDigest digest) {
+        VerifiedToken verifiedToken = tokens.get(digest);
+        if (verifiedToken == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (verifiedToken.isExpired(clock.millis())) {
+            // 만료 예외는 토큰을 다시 파싱해서 만료 종류에 맞게 던지도록 합니다.
+            if (tokens.remove(digest, verifiedToken)) expiredEvictedCounter.increment();
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return verifiedToken;
+    }
+
+    public void put(TokenDigest digest, Authentication authentication, long issuedAtMillis, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) return;
+        if (tokens.size() >= maximumSize) evictOverflow();
+        tokens.put(digest, new VerifiedToken(authentication, issuedAtMillis, expiresAtMillis));
+    }
+
+    /**
+     * 해당 유저의 캐시된 토큰을 모두 버려, 다음 요청부터 토큰을 다시 검증하게 합니다.
+     */
+    public void revokeUser(Long userId) {
+        tokens.values().removeIf(verifiedToken -> verifiedToken.authentication().getPrincipal() instanceof UserPrincipal userPrincipal
+                && Objects.equals(userPrincipal.id(), userId));
+    }
+
+    public void revokeAll() {
+        tokens.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${orury.jwt.verified-token-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        tokens.values().removeIf(verifiedToken -> {
+            boolean expired = verifiedToken.isExpired(now);
+            if (expired) expiredEvictedCounter.increment();
+            return expired;
+        });
+    }
+
+    // 요청 스레드에서 맵 전체를 훑지 않도록, iterator 한 번으로 evictionBatchSize개까지만 버립니다. 버려진 토큰은 다음 요청에서 다시 검증됩니다.
+    private void evictOverflow() {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            Iterator<TokenDigest> iterator = tokens.keySet().iterator();
+            for (int evicted = 0; evicted < evictionBatchSize && iterator.hasNext(); evicted++) {
+                iterator.next();
+                iterator.remove();
+                sizeEvictedCounter.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public record TokenDigest(long first, long second, long third, long fourth) {
+    }
+
+    public record VerifiedToken(Authentication authentication, long issuedAtMillis, long expiresAtMillis) {
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -10,16 +10,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.orury.client.auth.application.jwt.JwtTokenService;
 import org.orury.common.error.code.ErrorResponse;
 import org.orury.common.error.exception.AuthException;
+import org.orury.domain.global.config.ReadYourWritesContext;
+import org.orury.domain.user.domain.dto.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
+    private static final String[] EXCLUDE_PATHS = {"/auth/login", "/auth/refresh", "/swagger-ui", "/v3/api-docs", "/favicon.ico", "/actuator/prometheus"};
+    // 에러 응답마다 새로 만들지 않도록 공유합니다. ObjectMapper는 설정 이후 thread-safe 합니다.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private final JwtTokenService jwtTokenService;
 
@@ -30,23 +34,33 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        Authentication authentication;
         try {
-            Authentication authentication = jwtTokenService.getAuthenticationFromRequest(request);
+            authentication = jwtTokenService.getAuthenticationFromRequest(request);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (AuthException e) {
             jwtExceptionHandler(response, e);
             return;
         }
 
-        filterChain.doFilter(request, response);
+        // 이 요청에서 쓰기를 하면, 직후 읽기가 replica 지연에 걸리지 않도록 DataSourceRouter가 유저를 기억합니다. (비회원 id 0 제외)
+        if (authentication.getPrincipal() instanceof UserPrincipal userPrincipal && userPrincipal.id() != 0L) {
+            ReadYourWritesContext.bind(userPrincipal.id());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String[] excludePath = {"/auth/login", "/auth/refresh", "/swagger-ui", "/v3/api-docs", "/favicon.ico", "/actuator/prometheus"};
         String path = request.getRequestURI();
-        return Arrays.stream(excludePath)
-                .anyMatch(path::contains);
+        for (String excludePath : EXCLUDE_PATHS) {
+            if (path.contains(excludePath)) return true;
+        }
+        return false;
     }
 
     private void jwtExceptionHandler(HttpServletResponse response, AuthException exception) {
@@ -54,7 +68,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         try {
-            String json = new ObjectMapper().writeValueAsString(ErrorResponse.of(exception.getStatus(), exception.getMessage()));
+            String json = OBJECT_MAPPER.writeValueAsString(ErrorResponse.of(exception.getStatus(), exception.getMessage()));
             response.getWriter()
                     .write(json);
             log.error("### Error Occurred in JwtTokenFilter : {}", exception.getMessage(), exception);
@@ -60,9 +60,13 @@ public class CommentFacade {
     }
 
     private CommentsWithCursorResponse convertCommentDtosToCommentsWithCursorResponse(List<CommentDto> commentDtos, Long userId) {
+        var commentIds = commentDtos.stream()
+                .map(CommentDto::id)
+                .toList();
+        var likedCommentIds = commentService.getLikedCommentIds(userId, commentIds);
         var commentResponses = commentDtos.stream()
                 .map(commentDto -> {
-                    boolean isLike = commentService.isLiked(userId, commentDto.id());
+                    boolean isLike = likedCommentIds.contains(commentDto.id());
                     return CommentResponse.of(commentDto, userId, isLike);
                 })
                 .toList();
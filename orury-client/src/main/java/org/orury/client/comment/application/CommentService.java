@@ -2,6 +2,7 @@ package org.orury.client.comment.application;
 
 import org.orury.domain.comment.domain.dto.CommentDto;
 import org.orury.domain.comment.domain.dto.CommentLikeDto;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.dto.PostDto;
 
 import java.util.List;
@@ -24,4 +25,6 @@ public interface CommentService {
     void deleteCommentLike(CommentLikeDto commentLikeDto);
 
     boolean isLiked(Long userId, Long commentId);
+
+    LikedIds getLikedCommentIds(Long userId, List<Long> commentIds);
 }
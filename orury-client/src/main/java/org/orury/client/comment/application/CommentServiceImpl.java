@@ -10,6 +10,7 @@ import org.orury.domain.comment.domain.dto.CommentDto;
 import org.orury.domain.comment.domain.dto.CommentLikeDto;
 import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.dto.PostDto;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -92,6 +93,12 @@ public class CommentServiceImpl implements CommentService {
         return commentReader.existsCommentLikeByUserIdAndCommentId(userId, commentId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LikedIds getLikedCommentIds(Long userId, List<Long> commentIds) {
+        return commentReader.findLikedCommentIds(userId, commentIds);
+    }
+
     private void validateCommentCreator(CommentDto commentDto, Long userId) {
         if (!Objects.equals(commentDto.userDto().id(), userId))
             throw new BusinessException(CommentErrorCode.FORBIDDEN);
@@ -23,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 import lombok.RequiredArgsConstructor;
@@ -131,10 +132,8 @@ public class CrewFacade {
     }
 
     private Page<CrewsResponse> convertCrewDtosToCrewsResponses(Page<CrewDto> crewDtos) {
-        return crewDtos.map(crewDto -> {
-            List<String> userImages = crewService.getUserImagesByCrew(crewDto, MAXIMUM_OF_CREW_LIST_THUMBNAILS);
-            return CrewsResponse.of(crewDto, userImages);
-        });
+        Map<Long, List<String>> userImagesByCrewId = crewService.getUserImagesByCrews(crewDtos.getContent(), MAXIMUM_OF_CREW_LIST_THUMBNAILS);
+        return crewDtos.map(crewDto -> CrewsResponse.of(crewDto, userImagesByCrewId.getOrDefault(crewDto.id(), List.of())));
     }
 
     public List<CrewMembersResponse> getCrewMembers(Long crewId, Long userId) {
@@ -150,9 +149,10 @@ public class CrewFacade {
             Long userId, BiFunction<Long, Long, LocalDateTime> biFunction,
             TriFunction<CrewDto, List<String>, LocalDateTime, CrewsResponse> triFunction
     ) {
+        Map<Long, List<String>> userImagesByCrewId = crewService.getUserImagesByCrews(crewDtos, MAXIMUM_OF_CREW_LIST_THUMBNAILS);
         return crewDtos.stream()
                 .map(crewDto -> {
-                    List<String> userImages = crewService.getUserImagesByCrew(crewDto, MAXIMUM_OF_CREW_LIST_THUMBNAILS);
+                    List<String> userImages = userImagesByCrewId.getOrDefault(crewDto.id(), List.of());
                     LocalDateTime time = biFunction.apply(crewDto.id(), userId);
                     return triFunction.apply(crewDto, userImages, time);
                 }).toList();
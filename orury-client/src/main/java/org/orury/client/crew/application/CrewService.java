@@ -12,6 +12,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface CrewService {
     CrewDto getCrewDtoById(Long crewId);
@@ -32,6 +33,8 @@ public interface CrewService {
 
     List<String> getUserImagesByCrew(CrewDto crewDto, int maximumCount);
 
+    Map<Long, List<String>> getUserImagesByCrews(List<CrewDto> crewDtos, int maximumCount);
+
     boolean existCrewMember(Long crewId, Long userId);
 
     void updateCrewInfo(CrewDto oldCrew, CrewDto newCrew, Long userId);
@@ -29,9 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.orury.common.util.S3Folder.CREW;
@@ -137,6 +135,23 @@ public class CrewServiceImpl implements CrewService {
         return userImages;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getUserImagesByCrews(List<CrewDto> crewDtos, int maximumCount) {
+        List<Long> crewIds = crewDtos.stream().map(CrewDto::id).toList();
+        Map<Long, List<User>> otherMembersByCrewId = crewMemberReader.getOtherCrewMembersByCrewIdsMaximum(crewIds, maximumCount - 1);
+
+        Map<Long, List<String>> userImagesByCrewId = new HashMap<>(crewDtos.size() * 2);
+        for (CrewDto crewDto : crewDtos) {
+            List<User> otherMembers = otherMembersByCrewId.getOrDefault(crewDto.id(), List.of());
+            List<String> userImages = new ArrayList<>(otherMembers.size() + 1);
+            userImages.add(crewDto.userDto().profileImage());
+            otherMembers.forEach(user -> userImages.add(user.getProfileImage()));
+            userImagesByCrewId.put(crewDto.id(), userImages);
+        }
+        return userImagesByCrewId;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existCrewMember(Long crewId, Long userId) {
@@ -278,17 +293,19 @@ public class CrewServiceImpl implements CrewService {
     }
 
     private Page<CrewDto> convertCrewsToCrewDtos(Page<Crew> crews) {
-        return crews.map(crew -> {
-            List<String> tags = crewTagReader.getTagsByCrewId(crew.getId());
-            return CrewDto.from(crew, tags);
-        });
+        Map<Long, List<String>> tagsByCrewId = getTagsByCrews(crews.getContent());
+        return crews.map(crew -> CrewDto.from(crew, tagsByCrewId.getOrDefault(crew.getId(), List.of())));
     }
 
     private List<CrewDto> convertCrewsToCrewDtos(List<Crew> crews) {
+        Map<Long, List<String>> tagsByCrewId = getTagsByCrews(crews);
         return crews.stream()
-                .map(crew -> {
-                    List<String> tags = crewTagReader.getTagsByCrewId(crew.getId());
-                    return CrewDto.from(crew, tags);
-                }).toList();
+                .map(crew -> CrewDto.from(crew, tagsByCrewId.getOrDefault(crew.getId(), List.of())))
+                .toList();
+    }
+
+    private Map<Long, List<String>> getTagsByCrews(List<Crew> crews) {
+        List<Long> crewIds = crews.stream().map(Crew::getId).toList();
+        return crewTagReader.getTagsByCrewIds(crewIds);
     }
 }
@@ -5,7 +5,6 @@ import org.orury.client.gym.interfaces.request.AreaGrid;
 import org.orury.client.gym.interfaces.response.GymResponse;
 import org.orury.client.gym.interfaces.response.GymReviewStatistics;
 import org.orury.client.gym.interfaces.response.GymsResponse;
-import org.orury.client.review.application.ReviewService;
 import org.orury.domain.gym.domain.dto.GymDto;
 import org.orury.domain.gym.domain.dto.GymLikeDto;
 import org.springframework.stereotype.Service;
@@ -16,7 +15,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GymFacade {
     private final GymService gymService;
-    private final ReviewService reviewService;
 
     public GymResponse getGymById(Long gymId, Long userId) {
         var gymDto = gymService.getGymDtoById(gymId);
@@ -24,7 +22,7 @@ public class GymFacade {
     }
 
     public List<GymsResponse> getGymsBySearchWordAndLocation(String searchWord, float latitude, float longitude, Long userId) {
-        var gymDtos = gymService.getGymDtosBySearchWordOrderByDistanceAsc(searchWord, latitude, longitude);
+        var gymDtos = gymService.getGymDtosBySearchWordAndLocation(searchWord, latitude, longitude);
         return convertGymDtosToGymsResponses(gymDtos, userId);
     }
 
@@ -44,16 +42,20 @@ public class GymFacade {
     private GymResponse convertGymDtoToGymResponse(GymDto gymDto, Long userId) {
         var doingBusiness = gymService.checkDoingBusiness(gymDto);
         var isLike = gymService.isLiked(userId, gymDto.id());
-        var reviewDtos = reviewService.getAllReviewDtosByGymId(gymDto.id());
-        var gymReviewStatistics = GymReviewStatistics.of(reviewDtos);
+        var gymReviewStatsDto = gymService.getGymReviewStatsDto(gymDto.id());
+        var gymReviewStatistics = GymReviewStatistics.of(gymReviewStatsDto);
 
         return GymResponse.of(gymDto, doingBusiness, isLike, gymReviewStatistics);
     }
 
     private List<GymsResponse> convertGymDtosToGymsResponses(List<GymDto> gymDtos, Long userId) {
+        var gymIds = gymDtos.stream()
+                .map(GymDto::id)
+                .toList();
+        var likedGymIds = gymService.getLikedGymIds(userId, gymIds);
         return gymDtos.stream()
                 .map(gymDto -> {
-                    var isLike = gymService.isLiked(userId, gymDto.id());
+                    var isLike = likedGymIds.contains(gymDto.id());
                     var doingBusiness = gymService.checkDoingBusiness(gymDto);
 
                     return GymsResponse.of(gymDto, doingBusiness, isLike);
@@ -1,15 +1,17 @@
 package org.orury.client.gym.application;
 
 import org.orury.client.gym.interfaces.request.AreaGrid;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.dto.GymDto;
 import org.orury.domain.gym.domain.dto.GymLikeDto;
+import org.orury.domain.gym.domain.dto.GymReviewStatsDto;
 
 import java.util.List;
 
 public interface GymService {
     GymDto getGymDtoById(Long id);
 
-    List<GymDto> getGymDtosBySearchWordOrderByDistanceAsc(String searchWord, float latitude, float longitude);
+    List<GymDto> getGymDtosBySearchWordAndLocation(String searchWord, float latitude, float longitude);
 
     List<GymDto> getGymDtosByAreaGridOrderByDistanceAsc(AreaGrid areaGrid, float latitude, float longitude);
 
@@ -21,5 +23,9 @@ public interface GymService {
 
     boolean isLiked(Long userId, Long gymId);
 
+    LikedIds getLikedGymIds(Long userId, List<Long> gymIds);
+
     boolean checkDoingBusiness(GymDto gymDto);
+
+    GymReviewStatsDto getGymReviewStatsDto(Long gymId);
 }
@@ -5,21 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.orury.client.gym.interfaces.request.AreaGrid;
 import org.orury.common.error.code.GymErrorCode;
 import org.orury.common.error.exception.BusinessException;
-import org.orury.common.util.BusinessHoursConverter;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.GymReader;
 import org.orury.domain.gym.domain.GymStore;
 import org.orury.domain.gym.domain.dto.GymDto;
 import org.orury.domain.gym.domain.dto.GymLikeDto;
+import org.orury.domain.gym.domain.dto.GymReviewStatsDto;
 import org.orury.domain.gym.domain.entity.Gym;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.Comparator;
 import java.util.List;
 
 @Slf4j
@@ -30,7 +29,6 @@ public class GymServiceImpl implements GymService {
     private final GymStore gymStore;
 
     @Override
-    @Transactional(readOnly = true)
     public GymDto getGymDtoById(Long id) {
         Gym gym = gymReader.findGymById(id)
                 .orElseThrow(() -> new BusinessException(GymErrorCode.NOT_FOUND));
@@ -38,17 +36,19 @@ public class GymServiceImpl implements GymService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<GymDto> getGymDtosBySearchWordOrderByDistanceAsc(String searchWord, float latitude, float longitude) {
-        var gyms = gymReader.findGymsBySearchWord(searchWord);
-        return sortGymsByDistanceAsc(gyms, latitude, longitude);
+    public List<GymDto> getGymDtosBySearchWordAndLocation(String searchWord, float latitude, float longitude) {
+        return gymReader.findGymsBySearchWord(searchWord, latitude, longitude, NumberConstants.GYM_SEARCH_MAXIMUM_SIZE)
+                .stream()
+                .map(GymDto::from)
+                .toList();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<GymDto> getGymDtosByAreaGridOrderByDistanceAsc(AreaGrid areaGrid, float latitude, float longitude) {
-        var gyms = gymReader.findGymsInAreaGrid(areaGrid.toGridMap());
-        return sortGymsByDistanceAsc(gyms, latitude, longitude);
+        return gymReader.findGymsInAreaGrid(areaGrid.toGridMap(), latitude, longitude, NumberConstants.GYM_AREA_GRID_MAXIMUM_SIZE)
+                .stream()
+                .map(GymDto::from)
+                .toList();
     }
 
     @Override
@@ -83,34 +83,28 @@ public class GymServiceImpl implements GymService {
         return gymReader.existsGymLikeByUserIdAndGymId(userId, gymId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LikedIds getLikedGymIds(Long userId, List<Long> gymIds) {
+        return gymReader.findLikedGymIds(userId, gymIds);
+    }
+
     private void validateGym(Long gymId) {
         if (!gymReader.existsGymById(gymId)) throw new BusinessException(GymErrorCode.NOT_FOUND);
     }
 
     @Override
     public boolean checkDoingBusiness(GymDto gymDto) {
-        DayOfWeek today = LocalDateTime.now().getDayOfWeek();
-        String businessHour = gymDto.businessHours().get(today);
-
-        LocalTime nowTime = LocalTime.now();
-        LocalTime openTime = BusinessHoursConverter.extractOpenTime(businessHour);
-        LocalTime closeTime = BusinessHoursConverter.extractCloseTime(businessHour);
-
-        return nowTime.isAfter(openTime) && nowTime.isBefore(closeTime);
-    }
-
-    private List<GymDto> sortGymsByDistanceAsc(List<Gym> gyms, float latitude, float longitude) {
-        return gyms.stream()
-                .map(GymDto::from)
-                .sorted(Comparator.comparingDouble(
-                        o -> getDistance(latitude, longitude, o.latitude(), o.longitude())
-                ))
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        return gymReader.isDoingBusiness(gymDto.id(), now.getDayOfWeek(), now.getHour() * 60 + now.getMinute());
     }
 
-    private double getDistance(double latitude1, double longitude1, double latitude2, double longitude2) {
-        double x = Math.pow(latitude2 - latitude1, 2);
-        double y = Math.pow(longitude2 - longitude1, 2);
-        return Math.sqrt(x + y);
+    @Override
+    @Transactional(readOnly = true)
+    public GymReviewStatsDto getGymReviewStatsDto(Long gymId) {
+        // 리뷰가 한 번도 달리지 않은 암장은 통계 행이 없습니다.
+        var gymReviewStats = gymReader.findGymReviewStatsByGymId(gymId)
+                .orElseGet(() -> GymReviewStats.of(gymId));
+        return GymReviewStatsDto.from(gymReviewStats);
     }
 }
@@ -27,7 +27,7 @@ public class GymController {
         return ApiResponse.of(GymMessage.GYM_READ.getMessage(), gymResponse);
     }
 
-    @Operation(summary = "암장 목록 검색", description = "검색어와 위치 좌표(경도, 위도)를 받아, 검색어를 포함하는 암장 목록을 가까운 순으로 돌려준다.")
+    @Operation(summary = "암장 목록 검색", description = "검색어와 위치 좌표(경도, 위도)를 받아, 검색어(초성 포함)와 일치하는 암장 목록을 일치도와 거리 순으로 돌려준다.")
     @GetMapping("/search")
     public ApiResponse getGymsBySearchWordAndLocation(
             @RequestParam("search_word") String searchWord,
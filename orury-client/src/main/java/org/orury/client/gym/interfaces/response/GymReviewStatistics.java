@@ -1,34 +1,28 @@
 package org.orury.client.gym.interfaces.response;
 
-import org.orury.domain.review.domain.dto.ReviewDto;
+import org.orury.domain.gym.domain.dto.GymReviewStatsDto;
+import org.orury.domain.gym.domain.entity.GymReviewStats.MonthlyScore;
 
-import java.time.Month;
-import java.util.EnumMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.IntStream;
 
 public record GymReviewStatistics(
         List<TotalReviewChart.ReviewCount> barChartData,
         List<MonthlyReviewChart.MonthlyReviewCount> lineChartData
 ) {
-    public static GymReviewStatistics of(List<ReviewDto> reviewDtos) {
+    public static GymReviewStatistics of(GymReviewStatsDto gymReviewStatsDto) {
         return new GymReviewStatistics(
-                TotalReviewChart.of(reviewDtos),
-                MonthlyReviewChart.of(reviewDtos)
+                TotalReviewChart.of(gymReviewStatsDto.scoreCounts()),
+                MonthlyReviewChart.of(gymReviewStatsDto.monthlyScores())
         );
     }
 
     record TotalReviewChart(
             List<ReviewCount> barChartData
     ) {
-        private static List<ReviewCount> of(List<ReviewDto> reviewDtos) {
-            Map<Float, Integer> counts = new LinkedHashMap<>();
-            for (ReviewDto review : reviewDtos) {
-                counts.put(review.score(), counts.getOrDefault(review.score(), 0) + 1);
-            }
-
-            return counts.entrySet().stream()
+        private static List<ReviewCount> of(SortedMap<Float, Integer> scoreCounts) {
+            return scoreCounts.entrySet().stream()
                     .map(o -> new ReviewCount(o.getKey(), o.getValue()))
                     .toList();
         }
@@ -40,22 +34,13 @@ public record GymReviewStatistics(
     record MonthlyReviewChart(
             List<MonthlyReviewCount> lineChartData
     ) {
-        private static List<MonthlyReviewCount> of(List<ReviewDto> reviewDtos) {
-
-            EnumMap<Month, Object[]> counts = new EnumMap<>(Month.class);
-
-            for (ReviewDto review : reviewDtos) {
-                float tempTotal = (float) counts.getOrDefault(review.createdAt().getMonth(), new Object[]{0f, 0})[0] + review.score();
-                int tempCount = (int) counts.getOrDefault(review.createdAt().getMonth(), new Object[]{0f, 0})[1] + 1;
-                Object[] value = new Object[]{tempTotal, tempCount};
-                counts.put(review.createdAt().getMonth(), value);
-            }
-
-            return counts.entrySet().stream()
-                    .map(o -> new MonthlyReviewCount(
-                            o.getKey().getValue(),
-                            Math.round((float) o.getValue()[0] * 100 / (int) o.getValue()[1]) / 100f,
-                            (int) o.getValue()[1]))
+        private static List<MonthlyReviewCount> of(List<MonthlyScore> monthlyScores) {
+            return IntStream.range(0, monthlyScores.size())
+                    .filter(index -> monthlyScores.get(index).count() > 0)
+                    .mapToObj(index -> new MonthlyReviewCount(
+                            index + 1,
+                            (float) (Math.round(monthlyScores.get(index).scoreSum() * 100 / monthlyScores.get(index).count()) / 100d),
+                            monthlyScores.get(index).count()))
                     .toList();
         }
 
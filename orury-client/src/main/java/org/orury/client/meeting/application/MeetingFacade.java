@@ -15,6 +15,7 @@ import org.orury.domain.user.domain.dto.UserDto;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -35,18 +36,18 @@ public class MeetingFacade {
 
     public List<MeetingsResponse> getPresentMeetings(Long crewId, Long userId) {
         List<MeetingDto> meetingDtos = meetingService.getPresentMeetingDtosByCrewId(crewId, userId);
-        return meetingDtos.stream().map(meetingDto -> {
-            List<String> userImages = meetingService.getUserImagesByMeeting(meetingDto);
-            return MeetingsResponse.of(meetingDto, userImages, userId);
-        }).toList();
+        Map<Long, List<String>> userImages = meetingService.getUserImagesByMeetings(meetingDtos);
+        return meetingDtos.stream()
+                .map(meetingDto -> MeetingsResponse.of(meetingDto, userImages.get(meetingDto.id()), userId))
+                .toList();
     }
 
     public List<MeetingsResponse> getPastMeetings(Long crewId, Long userId) {
         List<MeetingDto> meetingDtos = meetingService.getPastMeetingDtosByCrewId(crewId, userId);
-        return meetingDtos.stream().map(meetingDto -> {
-            List<String> userImages = meetingService.getUserImagesByMeeting(meetingDto);
-            return MeetingsResponse.of(meetingDto, userImages, userId);
-        }).toList();
+        Map<Long, List<String>> userImages = meetingService.getUserImagesByMeetings(meetingDtos);
+        return meetingDtos.stream()
+                .map(meetingDto -> MeetingsResponse.of(meetingDto, userImages.get(meetingDto.id()), userId))
+                .toList();
     }
 
     public void updateMeeting(MeetingUpdateRequest request, Long userId) {
@@ -3,7 +3,9 @@ package org.orury.client.meeting.application;
 import org.orury.domain.meeting.domain.dto.MeetingDto;
 import org.orury.domain.user.domain.dto.UserDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface MeetingService {
     MeetingDto getMeetingDtoById(Long meetingId);
@@ -14,9 +16,9 @@ public interface MeetingService {
 
     List<MeetingDto> getPastMeetingDtosByCrewId(Long crewId, Long userId);
 
-    List<MeetingDto> getUpcomingMeetingDtosByUserId(Long userId);
+    List<MeetingDto> getUpcomingMeetingDtosByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime);
 
-    List<String> getUserImagesByMeeting(MeetingDto meetingDto);
+    Map<Long, List<String>> getUserImagesByMeetings(List<MeetingDto> meetingDtos);
 
     void updateMeeting(MeetingDto meetingDto, Long userId);
 
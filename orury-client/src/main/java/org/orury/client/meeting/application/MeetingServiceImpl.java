@@ -6,6 +6,7 @@ import org.orury.common.error.code.MeetingErrorCode;
 import org.orury.common.error.exception.BusinessException;
 import org.orury.domain.crew.domain.CrewMemberReader;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.meeting.domain.MeetingMemberReader;
 import org.orury.domain.meeting.domain.MeetingMemberStore;
 import org.orury.domain.meeting.domain.MeetingReader;
@@ -13,19 +14,14 @@ import org.orury.domain.meeting.domain.MeetingStore;
 import org.orury.domain.meeting.domain.dto.MeetingDto;
 import org.orury.domain.meeting.domain.dto.MeetingMemberDto;
 import org.orury.domain.meeting.domain.entity.Meeting;
-import org.orury.domain.meeting.domain.entity.MeetingMember;
 import org.orury.domain.meeting.domain.entity.MeetingMemberPK;
-import org.orury.domain.user.domain.UserReader;
 import org.orury.domain.user.domain.dto.UserDto;
-import org.orury.domain.user.domain.entity.User;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -35,7 +31,6 @@ public class MeetingServiceImpl implements MeetingService {
     private final MeetingMemberReader meetingMemberReader;
     private final MeetingMemberStore meetingMemberStore;
     private final CrewMemberReader crewMemberReader;
-    private final UserReader userReader;
 
     @Override
     @Transactional(readOnly = true)
@@ -74,23 +69,36 @@ public class MeetingServiceImpl implements MeetingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<MeetingDto> getUpcomingMeetingDtosByUserId(Long userId) {
-        return meetingReader.getUpcomingMeetingsByUserId(userId)
+    public List<MeetingDto> getUpcomingMeetingDtosByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime) {
+        var pageRequest = PageRequest.of(0, NumberConstants.MEETING_PAGINATION_SIZE);
+        LocalDateTime startTime = resolveCursorStartTime(cursor, cursorStartTime);
+        return meetingReader.getUpcomingMeetingsByUserId(userId, cursor, startTime, pageRequest)
                 .stream().map(MeetingDto::from).toList();
     }
 
+    // 시작시간 없이 cursor만 받으면 cursor 일정에서 찾고, 그 일정이 삭제됐으면 빈 페이지 대신 NotFound 예외로 알립니다.
+    private LocalDateTime resolveCursorStartTime(Long cursor, LocalDateTime cursorStartTime) {
+        if (cursor.equals(NumberConstants.FIRST_CURSOR) || cursorStartTime != null) return cursorStartTime;
+        return meetingReader.findById(cursor)
+                .map(Meeting::getStartTime)
+                .orElseThrow(() -> new BusinessException(MeetingErrorCode.NOT_FOUND));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<String> getUserImagesByMeeting(MeetingDto meetingDto) {
-        UserDto meetingCreator = meetingDto.userDto();
-        List<MeetingMember> otherMembers = meetingMemberReader.getOtherMeetingMembersByMeetingIdMaximum(meetingDto.id(), meetingDto.userDto().id(), NumberConstants.MAXIMUM_OF_MEETING_THUMBNAILS - 1);
-
-        List<String> userImages = otherMembers.stream()
-                .map(meetingMember -> meetingMember.getMeetingMemberPK().getUserId())
-                .map(userReader::getUserById)
-                .map(User::getProfileImage)
-                .collect(Collectors.toCollection(LinkedList::new));
-        userImages.add(0, meetingCreator.profileImage());
+    public Map<Long, List<String>> getUserImagesByMeetings(List<MeetingDto> meetingDtos) {
+        List<Long> meetingIds = meetingDtos.stream()
+                .map(MeetingDto::id)
+                .toList();
+        Map<Long, List<String>> otherMemberImages = meetingMemberReader.findOtherMemberProfileImagesByMeetingIds(meetingIds, NumberConstants.MAXIMUM_OF_MEETING_THUMBNAILS - 1);
+
+        Map<Long, List<String>> userImages = new HashMap<>();
+        meetingDtos.forEach(meetingDto -> {
+            List<String> meetingUserImages = new ArrayList<>();
+            meetingUserImages.add(meetingDto.userDto().profileImage());
+            meetingUserImages.addAll(otherMemberImages.getOrDefault(meetingDto.id(), List.of()));
+            userImages.put(meetingDto.id(), meetingUserImages);
+        });
         return userImages;
     }
 
@@ -169,9 +177,11 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
     private List<MeetingDto> convertMeetingsToMeetingDtos(List<Meeting> meetings, Long userId) {
-        return meetings.stream().map(meeting -> {
-            boolean isParticipated = meetingMemberReader.existsByMeetingIdAndUserId(meeting.getId(), userId);
-            return MeetingDto.from(meeting, isParticipated);
-        }).toList();
+        LikedIds participatedMeetingIds = meetingMemberReader.findParticipatedMeetingIds(userId, meetings.stream()
+                .map(Meeting::getId)
+                .toList());
+        return meetings.stream()
+                .map(meeting -> MeetingDto.from(meeting, participatedMeetingIds.contains(meeting.getId())))
+                .toList();
     }
 }
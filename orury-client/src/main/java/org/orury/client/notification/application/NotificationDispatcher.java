@@ -0,0 +1,241 @@
+package org.orury.client.notification.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.notification.infrastructure.EmitterRepository;
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
+import org.orury.domain.notification.infrastructure.EmitterRepository.UserEmitter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 저장이 끝난 알림을 요청 스레드 밖에서 emitter로 보냅니다.
+ * 유저별로 대기열을 두어, 몰려 들어온 알림은 한 번의 작업에서 순서대로 보내고,
+ * 전체 대기 알림이 maximumPendingEvents를 넘으면 새 알림은 보내지 않습니다.
+ * 버린 알림도 notification 테이블에 남아 있으므로, 클라이언트가 재연결하면 Last-Event-ID로 다시 받을 수 있습니다.
+ * <p>
+ * emitter 쓰기는 write 스레드에서 하고, 전송 스레드는 writeTimeout까지만 기다립니다.
+ * SseEmitter.send는 쓰는 동안 emitter monitor를 쥐고 있어 completeWithError로는 멈춘 쓰기를 끊을 수 없으므로,
+ * 제한 시간을 넘긴 쓰기는 interrupt로 취소하고 emitter를 저장소에서 빼 더 이상 쓰지 않습니다.
+ * 멈춘 연결은 컨테이너의 쓰기 타임아웃이나 emitter 타임아웃에 정리됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+    private final EmitterRepository emitterRepository;
+    private final int maximumPendingEvents;
+    private final long writeTimeoutMillis;
+
+    private final ExecutorService dispatchExecutor;
+    private final ExecutorService writeExecutor;
+    // 유저당 하나의 전송 작업만 돌도록, 작업이 끝날 때까지 대기열을 map에 남겨 둡니다.
+    private final Map<Long, List<PendingEvent>> pendingEvents = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+
+    private final Timer dispatchLatencyTimer;
+    private final Counter droppedCounter;
+    private final Counter failedWriteCounter;
+    private final Counter timedOutWriteCounter;
+    private final Counter skippedWriteCounter;
+
+    public NotificationDispatcher(
+            EmitterRepository emitterRepository,
+            MeterRegistry meterRegistry,
+            @Value("${orury.notification.dispatch.threads:4}") int threads,
+            @Value("${orury.notification.dispatch.write-threads:32}") int writeThreads,
+            @Value("${orury.notification.dispatch.maximum-pending-events:10000}") int maximumPendingEvents,
+            @Value("${orury.notification.dispatch.write-timeout-ms:3000}") long writeTimeoutMillis
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.maximumPendingEvents = maximumPendingEvents;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        // 유저마다 작업이 하나뿐이고 대기 알림 수가 제한되므로, 작업 큐도 maximumPendingEvents를 넘지 않습니다.
+        this.dispatchExecutor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maximumPendingEvents),
+                new CustomizableThreadFactory("notification-dispatch-")
+        );
+        // 한 번에 기다리는 쓰기는 전송 스레드 수 x 유저당 emitter 상한, heartbeat batch 크기로 묶여 있습니다.
+        this.writeExecutor = new ThreadPoolExecutor(
+                writeThreads, writeThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("notification-write-")
+        );
+
+        this.dispatchLatencyTimer = meterRegistry.timer("notification.dispatch.latency");
+        this.droppedCounter = meterRegistry.counter("notification.dispatch.dropped");
+        this.failedWriteCounter = meterRegistry.counter("notification.dispatch.failed_writes", "reason", "io");
+        this.timedOutWriteCounter = meterRegistry.counter("notification.dispatch.failed_writes", "reason", "timeout");
+        this.skippedWriteCounter = meterRegistry.counter("notification.dispatch.failed_writes", "reason", "skipped");
+        Gauge.builder("notification.dispatch.queue_depth", pendingEventCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public void dispatch(Long userId, CachedEvent event) {
+        if (pendingEventCount.incrementAndGet() > maximumPendingEvents) {
+            pendingEventCount.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+
+        PendingEvent pendingEvent = new PendingEvent(event, System.nanoTime());
+        boolean[] isFirst = {false};
+        pendingEvents.compute(userId, (id, events) -> {
+            List<PendingEvent> userEvents = (events == null) ? new ArrayList<>() : events;
+            isFirst[0] = (events == null);
+            userEvents.add(pendingEvent);
+            return userEvents;
+        });
+        if (!isFirst[0]) return;
+
+        try {
+            dispatchExecutor.execute(() -> dispatchAll(userId));
+        } catch (RejectedExecutionException exception) {
+            // 종료 중이라면 대기열을 비우고 버립니다.
+            List<PendingEvent> rejected = pendingEvents.remove(userId);
+            int rejectedCount = (rejected == null) ? 0 : rejected.size();
+            pendingEventCount.addAndGet(-rejectedCount);
+            droppedCounter.increment(rejectedCount);
+        }
+    }
+
+    private void dispatchAll(Long userId) {
+        while (true) {
+            List<PendingEvent> batch = new ArrayList<>();
+            pendingEvents.compute(userId, (id, events) -> {
+                batch.addAll(events);
+                events.clear();
+                return batch.isEmpty() ? null : events;
+            });
+            if (batch.isEmpty()) return;
+
+            try {
+                // 쓰기에는 연결 순서가 필요 없어 0으로 둡니다.
+                List<UserEmitter> targets = new ArrayList<>();
+                emitterRepository.findAllEmitterByUserId(userId)
+                        .forEach((emitterId, emitter) -> targets.add(new UserEmitter(userId, emitterId, emitter, 0L)));
+                writeAll(targets, emitter -> {
+                    for (PendingEvent pendingEvent : batch) {
+                        emitter.send(SseEmitter.event()
+                                .id(pendingEvent.event().id())
+                                .name("sse")
+                                .data(pendingEvent.event().data())
+                        );
+                    }
+                });
+            } catch (RuntimeException exception) {
+                log.warn("notification dispatch failed, userId: {}", userId, exception);
+            } finally {
+                long now = System.nanoTime();
+                batch.forEach(pendingEvent -> dispatchLatencyTimer.record(now - pendingEvent.enqueuedAt(), TimeUnit.NANOSECONDS));
+                pendingEventCount.addAndGet(-batch.size());
+            }
+        }
+    }
+
+    /**
+     * 모든 emitter에 쓰기를 동시에 시작하고, 하나의 deadline까지 기다립니다.
+     * 쓰기에 실패했거나 제한 시간을 넘긴 emitter는 저장소에서 삭제합니다.
+     *
+     * @return 삭제한 emitter 수
+     */
+    public int writeAll(List<UserEmitter> targets, EmitterWrite write) {
+        List<PendingWrite> writes = new ArrayList<>(targets.size());
+        targets.forEach(target -> writes.add(submit(target, write)));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        int evicted = 0;
+        for (PendingWrite pendingWrite : writes) {
+            if (await(pendingWrite, deadline)) evicted++;
+        }
+        return evicted;
+    }
+
+    private PendingWrite submit(UserEmitter target, EmitterWrite write) {
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            Future<?> future = writeExecutor.submit(() -> {
+                started.set(true);
+                try {
+                    write.writeTo(target.emitter());
+                } catch (IOException | IllegalStateException exception) {
+                    // send가 끝난 write 스레드에서 종료하므로, 전송 스레드는 emitter monitor를 기다리지 않습니다.
+                    target.emitter().completeWithError(exception);
+                    throw exception;
+                }
+                return null;
+            });
+            return new PendingWrite(target, future, started);
+        } catch (RejectedExecutionException exception) {
+            // 종료 중입니다.
+            return new PendingWrite(target, null, started);
+        }
+    }
+
+    /**
+     * @return emitter를 삭제했는지 여부
+     */
+    private boolean await(PendingWrite pendingWrite, long deadline) {
+        UserEmitter target = pendingWrite.target();
+        if (pendingWrite.future() == null) {
+            skippedWriteCounter.increment();
+            return false;
+        }
+        try {
+            pendingWrite.future().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return false;
+        } catch (ExecutionException exception) {
+            // 이미 끊겼거나 종료된 emitter입니다.
+            failedWriteCounter.increment();
+        } catch (TimeoutException exception) {
+            pendingWrite.future().cancel(true);
+            if (!pendingWrite.started().get()) {
+                // 앞선 쓰기들에 밀려 시작하지 못한 쓰기는 emitter 탓이 아니므로 건너뛰기만 합니다.
+                skippedWriteCounter.increment();
+                return false;
+            }
+            timedOutWriteCounter.increment();
+        } catch (InterruptedException exception) {
+            pendingWrite.future().cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        emitterRepository.deleteEmitterById(target.userId(), target.emitterId());
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatchExecutor.shutdown();
+        if (!dispatchExecutor.awaitTermination(writeTimeoutMillis * 2, TimeUnit.MILLISECONDS)) {
+            log.warn("notification dispatcher terminated with {} pending events", pendingEventCount.get());
+            dispatchExecutor.shutdownNow();
+        }
+        writeExecutor.shutdownNow();
+    }
+
+    private record PendingEvent(CachedEvent event, long enqueuedAt) {
+    }
+
+    private record PendingWrite(UserEmitter target, Future<?> future, AtomicBoolean started) {
+    }
+
+    @FunctionalInterface
+    public interface EmitterWrite {
+        void writeTo(SseEmitter emitter) throws IOException;
+    }
+}
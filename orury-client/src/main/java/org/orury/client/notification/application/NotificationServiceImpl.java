@@ -4,22 +4,26 @@ import org.apache.logging.log4j.util.Strings;
 import org.orury.client.notification.interfaces.response.NotificationResponse;
 import org.orury.common.error.code.NotificationErrorCode;
 import org.orury.common.error.exception.BusinessException;
+import org.orury.domain.notification.domain.NotificationBroadcaster;
 import org.orury.domain.notification.domain.dto.NotificationDto;
+import org.orury.domain.notification.domain.dto.NotificationEvent;
 import org.orury.domain.notification.domain.entity.Notification;
 import org.orury.domain.notification.infrastructure.EmitterRepository;
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
 import org.orury.domain.notification.infrastructure.NotificationRepository;
 import org.orury.domain.user.domain.dto.UserDto;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,35 +32,36 @@ import lombok.RequiredArgsConstructor;
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private static final int MAXIMUM_LOST_EVENTS = 50;
 
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
-    private final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationBroadcaster notificationBroadcaster;
+
+    @PostConstruct
+    void subscribeBroadcast() {
+        notificationBroadcaster.subscribe(this::receive);
+    }
 
     @Override
     public SseEmitter subscribe(Long userId, String lastEventId) {
         String emitterId = makeTimeIncludeId(userId);
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(userId, emitterId, new SseEmitter(DEFAULT_TIMEOUT));
 
         // emitter가 연결이 끊겼거나, 타임아웃 됐을 때 삭제될 수 있도록 함. (비동기)
-        emitter.onCompletion(() -> {
-            logger.info("알람테스트 : emitter.onCompletion으로 emitter 삭제됨.");
-            emitterRepository.deleteEmitterById(emitterId);
-        });
-        emitter.onTimeout(() -> {
-            logger.info("알람테스트 : emitter.onTimeout으로 emitter 삭제됨.");
-            emitterRepository.deleteEmitterById(emitterId);
-        });
+        emitter.onCompletion(() -> emitterRepository.deleteEmitterById(userId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteEmitterById(userId, emitterId));
+        emitter.onError(exception -> emitterRepository.deleteEmitterById(userId, emitterId));
 
         // 503 에러 방지 위한 더미 이벤트 전송
-        String eventId = makeTimeIncludeId(userId);
-        sendNotification(emitter, eventId, emitterId, "EventStream Created. [userId=" + userId + "]");
+        // id를 붙이지 않아, 클라이언트의 Last-Event-ID가 마지막으로 받은 알림으로 유지되게 합니다.
+        sendNotification(emitter, null, userId, emitterId, "EventStream Created. [userId=" + userId + "]");
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실 예방
         if (hasLostData(lastEventId)) {
             sendLostData(lastEventId, userId, emitterId, emitter);
         }
-        logger.info("알람테스트 : subscribe 실행되었음. ");
         return emitter;
     }
 
@@ -65,31 +70,32 @@ public class NotificationServiceImpl implements NotificationService {
         NotificationDto notificationDto = NotificationDto.of(null, userDto, title, content, url, 0, null, null);
         Notification notification = notificationRepository.save(notificationDto.toEntity());
 
-        String eventId = makeTimeIncludeId(userDto.id());
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(userDto.id());
-        emitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendNotification(emitter, eventId, key, NotificationResponse.of(notificationDto));
-                    logger.info("알람테스트 :sendNotification 실행. emitter: " + emitter + " / eventId: " + eventId + " / key: " + key + " / notification: " + notification);
-                }
-        );
+        // 유저가 어느 노드에 연결되어 있든 받을 수 있도록, 모든 노드에 전달합니다.
+        notificationBroadcaster.publish(NotificationEvent.from(notification));
+    }
+
+    /**
+     * 다른 노드에서 보낸 알림도 포함해 모든 알림을 받아, 이 노드에 연결된 유저라면 이벤트 버퍼에 남기고 emitter로 보냅니다.
+     */
+    private void receive(NotificationEvent notificationEvent) {
+        CachedEvent event = emitterRepository.saveEventCache(notificationEvent.userId(), notificationEvent.id(), NotificationResponse.from(notificationEvent));
+        notificationDispatcher.dispatch(notificationEvent.userId(), event);
     }
 
     private String makeTimeIncludeId(Long userId) {
         return userId.toString() + "_" + System.currentTimeMillis();
     }
 
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
+    private void sendNotification(SseEmitter emitter, String eventId, Long userId, String emitterId, Object data) {
         try {
             // Emitter에 새로운 이벤트 생성하여 전송
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
                     .name("sse")
-                    .data(data)
-            );
+                    .data(data);
+            if (eventId != null) event.id(eventId);
+            emitter.send(event);
         } catch (IOException exception) {
-            emitterRepository.deleteEmitterById(emitterId);
+            emitterRepository.deleteEmitterById(userId, emitterId);
         }
     }
 
@@ -98,13 +104,32 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private void sendLostData(String lastEventId, Long userId, String emitterId, SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByUserId(userId);
-        eventCaches.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                .forEach(entry -> {
-                    sendNotification(emitter, entry.getKey(), emitterId, entry.getValue());
-                    logger.info("알람테스트 : sendLostData 내의 sendNotification 실행. emitter: " + emitter + " / lasteventId: " + lastEventId);
-                });
+        OptionalLong lastSequence = parseSequence(lastEventId);
+        if (lastSequence.isEmpty()) return;
+
+        emitterRepository.findAllEventCacheAfter(userId, lastSequence.getAsLong())
+                .orElseGet(() -> findLostEvents(userId, lastSequence.getAsLong()))
+                .forEach(event -> sendNotification(emitter, event.id(), userId, emitterId, event.data()));
+    }
+
+    /**
+     * 이 노드의 이벤트 버퍼로 재전송할 수 없다면(다른 노드에서 받았거나, 노드가 재시작한 경우) outbox인 notification 테이블에서 읽습니다.
+     */
+    private List<CachedEvent> findLostEvents(Long userId, long lastSequence) {
+        return notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastSequence, PageRequest.of(0, MAXIMUM_LOST_EVENTS))
+                .stream()
+                .map(NotificationEvent::from)
+                .map(event -> CachedEvent.of(userId, event.id(), NotificationResponse.from(event)))
+                .toList();
+    }
+
+    // event id는 "{userId}_{sequence}" 형식입니다. 알아볼 수 없는 id라면 재전송하지 않습니다.
+    private OptionalLong parseSequence(String lastEventId) {
+        try {
+            return OptionalLong.of(Long.parseLong(lastEventId.substring(lastEventId.lastIndexOf('_') + 1)));
+        } catch (NumberFormatException exception) {
+            return OptionalLong.empty();
+        }
     }
 
 
@@ -0,0 +1,78 @@
+package org.orury.client.notification.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.notification.infrastructure.EmitterRepository;
+import org.orury.domain.notification.infrastructure.EmitterRepository.UserEmitter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 timer 스레드에서 주기적으로 모든 emitter에 SSE comment를 보내, 끊긴 연결을 찾아 정리합니다.
+ * 요청 스레드나 알림 전송 스레드와 겹치지 않도록 전용 스레드를 쓰고, emitter를 batchSize개씩 나눠 보냅니다.
+ * 쓰기는 NotificationDispatcher의 제한 시간이 있는 쓰기로 하므로, 멈춘 연결 하나가 heartbeat 전체를 붙잡지 않습니다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeat {
+    private final EmitterRepository emitterRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final long intervalMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter evictedCounter;
+    private final Timer heartbeatTimer;
+
+    public SseHeartbeat(
+            EmitterRepository emitterRepository,
+            NotificationDispatcher notificationDispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${orury.notification.heartbeat.interval-ms:30000}") long intervalMillis,
+            @Value("${orury.notification.heartbeat.batch-size:500}") int batchSize
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.intervalMillis = intervalMillis;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-heartbeat-"));
+
+        this.evictedCounter = meterRegistry.counter("sse.emitters.evicted", "reason", "heartbeat");
+        this.heartbeatTimer = meterRegistry.timer("sse.heartbeat.duration");
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(() -> heartbeatTimer.record(this::heartbeat), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void heartbeat() {
+        List<UserEmitter> emitters = emitterRepository.findAllEmitters();
+        for (int from = 0; from < emitters.size(); from += batchSize) {
+            List<UserEmitter> batch = emitters.subList(from, Math.min(from + batchSize, emitters.size()));
+            try {
+                int evicted = notificationDispatcher.writeAll(batch, emitter -> emitter.send(SseEmitter.event().comment("heartbeat")));
+                evictedCounter.increment(evicted);
+            } catch (RuntimeException exception) {
+                // 한 batch의 예외가 이후 heartbeat를 멈추지 않게 합니다.
+                log.warn("sse heartbeat batch failed", exception);
+            }
+        }
+    }
+}
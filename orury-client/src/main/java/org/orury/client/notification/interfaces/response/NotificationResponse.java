@@ -1,6 +1,7 @@
 package org.orury.client.notification.interfaces.response;
 
 import org.orury.domain.notification.domain.dto.NotificationDto;
+import org.orury.domain.notification.domain.dto.NotificationEvent;
 
 import java.time.LocalDateTime;
 
@@ -27,4 +28,17 @@ public record NotificationResponse(
                 dto.updatedAt()
         );
     }
+
+    public static NotificationResponse from(NotificationEvent event) {
+        return new NotificationResponse(
+                event.id(),
+                event.userId(),
+                event.title(),
+                event.content(),
+                event.url(),
+                event.isRead(),
+                event.createdAt(),
+                event.updatedAt()
+        );
+    }
 }
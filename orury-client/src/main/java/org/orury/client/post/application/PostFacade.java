@@ -48,27 +48,27 @@ public class PostFacade {
     public PostResponse getPostById(Long userId, Long postId) {
         PostDto post = postService.getPostDtoById(postId);
         UserDto user = userService.getUserDtoById(userId);
-        postService.updateViewCount(postId);
+        postService.updateViewCount(userId, postId);
         return PostResponse.of(post, user);
     }
 
-    public List<PostsResponse> getPostsByCategory(int category, Long cursor, Pageable pageable) {
-        return postService.getPostDtosByCategory(category, cursor, pageable)
+    public List<PostsResponse> getPostsByCategory(Long userId, int category, Long cursor, Pageable pageable) {
+        return postService.getPostDtosByCategory(userId, category, cursor, pageable)
                 .stream()
                 .map(PostsResponse::of)
                 .toList();
     }
 
-    public List<PostsResponse> getPostsBySearchWord(String searchWord, Long cursor, Integer lastLikeCount) {
-        return postService.getPostDtosBySearchWord(searchWord, cursor, lastLikeCount)
+    public List<PostsResponse> getPostsBySearchWord(Long userId, String searchWord, Long cursor, Integer lastLikeCount) {
+        return postService.getPostDtosBySearchWord(userId, searchWord, cursor, lastLikeCount)
                 .stream()
                 .map(PostsResponse::of)
                 .toList();
     }
 
-    public PostsWithPageResponse getHotPosts(int page) {
+    public PostsWithPageResponse getHotPosts(Long userId, int page) {
         var pageRequest = PageRequest.of(page, POST_PAGINATION_SIZE);
-        var post = postService.getHotPostDtos(pageRequest);
+        var post = postService.getHotPostDtos(userId, pageRequest);
         int nextPage = postService.getNextPage(post, page);
         return PostsWithPageResponse.of(post.stream().map(PostsResponse::of).toList(), nextPage);
     }
@@ -9,13 +9,13 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 public interface PostService {
-    List<PostDto> getPostDtosByCategory(int category, Long cursor, Pageable pageable);
+    List<PostDto> getPostDtosByCategory(Long userId, int category, Long cursor, Pageable pageable);
 
-    List<PostDto> getPostDtosBySearchWord(String searchWord, Long cursor, Integer lastLikeCount);
+    List<PostDto> getPostDtosBySearchWord(Long userId, String searchWord, Long cursor, Integer lastLikeCount);
 
     List<PostDto> getPostDtosByUserId(Long userId, Long cursor, Pageable pageable);
 
-    Page<PostDto> getHotPostDtos(Pageable pageable);
+    Page<PostDto> getHotPostDtos(Long userId, Pageable pageable);
 
     PostDto getPostDtoById(Long postId);
 
@@ -31,5 +31,5 @@ public interface PostService {
 
     void deletePostLike(PostLikeDto postLikeDto);
 
-    void updateViewCount(Long id);
+    void updateViewCount(Long userId, Long postId);
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.orury.common.error.code.PostErrorCode;
 import org.orury.common.error.exception.BusinessException;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.image.domain.ImageStore;
 import org.orury.domain.post.domain.PostReader;
 import org.orury.domain.post.domain.PostStore;
@@ -32,38 +33,34 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostDto> getPostDtosByCategory(int category, Long cursor, Pageable pageable) {
-        return postReader.findByCategoryOrderByIdDesc(category, cursor, pageable).stream()
-                .map(this::postDtoConverter)
-                .toList();
+    public List<PostDto> getPostDtosByCategory(Long userId, int category, Long cursor, Pageable pageable) {
+        var posts = postReader.findByCategoryOrderByIdDesc(category, cursor, pageable);
+        return postDtosConverter(userId, posts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostDto> getPostDtosBySearchWord(String searchWord, Long cursor, Integer lastLikeCount) {
-        if (lastLikeCount != null)
-            return postReader.findBySearchWordOrderByLikeCountDesc(searchWord, cursor, lastLikeCount).stream()
-                    .map(this::postDtoConverter)
-                    .toList();
-        return postReader.findBySearchWordOrderByIdDesc(searchWord, cursor).stream()
-                .map(this::postDtoConverter)
-                .toList();
+    public List<PostDto> getPostDtosBySearchWord(Long userId, String searchWord, Long cursor, Integer lastLikeCount) {
+        var posts = (lastLikeCount != null)
+                ? postReader.findBySearchWordOrderByLikeCountDesc(searchWord, cursor, lastLikeCount)
+                : postReader.findBySearchWordOrderByIdDesc(searchWord, cursor);
+        return postDtosConverter(userId, posts);
     }
 
 
     @Override
     @Transactional(readOnly = true)
     public List<PostDto> getPostDtosByUserId(Long userId, Long cursor, Pageable pageable) {
-        return postReader.findByUserIdOrderByIdDesc(userId, cursor, pageable).stream()
-                .map(this::postDtoConverter)
-                .toList();
+        var posts = postReader.findByUserIdOrderByIdDesc(userId, cursor, pageable);
+        return postDtosConverter(userId, posts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getHotPostDtos(Pageable pageable) {
-        return postReader.findByLikeCountGreaterDescAndCreatedAtDesc(pageable)
-                .map(this::postDtoConverter);
+    public Page<PostDto> getHotPostDtos(Long userId, Pageable pageable) {
+        var posts = postReader.findByLikeCountGreaterDescAndCreatedAtDesc(pageable);
+        var likedPostIds = findLikedPostIds(userId, posts.getContent());
+        return posts.map(post -> PostDto.from(post, likedPostIds.contains(post.getId())));
     }
 
     @Override
@@ -116,12 +113,27 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public void updateViewCount(Long id) {
-        postStore.updateViewCount(id);
+    public void updateViewCount(Long userId, Long postId) {
+        postStore.updateViewCount(userId, postId);
     }
 
     private PostDto postDtoConverter(Post post) {
         var isLike = postReader.isPostLiked(post.getUser().getId(), post.getId());
         return PostDto.from(post, isLike);
     }
+
+    // 목록의 좋아요 여부는 게시글마다 조회하지 않고, 한 페이지에 한 번의 IN 쿼리로 조회합니다.
+    private List<PostDto> postDtosConverter(Long userId, List<Post> posts) {
+        var likedPostIds = findLikedPostIds(userId, posts);
+        return posts.stream()
+                .map(post -> PostDto.from(post, likedPostIds.contains(post.getId())))
+                .toList();
+    }
+
+    private LikedIds findLikedPostIds(Long userId, List<Post> posts) {
+        var postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+        return postReader.findLikedPostIds(userId, postIds);
+    }
 }
@@ -45,8 +45,12 @@ public class PostController {
 
     @Operation(summary = "카테고리별 게시글 목록 조회", description = "카테고리(1: 자유게시판, 2: Q&A게시판)와 cursor값을 받아, '카테고리와 cursor값에 따른 다음 게시글 목록'과 'cursor값(목록의 마지막 게시글 id / 조회된 게시글 없다면 -1L)'을 돌려준다.")
     @GetMapping("/category/{category}")
-    public ApiResponse getPostsByCategory(@PathVariable int category, @RequestParam Long cursor) {
-        var posts = postFacade.getPostsByCategory(category, cursor, PageRequest.of(0, NumberConstants.POST_PAGINATION_SIZE));
+    public ApiResponse getPostsByCategory(
+            @PathVariable int category,
+            @RequestParam Long cursor,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        var posts = postFacade.getPostsByCategory(userPrincipal.id(), category, cursor, PageRequest.of(0, NumberConstants.POST_PAGINATION_SIZE));
         var response = PostsWithCursorResponse.of(posts, cursor);
         return ApiResponse.of(POSTS_READ.getMessage(), response);
     }
@@ -56,17 +60,18 @@ public class PostController {
     public ApiResponse getPostsBySearchWord(
             @RequestParam String searchWord,
             @RequestParam Long cursor,
-            @RequestParam(required = false) Integer likeCount
+            @RequestParam(required = false) Integer likeCount,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
-        var posts = postFacade.getPostsBySearchWord(searchWord, cursor, likeCount);
+        var posts = postFacade.getPostsBySearchWord(userPrincipal.id(), searchWord, cursor, likeCount);
         PostsWithCursorResponse response = PostsWithCursorResponse.of(posts, cursor);
         return ApiResponse.of(POSTS_READ.getMessage(), response);
     }
 
     @Operation(summary = "인기 게시글 목록 조회", description = "page값을 받아, 'page번호에 따른 인기 게시글 목록'과 'page값(다음으로 조회할 page 번호 / 현재 마지막 페이지를 반환한다면 -1)'을 돌려준다.")
     @GetMapping("/hot")
-    public ApiResponse getHotPosts(@RequestParam int page) {
-        var response = postFacade.getHotPosts(page);
+    public ApiResponse getHotPosts(@RequestParam int page, @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        var response = postFacade.getHotPosts(userPrincipal.id(), page);
         return ApiResponse.of(POSTS_READ.getMessage(), response);
     }
 
@@ -20,8 +20,6 @@ public interface ReviewService {
 
     List<ReviewDto> getReviewDtosByUserId(Long userId, Long cursor, Pageable pageable);
 
-    List<ReviewDto> getAllReviewDtosByGymId(Long gymId);
-
     int getReactionType(Long userId, Long reviewId);
 
     void processReviewReaction(ReviewReactionDto reviewReactionDto);
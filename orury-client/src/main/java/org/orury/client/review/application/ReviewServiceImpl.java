@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -47,6 +48,7 @@ public class ReviewServiceImpl implements ReviewService {
         var images = imageStore.upload(REVIEW, files);
         reviewStore.save(reviewDto.toEntity(images));
         gymStore.increaseReviewCountAndTotalScore(reviewDto.gymDto().id(), reviewDto.score());
+        gymStore.addReviewStats(reviewDto.gymDto().id(), reviewDto.score(), LocalDateTime.now().getMonth());
     }
 
     @Transactional(readOnly = true)
@@ -63,7 +65,9 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     @Override
     public void updateReview(ReviewDto beforeReviewDto, ReviewDto updateReviewDto, List<MultipartFile> files) {
-        gymStore.updateTotalScore(beforeReviewDto.id(), beforeReviewDto.score(), updateReviewDto.score());
+        var gymId = beforeReviewDto.gymDto().id();
+        gymStore.updateTotalScore(gymId, beforeReviewDto.score(), updateReviewDto.score());
+        gymStore.updateReviewStats(gymId, beforeReviewDto.score(), updateReviewDto.score(), beforeReviewDto.createdAt().getMonth());
         var images = imageStore.upload(REVIEW, files);
         reviewStore.save(updateReviewDto.toEntity(images));
         imageStore.delete(REVIEW, beforeReviewDto.images());
@@ -73,6 +77,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public void deleteReview(ReviewDto reviewDto) {
         gymStore.decreaseReviewCountAndTotalScore(reviewDto.gymDto().id(), reviewDto.score());
+        gymStore.removeReviewStats(reviewDto.gymDto().id(), reviewDto.score(), reviewDto.createdAt().getMonth());
         reviewStore.delete(reviewDto.toEntity());
         imageStore.delete(REVIEW, reviewDto.images());
     }
@@ -97,12 +102,6 @@ public class ReviewServiceImpl implements ReviewService {
         return convertReviewsToReviewDtos(reviews);
     }
 
-    @Override
-    public List<ReviewDto> getAllReviewDtosByGymId(Long gymId) {
-        var reviews = reviewReader.findByGymId(gymId);
-        return convertReviewsToReviewDtos(reviews);
-    }
-
     @Override
     public int getReactionType(Long userId, Long reviewId) {
         ReviewReactionPK reactionPK = ReviewReactionPK.of(userId, reviewId);
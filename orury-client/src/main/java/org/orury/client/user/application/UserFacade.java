@@ -28,6 +28,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Function;
 
@@ -83,12 +84,10 @@ public class UserFacade {
         return convertDtosToWithCursorResponse(gymDtos, MyGymResponse::of, cursor);
     }
 
-    public List<MyMeetingResponse> getMeetingsByUserId(Long userId) {
-        List<MeetingDto> meetingDtos = meetingService.getUpcomingMeetingDtosByUserId(userId);
+    public WithCursorResponse<MyMeetingResponse> getMeetingsByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime) {
+        List<MeetingDto> meetingDtos = meetingService.getUpcomingMeetingDtosByUserId(userId, cursor, cursorStartTime);
 
-        return meetingDtos.stream()
-                .map(meetingDto -> MyMeetingResponse.of(meetingDto, userId))
-                .toList();
+        return convertDtosToWithCursorResponse(meetingDtos, meetingDto -> MyMeetingResponse.of(meetingDto, userId), cursor);
     }
 
     public List<MyCrewMemberResponse> getCrewMembersByUserId(Long userId) {
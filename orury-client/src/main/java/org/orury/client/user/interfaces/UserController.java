@@ -14,10 +14,12 @@ import org.orury.client.user.interfaces.response.*;
 import org.orury.domain.base.converter.ApiResponse;
 import org.orury.domain.user.domain.dto.UserDto;
 import org.orury.domain.user.domain.dto.UserPrincipal;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -89,12 +91,16 @@ public class UserController {
         return ApiResponse.of(UserMessage.USER_GYMS_READ.getMessage(), cursorResponse);
     }
 
-    @Operation(summary = "다가오는 크루일정 조회", description = "user_id로 다가오는 크루일정 목록을 조회한다.")
+    @Operation(summary = "다가오는 크루일정 조회", description = "user_id로 다가오는 크루일정 목록을 시작시간 순으로 조회한다. 다음 페이지는 이전 페이지 마지막 일정의 id(cursor)와 startTime(cursorStartTime)으로 조회한다.")
     @GetMapping("/meetings")
-    public ApiResponse getMeetingsByUserId(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<MyMeetingResponse> response = userFacade.getMeetingsByUserId(userPrincipal.id());
+    public ApiResponse getMeetingsByUserId(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam Long cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorStartTime
+    ) {
+        WithCursorResponse<MyMeetingResponse> cursorResponse = userFacade.getMeetingsByUserId(userPrincipal.id(), cursor, cursorStartTime);
 
-        return ApiResponse.of(UserMessage.USER_MEETINGS_READ.getMessage(), response);
+        return ApiResponse.of(UserMessage.USER_MEETINGS_READ.getMessage(), cursorResponse);
     }
 
     @Operation(summary = "크루일정 조회여부 조회", description = "user_id로 가입된 크루들과 각각의 크루일정 조회여부를 조회한다.")
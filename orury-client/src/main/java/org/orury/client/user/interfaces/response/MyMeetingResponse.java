@@ -1,12 +1,14 @@
 package org.orury.client.user.interfaces.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import org.orury.client.global.IdIdentifiable;
 import org.orury.domain.meeting.domain.dto.MeetingDto;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 public record MyMeetingResponse(
+        Long id,
         Long crewId,
         String crewName,
         @JsonFormat(shape = JsonFormat.Shape.STRING)
@@ -16,8 +18,9 @@ public record MyMeetingResponse(
         int memberCount,
         int capacity,
         boolean isCreator
-) {
+) implements IdIdentifiable {
     public static MyMeetingResponse of(
+            Long id,
             Long crewId,
             String crewName,
             LocalDateTime startTime,
@@ -28,6 +31,7 @@ public record MyMeetingResponse(
             boolean isCreator
     ) {
         return new MyMeetingResponse(
+                id,
                 crewId,
                 crewName,
                 startTime,
@@ -41,6 +45,7 @@ public record MyMeetingResponse(
 
     public static MyMeetingResponse of(MeetingDto meetingDto, Long userId) {
         return new MyMeetingResponse(
+                meetingDto.id(),
                 meetingDto.crewDto().id(),
                 meetingDto.crewDto().name(),
                 meetingDto.startTime(),
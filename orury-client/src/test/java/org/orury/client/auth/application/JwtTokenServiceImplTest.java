@@ -1,5 +1,6 @@
 package org.orury.client.auth.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,10 +9,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orury.client.auth.application.jwt.JwtTokenService;
 import org.orury.client.auth.application.jwt.JwtTokenServiceImpl;
+import org.orury.client.auth.application.jwt.TokenRevocationRegistry;
+import org.orury.client.auth.application.jwt.VerifiedTokenCache;
+import org.orury.common.error.code.AuthErrorCode;
 import org.orury.common.error.code.TokenErrorCode;
 import org.orury.common.error.exception.AuthException;
 import org.orury.domain.auth.domain.RefreshTokenReader;
 import org.orury.domain.auth.domain.RefreshTokenStore;
+import org.orury.domain.auth.domain.TokenRevocationReader;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
 import org.orury.domain.auth.domain.dto.JwtToken;
 import org.orury.domain.user.domain.dto.UserPrincipal;
 import org.orury.domain.user.domain.dto.UserStatus;
@@ -20,6 +26,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -38,6 +45,9 @@ class JwtTokenServiceImplTest {
     private String secret;
     private RefreshTokenReader refreshTokenReader;
     private RefreshTokenStore refreshTokenStore;
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenRevocationReader tokenRevocationReader;
+    private TokenRevocationRegistry tokenRevocationRegistry;
 
     // Jwt토큰 유저 정보
     private final Long TOKEN_USER_ID = 1L;
@@ -59,7 +69,11 @@ class JwtTokenServiceImplTest {
         refreshTokenReader = mock(RefreshTokenReader.class);
         refreshTokenStore = mock(RefreshTokenStore.class);
 
-        jwtTokenService = new JwtTokenServiceImpl(secret, refreshTokenReader, refreshTokenStore);
+        tokenRevocationReader = mock(TokenRevocationReader.class);
+
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 100);
+        tokenRevocationRegistry = new TokenRevocationRegistry(tokenRevocationReader, new SimpleMeterRegistry());
+        jwtTokenService = new JwtTokenServiceImpl(secret, refreshTokenReader, refreshTokenStore, verifiedTokenCache, tokenRevocationRegistry);
     }
 
     @DisplayName("만료되지 않고 유효한 형식의 액세스토큰이 들어오면, 액세스토큰으로부터 생성한 인증객체를 정상적으로 반환한다.")
@@ -122,6 +136,76 @@ class JwtTokenServiceImplTest {
         );
     }
 
+    @DisplayName("이미 검증한 액세스토큰이 다시 들어오면, 서명을 다시 검증하지 않고 캐시된 인증객체를 반환한다.")
+    @Test
+    void when_SameAccessTokenAgain_Then_RetrieveCachedAuthentication() {
+        // given
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        given(mockRequest.getHeader("Authorization"))
+                .willReturn("Bearer " + VALID_ACCESS_TOKEN, "Bearer " + VALID_ACCESS_TOKEN + " ");
+
+        // when
+        Authentication first = jwtTokenService.getAuthenticationFromRequest(mockRequest);
+        Authentication second = jwtTokenService.getAuthenticationFromRequest(mockRequest);
+
+        // then
+        assertSame(first, second);
+        assertSame(first, verifiedTokenCache.get(VerifiedTokenCache.digest(VALID_ACCESS_TOKEN, 0, VALID_ACCESS_TOKEN.length())).authentication());
+    }
+
+    @DisplayName("유저의 캐시된 토큰을 폐기하면, 다음 요청에서 토큰을 다시 검증해 새 인증객체를 반환한다.")
+    @Test
+    void when_UserRevoked_Then_VerifyAccessTokenAgain() {
+        // given
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        given(mockRequest.getHeader("Authorization"))
+                .willReturn("Bearer " + VALID_ACCESS_TOKEN);
+        Authentication first = jwtTokenService.getAuthenticationFromRequest(mockRequest);
+
+        // when
+        verifiedTokenCache.revokeUser(TOKEN_USER_ID);
+        Authentication second = jwtTokenService.getAuthenticationFromRequest(mockRequest);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @DisplayName("제재로 폐기된 유저의 폐기 이전에 발급된 액세스토큰이 들어오면, BanUser 예외를 발생시킨다.")
+    @Test
+    void when_AccessTokenIssuedBeforeRevocation_Then_BanUserException() {
+        // given
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        given(mockRequest.getHeader("Authorization"))
+                .willReturn("Bearer " + VALID_ACCESS_TOKEN);
+        revoke(TOKEN_USER_ID);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class,
+                () -> jwtTokenService.getAuthenticationFromRequest(mockRequest));
+
+        assertEquals(AuthErrorCode.BAN_USER.getStatus(), exception.getStatus());
+    }
+
+    @DisplayName("캐시된 액세스토큰이라도, 유저가 제재로 폐기되면 다음 요청부터 BanUser 예외를 발생시킨다.")
+    @Test
+    void when_CachedAccessTokenRevoked_Then_BanUserException() {
+        // given
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        given(mockRequest.getHeader("Authorization"))
+                .willReturn("Bearer " + VALID_ACCESS_TOKEN);
+        jwtTokenService.getAuthenticationFromRequest(mockRequest);
+
+        // when
+        revoke(TOKEN_USER_ID);
+
+        // then
+        AuthException exception = assertThrows(AuthException.class,
+                () -> jwtTokenService.getAuthenticationFromRequest(mockRequest));
+
+        assertEquals(AuthErrorCode.BAN_USER.getStatus(), exception.getStatus());
+    }
+
     @DisplayName("Authorization 헤더에 담긴 토큰이 없으면, InvalidAccessToken 예외를 발생시킨다.")
     @Test
     void when_NullValueInAuthorizationHeader_Then_InvalidAccessTokenException() {
@@ -370,7 +454,7 @@ class JwtTokenServiceImplTest {
 
         // then
         then(refreshTokenStore).should(times(1))
-                .save(anyLong(), any());
+                .save(anyLong(), any(), any(LocalDateTime.class));
     }
 
     @DisplayName("email을 받으면, 액세스토큰만을 생성하여 반환한다.")
@@ -387,4 +471,10 @@ class JwtTokenServiceImplTest {
         assertNull(jwtToken.refreshToken());
 
     }
+
+    private void revoke(Long userId) {
+        given(tokenRevocationReader.findRevocationsSince(anyLong(), eq(0L), eq(500)))
+                .willReturn(List.of(TokenRevocation.of(1L, userId, System.currentTimeMillis())));
+        tokenRevocationRegistry.refresh();
+    }
 }
@@ -0,0 +1,143 @@
+package org.orury.client.auth.application.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.auth.domain.TokenRevocationReader;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Registry] 토큰 폐기 watermark 테스트")
+class TokenRevocationRegistryTest {
+    private static final long NOW_MILLIS = Instant.parse("2024-03-01T12:00:00Z").toEpochMilli();
+    private static final long FIRST_REVOKED_AFTER = NOW_MILLIS - JwtTokenServiceImpl.ACCESS_TOKEN_EXPIRATION_TIME;
+
+    private Clock clock;
+    private TokenRevocationReader tokenRevocationReader;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationReader = mock(TokenRevocationReader.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(NOW_MILLIS);
+        tokenRevocationRegistry = new TokenRevocationRegistry(tokenRevocationReader, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("watermark 이전(같은 시각 포함)에 발급된 그 유저의 토큰만 폐기된 것으로 본다.")
+    void when_IssuedBeforeWatermark_Then_Revoked() {
+        // given
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(1L, 7L, NOW_MILLIS)));
+
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(7L, NOW_MILLIS - 1)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(7L, NOW_MILLIS)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(7L, NOW_MILLIS + 1_000)).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(8L, NOW_MILLIS - 1)).isFalse();
+        assertThat(meterRegistry.counter("jwt.token_revocation.rejected").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처음 갱신할 때는 액세스 토큰 유효기간 안의 폐기만 읽는다.")
+    void when_FirstRefresh_Then_ReadOnlyWithinAccessTokenLifetime() {
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        then(tokenRevocationReader).should()
+                .findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500);
+    }
+
+    @Test
+    @DisplayName("다시 갱신하면 지난 갱신보다 앞선 폐기부터 다시 읽어, 더 큰 id보다 늦게 커밋된 폐기도 반영한다.")
+    void when_RevocationCommittedOutOfIdOrder_Then_ReadOnNextRefresh() {
+        // given
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(5L, 8L, NOW_MILLIS)));
+        tokenRevocationRegistry.refresh();
+        given(clock.millis()).willReturn(NOW_MILLIS + 5_000);
+        given(tokenRevocationReader.findRevocationsSince(NOW_MILLIS - TokenRevocationRegistry.REREAD_GRACE_MILLIS, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(4L, 7L, NOW_MILLIS - 1_000), TokenRevocation.of(5L, 8L, NOW_MILLIS)));
+
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(7L, NOW_MILLIS - 1_000)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(8L, NOW_MILLIS)).isTrue();
+        assertThat(meterRegistry.get("jwt.token_revocation.users").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 폐기를 다시 읽으면, 더 늦은 watermark를 남긴다.")
+    void when_ReadSameUserAgain_Then_KeepLatestWatermark() {
+        // given
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(3L, 7L, NOW_MILLIS)));
+        tokenRevocationRegistry.refresh();
+        given(tokenRevocationReader.findRevocationsSince(NOW_MILLIS - TokenRevocationRegistry.REREAD_GRACE_MILLIS, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(2L, 7L, NOW_MILLIS - Duration.ofHours(1).toMillis()), TokenRevocation.of(3L, 7L, NOW_MILLIS)));
+
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(7L, NOW_MILLIS - 1_000)).isTrue();
+        assertThat(meterRegistry.get("jwt.token_revocation.users").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 개수보다 폐기가 많으면, 남은 폐기를 이어서 모두 읽는다.")
+    void when_MoreThanPage_Then_ReadUntilLastPage() {
+        // given
+        List<TokenRevocation> fullPage = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> TokenRevocation.of(id, id, NOW_MILLIS))
+                .toList();
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500))
+                .willReturn(fullPage);
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 500L, 500))
+                .willReturn(List.of(TokenRevocation.of(501L, 501L, NOW_MILLIS)));
+
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(1L, NOW_MILLIS)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(501L, NOW_MILLIS)).isTrue();
+        assertThat(meterRegistry.get("jwt.token_revocation.users").gauge().value()).isEqualTo(501);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 유효기간보다 오래된 watermark는, 그 전에 발급된 토큰이 모두 만료됐으므로 들고 있지 않는다.")
+    void when_WatermarkOlderThanAccessTokenLifetime_Then_Dropped() {
+        // given
+        given(tokenRevocationReader.findRevocationsSince(FIRST_REVOKED_AFTER, 0L, 500))
+                .willReturn(List.of(TokenRevocation.of(1L, 7L, NOW_MILLIS - Duration.ofDays(2).toMillis()), TokenRevocation.of(2L, 8L, NOW_MILLIS)));
+
+        // when
+        tokenRevocationRegistry.refresh();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(7L, 0L)).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(8L, 0L)).isTrue();
+        assertThat(meterRegistry.get("jwt.token_revocation.users").gauge().value()).isEqualTo(1);
+    }
+}
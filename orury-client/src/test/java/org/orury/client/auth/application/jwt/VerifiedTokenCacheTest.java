@@ -0,0 +1,106 @@
+package org.orury.client.auth.application.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.client.auth.application.jwt.VerifiedTokenCache.TokenDigest;
+import org.orury.domain.user.domain.dto.UserPrincipal;
+import org.orury.domain.user.domain.dto.UserStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Cache] 검증된 액세스토큰 캐시 테스트")
+class VerifiedTokenCacheTest {
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.millis()).willReturn(0L);
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, clock, 2);
+    }
+
+    @Test
+    @DisplayName("헤더의 토큰 구간으로 계산한 digest는 토큰 문자열로 계산한 digest와 같다.")
+    void when_DigestOfHeaderRange_Then_EqualsDigestOfToken() {
+        // when & then
+        assertThat(VerifiedTokenCache.digest("Bearer a.b.c", 7, 12))
+                .isEqualTo(VerifiedTokenCache.digest("a.b.c", 0, 5))
+                .isNotEqualTo(VerifiedTokenCache.digest("a.b.d", 0, 5));
+    }
+
+    @Test
+    @DisplayName("ASCII가 아닌 문자가 있는 토큰은 캐시하지 않도록 digest를 만들지 않는다.")
+    void when_NonAsciiToken_Then_NullDigest() {
+        // when & then
+        assertThat(VerifiedTokenCache.digest("a.b.ĉ", 0, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 반환하지 않고 캐시에서 제거한다.")
+    void when_TokenExpired_Then_MissAndEvict() {
+        // given
+        TokenDigest digest = VerifiedTokenCache.digest("a.b.c", 0, 5);
+        verifiedTokenCache.put(digest, authentication(1L), 0L, 1_000L);
+        assertThat(verifiedTokenCache.get(digest)).isNotNull();
+        given(clock.millis()).willReturn(1_000L);
+
+        // when & then
+        assertThat(verifiedTokenCache.get(digest)).isNull();
+        assertThat(meterRegistry.get("jwt.verified_token_cache.size").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("jwt.verified_token_cache.evicted", "reason", "expired").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면, 용량의 2%만큼을 한 번에 버리고 새 토큰을 넣는다.")
+    void when_CacheFull_Then_EvictBoundedBatch() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, clock, 100);
+        for (int i = 0; i < 100; i++) {
+            String token = "a.b." + i;
+            cache.put(VerifiedTokenCache.digest(token, 0, token.length()), authentication((long) i), 0L, 1_000L);
+        }
+
+        // when
+        TokenDigest added = VerifiedTokenCache.digest("a.b.new", 0, 7);
+        cache.put(added, authentication(100L), 0L, 1_000L);
+
+        // then
+        assertThat(meterRegistry.get("jwt.verified_token_cache.size").gauge().value()).isEqualTo(99);
+        assertThat(cache.get(added)).isNotNull();
+        assertThat(meterRegistry.counter("jwt.verified_token_cache.evicted", "reason", "size").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유저의 토큰을 폐기하면, 그 유저의 토큰만 캐시에서 제거한다.")
+    void when_RevokeUser_Then_EvictOnlyUsersTokens() {
+        // given
+        TokenDigest revoked = VerifiedTokenCache.digest("a.b.1", 0, 5);
+        TokenDigest remained = VerifiedTokenCache.digest("a.b.2", 0, 5);
+        verifiedTokenCache.put(revoked, authentication(1L), 0L, 1_000L);
+        verifiedTokenCache.put(remained, authentication(2L), 0L, 1_000L);
+
+        // when
+        verifiedTokenCache.revokeUser(1L);
+
+        // then
+        assertThat(verifiedTokenCache.get(revoked)).isNull();
+        assertThat(verifiedTokenCache.get(remained)).isNotNull();
+    }
+
+    private Authentication authentication(Long userId) {
+        UserPrincipal userPrincipal = UserPrincipal.fromToken(userId, "user" + userId + "@orury.com", UserStatus.ENABLE.getStatus());
+        return new UsernamePasswordAuthenticationToken(userPrincipal, "", List.of());
+    }
+}
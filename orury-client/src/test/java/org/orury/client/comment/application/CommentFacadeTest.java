@@ -2,6 +2,7 @@ package org.orury.client.comment.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -21,6 +22,7 @@ import org.orury.client.config.FacadeTest;
 import org.orury.domain.comment.domain.dto.CommentDto;
 import org.orury.domain.comment.domain.dto.CommentLikeDto;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.dto.PostDto;
 
 import java.util.Collections;
@@ -66,8 +68,8 @@ class CommentFacadeTest extends FacadeTest {
                 .willReturn(postDto);
         given(commentService.getCommentDtosByPost(postDto, cursor))
                 .willReturn(commentDtos);
-        given(commentService.isLiked(anyLong(), anyLong()))
-                .willReturn(true, false, false);
+        given(commentService.getLikedCommentIds(userId, List.of(24L, 29L, 31L)))
+                .willReturn(LikedIds.from(List.of(24L)));
 
         // when
         commentFacade.getCommentsByPostId(postId, cursor, userId);
@@ -77,7 +79,9 @@ class CommentFacadeTest extends FacadeTest {
                 .getPostDtoById(anyLong());
         then(commentService).should(times(1))
                 .getCommentDtosByPost(any(), anyLong());
-        then(commentService).should(times(commentDtos.size()))
+        then(commentService).should(times(1))
+                .getLikedCommentIds(anyLong(), anyList());
+        then(commentService).should(never())
                 .isLiked(anyLong(), anyLong());
     }
 
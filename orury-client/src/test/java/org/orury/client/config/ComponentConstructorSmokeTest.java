@@ -0,0 +1,50 @@
+package org.orury.client.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 애플리케이션 컨텍스트는 암호화된 설정과 MySQL이 있어야 뜨므로, OruryClientApplication이 스캔하는 빈마다
+ * 컨텍스트 로딩 때와 같은 방식(AutowiredAnnotationBeanPostProcessor)으로 생성자를 고를 수 있는지만 확인합니다.
+ */
+@DisplayName("[Config] 컴포넌트 생성자 스모크 테스트")
+class ComponentConstructorSmokeTest {
+    private static final String[] SCAN_BASE_PACKAGES = {"org.orury.common", "org.orury.client", "org.orury.domain"};
+
+    @Test
+    @DisplayName("스캔 대상 빈은 모두 Spring이 고를 수 있는 생성자를 가진다. 생성자가 여럿이면 하나에 @Autowired가 있어야 한다.")
+    void when_ScanComponents_Then_EveryBeanHasResolvableConstructor() {
+        // given
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(true);
+        AutowiredAnnotationBeanPostProcessor processor = new AutowiredAnnotationBeanPostProcessor();
+        processor.setBeanFactory(new DefaultListableBeanFactory());
+
+        // when
+        List<String> unresolvable = Arrays.stream(SCAN_BASE_PACKAGES)
+                .flatMap(basePackage -> scanner.findCandidateComponents(basePackage).stream())
+                .map(BeanDefinition::getBeanClassName)
+                .filter(className -> !hasResolvableConstructor(processor, className))
+                .toList();
+
+        // then
+        assertThat(unresolvable).isEmpty();
+    }
+
+    private boolean hasResolvableConstructor(AutowiredAnnotationBeanPostProcessor processor, String className) {
+        Class<?> beanClass = ClassUtils.resolveClassName(className, getClass().getClassLoader());
+        if (processor.determineCandidateConstructors(beanClass, className) != null) return true;
+        // 고를 생성자가 없으면 Spring은 기본 생성자로 빈을 만듭니다.
+        return Arrays.stream(beanClass.getDeclaredConstructors())
+                .anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+}
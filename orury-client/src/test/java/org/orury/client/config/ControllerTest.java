@@ -21,7 +21,7 @@ import org.orury.client.review.application.ReviewFacade;
 import org.orury.client.review.interfaces.ReviewController;
 import org.orury.client.user.application.UserFacade;
 import org.orury.client.user.interfaces.UserController;
-import org.orury.common.config.SlackMessage;
+import org.orury.common.log.AccessLogWriter;
 import org.orury.domain.notification.infrastructure.EmitterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
@@ -79,7 +79,7 @@ public abstract class ControllerTest {
     protected UserFacade userFacade;
 
     @MockBean
-    protected SlackMessage slackMessage;
+    protected AccessLogWriter accessLogWriter;
 
     @MockBean
     protected EmitterRepository emitterRepository;
@@ -60,7 +60,7 @@ public abstract class FacadeTest {
         notificationService = mock(NotificationService.class);
 
         userFacade = new UserFacade(userService, postService, reviewService, commentService, meetingService, crewService, gymService);
-        gymFacade = new GymFacade(gymService, reviewService);
+        gymFacade = new GymFacade(gymService);
         commentFacade = new CommentFacade(commentService, postService, userService, notificationService);
         crewFacade = new CrewFacade(crewService, userService);
         authFacade = new AuthFacade(authService);
@@ -179,6 +179,6 @@ public abstract class ServiceTest {
         gymService = new GymServiceImpl(gymReader, gymStore);
         reviewService = new ReviewServiceImpl(reviewReader, reviewStore, gymStore, imageStore);
         userService = new UserServiceImpl(userReader, userStore, imageStore, postStore, commentStore, reviewStore, gymStore, reportStore, reportReader, postReader, commentReader);
-        meetingService = new MeetingServiceImpl(meetingReader, meetingStore, meetingMemberReader, meetingMemberStore, crewMemberReader, userReader);
+        meetingService = new MeetingServiceImpl(meetingReader, meetingStore, meetingMemberReader, meetingMemberStore, crewMemberReader);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package org.orury.client.crew.application;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.anyBoolean;
 import static org.mockito.BDDMockito.anyInt;
@@ -26,6 +27,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @DisplayName("[Facade] 크루 Facade 테스트")
 class CrewFacadeTest extends FacadeTest {
@@ -77,8 +79,8 @@ class CrewFacadeTest extends FacadeTest {
                 .getUserDtoById(anyLong());
         then(crewService).should(times(1))
                 .getCrewDtosByRecommendedSort(any(PageRequest.class), any(UserDto.class));
-        then(crewService).should(times(crewDtos.getSize()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
     }
 
     @DisplayName("페이지를 받으면, 인기순으로 크루목록을 반환한다.")
@@ -96,8 +98,8 @@ class CrewFacadeTest extends FacadeTest {
         // then
         then(crewService).should(times(1))
                 .getCrewDtosByPopularSort(any(PageRequest.class));
-        then(crewService).should(times(crewDtos.getSize()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
     }
 
     @DisplayName("페이지를 받으면, 활동순으로 크루목록을 반환한다.")
@@ -115,8 +117,8 @@ class CrewFacadeTest extends FacadeTest {
         // then
         then(crewService).should(times(1))
                 .getCrewDtosByActiveSort(any(PageRequest.class));
-        then(crewService).should(times(crewDtos.getSize()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
     }
 
     @DisplayName("페이지를 받으면, 최신순으로 크루목록을 반환한다.")
@@ -134,8 +136,8 @@ class CrewFacadeTest extends FacadeTest {
         // then
         then(crewService).should(times(1))
                 .getCrewDtosByLatestSort(any(PageRequest.class));
-        then(crewService).should(times(crewDtos.getSize()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
     }
 
     @DisplayName("유저id를 받으면, 유저id에 따른 가입된 크루 목록을 반환한다.")
@@ -146,8 +148,8 @@ class CrewFacadeTest extends FacadeTest {
         List<CrewDto> crewDtos = List.of(createCrewDto(3L).build().get(), createCrewDto(4L).build().get());
         given(crewService.getJoinedCrewDtos(anyLong()))
                 .willReturn(crewDtos);
-        given(crewService.getUserImagesByCrew(any(CrewDto.class), anyInt()))
-                .willReturn(mock(List.class));
+        given(crewService.getUserImagesByCrews(anyList(), anyInt()))
+                .willReturn(Map.of());
         given((crewService.getJoinedAt(anyLong(), anyLong())))
                 .willReturn(LocalDateTime.now().minusYears(1));
 
@@ -157,8 +159,8 @@ class CrewFacadeTest extends FacadeTest {
         // then
         then(crewService).should(times(1))
                 .getJoinedCrewDtos(anyLong());
-        then(crewService).should(times(crewDtos.size()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
         then(crewService).should(times(crewDtos.size()))
                 .getJoinedAt(anyLong(), anyLong());
     }
@@ -171,8 +173,8 @@ class CrewFacadeTest extends FacadeTest {
         List<CrewDto> crewDtos = List.of(createCrewDto(694L).build().get(), createCrewDto(256L).build().get());
         given(crewService.getAppliedCrewDtos(anyLong()))
                 .willReturn(crewDtos);
-        given(crewService.getUserImagesByCrew(any(CrewDto.class), anyInt()))
-                .willReturn(mock(List.class));
+        given(crewService.getUserImagesByCrews(anyList(), anyInt()))
+                .willReturn(Map.of());
         given((crewService.getAppliedAt(anyLong(), anyLong())))
                 .willReturn(LocalDateTime.now().minusYears(1));
 
@@ -182,8 +184,8 @@ class CrewFacadeTest extends FacadeTest {
         // then
         then(crewService).should(times(1))
                 .getAppliedCrewDtos(anyLong());
-        then(crewService).should(times(crewDtos.size()))
-                .getUserImagesByCrew(any(), anyInt());
+        then(crewService).should(times(1))
+                .getUserImagesByCrews(anyList(), anyInt());
         then(crewService).should(times(crewDtos.size()))
                 .getAppliedAt(anyLong(), anyLong());
     }
@@ -25,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -127,8 +128,8 @@ class CrewServiceImplTest extends ServiceTest {
         ));
         given(crewReader.getCrewsByRecommendedSort(any(Pageable.class), any(CrewGender.class), anyInt()))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getCrewDtosByRecommendedSort(pageable, userDto);
@@ -136,8 +137,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getCrewsByRecommendedSort(any(Pageable.class), any(CrewGender.class), anyInt());
-        then(crewTagReader).should(times(crews.getContent().size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getCrewDtosByPopularSort] 인기순으로 크루 목록을 가져온다.")
@@ -152,8 +153,8 @@ class CrewServiceImplTest extends ServiceTest {
         ));
         given(crewReader.getCrewsByPopularSort(pageable))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getCrewDtosByPopularSort(pageable);
@@ -161,8 +162,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getCrewsByPopularSort(any());
-        then(crewTagReader).should(times(crews.getContent().size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getCrewDtosByActiveSort] 활동순으로 크루 목록을 가져온다.")
@@ -177,8 +178,8 @@ class CrewServiceImplTest extends ServiceTest {
         ));
         given(crewReader.getCrewsByActiveSort(pageable))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getCrewDtosByActiveSort(pageable);
@@ -186,8 +187,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getCrewsByActiveSort(any());
-        then(crewTagReader).should(times(crews.getContent().size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getCrewDtosByNewestSort] 최신순으로 크루 목록을 가져온다.")
@@ -202,8 +203,8 @@ class CrewServiceImplTest extends ServiceTest {
         ));
         given(crewReader.getCrewsByLatestSort(pageable))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getCrewDtosByLatestSort(pageable);
@@ -211,8 +212,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getCrewsByLatestSort(any());
-        then(crewTagReader).should(times(crews.getContent().size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getJoinedCrewDtos] 유저 아이디에 따른 가입된 크루 목록을 가져온다.")
@@ -227,8 +228,8 @@ class CrewServiceImplTest extends ServiceTest {
         );
         given(crewReader.getJoinedCrewsByUserId(userId))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getJoinedCrewDtos(userId);
@@ -236,8 +237,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getJoinedCrewsByUserId(anyLong());
-        then(crewTagReader).should(times(crews.size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getAppliedCrewDtos] 유저 아이디에 따른 가입신청한 크루 목록을 가져온다.")
@@ -252,8 +253,8 @@ class CrewServiceImplTest extends ServiceTest {
         );
         given(crewReader.getAppliedCrewsByUserId(userId))
                 .willReturn(crews);
-        given(crewTagReader.getTagsByCrewId(anyLong()))
-                .willReturn(mock(List.class));
+        given(crewTagReader.getTagsByCrewIds(anyList()))
+                .willReturn(Map.of());
 
         // when
         crewService.getAppliedCrewDtos(userId);
@@ -261,8 +262,8 @@ class CrewServiceImplTest extends ServiceTest {
         // then
         then(crewReader).should(only())
                 .getAppliedCrewsByUserId(anyLong());
-        then(crewTagReader).should(times(crews.size()))
-                .getTagsByCrewId(anyLong());
+        then(crewTagReader).should(only())
+                .getTagsByCrewIds(anyList());
     }
 
     @DisplayName("[getUserImagesByCrew] 크루에 따른 유저이미지를 크루장을 가장 처음으로 설정하여 Maximum만큼 가져온다.")
@@ -297,6 +298,33 @@ class CrewServiceImplTest extends ServiceTest {
                 .getUserById(anyLong());
     }
 
+    @DisplayName("[getUserImagesByCrews] 크루 목록에 따른 유저이미지를 크루별로 크루장을 가장 처음으로 설정하여 Maximum만큼 한 번에 가져온다.")
+    @Test
+    void should_GetUserImagesByCrews() {
+        // given
+        List<CrewDto> crewDtos = List.of(
+                createCrewDto(1L).build().get(),
+                createCrewDto(2L).build().get()
+        );
+        int maximumCount = 4;
+        Map<Long, List<User>> otherMembers = Map.of(
+                1L, List.of(createUser(11L).build().get(), createUser(12L).build().get())
+        );
+        given(crewMemberReader.getOtherCrewMembersByCrewIdsMaximum(anyList(), anyInt()))
+                .willReturn(otherMembers);
+
+        // when
+        Map<Long, List<String>> userImages = crewService.getUserImagesByCrews(crewDtos, maximumCount);
+
+        // then
+        assertEquals(1 + otherMembers.get(1L).size(), userImages.get(1L).size());
+        assertEquals(crewDtos.get(0).userDto().profileImage(), userImages.get(1L).get(0));
+        assertEquals(1, userImages.get(2L).size());
+        then(crewMemberReader).should(only())
+                .getOtherCrewMembersByCrewIdsMaximum(anyList(), anyInt());
+        then(userReader).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[existCrewMember] 크루원의 존재여부를 가져온다.")
     @Test
     void should_ExistCrewMember() {
@@ -3,21 +3,22 @@ package org.orury.client.gym.application;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.orury.client.config.FacadeTest;
-import org.orury.domain.ReviewDomainFixture;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.dto.GymDto;
 import org.orury.domain.gym.domain.dto.GymLikeDto;
-import org.orury.domain.review.domain.dto.ReviewDto;
+import org.orury.domain.gym.domain.dto.GymReviewStatsDto;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
 
-import java.util.Collections;
+import java.time.Month;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.orury.domain.GymDomainFixture.TestGymDto.createGymDto;
 import static org.orury.domain.GymDomainFixture.TestGymLikeDto.createGymLikeDto;
-import static org.orury.domain.UserDomainFixture.TestUserDto.createUserDto;
 
 @DisplayName("[Facade] 암장 Facade 테스트")
 class GymFacadeTest extends FacadeTest {
@@ -29,11 +30,9 @@ class GymFacadeTest extends FacadeTest {
         Long gymId = 1L;
         Long userId = 2L;
         GymDto gymDto = createGymDto(gymId).build().get();
-        List<ReviewDto> reviewDtos = List.of(
-                createReviewDto(1L, gymDto, userId).build().get(),
-                createReviewDto(2L, gymDto, userId).build().get(),
-                createReviewDto(3L, gymDto, userId).build().get()
-        );
+        GymReviewStats gymReviewStats = GymReviewStats.of(gymId);
+        gymReviewStats.add(4.5f, Month.MARCH, 2);
+        gymReviewStats.add(3.0f, Month.APRIL, 1);
 
         given(gymService.getGymDtoById(gymId))
                 .willReturn(gymDto);
@@ -41,8 +40,8 @@ class GymFacadeTest extends FacadeTest {
                 .willReturn(true);
         given(gymService.isLiked(userId, gymId))
                 .willReturn(false);
-        given(reviewService.getAllReviewDtosByGymId(gymId))
-                .willReturn(reviewDtos);
+        given(gymService.getGymReviewStatsDto(gymId))
+                .willReturn(GymReviewStatsDto.from(gymReviewStats));
 
         // when
         gymFacade.getGymById(gymId, userId);
@@ -54,8 +53,8 @@ class GymFacadeTest extends FacadeTest {
                 .checkDoingBusiness(any());
         then(gymService).should(times(1))
                 .isLiked(anyLong(), anyLong());
-        then(reviewService).should(times(1))
-                .getAllReviewDtosByGymId(anyLong());
+        then(gymService).should(times(1))
+                .getGymReviewStatsDto(anyLong());
     }
 
     @DisplayName("해당 암장에 달린 암장리뷰가 없어도 GymReponse를 정상적으로 반환한다.")
@@ -66,7 +65,6 @@ class GymFacadeTest extends FacadeTest {
         Long userId = 2L;
         GymDto gymDto = createGymDto(gymId)
                 .reviewCount(0).build().get();
-        List<ReviewDto> emptyReviewDtos = Collections.emptyList();
 
         given(gymService.getGymDtoById(gymId))
                 .willReturn(gymDto);
@@ -74,8 +72,8 @@ class GymFacadeTest extends FacadeTest {
                 .willReturn(true);
         given(gymService.isLiked(userId, gymId))
                 .willReturn(false);
-        given(reviewService.getAllReviewDtosByGymId(gymId))
-                .willReturn(emptyReviewDtos);
+        given(gymService.getGymReviewStatsDto(gymId))
+                .willReturn(GymReviewStatsDto.from(GymReviewStats.of(gymId)));
 
         // when
         gymFacade.getGymById(gymId, userId);
@@ -87,8 +85,8 @@ class GymFacadeTest extends FacadeTest {
                 .checkDoingBusiness(any());
         then(gymService).should(times(1))
                 .isLiked(anyLong(), anyLong());
-        then(reviewService).should(times(1))
-                .getAllReviewDtosByGymId(anyLong());
+        then(gymService).should(times(1))
+                .getGymReviewStatsDto(anyLong());
     }
 
     @DisplayName("성공적으로 (암장 영업중 유무, 유저의 암장좋아요 유무를 포함한) GymsReponses를 반환한다.")
@@ -105,22 +103,24 @@ class GymFacadeTest extends FacadeTest {
                 createGymDto(3L).build().get()
         );
 
-        given(gymService.getGymDtosBySearchWordOrderByDistanceAsc(searchWord, latitude, longitude))
+        given(gymService.getGymDtosBySearchWordAndLocation(searchWord, latitude, longitude))
                 .willReturn(gymDtos);
         given(gymService.checkDoingBusiness(any()))
                 .willReturn(true, false, true);
-        given(gymService.isLiked(anyLong(), anyLong()))
-                .willReturn(false, true, false);
+        given(gymService.getLikedGymIds(userId, List.of(1L, 2L, 3L)))
+                .willReturn(LikedIds.from(List.of(2L)));
 
         // when
         gymFacade.getGymsBySearchWordAndLocation(searchWord, latitude, longitude, userId);
 
         // then
         then(gymService).should(times(1))
-                .getGymDtosBySearchWordOrderByDistanceAsc(anyString(), anyFloat(), anyFloat());
+                .getGymDtosBySearchWordAndLocation(anyString(), anyFloat(), anyFloat());
         then(gymService).should(times(gymDtos.size()))
                 .checkDoingBusiness(any());
-        then(gymService).should(times(gymDtos.size()))
+        then(gymService).should(times(1))
+                .getLikedGymIds(anyLong(), anyList());
+        then(gymService).should(never())
                 .isLiked(anyLong(), anyLong());
     }
 
@@ -155,12 +155,4 @@ class GymFacadeTest extends FacadeTest {
         then(gymService).should(times(1))
                 .deleteGymLike(any());
     }
-
-
-    private ReviewDomainFixture.TestReviewDto.TestReviewDtoBuilder createReviewDto(Long id, GymDto gymDto, Long userId) {
-        return ReviewDomainFixture.TestReviewDto.createReviewDto()
-                .id(id)
-                .gymDto(gymDto)
-                .userDto(createUserDto(userId).build().get());
-    }
 }
@@ -3,19 +3,19 @@ package org.orury.client.gym.application;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.orury.client.config.ServiceTest;
+import org.orury.client.gym.interfaces.request.AreaGrid;
 import org.orury.common.error.code.GymErrorCode;
 import org.orury.common.error.exception.BusinessException;
-import org.orury.domain.GymDomainFixture;
+import org.orury.domain.global.constants.NumberConstants;
 import org.orury.domain.gym.domain.dto.GymDto;
 import org.orury.domain.gym.domain.dto.GymLikeDto;
+import org.orury.domain.gym.domain.dto.GymReviewStatsDto;
 import org.orury.domain.gym.domain.entity.Gym;
 import org.orury.domain.gym.domain.entity.GymLikePK;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.DayOfWeek;
-import java.time.LocalTime;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,42 +70,32 @@ class GymServiceImplTest extends ServiceTest {
     }
 
     @Test
-    @DisplayName("검색어, 경도, 위도에 대해, 해당 검색어가 포함된 List<Gym>을 가까운 순으로 정렬해서 반환한다.")
-    void should_SortByDistanceAndRetrieveGymDtoList() {
+    @DisplayName("검색어, 경도, 위도에 대해, GymReader가 일치도와 거리로 정렬한 암장들을 순서 그대로 GymDto로 반환한다.")
+    void should_RetrieveGymDtoListInRankedOrder() {
         // given
         String searchWord = "anything";
         float currentLatitude = 10.111111f;
         float currentLongitude = 10.111111f;
-        Gym middleGym = createGym()
-                .id(1L)
-                .latitude(20.000001)
-                .longitude(50.543210).build().get();
-        Gym mostFarGym = createGym()
-                .id(2L)
-                .latitude(50.123456)
-                .longitude(137.654321).build().get();
-        Gym mostNearGym = createGym()
-                .id(3L)
-                .latitude(10.111111)
-                .longitude(10.111111).build().get();
-        List<Gym> searchedGyms = List.of(middleGym, mostFarGym, mostNearGym);
-
-        given(gymReader.findGymsBySearchWord(searchWord))
-                .willReturn(searchedGyms);
-
-        List<GymDto> expectedGymDtos = List.of(
-                GymDto.from(mostNearGym),
-                GymDto.from(middleGym),
-                GymDto.from(mostFarGym)
+        List<Gym> rankedGyms = List.of(
+                createGym().id(3L).build().get(),
+                createGym().id(1L).build().get(),
+                createGym().id(2L).build().get()
         );
 
+        given(gymReader.findGymsBySearchWord(searchWord, currentLatitude, currentLongitude, NumberConstants.GYM_SEARCH_MAXIMUM_SIZE))
+                .willReturn(rankedGyms);
+
+        List<GymDto> expectedGymDtos = rankedGyms.stream()
+                .map(GymDto::from)
+                .toList();
+
         // when
-        List<GymDto> gymDtos = gymService.getGymDtosBySearchWordOrderByDistanceAsc(searchWord, currentLatitude, currentLongitude);
+        List<GymDto> gymDtos = gymService.getGymDtosBySearchWordAndLocation(searchWord, currentLatitude, currentLongitude);
 
         // then
         assertEquals(expectedGymDtos, gymDtos);
         then(gymReader).should(times(1))
-                .findGymsBySearchWord(anyString());
+                .findGymsBySearchWord(anyString(), anyDouble(), anyDouble(), anyInt());
     }
 
     @Test
@@ -113,17 +103,45 @@ class GymServiceImplTest extends ServiceTest {
     void when_NothingSearched_Then_RetrieveEmptyList() {
         // given
         String searchWord = "anything";
-        given(gymReader.findGymsBySearchWord(searchWord))
+        given(gymReader.findGymsBySearchWord(searchWord, 12.34f, 56.78f, NumberConstants.GYM_SEARCH_MAXIMUM_SIZE))
                 .willReturn(List.of());
         List<GymDto> expectedGymDtos = Collections.emptyList();
 
         // when
-        List<GymDto> actualGymDtos = gymService.getGymDtosBySearchWordOrderByDistanceAsc(searchWord, 12.34f, 56.78f);
+        List<GymDto> actualGymDtos = gymService.getGymDtosBySearchWordAndLocation(searchWord, 12.34f, 56.78f);
 
         // then
         assertEquals(expectedGymDtos, actualGymDtos);
         then(gymReader).should(times(1))
-                .findGymsBySearchWord(anyString());
+                .findGymsBySearchWord(anyString(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("지도 영역과 현재 좌표가 들어오면, DB에서 거리순으로 정렬된 암장들을 순서 그대로 GymDto로 반환한다.")
+    void should_RetrieveGymDtoListByAreaGridInRepositoryOrder() {
+        // given
+        AreaGrid areaGrid = AreaGrid.of(37.5, 37.6, 127.0, 127.1);
+        float currentLatitude = 37.55f;
+        float currentLongitude = 127.05f;
+        List<Gym> nearestGyms = List.of(
+                createGym().id(7L).build().get(),
+                createGym().id(3L).build().get()
+        );
+        List<GymDto> expectedGymDtos = List.of(
+                GymDto.from(nearestGyms.get(0)),
+                GymDto.from(nearestGyms.get(1))
+        );
+
+        given(gymReader.findGymsInAreaGrid(areaGrid.toGridMap(), currentLatitude, currentLongitude, NumberConstants.GYM_AREA_GRID_MAXIMUM_SIZE))
+                .willReturn(nearestGyms);
+
+        // when
+        List<GymDto> actualGymDtos = gymService.getGymDtosByAreaGridOrderByDistanceAsc(areaGrid, currentLatitude, currentLongitude);
+
+        // then
+        assertEquals(expectedGymDtos, actualGymDtos);
+        then(gymReader).should(times(1))
+                .findGymsInAreaGrid(anyMap(), anyDouble(), anyDouble(), anyInt());
     }
 
     @Test
@@ -336,58 +354,29 @@ class GymServiceImplTest extends ServiceTest {
     }
 
     @Test
-    @DisplayName("현재 시간이 GymDto의 영업시간 사이에 있다면, true를 반환한다.")
-    void when_CurrentTimeIsBetweenBusinessHours_Then_ReturnTrue() {
+    @DisplayName("GymReader가 현재 요일과 시각에 영업 중이라고 판단하면, true를 반환한다.")
+    void when_GymReaderSaysDoingBusiness_Then_ReturnTrue() {
         // given
-        GymDto gymDto = createGymDtoWithOpenCloseTime(
-                LocalTime.now().minusMinutes(1L),
-                LocalTime.now().plusMinutes(1L)
-        ).build().get();
+        GymDto gymDto = createGymDto(5L).build().get();
+        given(gymReader.isDoingBusiness(eq(5L), any(DayOfWeek.class), anyInt()))
+                .willReturn(true);
 
         // when
         boolean doingBusiness = gymService.checkDoingBusiness(gymDto);
 
         // then
         assertTrue(doingBusiness);
+        then(gymReader).should(times(1))
+                .isDoingBusiness(anyLong(), any(DayOfWeek.class), anyInt());
     }
 
     @Test
-    @DisplayName("현재 시간이 GymDto의 영업시간 전이라면, false를 반환한다.")
-    void when_CurrentTimeIsBeforeBusinessHours_Then_ReturnFalse() {
-        // given
-        GymDto gymDto = createGymDtoWithOpenCloseTime(
-                LocalTime.now().plusMinutes(1L),
-                LocalTime.now().plusMinutes(2L)
-        ).build().get();
-
-        // when
-        boolean doingBusiness = gymService.checkDoingBusiness(gymDto);
-
-        // then
-        assertFalse(doingBusiness);
-    }
-
-    @Test
-    @DisplayName("현재 시간이 GymDto의 영업시간 후이라면, false를 반환한다.")
-    void when_CurrentTimeIsAfterBusinessHours_Then_ReturnFalse() {
-        // given
-        GymDto gymDto = createGymDtoWithOpenCloseTime(
-                LocalTime.now().minusMinutes(2L),
-                LocalTime.now().minusMinutes(1L)
-        ).build().get();
-
-        // when
-        boolean doingBusiness = gymService.checkDoingBusiness(gymDto);
-
-        // then
-        assertFalse(doingBusiness);
-    }
-
-    @Test
-    @DisplayName("GymDto의 현재 요일 영업시간이 비어있다면(null이라면), false를 반환한다.")
-    void when_BusinessHoursIsNull_Then_ReturnFalse() {
+    @DisplayName("GymReader가 현재 요일과 시각에 영업 중이 아니라고 판단하면, false를 반환한다.")
+    void when_GymReaderSaysNotDoingBusiness_Then_ReturnFalse() {
         // given
-        GymDto gymDto = createGymDto(null).build().get();
+        GymDto gymDto = createGymDto(5L).build().get();
+        given(gymReader.isDoingBusiness(eq(5L), any(DayOfWeek.class), anyInt()))
+                .willReturn(false);
 
         // when
         boolean doingBusiness = gymService.checkDoingBusiness(gymDto);
@@ -397,41 +386,19 @@ class GymServiceImplTest extends ServiceTest {
     }
 
     @Test
-    @DisplayName("GymDto의 현재 요일 영업시간이 올바르지 않은 형식으로 돼있어도, false를 반환한다.")
-    void when_InvalidTypeOfBusinessHours_Then_ReturnFalse() {
+    @DisplayName("리뷰 통계 행이 없는 암장이면, 비어 있는 리뷰 통계를 반환한다.")
+    void when_GymReviewStatsNotExists_Then_ReturnEmptyStats() {
         // given
-        GymDto gymDto = createGymDtoWithInvalidTime("12시30분~23시").build().get();
+        Long gymId = 5L;
+        given(gymReader.findGymReviewStatsByGymId(gymId))
+                .willReturn(Optional.empty());
 
         // when
-        boolean doingBusiness = gymService.checkDoingBusiness(gymDto);
+        GymReviewStatsDto gymReviewStatsDto = gymService.getGymReviewStatsDto(gymId);
 
         // then
-        assertFalse(doingBusiness);
-    }
-
-    private GymDomainFixture.TestGymDto.TestGymDtoBuilder createGymDtoWithOpenCloseTime(LocalTime openTime, LocalTime closeTime) {
-        EnumMap<DayOfWeek, String> businessHours = new EnumMap<>(DayOfWeek.class);
-        businessHours.put(DayOfWeek.MONDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.TUESDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.WEDNESDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.THURSDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.FRIDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.SATURDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        businessHours.put(DayOfWeek.SUNDAY, openTime.getHour() + ":" + openTime.getMinute() + "-" + closeTime.getHour() + ":" + closeTime.getMinute());
-        return GymDomainFixture.TestGymDto.createGymDto()
-                .businessHours(businessHours);
-    }
-
-    private GymDomainFixture.TestGymDto.TestGymDtoBuilder createGymDtoWithInvalidTime(String businessHour) {
-        EnumMap<DayOfWeek, String> businessHours = new EnumMap<>(DayOfWeek.class);
-        businessHours.put(DayOfWeek.MONDAY, businessHour);
-        businessHours.put(DayOfWeek.TUESDAY, businessHour);
-        businessHours.put(DayOfWeek.WEDNESDAY, businessHour);
-        businessHours.put(DayOfWeek.THURSDAY, businessHour);
-        businessHours.put(DayOfWeek.FRIDAY, businessHour);
-        businessHours.put(DayOfWeek.SATURDAY, businessHour);
-        businessHours.put(DayOfWeek.SUNDAY, businessHour);
-        return GymDomainFixture.TestGymDto.createGymDto()
-                .businessHours(businessHours);
+        assertEquals(gymId, gymReviewStatsDto.gymId());
+        assertTrue(gymReviewStatsDto.scoreCounts().isEmpty());
+        assertTrue(gymReviewStatsDto.monthlyScores().stream().allMatch(monthlyScore -> monthlyScore.count() == 0));
     }
 }
@@ -14,8 +14,10 @@ import org.orury.domain.user.domain.dto.UserDto;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -69,11 +71,15 @@ class MeetingFacadeTest extends FacadeTest {
         // given
         Long crewId = 321L;
         Long userId = 123L;
-        List<MeetingDto> meetingDtos = List.of(createMeetingDto().build().get(), createMeetingDto().build().get(), createMeetingDto().build().get());
-        List<String> userImages = List.of("image1", "image2", "image3", "image4");
+        List<MeetingDto> meetingDtos = List.of(createMeetingDto(3L).build().get(), createMeetingDto(2L).build().get(), createMeetingDto(1L).build().get());
+        Map<Long, List<String>> userImages = Map.of(
+                3L, List.of("image1", "image2", "image3", "image4"),
+                2L, List.of("image1"),
+                1L, List.of("image1", "image2")
+        );
         given(meetingService.getPresentMeetingDtosByCrewId(crewId, userId))
                 .willReturn(meetingDtos);
-        given(meetingService.getUserImagesByMeeting(any(MeetingDto.class)))
+        given(meetingService.getUserImagesByMeetings(meetingDtos))
                 .willReturn(userImages);
 
         // when
@@ -82,8 +88,8 @@ class MeetingFacadeTest extends FacadeTest {
         // then
         then(meetingService).should(times(1))
                 .getPresentMeetingDtosByCrewId(anyLong(), anyLong());
-        then(meetingService).should(times(meetingDtos.size()))
-                .getUserImagesByMeeting(any());
+        then(meetingService).should(times(1))
+                .getUserImagesByMeetings(anyList());
     }
 
     @DisplayName("크루id와 유저id를 받으면, 과거일정목록을 조회한다.")
@@ -92,11 +98,15 @@ class MeetingFacadeTest extends FacadeTest {
         // given
         Long crewId = 321L;
         Long userId = 123L;
-        List<MeetingDto> meetingDtos = List.of(createMeetingDto().build().get(), createMeetingDto().build().get(), createMeetingDto().build().get());
-        List<String> userImages = List.of("image1", "image2", "image3", "image4");
+        List<MeetingDto> meetingDtos = List.of(createMeetingDto(3L).build().get(), createMeetingDto(2L).build().get(), createMeetingDto(1L).build().get());
+        Map<Long, List<String>> userImages = Map.of(
+                3L, List.of("image1", "image2", "image3", "image4"),
+                2L, List.of("image1"),
+                1L, List.of("image1", "image2")
+        );
         given(meetingService.getPastMeetingDtosByCrewId(crewId, userId))
                 .willReturn(meetingDtos);
-        given(meetingService.getUserImagesByMeeting(any(MeetingDto.class)))
+        given(meetingService.getUserImagesByMeetings(meetingDtos))
                 .willReturn(userImages);
 
         // when
@@ -105,8 +115,8 @@ class MeetingFacadeTest extends FacadeTest {
         // then
         then(meetingService).should(times(1))
                 .getPastMeetingDtosByCrewId(anyLong(), anyLong());
-        then(meetingService).should(times(meetingDtos.size()))
-                .getUserImagesByMeeting(any());
+        then(meetingService).should(times(1))
+                .getUserImagesByMeetings(anyList());
     }
 
     @DisplayName("일정변경Request와 유저id를 받으면, 일정을 변경한다.")
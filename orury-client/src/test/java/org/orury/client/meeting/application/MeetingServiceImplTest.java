@@ -7,25 +7,28 @@ import org.orury.common.error.code.CrewErrorCode;
 import org.orury.common.error.code.MeetingErrorCode;
 import org.orury.common.error.exception.BusinessException;
 import org.orury.domain.MeetingDomainFixture;
+import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.meeting.domain.dto.MeetingDto;
 import org.orury.domain.meeting.domain.entity.Meeting;
 import org.orury.domain.meeting.domain.entity.MeetingMember;
 import org.orury.domain.user.domain.entity.User;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.*;
 import static org.orury.domain.MeetingDomainFixture.TestMeeting.createMeeting;
 import static org.orury.domain.MeetingDomainFixture.TestMeetingDto.createMeetingDto;
-import static org.orury.domain.MeetingDomainFixture.TestMeetingMember.createMeetingMember;
 import static org.orury.domain.UserDomainFixture.TestUser.createUser;
 import static org.orury.domain.UserDomainFixture.TestUserDto.createUserDto;
 
@@ -193,19 +196,20 @@ class MeetingServiceImplTest extends ServiceTest {
                 .willReturn(true);
         given(meetingReader.getNotStartedMeetingsByCrewId(crewId))
                 .willReturn(meetings);
-        given(meetingMemberReader.existsByMeetingIdAndUserId(anyLong(), anyLong()))
-                .willReturn(true, false, false);
+        given(meetingMemberReader.findParticipatedMeetingIds(userId, List.of(3L, 2L, 1L)))
+                .willReturn(LikedIds.from(List.of(3L)));
 
         // when
-        meetingService.getPresentMeetingDtosByCrewId(crewId, userId);
+        List<MeetingDto> meetingDtos = meetingService.getPresentMeetingDtosByCrewId(crewId, userId);
 
         // then
         then(crewMemberReader).should(only())
                 .existsByCrewIdAndUserId(anyLong(), anyLong());
         then(meetingReader).should(only())
                 .getNotStartedMeetingsByCrewId(anyLong());
-        then(meetingMemberReader).should(times(meetings.size()))
-                .existsByMeetingIdAndUserId(anyLong(), anyLong());
+        then(meetingMemberReader).should(only())
+                .findParticipatedMeetingIds(anyLong(), anyList());
+        assertEquals(List.of(true, false, false), meetingDtos.stream().map(MeetingDto::isParticipated).toList());
     }
 
     @DisplayName("[getPresentMeetingDtosByCrewId] 크루원이 아닌 유저의 id를 받으면, NotCrewMember 예외를 반환한다.")
@@ -227,7 +231,7 @@ class MeetingServiceImplTest extends ServiceTest {
         then(meetingReader).should(never())
                 .getNotStartedMeetingsByCrewId(anyLong());
         then(meetingMemberReader).should(never())
-                .existsByMeetingIdAndUserId(anyLong(), anyLong());
+                .findParticipatedMeetingIds(anyLong(), anyList());
     }
 
     @DisplayName("[getPastMeetingDtosByCrewId] 크루id와 유저id를 받으면, 예정된 일정Dto리스트를 반환한다.")
@@ -241,8 +245,8 @@ class MeetingServiceImplTest extends ServiceTest {
                 .willReturn(true);
         given(meetingReader.getStartedMeetingsByCrewId(crewId))
                 .willReturn(meetings);
-        given(meetingMemberReader.existsByMeetingIdAndUserId(anyLong(), anyLong()))
-                .willReturn(true, false, false);
+        given(meetingMemberReader.findParticipatedMeetingIds(userId, List.of(3L, 2L, 1L)))
+                .willReturn(LikedIds.from(List.of(3L)));
 
         // when
         meetingService.getPastMeetingDtosByCrewId(crewId, userId);
@@ -252,8 +256,8 @@ class MeetingServiceImplTest extends ServiceTest {
                 .existsByCrewIdAndUserId(anyLong(), anyLong());
         then(meetingReader).should(only())
                 .getStartedMeetingsByCrewId(anyLong());
-        then(meetingMemberReader).should(times(meetings.size()))
-                .existsByMeetingIdAndUserId(anyLong(), anyLong());
+        then(meetingMemberReader).should(only())
+                .findParticipatedMeetingIds(anyLong(), anyList());
     }
 
     @DisplayName("[getPastMeetingDtosByCrewId] 크루원이 아닌 유저의 id를 받으면, NotCrewMember 예외를 반환한다.")
@@ -275,56 +279,61 @@ class MeetingServiceImplTest extends ServiceTest {
         then(meetingReader).should(never())
                 .getNotStartedMeetingsByCrewId(anyLong());
         then(meetingMemberReader).should(never())
-                .existsByMeetingIdAndUserId(anyLong(), anyLong());
+                .findParticipatedMeetingIds(anyLong(), anyList());
     }
 
-    @DisplayName("[getUserImagesByMeeting] 일정dto를 받으면, 일정에 참여한 유저들의 프로필사진목록을 반환한다.")
+    @DisplayName("[getUpcomingMeetingDtosByUserId] 시작시간 없이 cursor만 받으면, cursor 일정의 시작시간으로 다음 일정목록을 조회한다.")
     @Test
-    void when_MeetingDto_Then_RetrieveUserImages() {
+    void when_CursorWithoutStartTime_Then_ResolveStartTimeFromCursorMeeting() {
         // given
-        Long meetingId = 8L;
-        MeetingDto meetingDto = createMeetingDto(meetingId).build().get();
-        List<MeetingMember> otherMembers = List.of(
-                createMeetingMember(meetingId, 12L).build().get(),
-                createMeetingMember(meetingId, 34L).build().get(),
-                createMeetingMember(meetingId, 56L).build().get()
-        );
-        given(meetingMemberReader.getOtherMeetingMembersByMeetingIdMaximum(anyLong(), anyLong(), anyInt()))
-                .willReturn(otherMembers);
-        given(userReader.getUserById(anyLong()))
-                .willReturn(createUser(12L).build().get(), createUser(34L).build().get(), createUser(56L).build().get());
+        Long userId = 1L;
+        Long cursor = 35L;
+        Meeting cursorMeeting = createMeeting(cursor).build().get();
+        given(meetingReader.findById(cursor))
+                .willReturn(Optional.of(cursorMeeting));
 
         // when
-        List<String> userImages = meetingService.getUserImagesByMeeting(meetingDto);
+        meetingService.getUpcomingMeetingDtosByUserId(userId, cursor, null);
 
         // then
-        assertEquals(meetingDto.userDto().profileImage(), userImages.get(0));
-        assertEquals(otherMembers.size() + 1, userImages.size());
-        then(meetingMemberReader).should(only())
-                .getOtherMeetingMembersByMeetingIdMaximum(anyLong(), anyLong(), anyInt());
-        then(userReader).should(times(otherMembers.size()))
-                .getUserById(anyLong());
+        then(meetingReader).should(times(1))
+                .getUpcomingMeetingsByUserId(eq(userId), eq(cursor), eq(cursorMeeting.getStartTime()), any());
     }
 
-    @DisplayName("[getUserImagesByMeeting] 일정에 참여한 다른 멤버가 없어도, 일정을 주최한 멤버의 프로필사진을 리스트에 담아 반환한다.")
+    @DisplayName("[getUpcomingMeetingDtosByUserId] 시작시간 없이 받은 cursor 일정이 삭제됐으면, 빈 목록 대신 NotFound 예외를 반환한다.")
     @Test
-    void when_OnlyOneMemberInMeeting_Then_RetrieveUserImage() {
+    void when_DeletedCursorWithoutStartTime_Then_NotFoundException() {
         // given
-        Long meetingId = 8L;
-        MeetingDto meetingDto = createMeetingDto(meetingId).build().get();
-        given(meetingMemberReader.getOtherMeetingMembersByMeetingIdMaximum(anyLong(), anyLong(), anyInt()))
-                .willReturn(Collections.emptyList());
+        Long cursor = 35L;
+        given(meetingReader.findById(cursor))
+                .willReturn(Optional.empty());
+
+        // when & then
+        Exception exception = assertThrows(BusinessException.class,
+                () -> meetingService.getUpcomingMeetingDtosByUserId(1L, cursor, null));
+
+        assertEquals(MeetingErrorCode.NOT_FOUND.getMessage(), exception.getMessage());
+        then(meetingReader).should(never())
+                .getUpcomingMeetingsByUserId(anyLong(), anyLong(), any(), any());
+    }
+
+    @DisplayName("[getUserImagesByMeetings] 일정dto목록을 받으면, 일정마다 일정생성자의 프로필사진을 맨 앞에 둔 프로필사진목록을 한 번에 조회해 반환한다.")
+    @Test
+    void when_MeetingDtos_Then_RetrieveUserImagesByMeetingId() {
+        // given
+        MeetingDto meetingDto = createMeetingDto(8L).build().get();
+        MeetingDto onlyCreatorMeetingDto = createMeetingDto(9L).build().get();
+        given(meetingMemberReader.findOtherMemberProfileImagesByMeetingIds(List.of(8L, 9L), NumberConstants.MAXIMUM_OF_MEETING_THUMBNAILS - 1))
+                .willReturn(Map.of(8L, List.of("image12", "image34", "image56")));
 
         // when
-        List<String> userImages = meetingService.getUserImagesByMeeting(meetingDto);
+        Map<Long, List<String>> userImages = meetingService.getUserImagesByMeetings(List.of(meetingDto, onlyCreatorMeetingDto));
 
         // then
-        assertEquals(meetingDto.userDto().profileImage(), userImages.get(0));
-        assertEquals(1, userImages.size());
+        assertEquals(List.of(meetingDto.userDto().profileImage(), "image12", "image34", "image56"), userImages.get(8L));
+        assertEquals(List.of(onlyCreatorMeetingDto.userDto().profileImage()), userImages.get(9L));
         then(meetingMemberReader).should(only())
-                .getOtherMeetingMembersByMeetingIdMaximum(anyLong(), anyLong(), anyInt());
-        then(userReader).should(never())
-                .getUserById(anyLong());
+                .findOtherMemberProfileImagesByMeetingIds(anyList(), anyInt());
     }
 
     @DisplayName("[updateMeeting] 변경하는 일정dto와 유저id가 들어오면, 일정 정보를 변경한다.")
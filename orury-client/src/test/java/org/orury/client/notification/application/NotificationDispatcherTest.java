@@ -0,0 +1,179 @@
+package org.orury.client.notification.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.notification.infrastructure.EmitterRepository;
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("알림 비동기 전송 Dispatcher 테스트")
+class NotificationDispatcherTest {
+    private EmitterRepository emitterRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = mock(EmitterRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("알림은 요청 스레드가 아닌 전송 스레드에서 유저의 모든 emitter로 보내진다.")
+    void when_Dispatch_Then_SendOnDispatchThread() throws Exception {
+        // given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 100, 1000);
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", first, "1_2", second));
+        Thread[] sentOn = new Thread[1];
+        willAnswer(invocation -> {
+            sentOn[0] = Thread.currentThread();
+            return null;
+        }).given(first).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        dispatcher.dispatch(1L, new CachedEvent("1_10", 10L, "data"));
+        dispatcher.shutdown();
+
+        // then
+        then(first).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(second).should().send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(sentOn[0]).isNotEqualTo(Thread.currentThread());
+        assertThat(meterRegistry.timer("notification.dispatch.latency").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.dispatch.queue_depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 유저에게 몰린 알림은 한 번의 작업에서 모아 보낸다.")
+    void when_BurstToSameUser_Then_SendInOneBatch() throws Exception {
+        // given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 100, 1000);
+        SseEmitter emitter = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", emitter));
+        CountDownLatch blocked = blockDispatchThread(dispatcher);
+
+        // when
+        dispatcher.dispatch(1L, new CachedEvent("1_10", 10L, "a"));
+        dispatcher.dispatch(1L, new CachedEvent("1_11", 11L, "b"));
+        dispatcher.dispatch(1L, new CachedEvent("1_12", 12L, "c"));
+        blocked.countDown();
+        dispatcher.shutdown();
+
+        // then
+        then(emitterRepository).should(times(1)).findAllEmitterByUserId(1L);
+        then(emitter).should(times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 알림이 상한을 넘으면 새 알림은 버리고 dropped로 기록한다.")
+    void when_QueueFull_Then_DropNewEvent() throws Exception {
+        // given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 3, 1000);
+        given(emitterRepository.findAllEmitterByUserId(any())).willReturn(Map.of());
+        CountDownLatch blocked = blockDispatchThread(dispatcher);
+
+        // when
+        dispatcher.dispatch(1L, new CachedEvent("1_10", 10L, "a"));
+        dispatcher.dispatch(2L, new CachedEvent("2_11", 11L, "b"));
+        dispatcher.dispatch(3L, new CachedEvent("3_12", 12L, "c"));
+        blocked.countDown();
+        dispatcher.shutdown();
+
+        // then
+        assertThat(meterRegistry.counter("notification.dispatch.dropped").count()).isEqualTo(1);
+        then(emitterRepository).should(times(0)).findAllEmitterByUserId(3L);
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패한 emitter는 저장소에서 삭제하고 failed_writes로 기록한다.")
+    void when_WriteFailed_Then_DeleteEmitter() throws Exception {
+        // given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 100, 1000);
+        SseEmitter emitter = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", emitter));
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        dispatcher.dispatch(1L, new CachedEvent("1_10", 10L, "data"));
+        dispatcher.shutdown();
+
+        // then
+        then(emitterRepository).should().deleteEmitterById(1L, "1_1");
+        assertThat(meterRegistry.counter("notification.dispatch.failed_writes", "reason", "io").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("send가 멈춘 emitter는 제한 시간이 지나면 emitter monitor를 기다리지 않고 삭제하고, 다른 유저의 전송은 계속된다.")
+    void when_SendBlocked_Then_EvictWithoutStallingDispatch() throws Exception {
+        // given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 100, 50);
+        SseEmitter stuck = mock(SseEmitter.class);
+        SseEmitter healthy = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", stuck));
+        given(emitterRepository.findAllEmitterByUserId(2L)).willReturn(Map.of("2_1", healthy));
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        // 소켓 쓰기처럼 interrupt에도 풀리지 않고 멈춰 있는 send입니다.
+        willAnswer(invocation -> {
+            while (released.getCount() > 0) {
+                try {
+                    released.await();
+                } catch (InterruptedException ignored) {
+                }
+            }
+            return null;
+        }).given(stuck).send(any(SseEmitter.SseEventBuilder.class));
+        willAnswer(invocation -> {
+            delivered.countDown();
+            return null;
+        }).given(healthy).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        dispatcher.dispatch(1L, new CachedEvent("1_10", 10L, "stuck"));
+        dispatcher.dispatch(2L, new CachedEvent("2_11", 11L, "healthy"));
+        boolean deliveredWhileStuck = delivered.await(1, TimeUnit.SECONDS);
+        released.countDown();
+        dispatcher.shutdown();
+
+        // then
+        assertThat(deliveredWhileStuck).isTrue();
+        then(stuck).should(never()).completeWithError(any());
+        then(emitterRepository).should(times(1)).deleteEmitterById(1L, "1_1");
+        then(emitterRepository).should(never()).deleteEmitterById(2L, "2_1");
+        assertThat(meterRegistry.counter("notification.dispatch.failed_writes", "reason", "timeout").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.dispatch.failed_writes", "reason", "io").count()).isZero();
+    }
+
+    // 전송 스레드를 붙잡아, 그 사이에 들어온 알림이 대기열에 쌓이게 합니다.
+    private CountDownLatch blockDispatchThread(NotificationDispatcher dispatcher) throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        SseEmitter blocker = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(0L)).willReturn(Map.of("0_1", blocker));
+        willAnswer(invocation -> {
+            started.countDown();
+            blocked.await(1, TimeUnit.SECONDS);
+            return null;
+        }).given(blocker).send(any(SseEmitter.SseEventBuilder.class));
+        dispatcher.dispatch(0L, new CachedEvent("0_1", 1L, "blocker"));
+        started.await(1, TimeUnit.SECONDS);
+        return blocked;
+    }
+}
@@ -0,0 +1,100 @@
+package org.orury.client.notification.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.notification.infrastructure.EmitterRepository;
+import org.orury.domain.notification.infrastructure.EmitterRepository.UserEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("SSE heartbeat 테스트")
+class SseHeartbeatTest {
+    private EmitterRepository emitterRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher notificationDispatcher;
+    private SseHeartbeat sseHeartbeat;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = mock(EmitterRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationDispatcher = new NotificationDispatcher(emitterRepository, meterRegistry, 1, 4, 100, 50);
+        sseHeartbeat = new SseHeartbeat(emitterRepository, notificationDispatcher, meterRegistry, 30_000L, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 emitter에 batch 단위로 heartbeat를 보내고, 쓰기에 실패한 emitter만 정리한다.")
+    void when_Heartbeat_Then_EvictBrokenEmitters() throws IOException {
+        // given
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter broken = mock(SseEmitter.class);
+        SseEmitter another = mock(SseEmitter.class);
+        willThrow(new IOException("broken pipe")).given(broken).send(any(SseEmitter.SseEventBuilder.class));
+        given(emitterRepository.findAllEmitters()).willReturn(List.of(
+                new UserEmitter(1L, "1_100", alive, 1L),
+                new UserEmitter(2L, "2_100", broken, 2L),
+                new UserEmitter(3L, "3_100", another, 3L)
+        ));
+
+        // when
+        sseHeartbeat.heartbeat();
+
+        // then
+        then(alive).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(another).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(emitterRepository).should().deleteEmitterById(2L, "2_100");
+        then(emitterRepository).should(never()).deleteEmitterById(1L, "1_100");
+        then(broken).should().completeWithError(any());
+        assertThat(meterRegistry.counter("sse.emitters.evicted", "reason", "heartbeat").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat 쓰기가 멈춘 emitter는 제한 시간이 지나면 정리하고, 나머지 emitter의 heartbeat는 계속된다.")
+    void when_HeartbeatBlocked_Then_EvictAndContinue() throws IOException {
+        // given
+        SseEmitter stuck = mock(SseEmitter.class);
+        SseEmitter alive = mock(SseEmitter.class);
+        CountDownLatch released = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            released.await(1, TimeUnit.SECONDS);
+            return null;
+        }).given(stuck).send(any(SseEmitter.SseEventBuilder.class));
+        given(emitterRepository.findAllEmitters()).willReturn(List.of(
+                new UserEmitter(1L, "1_100", stuck, 1L),
+                new UserEmitter(2L, "2_100", alive, 2L),
+                new UserEmitter(3L, "3_100", mock(SseEmitter.class), 3L)
+        ));
+
+        // when
+        sseHeartbeat.heartbeat();
+        released.countDown();
+
+        // then
+        then(alive).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(stuck).should(never()).completeWithError(any());
+        then(emitterRepository).should().deleteEmitterById(1L, "1_100");
+        assertThat(meterRegistry.counter("sse.emitters.evicted", "reason", "heartbeat").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.dispatch.failed_writes", "reason", "timeout").count()).isEqualTo(1);
+    }
+}
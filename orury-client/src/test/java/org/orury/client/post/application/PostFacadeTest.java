@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.mock;
+import static org.orury.domain.global.constants.NumberConstants.USER_ID;
 
 @DisplayName("[Facade] 게시글 Facade 테스트")
 class PostFacadeTest extends FacadeTest {
@@ -91,7 +92,7 @@ class PostFacadeTest extends FacadeTest {
 
         given(postService.getPostDtoById(anyLong())).willReturn(post);
         given(userService.getUserDtoById(anyLong())).willReturn(user);
-        willDoNothing().given(postService).updateViewCount(anyLong());
+        willDoNothing().given(postService).updateViewCount(anyLong(), anyLong());
 
         //when
         var actual = postFacade.getPostById(1L, 1L);
@@ -102,7 +103,7 @@ class PostFacadeTest extends FacadeTest {
                 .isEqualTo(PostResponse.of(post, user));
         then(postService).should(times(1)).getPostDtoById(anyLong());
         then(userService).should(times(1)).getUserDtoById(anyLong());
-        then(postService).should(times(1)).updateViewCount(anyLong());
+        then(postService).should(times(1)).updateViewCount(anyLong(), anyLong());
     }
 
     @DisplayName("카테고리, 커서, 페이지 정보를 받아 게시글 목록을 조회한다.")
@@ -114,17 +115,17 @@ class PostFacadeTest extends FacadeTest {
         var pageable = PageRequest.of(0, 10);
         var posts = List.of(createPostDto(1L), createPostDto(2L), createPostDto(3L));
 
-        given(postService.getPostDtosByCategory(category, cursor, pageable)).willReturn(posts);
+        given(postService.getPostDtosByCategory(USER_ID, category, cursor, pageable)).willReturn(posts);
 
         //when
-        var actual = postFacade.getPostsByCategory(category, cursor, pageable);
+        var actual = postFacade.getPostsByCategory(USER_ID, category, cursor, pageable);
 
         //then
         assertThat(actual)
                 .isNotNull()
                 .hasSize(posts.size())
                 .isEqualTo(posts.stream().map(PostsResponse::of).collect(Collectors.toList()));
-        then(postService).should(times(1)).getPostDtosByCategory(category, cursor, pageable);
+        then(postService).should(times(1)).getPostDtosByCategory(USER_ID, category, cursor, pageable);
     }
 
     @DisplayName("검색어, 커서를 받아 게시글 목록을 조회한다.")
@@ -134,17 +135,17 @@ class PostFacadeTest extends FacadeTest {
         var searchWord = "searchWord";
         var cursor = 0L;
         var posts = List.of(createPostDto(1L), createPostDto(2L), createPostDto(3L));
-        given(postService.getPostDtosBySearchWord(searchWord, cursor, null)).willReturn(posts);
+        given(postService.getPostDtosBySearchWord(USER_ID, searchWord, cursor, null)).willReturn(posts);
 
         //when
-        var actual = postFacade.getPostsBySearchWord(searchWord, cursor, null);
+        var actual = postFacade.getPostsBySearchWord(USER_ID, searchWord, cursor, null);
 
         //then
         assertThat(actual)
                 .isNotNull()
                 .hasSize(posts.size())
                 .isEqualTo(posts.stream().map(PostsResponse::of).collect(Collectors.toList()));
-        then(postService).should(times(1)).getPostDtosBySearchWord(searchWord, cursor, null);
+        then(postService).should(times(1)).getPostDtosBySearchWord(USER_ID, searchWord, cursor, null);
     }
 
     @DisplayName("페이지 정보를 받아 인기 게시글 목록을 조회한다.")
@@ -154,18 +155,18 @@ class PostFacadeTest extends FacadeTest {
         var page = 1;
         var posts = new PageImpl<>(List.of(createPostDto(1L), createPostDto(2L), createPostDto(3L)), PageRequest.of(page, 10), 3);
         var nextPage = 2;
-        given(postService.getHotPostDtos(any())).willReturn(posts);
+        given(postService.getHotPostDtos(anyLong(), any())).willReturn(posts);
         given(postService.getNextPage(posts, page)).willReturn(nextPage);
 
         //when
-        var actual = postFacade.getHotPosts(page);
+        var actual = postFacade.getHotPosts(USER_ID, page);
 
         //then
         assertThat(actual)
                 .isNotNull()
                 .isEqualTo(PostsWithPageResponse.of(posts.stream().map(PostsResponse::of).collect(Collectors.toList()), nextPage));
 
-        then(postService).should(times(1)).getHotPostDtos(PageRequest.of(page, 10));
+        then(postService).should(times(1)).getHotPostDtos(USER_ID, PageRequest.of(page, 10));
         then(postService).should(times(1)).getNextPage(posts, page);
     }
 
@@ -6,6 +6,7 @@ import org.orury.client.config.ServiceTest;
 import org.orury.common.error.exception.BusinessException;
 import org.orury.domain.PostDomainFixture;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.dto.PostDto;
 import org.orury.domain.post.domain.dto.PostLikeDto;
 import org.orury.domain.post.domain.entity.Post;
@@ -25,6 +26,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
@@ -117,7 +119,7 @@ class PostServiceImplTest extends ServiceTest {
                 .thenReturn(mockPostPage);
 
         // when
-        postService.getHotPostDtos(pageable);
+        postService.getHotPostDtos(USER_ID, pageable);
 
         // then
         then(postReader).should(times(1))
@@ -226,9 +228,10 @@ class PostServiceImplTest extends ServiceTest {
                 createPost(10L, 2L)
         );
         given(postReader.findByCategoryOrderByIdDesc(category, 0L, pageable)).willReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.empty());
 
         // when
-        List<PostDto> resultPostDtos = postService.getPostDtosByCategory(category, cursor, PageRequest.of(0, 10));
+        List<PostDto> resultPostDtos = postService.getPostDtosByCategory(USER_ID, category, cursor, PageRequest.of(0, 10));
 
         // then
         verify(postReader).findByCategoryOrderByIdDesc(category, 0L, pageable);
@@ -253,9 +256,10 @@ class PostServiceImplTest extends ServiceTest {
         );
 
         when(postReader.findByCategoryOrderByIdDesc(category, cursor, pageable)).thenReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.empty());
 
         // when
-        List<PostDto> resultPostDtos = postService.getPostDtosByCategory(category, cursor, PageRequest.of(0, 10));
+        List<PostDto> resultPostDtos = postService.getPostDtosByCategory(USER_ID, category, cursor, PageRequest.of(0, 10));
 
         // then
         verify(postReader).findByCategoryOrderByIdDesc(category, cursor, pageable);
@@ -295,9 +299,10 @@ class PostServiceImplTest extends ServiceTest {
         );
 
         when(postReader.findBySearchWordOrderByIdDesc(searchWord, cursor)).thenReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.empty());
 
         // when
-        List<PostDto> resultPostDtos = postService.getPostDtosBySearchWord(searchWord, cursor, null);
+        List<PostDto> resultPostDtos = postService.getPostDtosBySearchWord(USER_ID, searchWord, cursor, null);
 
         // then
         verify(postReader).findBySearchWordOrderByIdDesc(searchWord, cursor);
@@ -321,9 +326,10 @@ class PostServiceImplTest extends ServiceTest {
         );
 
         when(postReader.findBySearchWordOrderByIdDesc(searchWord, cursor)).thenReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.empty());
 
         // when
-        List<PostDto> resultPostDtos = postService.getPostDtosBySearchWord(searchWord, cursor, null);
+        List<PostDto> resultPostDtos = postService.getPostDtosBySearchWord(USER_ID, searchWord, cursor, null);
 
         // then
         verify(postReader).findBySearchWordOrderByIdDesc(searchWord, cursor);
@@ -351,16 +357,19 @@ class PostServiceImplTest extends ServiceTest {
                 createPost(1L, USER_ID)
         );
         List<PostDto> expectPostDtos = posts.stream()
-                .map(post -> PostDto.from(post, false))
+                .map(post -> PostDto.from(post, post.getId() == 10L || post.getId() == 8L))
                 .toList();
 
         given(postReader.findByUserIdOrderByIdDesc(anyLong(), anyLong(), any())).willReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.from(List.of(10L, 8L)));
 
         // when
         List<PostDto> resultPostDtos = postService.getPostDtosByUserId(USER_ID, cursor, pageable);
 
         // then
         assertEquals(resultPostDtos, expectPostDtos);
+        then(postReader).should(times(1)).findLikedPostIds(USER_ID, List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L));
+        then(postReader).should(never()).isPostLiked(anyLong(), anyLong());
         then(postReader).should(times(1)).findByUserIdOrderByIdDesc(anyLong(), anyLong(), any());
     }
 
@@ -389,6 +398,7 @@ class PostServiceImplTest extends ServiceTest {
                 .toList();
 
         given(postReader.findByUserIdOrderByIdDesc(anyLong(), anyLong(), any())).willReturn(posts);
+        given(postReader.findLikedPostIds(anyLong(), anyList())).willReturn(LikedIds.empty());
 
         // when
         List<PostDto> resultPostDtos = postService.getPostDtosByUserId(USER_ID, cursor, pageable);
@@ -44,6 +44,8 @@ class ReviewServiceImplTest extends ServiceTest {
         // then
         then(gymStore).should(times(1))
                 .increaseReviewCountAndTotalScore(anyLong(), anyFloat());
+        then(gymStore).should(times(1))
+                .addReviewStats(anyLong(), anyFloat(), any());
     }
 
     @DisplayName("리뷰 수정 정보를 받아와 리뷰를 수정하고, 리뷰 평점 점수를 업데이트한다.")
@@ -62,7 +64,9 @@ class ReviewServiceImplTest extends ServiceTest {
 
         // then
         then(gymStore).should(times(1))
-                .updateTotalScore(beforeReviewDto.id(), beforeReviewDto.score(), updateReviewDto.score());
+                .updateTotalScore(beforeReviewDto.gymDto().id(), beforeReviewDto.score(), updateReviewDto.score());
+        then(gymStore).should(times(1))
+                .updateReviewStats(beforeReviewDto.gymDto().id(), beforeReviewDto.score(), updateReviewDto.score(), beforeReviewDto.createdAt().getMonth());
         then(imageStore).should(times(1))
                 .delete(S3Folder.REVIEW, beforeReviewDto.images());
     }
@@ -96,6 +100,8 @@ class ReviewServiceImplTest extends ServiceTest {
         // then
         then(gymStore).should(times(1))
                 .decreaseReviewCountAndTotalScore(anyLong(), anyFloat());
+        then(gymStore).should(times(1))
+                .removeReviewStats(reviewDto.gymDto().id(), reviewDto.score(), reviewDto.createdAt().getMonth());
         then(reviewStore).should(times(1))
                 .delete(reviewDto.toEntity());
         then(imageStore).should(times(1))
@@ -214,27 +220,6 @@ class ReviewServiceImplTest extends ServiceTest {
                 .findByUserIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any());
     }
 
-    @DisplayName("암장 ID를받아 해당 암장의 모든 리뷰를 불러온다.")
-    @Test
-    void when_GetGymId_Then_ReturnAllReviewDtos() {
-        // given
-        Long gymId = 1L;
-        List<Review> reviews = List.of(
-                createReview(1L).build().get(),
-                createReview(2L).build().get(),
-                createReview(3L).build().get()
-        );
-
-        given(reviewReader.findByGymId(gymId)).willReturn(reviews);
-
-        // when
-        reviewService.getAllReviewDtosByGymId(gymId);
-
-        // then
-        then(reviewReader).should(times(1))
-                .findByGymId(anyLong());
-    }
-
     @DisplayName("유저ID와 리뷰ID를 받아 리뷰 반응 정보를 반환한다.")
     @Test
     void when_GetUserIdAndReviewId_Then_ReturnReviewReaction() {
@@ -7,15 +7,18 @@ import org.orury.client.global.WithCursorResponse;
 import org.orury.client.user.interfaces.request.UserInfoRequest;
 import org.orury.client.user.interfaces.response.MyCommentResponse;
 import org.orury.client.user.interfaces.response.MyGymResponse;
+import org.orury.client.user.interfaces.response.MyMeetingResponse;
 import org.orury.client.user.interfaces.response.MyPostResponse;
 import org.orury.client.user.interfaces.response.MyReviewResponse;
 import org.orury.domain.comment.domain.dto.CommentDto;
 import org.orury.domain.gym.domain.dto.GymDto;
+import org.orury.domain.meeting.domain.dto.MeetingDto;
 import org.orury.domain.post.domain.dto.PostDto;
 import org.orury.domain.review.domain.dto.ReviewDto;
 import org.orury.domain.user.domain.dto.UserDto;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +33,7 @@ import static org.orury.client.ClientFixtureFactory.TestReportRequest.createRepo
 import static org.orury.client.ClientFixtureFactory.TestUserInfoRequest.createUserInfoRequest;
 import static org.orury.domain.CommentDomainFixture.TestCommentDto.createCommentDto;
 import static org.orury.domain.GymDomainFixture.TestGymDto.createGymDto;
+import static org.orury.domain.MeetingDomainFixture.TestMeetingDto.createMeetingDto;
 import static org.orury.domain.PostDomainFixture.TestPostDto.createPostDto;
 import static org.orury.domain.ReviewDomainFixture.TestReviewDto.createReviewDto;
 import static org.orury.domain.UserDomainFixture.TestUserDto.createUserDto;
@@ -195,6 +199,54 @@ class UserFacadeTest extends FacadeTest {
         then(gymService).should(times(1)).getGymDtosByUserLiked(anyLong(), anyLong());
     }
 
+    @Test
+    @DisplayName("getMeetingsByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime) test: userId, cursor 값을 입력받아 다가오는 일정목록과 마지막 일정id를 cursor로 반환한다. [성공] ")
+    void should_returnWithMeetingsCursorResponse() {
+        //given
+        Long userId = 1L;
+        Long cursor = 0L;
+
+        List<MeetingDto> meetingDtos = List.of(
+                createMeetingDto(21L).build().get(),
+                createMeetingDto(13L).build().get()
+        );
+
+        given(meetingService.getUpcomingMeetingDtosByUserId(userId, cursor, null)).willReturn(meetingDtos);
+
+        //when
+        WithCursorResponse<MyMeetingResponse> actualResponse = userFacade.getMeetingsByUserId(userId, cursor, null);
+
+        //then
+        assertThat(actualResponse.list()).isEqualTo(meetingDtos.stream()
+                .map(meetingDto -> MyMeetingResponse.of(meetingDto, userId))
+                .toList());
+        assertThat(actualResponse.cursor()).isEqualTo(13L);
+        then(meetingService).should(times(1)).getUpcomingMeetingDtosByUserId(userId, cursor, null);
+    }
+
+    @Test
+    @DisplayName("getMeetingsByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime) test: 이전 페이지 마지막 일정의 id와 시작시간을 받아, 그 일정이 삭제됐어도 다음 일정목록을 반환한다. [성공] ")
+    void should_returnNextMeetingsWithSelfContainedCursor() {
+        //given
+        Long userId = 1L;
+        Long cursor = 13L;
+        LocalDateTime cursorStartTime = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+        List<MeetingDto> meetingDtos = List.of(
+                createMeetingDto(17L).build().get()
+        );
+
+        given(meetingService.getUpcomingMeetingDtosByUserId(userId, cursor, cursorStartTime)).willReturn(meetingDtos);
+
+        //when
+        WithCursorResponse<MyMeetingResponse> actualResponse = userFacade.getMeetingsByUserId(userId, cursor, cursorStartTime);
+
+        //then
+        assertThat(actualResponse.list()).hasSize(1);
+        assertThat(actualResponse.cursor()).isEqualTo(17L);
+        then(meetingService).should(times(1)).getUpcomingMeetingDtosByUserId(userId, cursor, cursorStartTime);
+    }
+
     @Test
     @DisplayName("deleteUser(Long id) test: userId를 받아 해당하는 User를 삭제한다. [성공] ")
     void should_deleteUser() {
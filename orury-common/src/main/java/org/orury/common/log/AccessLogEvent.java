@@ -0,0 +1,37 @@
+package org.orury.common.log;
+
+/**
+ * 요청 하나의 access log 입니다. 요청 스레드에서는 값만 모아 넘기고, 문자열 조립과 출력은 AccessLogWriter 스레드가 합니다.
+ */
+public record AccessLogEvent(
+        String method,
+        String uri,
+        int status,
+        long durationMillis,
+        String requestHeaders,
+        String requestBody,
+        String requestPart,
+        String responseBody
+) {
+    public static AccessLogEvent of(
+            String method,
+            String uri,
+            int status,
+            long durationMillis,
+            String requestHeaders,
+            String requestBody,
+            String requestPart,
+            String responseBody
+    ) {
+        return new AccessLogEvent(
+                method,
+                uri,
+                status,
+                durationMillis,
+                requestHeaders,
+                requestBody,
+                requestPart,
+                responseBody
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package org.orury.common.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 넣고 AccessLogWriter 스레드 하나만 꺼내는 고정 크기 ring buffer 입니다.
+ * 넣는 쪽은 tail을 CAS로 한 칸 차지한 뒤 그 칸에 event를 쓰고, 가득 차 있으면 기다리지 않고 버립니다.
+ * 꺼내는 쪽은 head 칸에 event가 채워져 있을 때만 가져가므로, 칸을 차지만 하고 아직 쓰지 않은 event는 다음 drain에서 가져갑니다.
+ */
+final class AccessLogRingBuffer {
+    private final AtomicReferenceArray<AccessLogEvent> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // drain 스레드만 씁니다. 넣는 쪽은 head를 보고 빈 칸이 있는지 판단합니다.
+    private volatile long head;
+
+    AccessLogRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * 가득 차 있으면 false를 반환하고 event를 버립니다.
+     */
+    boolean offer(AccessLogEvent event) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head >= capacity) return false;
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.set((int) claimed & mask, event);
+        return true;
+    }
+
+    /**
+     * 쌓인 event를 넣은 순서대로 최대 maximum개까지 꺼내 consumer에 넘기고, 꺼낸 개수를 반환합니다.
+     */
+    int drain(Consumer<AccessLogEvent> consumer, int maximum) {
+        long current = head;
+        int drained = 0;
+        while (drained < maximum) {
+            int index = (int) current & mask;
+            AccessLogEvent event = slots.get(index);
+            if (event == null) break;
+            slots.lazySet(index, null);
+            head = ++current;
+            drained++;
+            consumer.accept(event);
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,50 @@
+package org.orury.common.log;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * uri prefix별 비율로 정상 응답의 access log를 표본 추출합니다. 4xx, 5xx 응답은 항상 남깁니다.
+ * routeRates는 "/gyms=0.1,/posts=0.5" 형태이고, 여러 prefix가 맞으면 가장 긴 prefix의 비율을 씁니다.
+ */
+final class AccessLogSampler {
+    private final double defaultRate;
+    private final List<RouteRate> routeRates;
+
+    private AccessLogSampler(double defaultRate, List<RouteRate> routeRates) {
+        this.defaultRate = defaultRate;
+        this.routeRates = routeRates;
+    }
+
+    static AccessLogSampler of(double defaultRate, String routeRates) {
+        List<RouteRate> parsed = Arrays.stream(routeRates.split(","))
+                .map(String::trim)
+                .filter(routeRate -> routeRate.contains("="))
+                .map(routeRate -> new RouteRate(
+                        routeRate.substring(0, routeRate.indexOf('=')).trim(),
+                        Double.parseDouble(routeRate.substring(routeRate.indexOf('=') + 1).trim())
+                ))
+                .sorted(Comparator.comparingInt((RouteRate routeRate) -> routeRate.prefix().length()).reversed())
+                .toList();
+        return new AccessLogSampler(defaultRate, parsed);
+    }
+
+    boolean sample(String uri, int status) {
+        if (status >= 400) return true;
+        double rate = rateOf(uri);
+        if (rate >= 1.0) return true;
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    double rateOf(String uri) {
+        for (RouteRate routeRate : routeRates) {
+            if (uri.startsWith(routeRate.prefix())) return routeRate.rate();
+        }
+        return defaultRate;
+    }
+
+    private record RouteRate(String prefix, double rate) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.orury.common.log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.common.config.SlackMessage;
+import org.orury.common.error.code.LogTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드가 ring buffer에 넣은 access log를 전용 스레드 하나가 주기적으로 꺼내 출력합니다.
+ * 버퍼가 가득 차면 요청 스레드는 기다리지 않고 로그를 버리며, 버린 개수는 access_log.events{result=dropped}로 남습니다.
+ * 500 응답의 slack 알림은 별도 스레드로 넘겨, 느린 slack 호출이 로그 출력을 멈추고 버퍼를 채우지 않게 합니다.
+ * 알림 대기열이 가득 차면 알림은 버리고 access_log.slack_alerts{result=dropped}로 남깁니다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+    private static final int DRAIN_BATCH_SIZE = 1024;
+    private static final int SLACK_ALERT_QUEUE_SIZE = 100;
+
+    private final SlackMessage slackMessage;
+    private final AccessLogRingBuffer ringBuffer;
+    private final long drainIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService slackAlertExecutor;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter droppedSlackAlertCounter;
+
+    public AccessLogWriter(
+            SlackMessage slackMessage,
+            MeterRegistry meterRegistry,
+            @Value("${orury.access-log.buffer-size:4096}") int bufferSize,
+            @Value("${orury.access-log.drain-interval-ms:200}") long drainIntervalMillis
+    ) {
+        this.slackMessage = slackMessage;
+        this.ringBuffer = new AccessLogRingBuffer(bufferSize);
+        this.drainIntervalMillis = drainIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("access-log-writer-"));
+
+        this.enqueuedCounter = meterRegistry.counter("access_log.events", "result", "enqueued");
+        this.droppedCounter = meterRegistry.counter("access_log.events", "result", "dropped");
+        this.droppedSlackAlertCounter = meterRegistry.counter("access_log.slack_alerts", "result", "dropped");
+        this.slackAlertExecutor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(SLACK_ALERT_QUEUE_SIZE),
+                new CustomizableThreadFactory("access-log-slack-"),
+                (alert, executor) -> droppedSlackAlertCounter.increment()
+        );
+        Gauge.builder("access_log.buffer.size", ringBuffer, AccessLogRingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::drain, drainIntervalMillis, drainIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 남은 로그를 모두 출력하고 종료합니다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(drainIntervalMillis * 5, TimeUnit.MILLISECONDS);
+        drain();
+        slackAlertExecutor.shutdown();
+        slackAlertExecutor.awaitTermination(drainIntervalMillis * 5, TimeUnit.MILLISECONDS);
+    }
+
+    public void write(AccessLogEvent event) {
+        if (ringBuffer.offer(event)) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    void drain() {
+        try {
+            while (ringBuffer.drain(this::print, DRAIN_BATCH_SIZE) == DRAIN_BATCH_SIZE) {
+                // 한 번에 꺼내는 개수를 채웠으면 더 쌓여 있을 수 있으므로 이어서 꺼냅니다.
+            }
+        } catch (RuntimeException exception) {
+            // 한 로그의 예외가 이후 출력을 멈추지 않게 합니다.
+            log.warn("access log drain failed", exception);
+        }
+    }
+
+    private void print(AccessLogEvent event) {
+        log.info("=== method={} uri={} status={} durationMs={} headers={} requestBody={} requestPart={} responseBody={}",
+                event.method(), event.uri(), event.status(), event.durationMillis(),
+                event.requestHeaders(), event.requestBody(), event.requestPart(), event.responseBody());
+
+        if (event.status() == HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            LogTemplate template = LogTemplate.of(event.uri(), event.requestBody(), event.requestPart(), event.responseBody());
+            slackAlertExecutor.execute(() -> sendSlackAlert(template));
+        }
+    }
+
+    private void sendSlackAlert(LogTemplate template) {
+        try {
+            slackMessage.send(template);
+        } catch (RuntimeException exception) {
+            log.warn("slack alert failed, uri: {}", template.uri(), exception);
+        }
+    }
+}
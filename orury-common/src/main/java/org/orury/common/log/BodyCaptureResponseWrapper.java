@@ -0,0 +1,142 @@
+package org.orury.common.log;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 응답 본문을 그대로 흘려보내면서 JSON, text 응답의 앞부분 limit 바이트만 복사해 둡니다.
+ * ContentCachingResponseWrapper처럼 본문 전체를 heap에 모았다가 다시 쓰지 않으므로, 응답 크기와 관계없이 요청당 limit 바이트만 더 씁니다.
+ */
+final class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
+    private final int limit;
+    private byte[] captured;
+    private int capturedLength;
+    private boolean truncated;
+    private Boolean capturable;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCaptureResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) throw new IllegalStateException("getWriter() has already been called on this response.");
+        if (outputStream == null) outputStream = new CaptureOutputStream(super.getOutputStream());
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) throw new IllegalStateException("getOutputStream() has already been called on this response.");
+            outputStream = new CaptureOutputStream(super.getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) writer.flush();
+        super.flushBuffer();
+    }
+
+    /**
+     * getWriter()로 쓴 문자가 writer에 남아 있지 않도록, 필터가 요청을 마칠 때 호출합니다.
+     */
+    void flushWriter() {
+        if (writer != null) writer.flush();
+    }
+
+    /**
+     * 복사해 둔 본문을 반환합니다. 복사 대상이 아니었거나 본문이 없으면 null을 반환합니다.
+     */
+    byte[] capturedBody() {
+        return captured == null ? null : Arrays.copyOf(captured, capturedLength);
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    // 첫 바이트를 쓸 때의 content type으로 복사 여부를 정합니다. html, 파일, SSE 등은 복사하지 않습니다.
+    private boolean isCapturable() {
+        if (capturable == null) {
+            String contentType = getContentType();
+            capturable = limit > 0 && contentType != null
+                    && (contentType.contains("json") || contentType.startsWith("text/plain"));
+        }
+        return capturable;
+    }
+
+    private void capture(int b) {
+        if (!isCapturable() || truncated) return;
+        if (captured == null) captured = new byte[limit];
+        if (capturedLength == limit) {
+            truncated = true;
+            return;
+        }
+        captured[capturedLength++] = (byte) b;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (!isCapturable() || truncated) return;
+        if (captured == null) captured = new byte[limit];
+        int copied = Math.min(length, limit - capturedLength);
+        System.arraycopy(bytes, offset, captured, capturedLength, copied);
+        capturedLength += copied;
+        if (copied < length) truncated = true;
+    }
+
+    private final class CaptureOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private CaptureOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -4,106 +4,142 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.Part;
 import lombok.extern.slf4j.Slf4j;
-import org.orury.common.config.SlackMessage;
-import org.orury.common.error.code.LogTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요청마다 access log 한 건을 만들어 AccessLogWriter에 넘깁니다.
+ * 본문은 요청, 응답 모두 앞부분 maxBodyBytes만 복사하고, 헤더는 허용한 것만 남기며 Authorization은 가립니다.
+ * 정상 응답은 uri별 비율로 표본 추출하고, 문자열 조립과 출력은 요청 스레드 밖에서 합니다.
+ */
 @Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE)
-@RequiredArgsConstructor
 @Component
 public class LoggerFilter extends OncePerRequestFilter {
-    private final SlackMessage slackMessage;
+    private static final String[] EXCLUDE_PATHS = {"/swagger-ui", "/v3/api-docs", "/actuator/prometheus"};
+    private static final String MASKED = "****";
+
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogSampler accessLogSampler;
+    private final int maxBodyBytes;
+    private final List<String> headerAllowlist;
+
+    public LoggerFilter(
+            AccessLogWriter accessLogWriter,
+            @Value("${orury.access-log.default-sample-rate:1.0}") double defaultSampleRate,
+            @Value("${orury.access-log.route-sample-rates:}") String routeSampleRates,
+            @Value("${orury.access-log.max-body-bytes:2048}") int maxBodyBytes,
+            @Value("${orury.access-log.headers:Authorization,Content-Type,User-Agent,X-Forwarded-For}") String[] headerAllowlist
+    ) {
+        this.accessLogWriter = accessLogWriter;
+        this.accessLogSampler = AccessLogSampler.of(defaultSampleRate, routeSampleRates);
+        this.maxBodyBytes = maxBodyBytes;
+        this.headerAllowlist = Arrays.stream(headerAllowlist)
+                .map(String::trim)
+                .filter(header -> !header.isEmpty())
+                .toList();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        var req = new ContentCachingRequestWrapper(request);
-        var res = new ContentCachingResponseWrapper(response);
-
         //왜 이게 최초 로그인시 실행되는지 모르겠지만 일단 조건문으로 막았습니다.
-        if (req.getRequestURI().equals("/highLightTitle.png")) return;
-
-        log.info("=== INIT URI : {}", req.getRequestURI());
-
-        filterChain.doFilter(req, res);
-
-        String uri = req.getRequestURI();
-        String method = req.getMethod();
-
-        // request 정보
-        String requesHeaderValues = extractRequestHeader(req);
-        String requestBody = extractRequestBody(req);
-        String requestPart = extractRequestPart(request);
-        log.info("=== URI : {} , HTTP Method : {} , Header : {}, RequestBody : {}, RequestPart : {}", uri, method, requesHeaderValues, requestBody, requestPart);
-
-        // response 정보
-        String responseHeaderValues = extractResponseHeader(res);
-        String responseBody = new String(res.getContentAsByteArray());
-
-        if (!responseBody.contains("<head>"))
-            log.info("=== URI : {} , HTTP Method : {} , Header : {} , ResponseBody : {}", uri, method, responseHeaderValues, responseBody);
-
-        if (res.getStatus() == HttpStatus.INTERNAL_SERVER_ERROR.value()) {
-            var template = LogTemplate.of(uri, requestBody, requestPart, responseBody);
-            slackMessage.send(template);
+        if (request.getRequestURI().equals("/highLightTitle.png")) return;
+
+        var req = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        var res = new BodyCaptureResponseWrapper(response, maxBodyBytes);
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(req, res);
+            failed = false;
+        } finally {
+            res.flushWriter();
+            // 처리되지 않은 예외로 끝났으면 응답 상태와 관계없이 500으로 남깁니다.
+            int status = failed ? HttpStatus.INTERNAL_SERVER_ERROR.value() : res.getStatus();
+            if (accessLogSampler.sample(req.getRequestURI(), status)) {
+                accessLogWriter.write(AccessLogEvent.of(
+                        req.getMethod(),
+                        req.getRequestURI(),
+                        status,
+                        (System.nanoTime() - startNanos) / 1_000_000,
+                        extractRequestHeader(req),
+                        extractRequestBody(req),
+                        extractRequestPart(request),
+                        extractResponseBody(res)
+                ));
+            }
         }
-        res.copyBodyToResponse();
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String[] excludePath = {"/swagger-ui", "/v3/api-docs", "/actuator/prometheus"};
         String path = request.getRequestURI();
-        return Arrays.stream(excludePath)
+        return Arrays.stream(EXCLUDE_PATHS)
                 .anyMatch(path::contains);
     }
 
-    private String extractRequestHeader(ContentCachingRequestWrapper req) {
-        var headerNames = req.getHeaderNames();
+    private String extractRequestHeader(HttpServletRequest req) {
         var headerValues = new StringBuilder();
+        for (String headerKey : headerAllowlist) {
+            var headerValue = req.getHeader(headerKey);
+            if (headerValue == null) continue;
 
-        headerNames.asIterator()
-                .forEachRemaining(headerKey -> {
-                    var headerValue = req.getHeader(headerKey);
-
-                    headerValues
-                            .append("[")
-                            .append(headerKey)
-                            .append(" : ")
-                            .append(headerValue)
-                            .append("] ");
-                });
-
+            headerValues
+                    .append("[")
+                    .append(headerKey)
+                    .append(" : ")
+                    .append(headerKey.equalsIgnoreCase(HttpHeaders.AUTHORIZATION) ? maskAuthorization(headerValue) : headerValue)
+                    .append("] ");
+        }
         return (headerValues.isEmpty()) ? null : headerValues.toString();
     }
 
+    // 인증 방식만 남기고 토큰은 가립니다. ex) "Bearer ****"
+    private String maskAuthorization(String headerValue) {
+        int space = headerValue.indexOf(' ');
+        return (space < 0) ? MASKED : headerValue.substring(0, space + 1) + MASKED;
+    }
+
     private String extractRequestBody(ContentCachingRequestWrapper req) {
-        String requestBody = new String(req.getContentAsByteArray());
-        return (requestBody.isEmpty()) ? null : requestBody;
+        byte[] content = req.getContentAsByteArray();
+        if (content.length == 0) return null;
+        String requestBody = new String(content, StandardCharsets.UTF_8);
+        return (req.getContentLength() > content.length) ? requestBody + "...(truncated)" : requestBody;
     }
 
-    private String extractRequestPart(HttpServletRequest request) throws ServletException, IOException {
+    private String extractRequestPart(HttpServletRequest request) {
         if (request.getContentType() == null || !request.getContentType()
                 .startsWith("multipart"))
             return null;
 
-        var multiparts = request.getParts();
+        Collection<Part> multiparts;
+        try {
+            multiparts = request.getParts();
+        } catch (ServletException | IOException | IllegalStateException exception) {
+            // 업로드 크기 초과 등으로 part를 읽을 수 없으면, 요청의 원래 예외를 가리지 않도록 part 없이 남깁니다.
+            log.warn("### Failed to read request parts : {}", exception.getMessage());
+            return null;
+        }
 
         var requestPartValues = new StringBuilder();
 
         multiparts.forEach(part -> {
+            if (requestPartValues.length() >= maxBodyBytes) return;
 
             String partValue = (part.getHeader("Content-Disposition")
                     .contains("filename="))
@@ -135,21 +171,10 @@ public class LoggerFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private String extractResponseHeader(ContentCachingResponseWrapper res) {
-        var headerValues = new StringBuilder();
-
-        res.getHeaderNames()
-                .forEach(headerKey -> {
-                    var headerValue = res.getHeader(headerKey);
-
-                    headerValues
-                            .append("[")
-                            .append(headerKey)
-                            .append(" : ")
-                            .append(headerValue)
-                            .append("] ");
-                });
-
-        return (headerValues.isEmpty()) ? null : headerValues.toString();
+    private String extractResponseBody(BodyCaptureResponseWrapper res) {
+        byte[] content = res.capturedBody();
+        if (content == null || content.length == 0) return null;
+        String responseBody = new String(content, StandardCharsets.UTF_8);
+        return (res.isTruncated()) ? responseBody + "...(truncated)" : responseBody;
     }
 }
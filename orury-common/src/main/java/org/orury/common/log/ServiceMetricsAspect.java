@@ -0,0 +1,94 @@
+package org.orury.common.log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Service 메서드마다 실행 시간 histogram과 예외 횟수를 Micrometer로 남깁니다. (/actuator/prometheus)
+ * 메서드별 meter는 처음 호출될 때 한 번만 등록해 두고, 이후 호출은 시간 측정과 기록만 합니다.
+ * 인자는 slowThreshold를 넘긴 호출에서만 로그로 남깁니다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    private static final int MAXIMUM_ARGUMENTS_LENGTH = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(
+            MeterRegistry meterRegistry,
+            @Value("${orury.service-metrics.slow-threshold-ms:500}") long slowThresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Around(value = "within(@org.springframework.stereotype.Service *)")
+    public Object measureServiceMethod(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        MethodMeters meters = metersOf(((MethodSignature) proceedingJoinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            return proceedingJoinPoint.proceed();
+        } catch (Throwable throwable) {
+            meters.errorCounter().increment();
+            throw throwable;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            meters.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (elapsedNanos >= slowThresholdNanos) logSlowMethod(proceedingJoinPoint, elapsedNanos);
+        }
+    }
+
+    private MethodMeters metersOf(Method method) {
+        MethodMeters meters = methodMeters.get(method);
+        return (meters != null) ? meters : methodMeters.computeIfAbsent(method, this::register);
+    }
+
+    private MethodMeters register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        String methodName = method.getName();
+        Timer timer = Timer.builder("service.method.duration")
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentileHistogram()
+                // 메서드 수만큼 histogram이 생기므로, bucket을 서비스 호출에 의미 있는 범위로 줄입니다.
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        Counter errorCounter = Counter.builder("service.method.errors")
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(meterRegistry);
+        return new MethodMeters(timer, errorCounter);
+    }
+
+    private void logSlowMethod(ProceedingJoinPoint proceedingJoinPoint, long elapsedNanos) {
+        String arguments = Arrays.toString(proceedingJoinPoint.getArgs());
+        if (arguments.length() > MAXIMUM_ARGUMENTS_LENGTH) {
+            arguments = arguments.substring(0, MAXIMUM_ARGUMENTS_LENGTH) + "...(truncated)";
+        }
+        log.warn("### Slow Method : {} , Elapsed : {}ms , Parameters : {}",
+                proceedingJoinPoint.getSignature().toShortString(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), arguments);
+    }
+
+    private record MethodMeters(Timer timer, Counter errorCounter) {
+    }
+}
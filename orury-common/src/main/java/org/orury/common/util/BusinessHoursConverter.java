@@ -8,6 +8,8 @@ import java.time.LocalTime;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BusinessHoursConverter {
+    public static final int INVALID_MINUTE = -1;
+
     public static LocalTime extractOpenTime(String businessHour) {
         try {
             String openTime = businessHour.split("-")[0];
@@ -29,4 +31,18 @@ public class BusinessHoursConverter {
             return LocalTime.MAX;
         }
     }
+
+    public static int extractOpenMinute(String businessHour) {
+        return toMinuteOfDay(extractOpenTime(businessHour));
+    }
+
+    public static int extractCloseMinute(String businessHour) {
+        return toMinuteOfDay(extractCloseTime(businessHour));
+    }
+
+    // 파싱에 실패한 영업시간(LocalTime.MAX)은 INVALID_MINUTE으로 표현합니다.
+    private static int toMinuteOfDay(LocalTime time) {
+        if (time.equals(LocalTime.MAX)) return INVALID_MINUTE;
+        return time.getHour() * 60 + time.getMinute();
+    }
 }
@@ -0,0 +1,44 @@
+package org.orury.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulUtils {
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    // 중성(21) * 종성(28)
+    private static final int SYLLABLES_PER_CHOSEONG = 588;
+    private static final char[] CHOSEONGS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 한글 음절은 초성으로 바꾸고, 그 외 문자는 그대로 둡니다. ("더클라임 강남" -> "ㄷㅋㄹㅇ ㄱㄴ")
+     */
+    public static String toChoseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isHangulSyllable(chars[i])) {
+                chars[i] = CHOSEONGS[(chars[i] - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    public static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChoseong(text.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return HANGUL_SYLLABLE_BEGIN <= c && c <= HANGUL_SYLLABLE_END;
+    }
+
+    private static boolean isChoseong(char c) {
+        return 'ㄱ' <= c && c <= 'ㅎ';
+    }
+}
@@ -0,0 +1,80 @@
+package org.orury.common.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Log] access log ring buffer 테스트")
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 가득 차면 기다리지 않고 버린다.")
+    void when_Full_Then_DropWithoutBlocking() {
+        // given
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(2);
+        AccessLogEvent first = event("/first");
+        AccessLogEvent second = event("/second");
+
+        // when
+        boolean firstOffered = ringBuffer.offer(first);
+        boolean secondOffered = ringBuffer.offer(second);
+        boolean thirdOffered = ringBuffer.offer(event("/third"));
+        List<AccessLogEvent> drained = new ArrayList<>();
+        ringBuffer.drain(drained::add, 10);
+
+        // then
+        assertThat(firstOffered).isTrue();
+        assertThat(secondOffered).isTrue();
+        assertThat(thirdOffered).isFalse();
+        assertThat(drained).containsExactly(first, second);
+        assertThat(ringBuffer.offer(event("/fourth"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도, 들어간 event는 빠짐없이 한 번씩 꺼낸다.")
+    void when_ConcurrentOffer_Then_DrainEveryAcceptedEventOnce() throws InterruptedException {
+        // given
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(64);
+        int producers = 4;
+        int eventsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        int[] accepted = new int[producers];
+
+        // when
+        for (int producer = 0; producer < producers; producer++) {
+            int index = producer;
+            executor.execute(() -> {
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    if (ringBuffer.offer(event("/" + index))) accepted[index]++;
+                }
+                done.countDown();
+            });
+        }
+        List<AccessLogEvent> drained = new ArrayList<>();
+        while (done.getCount() > 0) {
+            ringBuffer.drain(drained::add, 64);
+        }
+        ringBuffer.drain(drained::add, 64);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        // then
+        int totalAccepted = 0;
+        for (int count : accepted) totalAccepted += count;
+        assertThat(drained).hasSize(totalAccepted);
+        assertThat(ringBuffer.size()).isZero();
+    }
+
+    private AccessLogEvent event(String uri) {
+        return AccessLogEvent.of("GET", uri, 200, 1L, null, null, null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package org.orury.common.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[Log] access log 표본 추출 테스트")
+class AccessLogSamplerTest {
+
+    @Test
+    @DisplayName("여러 prefix가 맞으면 가장 긴 prefix의 비율을 쓰고, 맞는 prefix가 없으면 기본 비율을 쓴다.")
+    void when_PrefixesOverlap_Then_UseLongestPrefix() {
+        // given
+        AccessLogSampler sampler = AccessLogSampler.of(0.3, "/gyms=0.1, /gyms/search=0.5,/posts=1.0");
+
+        // when & then
+        assertThat(sampler.rateOf("/gyms/search?word=a")).isEqualTo(0.5);
+        assertThat(sampler.rateOf("/gyms/3")).isEqualTo(0.1);
+        assertThat(sampler.rateOf("/posts/1")).isEqualTo(1.0);
+        assertThat(sampler.rateOf("/crews")).isEqualTo(0.3);
+    }
+
+    @Test
+    @DisplayName("'=' 가 없는 항목과 빈 설정은 무시한다.")
+    void when_MalformedRouteRates_Then_Ignore() {
+        // given
+        AccessLogSampler sampler = AccessLogSampler.of(0.2, "/gyms, ,");
+
+        // when & then
+        assertThat(sampler.rateOf("/gyms")).isEqualTo(0.2);
+        assertThat(AccessLogSampler.of(0.2, "").rateOf("/gyms")).isEqualTo(0.2);
+    }
+
+    @Test
+    @DisplayName("비율이 0인 경로라도 4xx, 5xx 응답은 항상 남긴다.")
+    void when_ErrorStatus_Then_AlwaysSample() {
+        // given
+        AccessLogSampler sampler = AccessLogSampler.of(0.0, "");
+
+        // when & then
+        assertThat(sampler.sample("/gyms", 200)).isFalse();
+        assertThat(sampler.sample("/gyms", 404)).isTrue();
+        assertThat(sampler.sample("/gyms", 500)).isTrue();
+    }
+
+    @Test
+    @DisplayName("비율이 1이면 정상 응답을 모두 남기고, 그 사이의 비율이면 대략 그 비율만큼 남긴다.")
+    void when_PartialRate_Then_SampleApproximately() {
+        // given
+        AccessLogSampler sampler = AccessLogSampler.of(1.0, "/gyms=0.5");
+
+        // when
+        long sampled = IntStream.range(0, 10_000)
+                .filter(i -> sampler.sample("/gyms", 200))
+                .count();
+
+        // then
+        assertThat(sampler.sample("/posts", 200)).isTrue();
+        assertThat(sampled).isBetween(4_000L, 6_000L);
+    }
+}
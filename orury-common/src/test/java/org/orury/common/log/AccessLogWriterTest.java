@@ -0,0 +1,68 @@
+package org.orury.common.log;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.common.config.SlackMessage;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+
+@DisplayName("[Log] access log writer 테스트")
+class AccessLogWriterTest {
+    private SlackMessage slackMessage;
+    private SimpleMeterRegistry meterRegistry;
+    private AccessLogWriter accessLogWriter;
+    private CountDownLatch slackReleased;
+
+    @BeforeEach
+    void setUp() {
+        slackMessage = mock(SlackMessage.class);
+        meterRegistry = new SimpleMeterRegistry();
+        accessLogWriter = new AccessLogWriter(slackMessage, meterRegistry, 4, 200L);
+        slackReleased = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        slackReleased.countDown();
+        accessLogWriter.stop();
+    }
+
+    @Test
+    @DisplayName("slack 호출이 멈춰 있어도, 500 응답 로그를 포함해 버퍼의 로그는 계속 출력된다.")
+    void when_SlackBlocked_Then_KeepDraining() {
+        // given
+        willAnswer(invocation -> {
+            slackReleased.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(slackMessage).send(any());
+
+        // when
+        accessLogWriter.write(event(500));
+        accessLogWriter.write(event(200));
+        accessLogWriter.drain();
+        accessLogWriter.write(event(500));
+        accessLogWriter.write(event(200));
+        accessLogWriter.drain();
+
+        // then
+        then(slackMessage).should(timeout(1_000))
+                .send(any());
+        assertThat(meterRegistry.get("access_log.buffer.size").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("access_log.events", "result", "dropped").count()).isZero();
+    }
+
+    private AccessLogEvent event(int status) {
+        return AccessLogEvent.of("GET", "/posts", status, 1L, null, null, null, null);
+    }
+}
@@ -0,0 +1,69 @@
+package org.orury.common.log;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("[Log] 서비스 메서드 metric aspect 테스트")
+class ServiceMetricsAspectTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry, 500));
+        sampleService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드를 호출하면, 메서드별 timer에 실행 시간을 기록한다.")
+    void when_ServiceMethodCalled_Then_RecordDuration() {
+        // when
+        sampleService.find(1L);
+        sampleService.find(2L);
+
+        // then
+        assertThat(meterRegistry.get("service.method.duration")
+                .tag("class", "SampleService")
+                .tag("method", "find")
+                .timer()
+                .count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서비스 메서드에서 예외가 발생하면, 예외를 그대로 던지고 메서드별 예외 횟수를 센다.")
+    void when_ServiceMethodThrows_Then_CountError() {
+        // when & then
+        assertThatThrownBy(() -> sampleService.fail())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("service.method.errors")
+                .tag("class", "SampleService")
+                .tag("method", "fail")
+                .counter()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("service.method.duration")
+                .tag("method", "fail")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Service
+    static class SampleService {
+        public Long find(Long id) {
+            return id;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.orury.domain.auth.domain;
 
+/**
+ * 만료되지 않은 리프레시토큰인지 토큰 원문의 digest로 확인합니다.
+ */
 public interface RefreshTokenReader {
     boolean existsByValue(String value);
 }
@@ -1,7 +1,9 @@
 package org.orury.domain.auth.domain;
 
+import java.time.LocalDateTime;
+
 public interface RefreshTokenStore {
-    void save(Long id, String value);
+    void save(Long id, String value, LocalDateTime expiresAt);
 
     void delete(Long userId);
 }
@@ -0,0 +1,12 @@
+package org.orury.domain.auth.domain;
+
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+
+import java.util.List;
+
+public interface TokenRevocationReader {
+    /**
+     * revokedAfterMillis 이후의 폐기 중 cursor(id)보다 뒤의 것을 id 순서로 size개까지 조회합니다.
+     */
+    List<TokenRevocation> findRevocationsSince(long revokedAfterMillis, Long cursor, int size);
+}
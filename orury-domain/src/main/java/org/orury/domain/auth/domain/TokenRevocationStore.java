@@ -0,0 +1,5 @@
+package org.orury.domain.auth.domain;
+
+public interface TokenRevocationStore {
+    void revoke(Long userId);
+}
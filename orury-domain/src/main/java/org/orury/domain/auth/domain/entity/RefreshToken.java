@@ -21,30 +21,38 @@ public class RefreshToken extends AuditingField {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(name = "value", nullable = false)
-    private String value;
+    // 토큰 원문의 SHA-256 hex
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
     public RefreshToken(
             Long userId,
-            String value,
+            String tokenHash,
+            LocalDateTime expiresAt,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
         this.userId = userId;
-        this.value = value;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     public static RefreshToken of(
             Long userId,
-            String value,
+            String tokenHash,
+            LocalDateTime expiresAt,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
         return new RefreshToken(
                 userId,
-                value,
+                tokenHash,
+                expiresAt,
                 createdAt,
                 updatedAt
         );
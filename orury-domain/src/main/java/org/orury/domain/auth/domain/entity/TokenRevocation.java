@@ -0,0 +1,49 @@
+package org.orury.domain.auth.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 유저의 토큰을 폐기한 기록입니다. revokedAtMillis(epoch millis) 이전에 발급된 그 유저의 액세스 토큰은 더 이상 인증에 쓸 수 없습니다.
+ * 행을 추가만 하고, 폐기 시각(revokedAtMillis)으로 최근 폐기를 읽습니다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = {"id"})
+@Entity(name = "token_revocation")
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 토큰의 iat와 바로 비교하도록 시간대가 없는 epoch millis로 저장합니다.
+    @Column(name = "revoked_at_millis", nullable = false)
+    private long revokedAtMillis;
+
+    private TokenRevocation(
+            Long id,
+            Long userId,
+            long revokedAtMillis
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.revokedAtMillis = revokedAtMillis;
+    }
+
+    public static TokenRevocation of(
+            Long id,
+            Long userId,
+            long revokedAtMillis
+    ) {
+        return new TokenRevocation(
+                id,
+                userId,
+                revokedAtMillis
+        );
+    }
+}
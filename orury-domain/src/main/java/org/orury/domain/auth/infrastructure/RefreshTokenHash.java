@@ -0,0 +1,23 @@
+package org.orury.domain.auth.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 리프레시토큰 원문 대신 저장하고 조회하는 SHA-256 hex 값입니다. MySQL의 SHA2(value, 256)과 같은 값을 만듭니다.
+ */
+final class RefreshTokenHash {
+    private RefreshTokenHash() {
+    }
+
+    static String of(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.orury.domain.auth.domain.RefreshTokenReader;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 @RequiredArgsConstructor
 public class RefreshTokenReaderImpl implements RefreshTokenReader {
@@ -11,6 +13,6 @@ public class RefreshTokenReaderImpl implements RefreshTokenReader {
 
     @Override
     public boolean existsByValue(String value) {
-        return refreshTokenRepository.existsByValue(value);
+        return refreshTokenRepository.existsByTokenHashAndExpiresAtAfter(RefreshTokenHash.of(value), LocalDateTime.now());
     }
 }
@@ -3,8 +3,10 @@ package org.orury.domain.auth.infrastructure;
 import org.orury.domain.auth.domain.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    boolean existsByValue(String value);
+    boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
 
     void deleteByUserId(Long userId);
 }
@@ -12,9 +12,12 @@ import java.time.LocalDateTime;
 public class RefreshTokenStoreImpl implements RefreshTokenStore {
     private final RefreshTokenRepository refreshTokenRepository;
 
+    /**
+     * 유저당 한 행만 두므로, 새 토큰을 저장하면 이전 토큰은 더 이상 재발급에 쓸 수 없습니다.
+     */
     @Override
-    public void save(Long id, String value) {
-        RefreshToken refreshToken = RefreshToken.of(id, value, LocalDateTime.now(), LocalDateTime.now());
+    public void save(Long id, String value, LocalDateTime expiresAt) {
+        RefreshToken refreshToken = RefreshToken.of(id, RefreshTokenHash.of(value), expiresAt, LocalDateTime.now(), LocalDateTime.now());
         refreshTokenRepository.save(refreshToken);
     }
 
@@ -0,0 +1,20 @@
+package org.orury.domain.auth.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.orury.domain.auth.domain.TokenRevocationReader;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationReaderImpl implements TokenRevocationReader {
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    @Override
+    public List<TokenRevocation> findRevocationsSince(long revokedAfterMillis, Long cursor, int size) {
+        return tokenRevocationRepository.findByRevokedAtMillisGreaterThanAndIdGreaterThanOrderByIdAsc(revokedAfterMillis, cursor, PageRequest.of(0, size));
+    }
+}
@@ -0,0 +1,11 @@
+package org.orury.domain.auth.infrastructure;
+
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+    List<TokenRevocation> findByRevokedAtMillisGreaterThanAndIdGreaterThanOrderByIdAsc(long revokedAtMillis, Long cursor, Pageable pageable);
+}
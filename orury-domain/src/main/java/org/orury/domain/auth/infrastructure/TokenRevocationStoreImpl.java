@@ -0,0 +1,22 @@
+package org.orury.domain.auth.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.orury.domain.auth.domain.TokenRevocationStore;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationStoreImpl implements TokenRevocationStore {
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    /**
+     * 지금 시각을 watermark로 남겨, 이 시각 이전에 발급된 유저의 토큰을 모두 폐기합니다.
+     */
+    @Override
+    public void revoke(Long userId) {
+        tokenRevocationRepository.save(TokenRevocation.of(null, userId, Instant.now().toEpochMilli()));
+    }
+}
@@ -2,8 +2,10 @@ package org.orury.domain.comment.domain;
 
 import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.comment.domain.entity.CommentLikePK;
+import org.orury.domain.global.domain.LikedIds;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public interface CommentReader {
 
     boolean existsCommentLikeByUserIdAndCommentId(Long userId, Long commentId);
 
+    LikedIds findLikedCommentIds(Long userId, Collection<Long> commentIds);
+
     List<Comment> getCommentsByPostIdAndCursor(Long postId, Long cursor, PageRequest pageRequest);
 
     List<Comment> getCommentsByUserIdAndCursor(Long userId, Long cursor, PageRequest pageRequest);
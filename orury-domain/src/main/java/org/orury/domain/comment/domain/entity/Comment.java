@@ -31,7 +31,8 @@ public class Comment extends AuditingField {
     @Column(name = "parent_id", nullable = false)
     private Long parentId;
 
-    @Column(name = "like_count", nullable = false)
+    // 좋아요 수는 CounterDeltaBuffer의 증감 UPDATE로만 갱신합니다.
+    @Column(name = "like_count", nullable = false, updatable = false)
     private int likeCount;
 
     @ManyToOne(optional = false)
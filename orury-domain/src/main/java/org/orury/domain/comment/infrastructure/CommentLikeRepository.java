@@ -3,7 +3,10 @@ package org.orury.domain.comment.infrastructure;
 import org.orury.domain.comment.domain.entity.CommentLike;
 import org.orury.domain.comment.domain.entity.CommentLikePK;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikePK> {
@@ -12,4 +15,8 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
     void deleteByCommentLikePK_CommentId(Long commentId);
 
     List<CommentLike> findByCommentLikePK_UserId(Long userId);
+
+    @Query("SELECT cl.commentLikePK.commentId FROM comment_like cl " +
+            "WHERE cl.commentLikePK.userId = :userId AND cl.commentLikePK.commentId IN :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIdIn(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
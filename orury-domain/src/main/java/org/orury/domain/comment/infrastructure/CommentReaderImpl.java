@@ -5,23 +5,31 @@ import org.orury.domain.comment.domain.CommentReader;
 import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.comment.domain.entity.CommentLikePK;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
+import org.orury.domain.global.domain.LikedIds;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Repository
 public class CommentReaderImpl implements CommentReader {
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public Optional<Comment> findCommentById(Long commentId) {
-        return commentRepository.findById(commentId);
+        return commentRepository.findById(commentId)
+                .map(this::withPendingLikes);
     }
 
     @Override
@@ -39,17 +47,35 @@ public class CommentReaderImpl implements CommentReader {
         return commentLikeRepository.existsCommentLikeByCommentLikePK_UserIdAndCommentLikePK_CommentId(userId, commentId);
     }
 
+    @Override
+    public LikedIds findLikedCommentIds(Long userId, Collection<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) return LikedIds.empty();
+        return LikedIds.from(commentLikeRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIds));
+    }
+
+    /**
+     * cursor 다음 페이지의 부모 댓글과 그 대댓글 전체를 두 번의 조회로 가져와, 부모 댓글 뒤에 대댓글을 id 순서로 이어 붙입니다.
+     */
     @Override
     public List<Comment> getCommentsByPostIdAndCursor(Long postId, Long cursor, PageRequest pageRequest) {
-        List<Comment> parentComments = (cursor.equals(NumberConstants.LAST_CURSOR))
-                ? Collections.emptyList()
-                : commentRepository.findByPostIdAndParentIdAndIdGreaterThanOrderByIdAsc(postId, NumberConstants.PARENT_COMMENT, cursor, pageRequest);
-        List<Comment> allComments = new LinkedList<>();
+        if (cursor.equals(NumberConstants.LAST_CURSOR)) return Collections.emptyList();
+
+        List<Comment> parentComments = commentRepository.findParentCommentsWithUserByPostIdAndCursor(postId, NumberConstants.PARENT_COMMENT, cursor, pageRequest);
+        if (parentComments.isEmpty()) return Collections.emptyList();
+
+        List<Long> parentIds = parentComments.stream()
+                .map(Comment::getId)
+                .toList();
+        List<Comment> childComments = commentRepository.findChildCommentsWithUserByParentIdIn(parentIds);
+        Map<Long, List<Comment>> childCommentsByParentId = childComments.stream()
+                .collect(Collectors.groupingBy(Comment::getParentId));
+
+        List<Comment> allComments = new ArrayList<>(parentComments.size() + childComments.size());
         parentComments.forEach(
                 parentComment -> {
-                    allComments.add(parentComment);
-                    List<Comment> childComments = commentRepository.findByParentIdOrderByIdAsc(parentComment.getId());
-                    if (!childComments.isEmpty()) allComments.addAll(childComments);
+                    allComments.add(withPendingLikes(parentComment));
+                    childCommentsByParentId.getOrDefault(parentComment.getId(), Collections.emptyList())
+                            .forEach(childComment -> allComments.add(withPendingLikes(childComment)));
                 }
         );
         return allComments;
@@ -57,8 +83,30 @@ public class CommentReaderImpl implements CommentReader {
 
     @Override
     public List<Comment> getCommentsByUserIdAndCursor(Long userId, Long cursor, PageRequest pageRequest) {
-        return (cursor.equals(NumberConstants.FIRST_CURSOR))
+        List<Comment> comments = (cursor.equals(NumberConstants.FIRST_CURSOR))
                 ? commentRepository.findByUserIdOrderByIdDesc(userId, pageRequest)
                 : commentRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageRequest);
+        return comments.stream()
+                .map(this::withPendingLikes)
+                .toList();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 변화량을 덧씌운 사본을 반환합니다. 변화량이 없으면 조회한 엔티티를 그대로 반환합니다.
+     */
+    private Comment withPendingLikes(Comment comment) {
+        long pendingLikes = counterDeltaBuffer.pendingDelta(CounterColumn.COMMENT_LIKE, comment.getId());
+        if (pendingLikes == 0) return comment;
+        return Comment.of(
+                comment.getId(),
+                comment.getContent(),
+                comment.getParentId(),
+                comment.getLikeCount() + (int) pendingLikes,
+                comment.getPost(),
+                comment.getUser(),
+                comment.getDeleted(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+        );
     }
 }
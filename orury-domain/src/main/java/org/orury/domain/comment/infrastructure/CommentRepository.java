@@ -3,27 +3,33 @@ package org.orury.domain.comment.infrastructure;
 import org.orury.domain.comment.domain.entity.Comment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostIdAndParentIdAndIdGreaterThanOrderByIdAsc(Long postId, Long parentId, Long cursor, Pageable pageable);
-
-    List<Comment> findByParentIdOrderByIdAsc(Long parentId);
+    // 댓글 작성자, 게시글, 게시글 작성자를 함께 가져와 DTO 변환 시 추가 조회가 없도록 합니다.
+    @Query("SELECT c FROM comment c " +
+            "JOIN FETCH c.user " +
+            "JOIN FETCH c.post p " +
+            "JOIN FETCH p.user " +
+            "WHERE p.id = :postId AND c.parentId = :parentId AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<Comment> findParentCommentsWithUserByPostIdAndCursor(@Param("postId") Long postId, @Param("parentId") Long parentId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT c FROM comment c " +
+            "JOIN FETCH c.user " +
+            "JOIN FETCH c.post p " +
+            "JOIN FETCH p.user " +
+            "WHERE c.parentId IN :parentIds " +
+            "ORDER BY c.id ASC")
+    List<Comment> findChildCommentsWithUserByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
 
     List<Comment> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
 
     List<Comment> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Pageable pageable);
 
     boolean existsByIdAndParentId(Long commentId, Long parentId);
-
-    @Modifying
-    @Query("UPDATE comment SET likeCount = likeCount + 1 WHERE id = :id")
-    void increaseLikeCount(Long id);
-
-    @Modifying
-    @Query("UPDATE comment SET likeCount = likeCount - 1 WHERE id = :id")
-    void decreaseLikeCount(Long id);
 }
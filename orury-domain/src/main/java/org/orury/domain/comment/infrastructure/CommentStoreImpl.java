@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.orury.domain.comment.domain.CommentStore;
 import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.comment.domain.entity.CommentLike;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
 import org.orury.domain.post.infrastructure.PostRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +15,7 @@ public class CommentStoreImpl implements CommentStore {
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final PostRepository postRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public void createComment(Comment comment) {
@@ -27,29 +30,32 @@ public class CommentStoreImpl implements CommentStore {
 
     @Override
     public void deleteComment(Comment comment) {
+        // like_count는 엔티티 저장으로 바뀌지 않으므로, 삭제 전 좋아요 수만큼 빼서 0으로 맞춥니다.
+        int likeCount = comment.getLikeCount();
         Comment deletingComment = comment.delete();
         commentRepository.save(deletingComment);
         commentLikeRepository.deleteByCommentLikePK_CommentId(deletingComment.getId());
+        counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, deletingComment.getId(), -likeCount);
         postRepository.decreaseCommentCount(deletingComment.getPost().getId());
     }
 
     @Override
     public void createCommentLike(CommentLike commentLike) {
         commentLikeRepository.save(commentLike);
-        commentRepository.increaseLikeCount(commentLike.getCommentLikePK().getCommentId());
+        counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId(), 1);
     }
 
     @Override
     public void deleteCommentLike(CommentLike commentLike) {
         commentLikeRepository.delete(commentLike);
-        commentRepository.decreaseLikeCount(commentLike.getCommentLikePK().getCommentId());
+        counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId(), -1);
     }
 
     @Override
     public void deleteCommentLikesByUserId(Long userId) {
         commentLikeRepository.findByCommentLikePK_UserId(userId).forEach(
                 commentLike -> {
-                    commentRepository.decreaseLikeCount(commentLike.getCommentLikePK().getCommentId());
+                    counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId(), -1);
                     commentLikeRepository.delete(commentLike);
                 }
         );
@@ -4,6 +4,7 @@ import org.orury.domain.crew.domain.entity.CrewMember;
 import org.orury.domain.user.domain.entity.User;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CrewMemberReader {
     boolean existsByCrewIdAndUserId(Long crewId, Long userId);
@@ -14,5 +15,7 @@ public interface CrewMemberReader {
 
     List<CrewMember> getOtherCrewMembersByCrewIdMaximum(Long crewId, Long crewCreatorId, int maximum);
 
+    Map<Long, List<User>> getOtherCrewMembersByCrewIdsMaximum(List<Long> crewIds, int maximum);
+
     CrewMember getCrewMemberByCrewIdAndUserId(Long crewId, Long userId);
 }
\ No newline at end of file
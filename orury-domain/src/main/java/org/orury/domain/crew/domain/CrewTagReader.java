@@ -1,7 +1,10 @@
 package org.orury.domain.crew.domain;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CrewTagReader {
     List<String> getTagsByCrewId(Long crewId);
+
+    Map<Long, List<String>> getTagsByCrewIds(List<Long> crewIds);
 }
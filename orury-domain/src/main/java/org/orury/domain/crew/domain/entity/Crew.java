@@ -78,6 +78,10 @@ public class Crew extends AuditingField {
     @Column(name = "answer_required", nullable = false)
     private boolean answerRequired;
 
+    // 일정 생성/삭제 시 CrewRepository의 벌크 쿼리로만 갱신 (활동순 정렬용)
+    @Column(name = "last_meeting_at", nullable = true, insertable = false, updatable = false)
+    private LocalDateTime lastMeetingAt;
+
     private Crew(
             Long id,
             String name,
@@ -8,7 +8,9 @@ import org.orury.domain.user.infrastucture.UserRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -40,6 +42,28 @@ public class CrewMemberReaderImpl implements CrewMemberReader {
         return crewMemberRepository.findByCrewMemberPK_CrewIdAndCrewMemberPK_UserIdNot(crewId, crewCreatorId, PageRequest.of(0, maximum));
     }
 
+    @Override
+    public Map<Long, List<User>> getOtherCrewMembersByCrewIdsMaximum(List<Long> crewIds, int maximum) {
+        if (crewIds.isEmpty() || maximum <= 0)
+            return Map.of();
+        List<Object[]> memberIds = crewMemberRepository.findOtherMemberIdsByCrewIdsMaximum(crewIds, maximum);
+        Set<Long> userIds = memberIds.stream()
+                .map(row -> ((Number) row[1]).longValue())
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<Long, List<User>> membersByCrewId = new HashMap<>(crewIds.size() * 2);
+        for (Object[] row : memberIds) {
+            User user = users.get(((Number) row[1]).longValue());
+            if (user == null)
+                continue;
+            membersByCrewId.computeIfAbsent(((Number) row[0]).longValue(), crewId -> new ArrayList<>(maximum))
+                    .add(user);
+        }
+        return membersByCrewId;
+    }
+
     @Override
     public CrewMember getCrewMemberByCrewIdAndUserId(Long crewId, Long userId) {
         return crewMemberRepository.getCrewMemberByCrewMemberPK_CrewIdAndCrewMemberPK_UserId(crewId, userId);
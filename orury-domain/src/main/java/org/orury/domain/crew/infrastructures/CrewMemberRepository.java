@@ -4,7 +4,9 @@ import org.orury.domain.crew.domain.entity.CrewMember;
 import org.orury.domain.crew.domain.entity.CrewMemberPK;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CrewMemberRepository extends JpaRepository<CrewMember, CrewMemberPK> {
@@ -18,6 +20,15 @@ public interface CrewMemberRepository extends JpaRepository<CrewMember, CrewMemb
 
     List<CrewMember> findByCrewMemberPK_CrewIdAndCrewMemberPK_UserIdNot(Long crewId, Long crewCreatorId, PageRequest pageRequest);
 
+    @Query(value = "SELECT ranked.crew_id, ranked.user_id FROM " +
+            "(SELECT cm.crew_id, cm.user_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY cm.crew_id ORDER BY cm.created_at, cm.user_id) AS rn " +
+            "FROM crew_member cm JOIN crew c ON c.id = cm.crew_id " +
+            "WHERE cm.crew_id IN :crewIds AND cm.user_id <> c.user_id) ranked " +
+            "WHERE ranked.rn <= :maximum " +
+            "ORDER BY ranked.crew_id, ranked.rn", nativeQuery = true)
+    List<Object[]> findOtherMemberIdsByCrewIdsMaximum(Collection<Long> crewIds, int maximum);
+
     CrewMember getCrewMemberByCrewMemberPK_CrewIdAndCrewMemberPK_UserId(Long crewId, Long userId);
 
     List<CrewMember> findByCrewMemberPK_UserIdAndMeetingViewedTrue(Long userId);
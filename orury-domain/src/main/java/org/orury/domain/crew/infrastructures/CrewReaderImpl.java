@@ -36,7 +36,7 @@ public class CrewReaderImpl implements CrewReader {
 
     @Override
     public Page<Crew> getCrewsByActiveSort(Pageable pageable) {
-        return crewRepository.findDistinctCrewsOrderByMeetingCreatedAtDesc(pageable);
+        return crewRepository.findByLastMeetingAtIsNotNullOrderByLastMeetingAtDesc(pageable);
     }
 
     @Override
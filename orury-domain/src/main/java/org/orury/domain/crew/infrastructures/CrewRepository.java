@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CrewRepository extends JpaRepository<Crew, Long> {
@@ -18,12 +19,7 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
 
     Page<Crew> findByOrderByMemberCountDesc(Pageable pageable);
 
-    @Query("SELECT c FROM crew c " +
-            "WHERE c.id IN " +
-            "(SELECT m.crew.id FROM crew_meeting m " +
-            "WHERE m.createdAt = (SELECT MAX(m2.createdAt) FROM crew_meeting m2 WHERE m2.crew = m.crew)) " +
-            "ORDER BY (SELECT MAX(m.createdAt) FROM crew_meeting m WHERE m.crew = c) DESC")
-    Page<Crew> findDistinctCrewsOrderByMeetingCreatedAtDesc(Pageable pageable);
+    Page<Crew> findByLastMeetingAtIsNotNullOrderByLastMeetingAtDesc(Pageable pageable);
 
     Page<Crew> findByOrderByCreatedAtDesc(Pageable pageable);
 
@@ -34,10 +30,14 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
     @Modifying
     @Query("UPDATE crew SET memberCount = memberCount - 1 WHERE id = :crewId")
     void decreaseMemberCount(Long crewId);
-}
-
-
-
-
 
+    @Modifying
+    @Query("UPDATE crew SET lastMeetingAt = :lastMeetingAt WHERE id = :crewId")
+    void updateLastMeetingAt(Long crewId, LocalDateTime lastMeetingAt);
 
+    @Modifying
+    @Query("UPDATE crew c SET c.lastMeetingAt = " +
+            "(SELECT MAX(m.createdAt) FROM crew_meeting m WHERE m.crew.id = :crewId) " +
+            "WHERE c.id = :crewId")
+    void refreshLastMeetingAt(Long crewId);
+}
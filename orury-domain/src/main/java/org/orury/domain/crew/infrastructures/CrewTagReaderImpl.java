@@ -6,6 +6,8 @@ import org.orury.domain.crew.domain.entity.CrewTag;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -17,4 +19,15 @@ public class CrewTagReaderImpl implements CrewTagReader {
         return crewTagRepository.findCrewTagByCrewId(crewId)
                 .stream().map(CrewTag::getTag).toList();
     }
+
+    @Override
+    public Map<Long, List<String>> getTagsByCrewIds(List<Long> crewIds) {
+        if (crewIds.isEmpty())
+            return Map.of();
+        return crewTagRepository.findByCrewIdIn(crewIds).stream()
+                .collect(Collectors.groupingBy(
+                        crewTag -> crewTag.getCrew().getId(),
+                        Collectors.mapping(CrewTag::getTag, Collectors.toList())
+                ));
+    }
 }
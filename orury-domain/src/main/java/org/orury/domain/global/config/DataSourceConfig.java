@@ -1,21 +1,29 @@
 package org.orury.domain.global.config;
 
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.*;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @Profile("prod")
 @RequiredArgsConstructor
 @EnableJpaRepositories
 public class DataSourceConfig {
+    private final Environment environment;
 
     // Write replica 정보로 만든 DataSource
     @Bean
@@ -26,36 +34,69 @@ public class DataSourceConfig {
                 .build();
     }
 
-    // Read replica 정보로 만든 DataSource
+    // spring.datasource.replicas[n]의 Read replica 정보들로 DataSource를 만들고, 읽기 모드인지 여부로 DataSource를 분기 처리
     @Bean
-    @ConfigurationProperties(prefix = "spring.datasource.read")
-    public DataSource readDataSource() {
-        return DataSourceBuilder.create()
-                .type(HikariDataSource.class)
-                .build();
+    public DataSourceRouter routeDataSource(
+            MeterRegistry meterRegistry,
+            @Value("${orury.datasource.read-your-writes-window-ms:5000}") long readYourWritesWindowMillis
+    ) {
+        List<ReplicaProperties> replicaProperties = Binder.get(environment)
+                .bind("spring.datasource.replicas", Bindable.listOf(ReplicaProperties.class))
+                .orElse(List.of());
+
+        List<ReadReplica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String name = "read-" + i;
+            ReplicaProperties properties = replicaProperties.get(i);
+            replicas.add(new ReadReplica(name, properties.toDataSource(name, meterRegistry), properties.weight(), meterRegistry));
+        }
+        return new DataSourceRouter(writeDataSource(), replicas, readYourWritesWindowMillis, meterRegistry);
     }
 
-    // 읽기 모드인지 여부로 DataSource를 분기 처리
+    // MySQL 8.0.22 이상의 복제 상태 조회로, 접속 계정에 REPLICATION CLIENT 권한이 필요합니다.
+    // 로컬 H2 등 복제가 없는 DB는 lag-query를 비워 연결만 확인합니다.
     @Bean
-    @DependsOn({"writeDataSource", "readDataSource"})
-    public DataSource routeDataSource() {
-        DataSourceRouter dataSourceRouter = new DataSourceRouter();
-        DataSource writeDataSource = writeDataSource();
-        DataSource readDataSource = readDataSource();
-
-        HashMap<Object, Object> dataSourceMap = new HashMap<>();
-        dataSourceMap.put("write", writeDataSource);
-        dataSourceMap.put("read", readDataSource);
-        dataSourceRouter.setTargetDataSources(dataSourceMap);
-        dataSourceRouter.setDefaultTargetDataSource(writeDataSource);
-        return dataSourceRouter;
+    ReplicaHealthChecker replicaHealthChecker(
+            DataSourceRouter routeDataSource,
+            @Value("${orury.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${orury.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${orury.datasource.replica.maximum-lag-seconds:2}") long maximumLagSeconds,
+            @Value("${orury.datasource.replica.health-check-interval-ms:2000}") long intervalMillis
+    ) {
+        return new ReplicaHealthChecker(routeDataSource, lagQuery, lagColumn, maximumLagSeconds, intervalMillis);
     }
 
     @Bean
     @Primary
-    @DependsOn({"routeDataSource"})
-    public DataSource dataSource() {
-        return new LazyConnectionDataSourceProxy(routeDataSource());
+    public DataSource dataSource(DataSourceRouter routeDataSource) {
+        return new LazyConnectionDataSourceProxy(routeDataSource);
     }
 
+    /**
+     * replica 하나의 연결 정보입니다. weight가 클수록 읽기를 더 많이 받고, 0이면 받지 않습니다.
+     * 연결이 안 되는 replica를 빨리 primary로 넘기도록 connectionTimeout을 짧게 둡니다.
+     */
+    record ReplicaProperties(
+            String jdbcUrl,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("1") int weight,
+            @DefaultValue("1000") long connectionTimeout
+    ) {
+        DataSource toDataSource(String poolName, MeterRegistry meterRegistry) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(jdbcUrl)
+                    .username(username)
+                    .password(password)
+                    .driverClassName(driverClassName)
+                    .build();
+            dataSource.setPoolName(poolName);
+            dataSource.setConnectionTimeout(connectionTimeout);
+            // 빈으로 등록하지 않은 풀이므로 hikaricp.* metric을 직접 연결합니다.
+            dataSource.setMetricRegistry(meterRegistry);
+            return dataSource;
+        }
+    }
 }
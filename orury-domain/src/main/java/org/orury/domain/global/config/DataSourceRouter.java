@@ -1,23 +1,167 @@
 package org.orury.domain.global.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-public class DataSourceRouter extends AbstractRoutingDataSource {
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
-    private final Logger log = LoggerFactory.getLogger(getClass());
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 정상인 replica 중 하나로 가중치에 따라 보내고, 나머지는 primary로 보냅니다.
+ * 1. 쓰기 트랜잭션을 커밋한 유저의 읽기는 readYourWritesWindow 동안 primary로 보내, replica 지연으로 방금 쓴 내용이 안 보이는 일을 막습니다.
+ * 2. 정상인 replica가 없거나 replica 연결에 실패하면 primary로 보냅니다.
+ *    연결 풀이 고갈된 것처럼 일시적인 실패(SQLTransientException)는 그 읽기만 primary로 보내고 replica를 빼지 않습니다.
+ *    바쁜 replica를 빼면 부하가 전부 primary로 몰리기 때문에, 이런 경우의 판단은 ReplicaHealthChecker에 맡깁니다.
+ * 라우팅 결과는 datasource.routing{target, reason}으로 셉니다.
+ */
+public class DataSourceRouter extends AbstractDataSource {
+    static final String WRITE = "write";
+
+    private final DataSource writeDataSource;
+    private final List<ReadReplica> replicas;
+    private final long readYourWritesWindowMillis;
+    private final Clock clock;
+    // 유저 id -> 마지막 쓰기 커밋 시각(epoch millis). 만료된 항목은 health check 주기에 정리합니다.
+    private final Map<Long, Long> recentWrites = new ConcurrentHashMap<>();
+
+    private final Counter writeCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter noReplicaCounter;
+    private final Counter failoverCounter;
+    private final Counter replicaBusyCounter;
+
+    public DataSourceRouter(DataSource writeDataSource, List<ReadReplica> replicas, long readYourWritesWindowMillis, MeterRegistry meterRegistry) {
+        this(writeDataSource, replicas, readYourWritesWindowMillis, meterRegistry, Clock.systemUTC());
+    }
+
+    DataSourceRouter(DataSource writeDataSource, List<ReadReplica> replicas, long readYourWritesWindowMillis, MeterRegistry meterRegistry, Clock clock) {
+        this.writeDataSource = writeDataSource;
+        this.replicas = replicas;
+        this.readYourWritesWindowMillis = readYourWritesWindowMillis;
+        this.clock = clock;
+
+        this.writeCounter = meterRegistry.counter("datasource.routing", "target", WRITE, "reason", "write");
+        this.readYourWritesCounter = meterRegistry.counter("datasource.routing", "target", WRITE, "reason", "read_your_writes");
+        this.noReplicaCounter = meterRegistry.counter("datasource.routing", "target", WRITE, "reason", "no_healthy_replica");
+        this.failoverCounter = meterRegistry.counter("datasource.routing", "target", WRITE, "reason", "failover");
+        this.replicaBusyCounter = meterRegistry.counter("datasource.routing", "target", WRITE, "reason", "replica_busy");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
 
     @Override
-    protected Object determineCurrentLookupKey() {
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    List<ReadReplica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * readYourWritesWindow가 지난 쓰기 기록을 지웁니다.
+     */
+    void evictExpiredWrites() {
+        long now = clock.millis();
+        recentWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesWindowMillis);
+    }
+
+    /**
+     * primary를 제외한 replica 연결 풀을 닫습니다. primary는 writeDataSource 빈으로 따로 닫힙니다.
+     */
+    public void close() throws Exception {
+        for (ReadReplica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
         // @Transactionl(readOnly = true) 이면 True 이다.
-        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            writeCounter.increment();
+            return opener.open(writeDataSource);
+        }
+
+        if (wroteRecently(ReadYourWritesContext.currentUserId())) {
+            readYourWritesCounter.increment();
+            return opener.open(writeDataSource);
+        }
+
+        ReadReplica replica = chooseReplica();
+        if (replica == null) {
+            noReplicaCounter.increment();
+            return opener.open(writeDataSource);
+        }
+
+        try {
+            Connection connection = opener.open(replica.dataSource());
+            replica.routed();
+            return connection;
+        } catch (SQLTransientException exception) {
+            // 연결 풀 고갈 같은 일시적인 실패입니다. replica는 그대로 두고 이번 읽기만 primary에서 처리합니다.
+            replicaBusyCounter.increment();
+            return opener.open(writeDataSource);
+        } catch (SQLException exception) {
+            // 다음 health check에서 살아날 때까지 이 replica로 보내지 않고, 이번 읽기는 primary에서 처리합니다.
+            replica.markUnhealthy(0L, exception.getMessage());
+            failoverCounter.increment();
+            return opener.open(writeDataSource);
+        }
+    }
 
-        if (readOnly) {
-            log.info("readOnly = true, request to replica");
+    // 쓰기 트랜잭션이 커밋된 시점부터 그 유저의 읽기를 primary로 고정합니다.
+    private void recordWriteOnCommit() {
+        Long userId = ReadYourWritesContext.currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWrites.put(userId, clock.millis());
+            }
+        });
+    }
+
+    private boolean wroteRecently(Long userId) {
+        if (userId == null) return false;
+        Long writtenAt = recentWrites.get(userId);
+        return writtenAt != null && clock.millis() - writtenAt < readYourWritesWindowMillis;
+    }
+
+    // 정상인 replica의 가중치 합 안에서 난수를 뽑아 replica를 고릅니다. 그 사이 상태가 바뀌어 고르지 못하면 null을 반환합니다.
+    private ReadReplica chooseReplica() {
+        int totalWeight = 0;
+        for (ReadReplica replica : replicas) {
+            if (replica.isHealthy()) totalWeight += replica.weight();
         }
-        log.info("readOnly = false, request to source");
-        return readOnly ? "read" : "write";
+        if (totalWeight <= 0) return null;
+
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (ReadReplica replica : replicas) {
+            if (!replica.isHealthy()) continue;
+            point -= replica.weight();
+            if (point < 0) return replica;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
     }
 }
@@ -0,0 +1,73 @@
+package org.orury.domain.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 replica 하나의 DataSource와 가중치, 마지막 health check 결과를 들고 있습니다.
+ * 상태가 바뀔 때만 로그를 남기고, 상태와 lag은 datasource.replica.* gauge로 내보냅니다.
+ */
+@Slf4j
+final class ReadReplica {
+    private final String name;
+    private final DataSource dataSource;
+    private final int weight;
+    private final Counter routedCounter;
+
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds;
+
+    ReadReplica(String name, DataSource dataSource, int weight, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.weight = weight;
+
+        this.routedCounter = meterRegistry.counter("datasource.routing", "target", name, "reason", "read");
+        Gauge.builder("datasource.replica.healthy", this, replica -> replica.healthy ? 1 : 0)
+                .tag("replica", name)
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag.seconds", this, replica -> replica.lagSeconds)
+                .tag("replica", name)
+                .register(meterRegistry);
+    }
+
+    String name() {
+        return name;
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    void routed() {
+        routedCounter.increment();
+    }
+
+    void markHealthy(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        if (!healthy) {
+            healthy = true;
+            log.info("read replica {} is back in rotation. lag: {}s", name, lagSeconds);
+        }
+    }
+
+    void markUnhealthy(long lagSeconds, String reason) {
+        this.lagSeconds = lagSeconds;
+        if (healthy) {
+            healthy = false;
+            log.warn("read replica {} is ejected from rotation. reason: {}", name, reason);
+        }
+    }
+}
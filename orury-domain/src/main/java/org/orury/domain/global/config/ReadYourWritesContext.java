@@ -0,0 +1,24 @@
+package org.orury.domain.global.config;
+
+/**
+ * 현재 요청의 유저 id를 DataSourceRouter에 알려, 방금 쓰기를 한 유저의 읽기를 잠시 primary로 보내게 합니다.
+ * 인증 필터에서 bind 하고, 요청이 끝나면 반드시 clear 합니다.
+ */
+public final class ReadYourWritesContext {
+    private static final ThreadLocal<Long> USER_ID = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void bind(Long userId) {
+        USER_ID.set(userId);
+    }
+
+    public static Long currentUserId() {
+        return USER_ID.get();
+    }
+
+    public static void clear() {
+        USER_ID.remove();
+    }
+}
@@ -0,0 +1,96 @@
+package org.orury.domain.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전용 스레드에서 주기적으로 replica마다 연결과 복제 지연을 확인해, 연결이 안 되거나 maximumLagSeconds보다 밀린 replica를 라우팅에서 뺍니다.
+ * 죽은 replica의 연결 대기가 다른 @Scheduled 작업을 막지 않도록 공용 스케줄러를 쓰지 않습니다.
+ * lagQuery가 비어 있으면 연결만 확인합니다. (로컬 H2 등)
+ */
+@Slf4j
+class ReplicaHealthChecker {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSourceRouter dataSourceRouter;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maximumLagSeconds;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    ReplicaHealthChecker(
+            DataSourceRouter dataSourceRouter,
+            String lagQuery,
+            String lagColumn,
+            long maximumLagSeconds,
+            long intervalMillis
+    ) {
+        this.dataSourceRouter = dataSourceRouter;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maximumLagSeconds = maximumLagSeconds;
+        this.intervalMillis = intervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void check() {
+        try {
+            dataSourceRouter.replicas().forEach(this::probe);
+            dataSourceRouter.evictExpiredWrites();
+        } catch (RuntimeException exception) {
+            // 한 번의 예외가 이후 health check를 멈추지 않게 합니다.
+            log.warn("replica health check failed", exception);
+        }
+    }
+
+    private void probe(ReadReplica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                replica.markUnhealthy(0L, "connection is not valid");
+                return;
+            }
+            Long lagSeconds = lagSeconds(connection);
+            if (lagSeconds == null) {
+                replica.markUnhealthy(0L, "replication is not running");
+            } else if (lagSeconds > maximumLagSeconds) {
+                replica.markUnhealthy(lagSeconds, "replication lag exceeds " + maximumLagSeconds + "s");
+            } else {
+                replica.markHealthy(lagSeconds);
+            }
+        } catch (SQLException | RuntimeException exception) {
+            replica.markUnhealthy(0L, exception.getMessage());
+        }
+    }
+
+    // 복제 상태가 없거나 지연 값이 NULL이면 복제가 멈춘 것으로 보고 null을 반환합니다.
+    private Long lagSeconds(Connection connection) throws SQLException {
+        if (lagQuery.isBlank()) return 0L;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) return null;
+            long lagSeconds = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? null : lagSeconds;
+        }
+    }
+}
@@ -26,8 +26,14 @@ public final class NumberConstants {
     public static final int REVIEW_PAGINATION_SIZE = 10;
     // Gym pagination Size
     public static final int GYM_PAGINATION_SIZE = 15;
+    // Maximum Number of Gyms from Area Grid Search
+    public static final int GYM_AREA_GRID_MAXIMUM_SIZE = 100;
+    // Maximum Number of Gyms from Search Word
+    public static final int GYM_SEARCH_MAXIMUM_SIZE = 30;
     // Crew pagination Size
     public static final int CREW_PAGINATION_SIZE = 10;
+    // Upcoming Meeting pagination Size
+    public static final int MEETING_PAGINATION_SIZE = 10;
     // notification pagination Size
     public static final int NOTIFICATION_PAGINATION_SIZE = 10;
     // int Value of Not Deleted Object`s Status
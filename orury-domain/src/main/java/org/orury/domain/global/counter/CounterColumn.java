@@ -0,0 +1,35 @@
+package org.orury.domain.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.orury.domain.global.constants.NumberConstants;
+
+/**
+ * CounterDeltaBuffer가 모아서 반영하는 카운터 컬럼입니다.
+ */
+@RequiredArgsConstructor
+public enum CounterColumn {
+    POST_LIKE("post", "like_count"),
+    COMMENT_LIKE("comment", "like_count"),
+    GYM_LIKE("gym", "like_count"),
+    REVIEW_WANT_TO_GO("review", "want_to_go_count"),
+    REVIEW_HELPED("review", "helped_count"),
+    REVIEW_GREAT("review", "great_count"),
+    REVIEW_FUNNY("review", "funny_count");
+
+    private final String table;
+    private final String column;
+
+    public static CounterColumn ofReactionType(int reactionType) {
+        return switch (reactionType) {
+            case NumberConstants.REACTION_WANT_TO_GO -> REVIEW_WANT_TO_GO;
+            case NumberConstants.REACTION_HELPED -> REVIEW_HELPED;
+            case NumberConstants.REACTION_GREAT -> REVIEW_GREAT;
+            case NumberConstants.REACTION_FUNNY -> REVIEW_FUNNY;
+            default -> throw new IllegalArgumentException("unknown reaction type: " + reactionType);
+        };
+    }
+
+    String updateSql() {
+        return "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE id = ?";
+    }
+}
@@ -0,0 +1,107 @@
+package org.orury.domain.global.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/리액션 카운터 변화량을 (컬럼, id)별로 합쳐 두었다가, 주기적으로(그리고 종료 시) 컬럼마다 한 번의 batch UPDATE로 반영합니다.
+ * 인기 게시글에 좋아요가 몰려도 요청마다 같은 행의 락을 잡지 않습니다.
+ * 컬럼마다의 batch는 IncrementBatchWriter가 한 트랜잭션으로 반영하고, 실패하면 전부 롤백한 뒤 버퍼로 되돌립니다.
+ * 아직 반영되지 않은 변화량은 pendingDelta로 조회할 수 있어, Reader에서 덧씌워 자신이 누른 좋아요를 바로 볼 수 있습니다.
+ */
+@Component
+public class CounterDeltaBuffer {
+    private final IncrementBatchWriter incrementBatchWriter;
+
+    private final Map<CounterKey, Long> pendingDeltas = new ConcurrentHashMap<>();
+    // flush 중인 변화량입니다. DB에 커밋되기 전까지 pendingDelta에 포함합니다.
+    private final Map<CounterKey, Long> flushingDeltas = new ConcurrentHashMap<>();
+
+    private final Counter flushedRowCounter;
+    private final Counter flushFailureCounter;
+
+    public CounterDeltaBuffer(IncrementBatchWriter incrementBatchWriter, MeterRegistry meterRegistry) {
+        this.incrementBatchWriter = incrementBatchWriter;
+        this.flushedRowCounter = meterRegistry.counter("counter.delta.flushed_rows");
+        this.flushFailureCounter = meterRegistry.counter("counter.delta.flush.failures");
+        Gauge.builder("counter.delta.pending_rows", pendingDeltas, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 변화량을 기록해, 롤백된 좋아요가 카운터에 남지 않게 합니다.
+     */
+    public void add(CounterColumn column, Long id, long delta) {
+        if (delta == 0) return;
+        CounterKey key = new CounterKey(column, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(key, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key, delta);
+            }
+        });
+    }
+
+    public long pendingDelta(CounterColumn column, Long id) {
+        CounterKey key = new CounterKey(column, id);
+        return pendingDeltas.getOrDefault(key, 0L) + flushingDeltas.getOrDefault(key, 0L);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${orury.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<CounterColumn, List<Object[]>> increments = drain();
+        increments.forEach((column, rows) -> {
+            try {
+                // 반영하지 못한 변화량은 버퍼로 되돌려 다음 flush에서 다시 시도합니다.
+                boolean written = incrementBatchWriter.write(column.updateSql(), rows,
+                        (id, delta) -> record(new CounterKey(column, id), delta));
+                if (written) flushedRowCounter.increment(rows.size());
+                else flushFailureCounter.increment();
+            } finally {
+                rows.forEach(row -> flushingDeltas.remove(new CounterKey(column, (Long) row[1])));
+            }
+        });
+    }
+
+    /**
+     * 변화량을 컬럼별 [변화량, id] 목록으로 꺼냅니다. 락 순서를 맞추기 위해 id 오름차순으로 정렬합니다.
+     */
+    private Map<CounterColumn, List<Object[]>> drain() {
+        Map<CounterColumn, List<Object[]>> increments = new EnumMap<>(CounterColumn.class);
+        pendingDeltas.forEach((key, delta) -> {
+            // flushingDeltas에 먼저 옮긴 뒤 빼서, pendingDelta가 잠시라도 변화량을 놓치지 않게 합니다.
+            flushingDeltas.put(key, delta);
+            record(key, -delta);
+            increments.computeIfAbsent(key.column(), column -> new ArrayList<>())
+                    .add(new Object[]{delta, key.id()});
+        });
+        increments.values().forEach(rows -> rows.sort(Comparator.comparingLong(row -> (Long) row[1])));
+        return increments;
+    }
+
+    // 합이 0이 된 키는 제거해, 한 번 좋아요가 눌린 id가 버퍼에 계속 남지 않게 합니다.
+    private void record(CounterKey key, long delta) {
+        pendingDeltas.merge(key, delta, (pending, added) -> (pending + added == 0) ? null : pending + added);
+    }
+
+    private record CounterKey(CounterColumn column, Long id) {
+    }
+}
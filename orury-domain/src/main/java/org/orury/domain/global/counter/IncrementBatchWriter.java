@@ -0,0 +1,44 @@
+package org.orury.domain.global.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * write-behind 버퍼가 모아 둔 [증가량, id] 행을 batch UPDATE로 반영하고, 실패하면 버퍼로 되돌립니다.
+ * batch는 새 트랜잭션 하나로 실행합니다. 중간 행이 실패하면 앞서 반영된 행까지 롤백되므로,
+ * 모든 행을 되돌려 다시 시도해도 이미 반영된 행을 두 번 더하지 않습니다.
+ */
+@Slf4j
+@Component
+public class IncrementBatchWriter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IncrementBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param requeue 반영하지 못했을 때 행마다 (id, 증가량)으로 호출됩니다.
+     * @return 모든 행을 반영했으면 true, 롤백하고 되돌렸으면 false
+     */
+    public boolean write(String updateSql, List<Object[]> increments, BiConsumer<Long, Long> requeue) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(updateSql, increments));
+            return true;
+        } catch (RuntimeException e) {
+            increments.forEach(increment -> requeue.accept((Long) increment[1], (Long) increment[0]));
+            log.warn("batch update failed, {} rows are kept in buffer: {}", increments.size(), updateSql, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.orury.domain.global.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 목록 한 페이지에서 유저가 좋아요하거나 참여한 대상 id 집합입니다.
+ * 페이지 크기만큼의 id를 정렬된 long[]로 들고 있어, boxing된 Set 없이 이진 탐색으로 포함 여부를 확인합니다.
+ */
+public final class LikedIds {
+    private static final LikedIds EMPTY = new LikedIds(new long[0]);
+
+    private final long[] ids;
+
+    private LikedIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LikedIds empty() {
+        return EMPTY;
+    }
+
+    public static LikedIds from(Collection<Long> ids) {
+        if (ids.isEmpty()) return EMPTY;
+        long[] sorted = ids.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new LikedIds(sorted);
+    }
+
+    public boolean contains(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
@@ -1,9 +1,13 @@
 package org.orury.domain.gym.domain;
 
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.entity.Gym;
 import org.orury.domain.gym.domain.entity.GymLikePK;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
 import org.springframework.data.domain.Pageable;
 
+import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,13 +17,19 @@ public interface GymReader {
 
     boolean existsGymById(Long id);
 
-    List<Gym> findGymsBySearchWord(String searchWord);
+    List<Gym> findGymsBySearchWord(String searchWord, double latitude, double longitude, int limit);
 
-    List<Gym> findGymsInAreaGrid(Map<String, Double> gridMap);
+    List<Gym> findGymsInAreaGrid(Map<String, Double> gridMap, double latitude, double longitude, int limit);
 
     List<Gym> findGymsByUserLiked(Long userId, Long cursor, Pageable pageRequest);
 
     boolean existsGymLikeById(GymLikePK gymLikePK);
 
     boolean existsGymLikeByUserIdAndGymId(Long userId, Long gymId);
+
+    LikedIds findLikedGymIds(Long userId, Collection<Long> gymIds);
+
+    Optional<GymReviewStats> findGymReviewStatsByGymId(Long gymId);
+
+    boolean isDoingBusiness(Long gymId, DayOfWeek dayOfWeek, int minuteOfDay);
 }
@@ -2,6 +2,8 @@ package org.orury.domain.gym.domain;
 
 import org.orury.domain.gym.domain.entity.GymLike;
 
+import java.time.Month;
+
 public interface GymStore {
     void increaseReviewCountAndTotalScore(Long gymId, float reviewScore);
 
@@ -9,6 +11,12 @@ public interface GymStore {
 
     void decreaseReviewCountAndTotalScore(Long gymId, float reviewScore);
 
+    void addReviewStats(Long gymId, float score, Month month);
+
+    void updateReviewStats(Long gymId, float oldScore, float newScore, Month month);
+
+    void removeReviewStats(Long gymId, float score, Month month);
+
     void createGymLike(GymLike gymLike);
 
     void deleteGymLike(GymLike gymLike);
@@ -0,0 +1,32 @@
+package org.orury.domain.gym.domain.dto;
+
+import org.orury.domain.gym.domain.entity.GymReviewStats;
+import org.orury.domain.gym.domain.entity.GymReviewStats.MonthlyScore;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * DTO for {@link GymReviewStats}
+ */
+public record GymReviewStatsDto(
+        Long gymId,
+        SortedMap<Float, Integer> scoreCounts,
+        List<MonthlyScore> monthlyScores
+) {
+    public static GymReviewStatsDto of(
+            Long gymId,
+            SortedMap<Float, Integer> scoreCounts,
+            List<MonthlyScore> monthlyScores
+    ) {
+        return new GymReviewStatsDto(gymId, scoreCounts, monthlyScores);
+    }
+
+    public static GymReviewStatsDto from(GymReviewStats entity) {
+        return GymReviewStatsDto.of(
+                entity.getGymId(),
+                entity.getScoreCounts(),
+                entity.getMonthlyScores()
+        );
+    }
+}
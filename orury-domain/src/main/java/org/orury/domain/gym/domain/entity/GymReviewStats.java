@@ -0,0 +1,90 @@
+package org.orury.domain.gym.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 암장 상세의 리뷰 통계(점수별 개수, 월별 점수합/개수)를 암장마다 한 행으로 보관합니다.
+ * 리뷰 생성/수정/삭제 시 같은 트랜잭션에서 증감하고, 배치가 review 테이블로부터 다시 계산합니다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = {"gymId"})
+@Entity(name = "gym_review_stats")
+public class GymReviewStats {
+    @Id
+    @Column(name = "gym_id", nullable = false)
+    private Long gymId;
+
+    @Convert(converter = ScoreCountsConverter.class)
+    @Column(name = "score_counts")
+    private SortedMap<Float, Integer> scoreCounts;
+
+    @Convert(converter = MonthlyScoresConverter.class)
+    @Column(name = "monthly_scores")
+    private List<MonthlyScore> monthlyScores;
+
+    private GymReviewStats(Long gymId, SortedMap<Float, Integer> scoreCounts, List<MonthlyScore> monthlyScores) {
+        this.gymId = gymId;
+        this.scoreCounts = scoreCounts;
+        this.monthlyScores = monthlyScores;
+    }
+
+    public static GymReviewStats of(Long gymId) {
+        return new GymReviewStats(gymId, new TreeMap<>(), MonthlyScore.emptyYear());
+    }
+
+    public void add(float score, Month month, int count) {
+        apply(score, month, count);
+    }
+
+    public void remove(float score, Month month) {
+        apply(score, month, -1);
+    }
+
+    public void update(float oldScore, float newScore, Month month) {
+        apply(oldScore, month, -1);
+        apply(newScore, month, 1);
+    }
+
+    // 변환된 값의 변경 감지가 확실하도록, 기존 값을 고치지 않고 새 값으로 바꿔 끼웁니다.
+    private void apply(float score, Month month, int count) {
+        SortedMap<Float, Integer> nextScoreCounts = new TreeMap<>(scoreCounts);
+        int scoreCount = nextScoreCounts.getOrDefault(score, 0) + count;
+        if (scoreCount > 0) nextScoreCounts.put(score, scoreCount);
+        else nextScoreCounts.remove(score);
+
+        List<MonthlyScore> nextMonthlyScores = new ArrayList<>(monthlyScores);
+        int index = month.getValue() - 1;
+        nextMonthlyScores.set(index, nextMonthlyScores.get(index).add(score, count));
+
+        this.scoreCounts = Collections.unmodifiableSortedMap(nextScoreCounts);
+        this.monthlyScores = Collections.unmodifiableList(nextMonthlyScores);
+    }
+
+    public record MonthlyScore(double scoreSum, int count) {
+        private static final MonthlyScore EMPTY = new MonthlyScore(0, 0);
+
+        public static List<MonthlyScore> emptyYear() {
+            return Collections.nCopies(Month.values().length, EMPTY);
+        }
+
+        private MonthlyScore add(float score, int delta) {
+            int nextCount = count + delta;
+            // 리뷰가 모두 빠진 달은 float 오차가 남지 않도록 0으로 되돌립니다.
+            if (nextCount <= 0) return EMPTY;
+            return new MonthlyScore(scoreSum + (double) score * delta, nextCount);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.orury.domain.gym.domain.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.orury.domain.gym.domain.entity.GymReviewStats.MonthlyScore;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 1월부터 12월까지의 "점수합:개수" 12개를 쉼표로 이은 문자열로 저장합니다. 값이 없으면 모든 달을 0으로 봅니다.
+ */
+@Converter
+public class MonthlyScoresConverter implements AttributeConverter<List<MonthlyScore>, String> {
+    @Override
+    public String convertToDatabaseColumn(List<MonthlyScore> monthlyScores) {
+        if (monthlyScores == null) return null;
+        return monthlyScores.stream()
+                .map(monthlyScore -> monthlyScore.scoreSum() + ":" + monthlyScore.count())
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public List<MonthlyScore> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) return MonthlyScore.emptyYear();
+        return Arrays.stream(dbData.split(","))
+                .map(pair -> {
+                    int separator = pair.indexOf(':');
+                    return new MonthlyScore(Double.parseDouble(pair.substring(0, separator)), Integer.parseInt(pair.substring(separator + 1)));
+                })
+                .toList();
+    }
+}
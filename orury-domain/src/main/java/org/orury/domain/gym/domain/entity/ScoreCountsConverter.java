@@ -0,0 +1,34 @@
+package org.orury.domain.gym.domain.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 점수별 리뷰 개수를 "점수:개수" 쌍을 쉼표로 이은 문자열로 저장합니다. 예) "4.5:3,5.0:12"
+ */
+@Converter
+public class ScoreCountsConverter implements AttributeConverter<SortedMap<Float, Integer>, String> {
+    @Override
+    public String convertToDatabaseColumn(SortedMap<Float, Integer> scoreCounts) {
+        if (scoreCounts == null || scoreCounts.isEmpty()) return "";
+        return scoreCounts.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public SortedMap<Float, Integer> convertToEntityAttribute(String dbData) {
+        SortedMap<Float, Integer> scoreCounts = new TreeMap<>();
+        if (dbData == null || dbData.isBlank()) return Collections.unmodifiableSortedMap(scoreCounts);
+        for (String pair : dbData.split(",")) {
+            int separator = pair.indexOf(':');
+            scoreCounts.put(Float.parseFloat(pair.substring(0, separator)), Integer.parseInt(pair.substring(separator + 1)));
+        }
+        return Collections.unmodifiableSortedMap(scoreCounts);
+    }
+}
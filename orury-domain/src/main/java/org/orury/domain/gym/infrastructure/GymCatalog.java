@@ -0,0 +1,208 @@
+package org.orury.domain.gym.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.common.util.DistanceUtils;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
+import org.orury.domain.gym.domain.entity.Gym;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * gym 테이블의 읽기 전용 인메모리 카탈로그입니다.
+ * 최초 조회 시 적재(read-through)되고, 배치가 catalog_version을 올리면 다음 갱신 주기에 전체를 다시 적재합니다.
+ * 카운터는 갱신 주기마다 DB 값으로 맞추고, 그 사이 이 인스턴스에서 커밋된 변화량은 counterDeltas로 덧씌웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymCatalog {
+    private static final double SEARCH_TEXT_WEIGHT = 0.7;
+    private static final double SEARCH_DISTANCE_WEIGHT = 0.3;
+    // 이 거리만큼 떨어지면 거리 점수가 절반이 됩니다.
+    private static final double SEARCH_DISTANCE_HALF_SCORE_METERS = 5_000;
+
+    private final GymRepository gymRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
+    private final Map<Long, GymCounterDelta> counterDeltas = new ConcurrentHashMap<>();
+    private volatile GymCatalogSnapshot snapshot;
+
+    public Optional<Gym> findGymById(Long id) {
+        GymCatalogSnapshot current = snapshot();
+        int index = current.indexOf(id);
+        if (index < 0) return Optional.empty();
+        return Optional.of(toGym(current, index));
+    }
+
+    public boolean existsGymById(Long id) {
+        return snapshot().indexOf(id) >= 0;
+    }
+
+    public List<Gym> findGymsByIds(List<Long> ids) {
+        GymCatalogSnapshot current = snapshot();
+        List<Gym> gyms = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int index = current.indexOf(id);
+            if (index >= 0) gyms.add(toGym(current, index));
+        }
+        return gyms;
+    }
+
+    /**
+     * 검색어 일치도(암장명 > 도로명주소 > 지번주소, 일치 > 접두 > 부분)와 거리를 함께 점수로 매겨 상위 limit개를 반환합니다.
+     */
+    public List<Gym> findGymsBySearchWord(String searchWord, double latitude, double longitude, int limit) {
+        GymCatalogSnapshot current = snapshot();
+        GymSearchIndex.Matches matches = current.searchIndex().search(searchWord);
+        double[] scores = new double[matches.size()];
+        for (int match = 0; match < matches.size(); match++) {
+            int index = matches.indices()[match];
+            double distance = DistanceUtils.haversineDistance(latitude, longitude, current.latitudeAt(index), current.longitudeAt(index));
+            scores[match] = SEARCH_TEXT_WEIGHT * matches.scores()[match]
+                    + SEARCH_DISTANCE_WEIGHT / (1 + distance / SEARCH_DISTANCE_HALF_SCORE_METERS);
+        }
+        int[] ranked = topK(scores, match -> current.idAt(matches.indices()[match]), limit);
+        return toGyms(current, ranked, match -> matches.indices()[match]);
+    }
+
+    public List<Gym> findNearestGymsInArea(
+            double bottomLatitude,
+            double topLatitude,
+            double leftLongitude,
+            double rightLongitude,
+            double latitude,
+            double longitude,
+            int limit
+    ) {
+        GymCatalogSnapshot current = snapshot();
+        // 영역 밖의 암장은 -Infinity로 두어 topK에서 제외합니다.
+        double[] scores = new double[current.size()];
+        for (int index = 0; index < current.size(); index++) {
+            double gymLatitude = current.latitudeAt(index);
+            double gymLongitude = current.longitudeAt(index);
+            scores[index] = (gymLatitude < bottomLatitude || topLatitude < gymLatitude
+                    || gymLongitude < leftLongitude || rightLongitude < gymLongitude)
+                    ? Double.NEGATIVE_INFINITY
+                    : -DistanceUtils.haversineDistance(latitude, longitude, gymLatitude, gymLongitude);
+        }
+        int[] ranked = topK(scores, current::idAt, limit);
+        return toGyms(current, ranked, index -> index);
+    }
+
+    public boolean isDoingBusiness(Long gymId, DayOfWeek dayOfWeek, int minuteOfDay) {
+        GymCatalogSnapshot current = snapshot();
+        int index = current.indexOf(gymId);
+        if (index < 0) return false;
+        return current.isDoingBusiness(index, dayOfWeek, minuteOfDay);
+    }
+
+    /**
+     * GymStore에서 카운터를 바꿀 때 호출해, 다음 갱신 전까지도 바뀐 값을 읽을 수 있게 합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 덧씌워, 롤백된 좋아요/리뷰가 보이지 않게 합니다.
+     */
+    public void addCounters(Long gymId, int likeCount, int reviewCount, float totalScore) {
+        GymCounterDelta delta = new GymCounterDelta(likeCount, reviewCount, totalScore);
+        if (delta.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mergeCounters(gymId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mergeCounters(gymId, delta);
+            }
+        });
+    }
+
+    // 합이 0이 된 암장은 제거해, 한 번 바뀐 암장이 계속 남지 않게 합니다.
+    private void mergeCounters(Long gymId, GymCounterDelta delta) {
+        counterDeltas.merge(gymId, delta, (pending, added) -> {
+            GymCounterDelta merged = pending.plus(added);
+            return merged.isEmpty() ? null : merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${orury.gym.catalog.refresh-interval-ms:30000}")
+    public void refresh() {
+        GymCatalogSnapshot current = snapshot;
+        if (current == null) return;
+
+        // 커밋된 뒤에 덧씌운 변화량이므로, 지금 남아 있는 변화량은 아래에서 읽을 DB 값에 모두 포함됩니다.
+        // 읽는 동안 더해진 변화량은 DB 값에 포함됐는지 알 수 없어 남겨 두고, 다음 갱신에서 뺍니다.
+        Map<Long, GymCounterDelta> applied = Map.copyOf(counterDeltas);
+        try {
+            // 좋아요 수는 write-behind로 반영되므로, 이 인스턴스의 변화량을 먼저 DB에 써야 applied가 DB 값에 포함됩니다.
+            counterDeltaBuffer.flush();
+            long version = findCatalogVersion();
+            snapshot = (version != current.version())
+                    ? load(version)
+                    : current.withCounters(gymRepository.findAllCounters());
+            applied.forEach((gymId, delta) -> mergeCounters(gymId, GymCounterDelta.EMPTY.minus(delta)));
+        } catch (RuntimeException e) {
+            log.warn("gym catalog refresh failed, keep version {}", current.version(), e);
+        }
+    }
+
+    private GymCatalogSnapshot snapshot() {
+        GymCatalogSnapshot current = snapshot;
+        if (current != null) return current;
+        synchronized (this) {
+            if (snapshot == null) snapshot = load(findCatalogVersion());
+            return snapshot;
+        }
+    }
+
+    private GymCatalogSnapshot load(long version) {
+        GymCatalogSnapshot loaded = GymCatalogSnapshot.of(version, gymRepository.findAll());
+        log.info("gym catalog loaded: version={}, size={}", version, loaded.size());
+        return loaded;
+    }
+
+    private long findCatalogVersion() {
+        Long version = gymRepository.findCatalogVersion();
+        return (version == null) ? 0L : version;
+    }
+
+    private Gym toGym(GymCatalogSnapshot current, int index) {
+        return current.toGym(index, counterDeltas.getOrDefault(current.idAt(index), GymCounterDelta.EMPTY));
+    }
+
+    /**
+     * scores가 큰 순(같으면 id가 작은 순)으로 상위 limit개의 위치를 반환합니다. -Infinity는 제외합니다.
+     */
+    private int[] topK(double[] scores, IntToLongFunction idOf, int limit) {
+        // 가장 낮은 점수가 head에 오도록 해서, limit개를 넘으면 head를 버립니다.
+        PriorityQueue<Integer> best = new PriorityQueue<>(
+                Comparator.<Integer>comparingDouble(position -> scores[position])
+                        .thenComparing(Comparator.<Integer>comparingLong(idOf::applyAsLong).reversed())
+        );
+        for (int position = 0; position < scores.length; position++) {
+            if (scores[position] == Double.NEGATIVE_INFINITY) continue;
+            best.add(position);
+            if (best.size() > limit) best.poll();
+        }
+
+        int[] ranked = new int[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll();
+        }
+        return ranked;
+    }
+
+    private List<Gym> toGyms(GymCatalogSnapshot current, int[] positions, IntUnaryOperator indexOf) {
+        List<Gym> gyms = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            gyms.add(toGym(current, indexOf.applyAsInt(position)));
+        }
+        return gyms;
+    }
+}
@@ -0,0 +1,230 @@
+package org.orury.domain.gym.infrastructure;
+
+import org.orury.common.util.BusinessHoursConverter;
+import org.orury.domain.gym.domain.dto.GymType;
+import org.orury.domain.gym.domain.entity.Gym;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 특정 catalog version 시점의 gym 테이블을 id 오름차순 배열로 펼쳐둔 불변 스냅샷입니다.
+ * 카운터(likeCount, reviewCount, totalScore)만 withCounters로 교체되며, 나머지 배열은 스냅샷 간에 공유됩니다.
+ */
+final class GymCatalogSnapshot {
+    private static final int DAYS = DayOfWeek.values().length;
+
+    private final long version;
+    private final long[] ids;
+    // [latitude0, longitude0, latitude1, longitude1, ...]
+    private final double[] coordinates;
+    // [open(MON), close(MON), ..., open(SUN), close(SUN)] * gym, 파싱 실패는 INVALID_MINUTE
+    private final short[] businessMinutes;
+    private final String[] businessHours;
+    private final String[] names;
+    private final String[] kakaoIds;
+    private final String[] roadAddresses;
+    private final String[] addresses;
+    private final List<String>[] images;
+    private final String[] brands;
+    private final String[] phoneNumbers;
+    private final String[] instagramLinks;
+    private final String[] settingDays;
+    private final String[] homepageLinks;
+    private final String[] remarks;
+    private final GymType[] gymTypes;
+    private final LocalDateTime[] createdAts;
+    private final LocalDateTime[] updatedAts;
+    private final GymSearchIndex searchIndex;
+
+    private final int[] likeCounts;
+    private final int[] reviewCounts;
+    private final float[] totalScores;
+
+    private GymCatalogSnapshot(GymCatalogSnapshot base, int[] likeCounts, int[] reviewCounts, float[] totalScores) {
+        this.version = base.version;
+        this.ids = base.ids;
+        this.coordinates = base.coordinates;
+        this.businessMinutes = base.businessMinutes;
+        this.businessHours = base.businessHours;
+        this.names = base.names;
+        this.kakaoIds = base.kakaoIds;
+        this.roadAddresses = base.roadAddresses;
+        this.addresses = base.addresses;
+        this.images = base.images;
+        this.brands = base.brands;
+        this.phoneNumbers = base.phoneNumbers;
+        this.instagramLinks = base.instagramLinks;
+        this.settingDays = base.settingDays;
+        this.homepageLinks = base.homepageLinks;
+        this.remarks = base.remarks;
+        this.gymTypes = base.gymTypes;
+        this.createdAts = base.createdAts;
+        this.updatedAts = base.updatedAts;
+        this.searchIndex = base.searchIndex;
+        this.likeCounts = likeCounts;
+        this.reviewCounts = reviewCounts;
+        this.totalScores = totalScores;
+    }
+
+    @SuppressWarnings("unchecked")
+    private GymCatalogSnapshot(long version, List<Gym> gyms) {
+        List<Gym> sortedGyms = gyms.stream()
+                .sorted(Comparator.comparing(Gym::getId))
+                .toList();
+        int size = sortedGyms.size();
+
+        this.version = version;
+        this.ids = new long[size];
+        this.coordinates = new double[size * 2];
+        this.businessMinutes = new short[size * DAYS * 2];
+        this.businessHours = new String[size * DAYS];
+        this.names = new String[size];
+        this.kakaoIds = new String[size];
+        this.roadAddresses = new String[size];
+        this.addresses = new String[size];
+        this.images = new List[size];
+        this.brands = new String[size];
+        this.phoneNumbers = new String[size];
+        this.instagramLinks = new String[size];
+        this.settingDays = new String[size];
+        this.homepageLinks = new String[size];
+        this.remarks = new String[size];
+        this.gymTypes = new GymType[size];
+        this.createdAts = new LocalDateTime[size];
+        this.updatedAts = new LocalDateTime[size];
+        this.likeCounts = new int[size];
+        this.reviewCounts = new int[size];
+        this.totalScores = new float[size];
+
+        for (int index = 0; index < size; index++) {
+            Gym gym = sortedGyms.get(index);
+            ids[index] = gym.getId();
+            coordinates[index * 2] = gym.getLatitude();
+            coordinates[index * 2 + 1] = gym.getLongitude();
+            String[] serviceHours = {
+                    gym.getServiceMon(), gym.getServiceTue(), gym.getServiceWed(), gym.getServiceThu(),
+                    gym.getServiceFri(), gym.getServiceSat(), gym.getServiceSun()
+            };
+            for (int day = 0; day < DAYS; day++) {
+                businessHours[index * DAYS + day] = serviceHours[day];
+                businessMinutes[(index * DAYS + day) * 2] = (short) BusinessHoursConverter.extractOpenMinute(serviceHours[day]);
+                businessMinutes[(index * DAYS + day) * 2 + 1] = (short) BusinessHoursConverter.extractCloseMinute(serviceHours[day]);
+            }
+            names[index] = gym.getName();
+            kakaoIds[index] = gym.getKakaoId();
+            roadAddresses[index] = gym.getRoadAddress();
+            addresses[index] = gym.getAddress();
+            images[index] = (gym.getImages() == null) ? null : List.copyOf(gym.getImages());
+            brands[index] = gym.getBrand();
+            phoneNumbers[index] = gym.getPhoneNumber();
+            instagramLinks[index] = gym.getInstagramLink();
+            settingDays[index] = gym.getSettingDay();
+            homepageLinks[index] = gym.getHomepageLink();
+            remarks[index] = gym.getRemark();
+            gymTypes[index] = gym.getGymType();
+            createdAts[index] = gym.getCreatedAt();
+            updatedAts[index] = gym.getUpdatedAt();
+            likeCounts[index] = gym.getLikeCount();
+            reviewCounts[index] = gym.getReviewCount();
+            totalScores[index] = gym.getTotalScore();
+        }
+        this.searchIndex = GymSearchIndex.of(names, roadAddresses, addresses);
+    }
+
+    static GymCatalogSnapshot of(long version, List<Gym> gyms) {
+        return new GymCatalogSnapshot(version, gyms);
+    }
+
+    /**
+     * counterRows: [id, likeCount, reviewCount, totalScore]
+     * 스냅샷에 없는 id(배치 이후 새로 들어온 암장)는 다음 버전 갱신 때 반영되므로 무시합니다.
+     */
+    GymCatalogSnapshot withCounters(List<Object[]> counterRows) {
+        int[] newLikeCounts = Arrays.copyOf(likeCounts, likeCounts.length);
+        int[] newReviewCounts = Arrays.copyOf(reviewCounts, reviewCounts.length);
+        float[] newTotalScores = Arrays.copyOf(totalScores, totalScores.length);
+        for (Object[] row : counterRows) {
+            int index = indexOf(((Number) row[0]).longValue());
+            if (index < 0) continue;
+            newLikeCounts[index] = ((Number) row[1]).intValue();
+            newReviewCounts[index] = ((Number) row[2]).intValue();
+            newTotalScores[index] = ((Number) row[3]).floatValue();
+        }
+        return new GymCatalogSnapshot(this, newLikeCounts, newReviewCounts, newTotalScores);
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, id);
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    double latitudeAt(int index) {
+        return coordinates[index * 2];
+    }
+
+    double longitudeAt(int index) {
+        return coordinates[index * 2 + 1];
+    }
+
+    GymSearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    boolean isDoingBusiness(int index, DayOfWeek dayOfWeek, int minuteOfDay) {
+        int offset = (index * DAYS + dayOfWeek.getValue() - 1) * 2;
+        int openMinute = businessMinutes[offset];
+        int closeMinute = businessMinutes[offset + 1];
+        if (openMinute == BusinessHoursConverter.INVALID_MINUTE || closeMinute == BusinessHoursConverter.INVALID_MINUTE) {
+            return false;
+        }
+        return openMinute <= minuteOfDay && minuteOfDay < closeMinute;
+    }
+
+    Gym toGym(int index, GymCounterDelta delta) {
+        int dayOffset = index * DAYS;
+        return Gym.of(
+                ids[index],
+                names[index],
+                kakaoIds[index],
+                roadAddresses[index],
+                addresses[index],
+                totalScores[index] + delta.totalScore(),
+                reviewCounts[index] + delta.reviewCount(),
+                likeCounts[index] + delta.likeCount(),
+                images[index],
+                coordinates[index * 2],
+                coordinates[index * 2 + 1],
+                brands[index],
+                phoneNumbers[index],
+                instagramLinks[index],
+                settingDays[index],
+                businessHours[dayOffset],
+                businessHours[dayOffset + 1],
+                businessHours[dayOffset + 2],
+                businessHours[dayOffset + 3],
+                businessHours[dayOffset + 4],
+                businessHours[dayOffset + 5],
+                businessHours[dayOffset + 6],
+                homepageLinks[index],
+                remarks[index],
+                createdAts[index],
+                updatedAts[index],
+                gymTypes[index]
+        );
+    }
+}
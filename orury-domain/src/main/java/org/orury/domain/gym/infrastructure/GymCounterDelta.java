@@ -0,0 +1,34 @@
+package org.orury.domain.gym.infrastructure;
+
+/**
+ * 마지막 카운터 갱신 이후 이 인스턴스에서 커밋된 likeCount/reviewCount/totalScore 변화량입니다.
+ */
+record GymCounterDelta(
+        int likeCount,
+        int reviewCount,
+        float totalScore
+) {
+    static final GymCounterDelta EMPTY = new GymCounterDelta(0, 0, 0f);
+    // totalScore는 float 합이라, 더하고 뺀 뒤에 남는 오차는 0으로 봅니다.
+    private static final float SCORE_EPSILON = 1e-4f;
+
+    GymCounterDelta plus(GymCounterDelta other) {
+        return new GymCounterDelta(
+                this.likeCount + other.likeCount,
+                this.reviewCount + other.reviewCount,
+                this.totalScore + other.totalScore
+        );
+    }
+
+    GymCounterDelta minus(GymCounterDelta other) {
+        return new GymCounterDelta(
+                this.likeCount - other.likeCount,
+                this.reviewCount - other.reviewCount,
+                this.totalScore - other.totalScore
+        );
+    }
+
+    boolean isEmpty() {
+        return likeCount == 0 && reviewCount == 0 && Math.abs(totalScore) < SCORE_EPSILON;
+    }
+}
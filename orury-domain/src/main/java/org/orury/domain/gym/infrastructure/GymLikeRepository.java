@@ -4,7 +4,10 @@ import org.orury.domain.gym.domain.entity.GymLike;
 import org.orury.domain.gym.domain.entity.GymLikePK;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GymLikeRepository extends JpaRepository<GymLike, GymLikePK> {
@@ -15,4 +18,8 @@ public interface GymLikeRepository extends JpaRepository<GymLike, GymLikePK> {
     List<GymLike> findByGymLikePK_UserIdOrderByGymLikePKDesc(Long userId, Pageable pageable);
 
     List<GymLike> findByGymLikePK_UserIdAndGymLikePK_GymIdLessThanOrderByGymLikePKDesc(Long userId, Long cursor, Pageable pageable);
+
+    @Query("SELECT gl.gymLikePK.gymId FROM gym_like gl " +
+            "WHERE gl.gymLikePK.userId = :userId AND gl.gymLikePK.gymId IN :gymIds")
+    List<Long> findGymIdsByUserIdAndGymIdIn(@Param("userId") Long userId, @Param("gymIds") Collection<Long> gymIds);
 }
@@ -2,13 +2,17 @@ package org.orury.domain.gym.infrastructure;
 
 import lombok.RequiredArgsConstructor;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.GymReader;
 import org.orury.domain.gym.domain.entity.Gym;
 import org.orury.domain.gym.domain.entity.GymLike;
 import org.orury.domain.gym.domain.entity.GymLikePK;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,30 +20,35 @@ import java.util.Optional;
 @Repository
 @RequiredArgsConstructor
 public class GymReaderImpl implements GymReader {
-    private final GymRepository gymRepository;
+    private final GymCatalog gymCatalog;
     private final GymLikeRepository gymLikeRepository;
+    private final GymReviewStatsRepository gymReviewStatsRepository;
 
     @Override
     public Optional<Gym> findGymById(Long id) {
-        return gymRepository.findById(id);
+        return gymCatalog.findGymById(id);
     }
 
     @Override
     public boolean existsGymById(Long id) {
-        return gymRepository.existsById(id);
+        return gymCatalog.existsGymById(id);
     }
 
     @Override
-    public List<Gym> findGymsBySearchWord(String searchWord) {
-        return gymRepository.findByNameContainingOrAddressContainingOrRoadAddressContaining(searchWord, searchWord, searchWord);
+    public List<Gym> findGymsBySearchWord(String searchWord, double latitude, double longitude, int limit) {
+        return gymCatalog.findGymsBySearchWord(searchWord, latitude, longitude, limit);
     }
 
-    public List<Gym> findGymsInAreaGrid(Map<String, Double> gridMap) {
-        return gymRepository.findByLatitudeBetweenAndLongitudeBetweenOrderByLikeCount(
+    @Override
+    public List<Gym> findGymsInAreaGrid(Map<String, Double> gridMap, double latitude, double longitude, int limit) {
+        return gymCatalog.findNearestGymsInArea(
                 gridMap.get("bottom"),
                 gridMap.get("top"),
                 gridMap.get("left"),
-                gridMap.get("right")
+                gridMap.get("right"),
+                latitude,
+                longitude,
+                limit
         );
     }
 
@@ -48,9 +57,9 @@ public class GymReaderImpl implements GymReader {
         List<GymLike> gymLikes = (cursor.equals(NumberConstants.FIRST_CURSOR))
                 ? gymLikeRepository.findByGymLikePK_UserIdOrderByGymLikePKDesc(userId, pageRequest)
                 : gymLikeRepository.findByGymLikePK_UserIdAndGymLikePK_GymIdLessThanOrderByGymLikePKDesc(userId, cursor, pageRequest);
-        return gymLikes.stream()
-                .map(gymLike -> gymRepository.findById(gymLike.getGymLikePK().getGymId()).orElse(null))
-                .toList();
+        return gymCatalog.findGymsByIds(gymLikes.stream()
+                .map(gymLike -> gymLike.getGymLikePK().getGymId())
+                .toList());
     }
 
     @Override
@@ -62,4 +71,20 @@ public class GymReaderImpl implements GymReader {
     public boolean existsGymLikeByUserIdAndGymId(Long userId, Long gymId) {
         return gymLikeRepository.existsByGymLikePK_UserIdAndGymLikePK_GymId(userId, gymId);
     }
+
+    @Override
+    public LikedIds findLikedGymIds(Long userId, Collection<Long> gymIds) {
+        if (userId == null || gymIds.isEmpty()) return LikedIds.empty();
+        return LikedIds.from(gymLikeRepository.findGymIdsByUserIdAndGymIdIn(userId, gymIds));
+    }
+
+    @Override
+    public Optional<GymReviewStats> findGymReviewStatsByGymId(Long gymId) {
+        return gymReviewStatsRepository.findById(gymId);
+    }
+
+    @Override
+    public boolean isDoingBusiness(Long gymId, DayOfWeek dayOfWeek, int minuteOfDay) {
+        return gymCatalog.isDoingBusiness(gymId, dayOfWeek, minuteOfDay);
+    }
 }
@@ -9,16 +9,6 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface GymRepository extends JpaRepository<Gym, Long> {
-    List<Gym> findByNameContainingOrAddressContainingOrRoadAddressContaining(String searchWord1, String searchWord2, String searchWord3);
-
-    @Modifying
-    @Query("UPDATE gym SET likeCount = likeCount + 1 WHERE id = :gymId")
-    void increaseLikeCount(Long gymId);
-
-    @Modifying
-    @Query("UPDATE gym SET likeCount = likeCount - 1 WHERE id = :gymId")
-    void decreaseLikeCount(Long gymId);
-
     @Modifying
     @Query("UPDATE gym SET reviewCount = reviewCount + 1 WHERE id = :gymId")
     void increaseReviewCount(Long gymId);
@@ -35,5 +25,9 @@ public interface GymRepository extends JpaRepository<Gym, Long> {
     @Query("UPDATE gym SET totalScore = totalScore - :reviewScore WHERE id = :gymId")
     void subtractTotalScore(@Param("gymId") Long gymId, @Param("reviewScore") float reviewScore);
 
-    List<Gym> findByLatitudeBetweenAndLongitudeBetweenOrderByLikeCount(double bottomLatitude, double topLatitude, double leftLongitude, double rightLongitude);
-}
\ No newline at end of file
+    @Query(value = "SELECT version FROM catalog_version WHERE name = 'gym'", nativeQuery = true)
+    Long findCatalogVersion();
+
+    @Query("SELECT g.id, g.likeCount, g.reviewCount, g.totalScore FROM gym g")
+    List<Object[]> findAllCounters();
+}
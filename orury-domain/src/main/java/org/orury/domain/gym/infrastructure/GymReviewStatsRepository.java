@@ -0,0 +1,23 @@
+package org.orury.domain.gym.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface GymReviewStatsRepository extends JpaRepository<GymReviewStats, Long> {
+    // 첫 리뷰가 동시에 달려도 중복 키 예외 없이 행을 하나만 만듭니다.
+    // INSERT IGNORE는 이미 있는 행에 공유 락을 잡아 뒤이은 FOR UPDATE와 교착되므로, 처음부터 배타 락을 잡는 ON DUPLICATE KEY UPDATE를 씁니다.
+    @Modifying
+    @Query(value = "INSERT INTO gym_review_stats (gym_id) VALUES (:gymId) ON DUPLICATE KEY UPDATE gym_id = gym_id", nativeQuery = true)
+    void insertIfAbsent(@Param("gymId") Long gymId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM gym_review_stats s WHERE s.gymId = :gymId")
+    Optional<GymReviewStats> findByGymIdForUpdate(@Param("gymId") Long gymId);
+}
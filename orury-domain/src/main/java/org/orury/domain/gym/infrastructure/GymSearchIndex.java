@@ -0,0 +1,161 @@
+package org.orury.domain.gym.infrastructure;
+
+import org.orury.common.util.HangulUtils;
+
+import java.util.*;
+
+/**
+ * 암장명, 도로명주소, 지번주소에 대한 1-gram/2-gram 역색인입니다.
+ * 암장명은 초성 문자열도 함께 색인해, "ㄷㅋㄹㅇ" 같은 초성 검색을 지원합니다.
+ * GymCatalogSnapshot이 적재될 때 함께 만들어지며, 이후에는 변경되지 않습니다.
+ */
+final class GymSearchIndex {
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float ROAD_ADDRESS_WEIGHT = 0.6f;
+    private static final float ADDRESS_WEIGHT = 0.5f;
+    private static final float EXACT_BONUS = 1.0f;
+    private static final float PREFIX_BONUS = 0.8f;
+    private static final float SUBSTRING_BONUS = 0.6f;
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] names;
+    private final String[] nameChoseongs;
+    private final String[] roadAddresses;
+    private final String[] addresses;
+    private final Map<String, int[]> postings;
+
+    private GymSearchIndex(String[] names, String[] roadAddresses, String[] addresses) {
+        int size = names.length;
+        this.names = new String[size];
+        this.nameChoseongs = new String[size];
+        this.roadAddresses = new String[size];
+        this.addresses = new String[size];
+
+        Map<String, List<Integer>> builder = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            this.names[index] = normalize(names[index]);
+            this.nameChoseongs[index] = HangulUtils.toChoseong(this.names[index]);
+            this.roadAddresses[index] = normalize(roadAddresses[index]);
+            this.addresses[index] = normalize(addresses[index]);
+
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, this.names[index]);
+            addGrams(grams, this.nameChoseongs[index]);
+            addGrams(grams, this.roadAddresses[index]);
+            addGrams(grams, this.addresses[index]);
+            for (String gram : grams) {
+                builder.computeIfAbsent(gram, key -> new ArrayList<>()).add(index);
+            }
+        }
+
+        this.postings = new HashMap<>(builder.size() * 2);
+        builder.forEach((gram, indices) -> postings.put(gram, indices.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    static GymSearchIndex of(String[] names, String[] roadAddresses, String[] addresses) {
+        return new GymSearchIndex(names, roadAddresses, addresses);
+    }
+
+    /**
+     * 검색어와 일치하는 암장의 index와 텍스트 점수를 돌려줍니다.
+     * 검색어에 초성이 하나라도 있으면, 암장명 초성 문자열과 비교합니다.
+     */
+    Matches search(String searchWord) {
+        String query = normalize(searchWord);
+        if (query.isEmpty()) return new Matches(EMPTY, new float[0]);
+        boolean choseongQuery = HangulUtils.containsChoseong(query);
+        if (choseongQuery) query = HangulUtils.toChoseong(query);
+
+        int[] candidates = candidates(query);
+        int[] indices = new int[candidates.length];
+        float[] scores = new float[candidates.length];
+        int count = 0;
+        for (int index : candidates) {
+            float score = choseongQuery
+                    ? fieldScore(nameChoseongs[index], query, NAME_WEIGHT)
+                    : Math.max(fieldScore(names[index], query, NAME_WEIGHT),
+                    Math.max(fieldScore(roadAddresses[index], query, ROAD_ADDRESS_WEIGHT),
+                            fieldScore(addresses[index], query, ADDRESS_WEIGHT)));
+            if (score <= 0f) continue;
+            indices[count] = index;
+            scores[count] = score;
+            count++;
+        }
+        return new Matches(Arrays.copyOf(indices, count), Arrays.copyOf(scores, count));
+    }
+
+    // 검색어의 모든 gram을 가진 암장만 후보로 남깁니다. 실제 포함 여부는 fieldScore에서 다시 확인합니다.
+    private int[] candidates(String query) {
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            int[] posting = postings.get(gram);
+            if (posting == null) return EMPTY;
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static float fieldScore(String field, String query, float weight) {
+        if (field.isEmpty()) return 0f;
+        int position = field.indexOf(query);
+        if (position < 0) return 0f;
+        float bonus = field.length() == query.length() ? EXACT_BONUS
+                : position == 0 ? PREFIX_BONUS
+                : SUBSTRING_BONUS;
+        return weight * bonus;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, count = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) i++;
+            else if (left[i] > right[j]) j++;
+            else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) grams.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static List<String> grams(String query) {
+        if (query.length() == 1) return List.of(query);
+        List<String> grams = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 대소문자와 공백 차이는 무시합니다. ("더 클라임" == "더클라임")
+    private static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    record Matches(int[] indices, float[] scores) {
+        int size() {
+            return indices.length;
+        }
+    }
+}
@@ -1,50 +1,88 @@
 package org.orury.domain.gym.infrastructure;
 
 import lombok.RequiredArgsConstructor;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
 import org.orury.domain.gym.domain.GymStore;
 import org.orury.domain.gym.domain.entity.GymLike;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
 import org.springframework.stereotype.Repository;
 
+import java.time.Month;
+import java.util.function.Consumer;
+
 @Repository
 @RequiredArgsConstructor
 public class GymStoreImpl implements GymStore {
     private final GymRepository gymRepository;
     private final GymLikeRepository gymLikeRepository;
+    private final GymCatalog gymCatalog;
+    private final CounterDeltaBuffer counterDeltaBuffer;
+    private final GymReviewStatsRepository gymReviewStatsRepository;
 
     @Override
     public void increaseReviewCountAndTotalScore(Long gymId, float reviewScore) {
         gymRepository.increaseReviewCount(gymId);
         gymRepository.addTotalScore(gymId, reviewScore);
+        gymCatalog.addCounters(gymId, 0, 1, reviewScore);
     }
 
     @Override
     public void updateTotalScore(Long gymId, float oldScore, float newScore) {
         gymRepository.addTotalScore(gymId, newScore - oldScore);
+        gymCatalog.addCounters(gymId, 0, 0, newScore - oldScore);
     }
 
     @Override
     public void decreaseReviewCountAndTotalScore(Long gymId, float reviewScore) {
         gymRepository.decreaseReviewCount(gymId);
         gymRepository.subtractTotalScore(gymId, reviewScore);
+        gymCatalog.addCounters(gymId, 0, -1, -reviewScore);
+    }
+
+    @Override
+    public void addReviewStats(Long gymId, float score, Month month) {
+        applyReviewStats(gymId, stats -> stats.add(score, month, 1));
+    }
+
+    @Override
+    public void updateReviewStats(Long gymId, float oldScore, float newScore, Month month) {
+        applyReviewStats(gymId, stats -> stats.update(oldScore, newScore, month));
+    }
+
+    @Override
+    public void removeReviewStats(Long gymId, float score, Month month) {
+        applyReviewStats(gymId, stats -> stats.remove(score, month));
+    }
+
+    // 같은 암장의 리뷰 변경이 겹쳐도 증감이 유실되지 않도록, 통계 행을 잠근 뒤 고칩니다. 변경은 트랜잭션 커밋 시 반영됩니다.
+    private void applyReviewStats(Long gymId, Consumer<GymReviewStats> change) {
+        gymReviewStatsRepository.insertIfAbsent(gymId);
+        GymReviewStats stats = gymReviewStatsRepository.findByGymIdForUpdate(gymId)
+                .orElseThrow();
+        change.accept(stats);
     }
 
     @Override
     public void createGymLike(GymLike gymLike) {
         gymLikeRepository.save(gymLike);
-        gymRepository.increaseLikeCount(gymLike.getGymLikePK().getGymId());
+        counterDeltaBuffer.add(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId(), 1);
+        gymCatalog.addCounters(gymLike.getGymLikePK().getGymId(), 1, 0, 0f);
     }
 
     @Override
     public void deleteGymLike(GymLike gymLike) {
         gymLikeRepository.delete(gymLike);
-        gymRepository.decreaseLikeCount(gymLike.getGymLikePK().getGymId());
+        counterDeltaBuffer.add(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId(), -1);
+        gymCatalog.addCounters(gymLike.getGymLikePK().getGymId(), -1, 0, 0f);
     }
 
     @Override
     public void deleteGymLikesByUserId(Long userId) {
         gymLikeRepository.findByGymLikePK_UserId(userId).forEach(
                 gymLike -> {
-                    gymRepository.decreaseLikeCount(gymLike.getGymLikePK().getGymId());
+                    counterDeltaBuffer.add(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId(), -1);
+                    gymCatalog.addCounters(gymLike.getGymLikePK().getGymId(), -1, 0, 0f);
                     gymLikeRepository.delete(gymLike);
                 }
         );
@@ -1,14 +1,17 @@
 package org.orury.domain.meeting.domain;
 
-import org.orury.domain.meeting.domain.entity.MeetingMember;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.user.domain.entity.User;
 
 import java.util.List;
+import java.util.Map;
 
 public interface MeetingMemberReader {
     boolean existsByMeetingIdAndUserId(Long meetingId, Long userId);
 
-    List<MeetingMember> getOtherMeetingMembersByMeetingIdMaximum(Long meetingId, Long meetingCreatorId, int maximum);
+    LikedIds findParticipatedMeetingIds(Long userId, List<Long> meetingIds);
+
+    Map<Long, List<String>> findOtherMemberProfileImagesByMeetingIds(List<Long> meetingIds, int maximum);
 
     List<User> getMeetingMembersByMeetingId(Long meetingId);
 }
@@ -1,7 +1,9 @@
 package org.orury.domain.meeting.domain;
 
 import org.orury.domain.meeting.domain.entity.Meeting;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +14,8 @@ public interface MeetingReader {
 
     List<Meeting> getStartedMeetingsByCrewId(Long crewId);
 
-    List<Meeting> getUpcomingMeetingsByUserId(Long userId);
+    /**
+     * cursor가 첫 cursor가 아니면, 이전 페이지 마지막 일정의 (cursorStartTime, cursor) 다음부터 조회합니다.
+     */
+    List<Meeting> getUpcomingMeetingsByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime, Pageable pageable);
 }
@@ -1,15 +1,15 @@
 package org.orury.domain.meeting.infrastructure;
 
 import lombok.RequiredArgsConstructor;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.meeting.domain.MeetingMemberReader;
 import org.orury.domain.meeting.domain.entity.MeetingMember;
 import org.orury.domain.meeting.domain.entity.MeetingMemberPK;
 import org.orury.domain.user.domain.entity.User;
 import org.orury.domain.user.infrastucture.UserRepository;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,8 +23,24 @@ public class MeetingMemberReaderImpl implements MeetingMemberReader {
     }
 
     @Override
-    public List<MeetingMember> getOtherMeetingMembersByMeetingIdMaximum(Long meetingId, Long meetingCreatorId, int maximum) {
-        return meetingMemberRepository.findByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserIdNot(meetingId, meetingCreatorId, PageRequest.of(0, maximum));
+    public LikedIds findParticipatedMeetingIds(Long userId, List<Long> meetingIds) {
+        if (userId == null || meetingIds.isEmpty()) return LikedIds.empty();
+        return LikedIds.from(meetingMemberRepository.findMeetingIdsByUserIdAndMeetingIdIn(userId, meetingIds));
+    }
+
+    /**
+     * 목록의 모든 일정에 대해 일정생성자를 제외한 멤버의 프로필사진을 한 번에 조회해, 일정마다 maximum개까지 담아 반환합니다.
+     * 일정 인원은 정원으로 제한되므로, 일정별 개수 제한은 조회 후에 적용합니다.
+     */
+    @Override
+    public Map<Long, List<String>> findOtherMemberProfileImagesByMeetingIds(List<Long> meetingIds, int maximum) {
+        if (meetingIds.isEmpty()) return Map.of();
+        Map<Long, List<String>> profileImagesByMeetingId = new HashMap<>();
+        for (Object[] row : meetingMemberRepository.findOtherMemberProfileImagesByMeetingIdIn(meetingIds)) {
+            List<String> profileImages = profileImagesByMeetingId.computeIfAbsent((Long) row[0], meetingId -> new ArrayList<>());
+            if (profileImages.size() < maximum) profileImages.add((String) row[1]);
+        }
+        return profileImagesByMeetingId;
     }
 
     @Override
@@ -2,8 +2,9 @@ package org.orury.domain.meeting.infrastructure;
 
 import org.orury.domain.meeting.domain.entity.MeetingMember;
 import org.orury.domain.meeting.domain.entity.MeetingMemberPK;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +14,17 @@ public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Me
 
     Optional<MeetingMember> findByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserId(Long meetingId, Long userId);
 
-    List<MeetingMember> findByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserIdNot(Long meetingId, Long meetingCreatorId, PageRequest pageRequest);
+    @Query("SELECT mm.meetingMemberPK.meetingId FROM crew_meeting_member mm " +
+            "WHERE mm.meetingMemberPK.userId = :userId AND mm.meetingMemberPK.meetingId IN :meetingIds")
+    List<Long> findMeetingIdsByUserIdAndMeetingIdIn(@Param("userId") Long userId, @Param("meetingIds") List<Long> meetingIds);
+
+    // 일정마다 [일정id, 프로필사진]을 일정생성자를 제외하고 유저id 순으로 조회합니다.
+    @Query("SELECT mm.meetingMemberPK.meetingId, u.profileImage FROM crew_meeting_member mm " +
+            "JOIN crew_meeting m ON m.id = mm.meetingMemberPK.meetingId " +
+            "JOIN user u ON u.id = mm.meetingMemberPK.userId " +
+            "WHERE mm.meetingMemberPK.meetingId IN :meetingIds AND mm.meetingMemberPK.userId <> m.user.id " +
+            "ORDER BY mm.meetingMemberPK.meetingId, mm.meetingMemberPK.userId")
+    List<Object[]> findOtherMemberProfileImagesByMeetingIdIn(@Param("meetingIds") List<Long> meetingIds);
 
     List<MeetingMember> findByMeetingMemberPK_MeetingId(Long meetingId);
 
@@ -1,13 +1,13 @@
 package org.orury.domain.meeting.infrastructure;
 
 import lombok.RequiredArgsConstructor;
-import org.orury.domain.crew.infrastructures.CrewMemberRepository;
+import org.orury.domain.global.constants.NumberConstants;
 import org.orury.domain.meeting.domain.MeetingReader;
 import org.orury.domain.meeting.domain.entity.Meeting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +15,6 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class MeetingReaderImpl implements MeetingReader {
     private final MeetingRepository meetingRepository;
-    private final MeetingMemberRepository meetingMemberRepository;
-    private final CrewMemberRepository crewMemberRepository;
 
     @Override
     public Optional<Meeting> findById(Long meetingId) {
@@ -34,14 +32,9 @@ public class MeetingReaderImpl implements MeetingReader {
     }
 
     @Override
-    public List<Meeting> getUpcomingMeetingsByUserId(Long userId) {
-        List<Meeting> upcomingMeetings = new LinkedList<>();
-        crewMemberRepository.findByCrewMemberPK_UserIdAndMeetingViewedTrue(userId).stream()
-                .map(crewMember -> crewMember.getCrewMemberPK().getCrewId())
-                .map(crewId -> meetingRepository.findByCrew_IdAndStartTimeAfterOrderByIdDesc(crewId, LocalDateTime.now()))
-                .map(meetings -> meetings.stream()
-                        .filter(meeting -> meetingMemberRepository.existsByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserId(meeting.getId(), userId))
-                ).forEach(meetings -> upcomingMeetings.addAll(meetings.toList()));
-        return upcomingMeetings;
+    public List<Meeting> getUpcomingMeetingsByUserId(Long userId, Long cursor, LocalDateTime cursorStartTime, Pageable pageable) {
+        return (cursor.equals(NumberConstants.FIRST_CURSOR))
+                ? meetingRepository.findUpcomingMeetingsByUserId(userId, LocalDateTime.now(), pageable)
+                : meetingRepository.findUpcomingMeetingsByUserIdWithCursor(userId, LocalDateTime.now(), cursorStartTime, cursor, pageable);
     }
 }
@@ -1,9 +1,11 @@
 package org.orury.domain.meeting.infrastructure;
 
 import org.orury.domain.meeting.domain.entity.Meeting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,6 +17,26 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     List<Meeting> findByCrew_IdAndStartTimeAfterOrderByIdDesc(Long crewId, LocalDateTime startTime);
 
+    /**
+     * 유저가 참여한 시작 전 일정을 시작시간 순으로 조회합니다. 일정 조회를 끈 크루의 일정은 제외합니다.
+     * crew_meeting_member(user_id, meeting_id) 인덱스로 참여 일정을 찾고, 일정은 PK로 붙입니다.
+     */
+    @Query("SELECT m FROM crew_meeting m " +
+            "JOIN crew_meeting_member mm ON mm.meetingMemberPK.meetingId = m.id " +
+            "JOIN crew_member cm ON cm.crewMemberPK.crewId = m.crew.id AND cm.crewMemberPK.userId = mm.meetingMemberPK.userId " +
+            "WHERE mm.meetingMemberPK.userId = :userId AND cm.meetingViewed = true AND m.startTime > :now " +
+            "ORDER BY m.startTime ASC, m.id ASC")
+    List<Meeting> findUpcomingMeetingsByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 이전 페이지 마지막 일정의 (시작시간, id) 다음부터 조회합니다. cursor 일정이 그사이 삭제되어도 이어서 조회할 수 있습니다.
+    @Query("SELECT m FROM crew_meeting m " +
+            "JOIN crew_meeting_member mm ON mm.meetingMemberPK.meetingId = m.id " +
+            "JOIN crew_member cm ON cm.crewMemberPK.crewId = m.crew.id AND cm.crewMemberPK.userId = mm.meetingMemberPK.userId " +
+            "WHERE mm.meetingMemberPK.userId = :userId AND cm.meetingViewed = true AND m.startTime > :now " +
+            "AND (m.startTime > :cursorStartTime OR (m.startTime = :cursorStartTime AND m.id > :cursor)) " +
+            "ORDER BY m.startTime ASC, m.id ASC")
+    List<Meeting> findUpcomingMeetingsByUserIdWithCursor(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("cursorStartTime") LocalDateTime cursorStartTime, @Param("cursor") Long cursor, Pageable pageable);
+
     @Modifying
     @Query("UPDATE crew_meeting SET memberCount = memberCount + 1 WHERE id = :meetingId")
     void increaseMemberCount(Long meetingId);
@@ -1,6 +1,7 @@
 package org.orury.domain.meeting.infrastructure;
 
 import lombok.RequiredArgsConstructor;
+import org.orury.domain.crew.infrastructures.CrewRepository;
 import org.orury.domain.meeting.domain.MeetingStore;
 import org.orury.domain.meeting.domain.entity.Meeting;
 import org.springframework.stereotype.Repository;
@@ -9,10 +10,13 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class MeetingStoreImpl implements MeetingStore {
     private final MeetingRepository meetingRepository;
+    private final CrewRepository crewRepository;
 
     @Override
     public Meeting createMeeting(Meeting meeting) {
-        return meetingRepository.save(meeting);
+        Meeting savedMeeting = meetingRepository.save(meeting);
+        crewRepository.updateLastMeetingAt(savedMeeting.getCrew().getId(), savedMeeting.getCreatedAt());
+        return savedMeeting;
     }
 
     @Override
@@ -22,11 +26,16 @@ public class MeetingStoreImpl implements MeetingStore {
 
     @Override
     public void deleteMeeting(Long meetingId) {
-        meetingRepository.deleteById(meetingId);
+        meetingRepository.findById(meetingId)
+                .ifPresent(meeting -> {
+                    meetingRepository.delete(meeting);
+                    crewRepository.refreshLastMeetingAt(meeting.getCrew().getId());
+                });
     }
 
     @Override
     public void deleteAllByUserIdAndCrewId(Long userId, Long crewId) {
         meetingRepository.deleteAllByUser_IdAndCrew_Id(userId, crewId);
+        crewRepository.refreshLastMeetingAt(crewId);
     }
 }
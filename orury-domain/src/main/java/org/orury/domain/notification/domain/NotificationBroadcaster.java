@@ -0,0 +1,15 @@
+package org.orury.domain.notification.domain;
+
+import org.orury.domain.notification.domain.dto.NotificationEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * 저장된 알림을 모든 client 노드에 전달합니다. 각 노드는 subscribe한 listener로 받아 자기 emitter에 보냅니다.
+ * 알림 id가 SSE event id의 sequence가 되므로, 어느 노드에 재연결해도 Last-Event-ID로 이어 받을 수 있습니다.
+ */
+public interface NotificationBroadcaster {
+    void publish(NotificationEvent event);
+
+    void subscribe(Consumer<NotificationEvent> listener);
+}
@@ -0,0 +1,54 @@
+package org.orury.domain.notification.domain.dto;
+
+import org.orury.domain.notification.domain.entity.Notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 사이에 전달되는 알림입니다. 받는 노드가 유저를 다시 조회하지 않도록 userId만 담습니다.
+ */
+public record NotificationEvent(
+        Long id,
+        Long userId,
+        String title,
+        String content,
+        String url,
+        int isRead,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static NotificationEvent of(
+            Long id,
+            Long userId,
+            String title,
+            String content,
+            String url,
+            int isRead,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        return new NotificationEvent(
+                id,
+                userId,
+                title,
+                content,
+                url,
+                isRead,
+                createdAt,
+                updatedAt
+        );
+    }
+
+    public static NotificationEvent from(Notification entity) {
+        return NotificationEvent.of(
+                entity.getId(),
+                entity.getUser().getId(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getUrl(),
+                entity.getIsRead(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package org.orury.domain.notification.infrastructure;
+
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
+
+import java.lang.reflect.RecordComponent;
+
+/**
+ * 이벤트 버퍼가 차지하는 heap을 어림하기 위해 이벤트 하나의 크기(byte)를 셉니다.
+ * 64bit JVM, compressed oops 기준으로 객체 header와 필드 크기를 더하고, String은 UTF-16 문자 수만큼 더합니다.
+ * record는 구성 요소를 따라 내려가고, 그 밖의 값(숫자, 날짜 등)은 고정 크기로 봅니다.
+ */
+final class CachedEventSizeEstimator {
+    private static final long OBJECT_HEADER_BYTES = 16;
+    private static final long REFERENCE_BYTES = 4;
+    private static final long PRIMITIVE_BYTES = 8;
+    // String 객체와 내부 byte[]의 header입니다.
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long VALUE_OBJECT_BYTES = 24;
+    private static final int MAXIMUM_DEPTH = 4;
+
+    private static final ClassValue<RecordComponent[]> RECORD_COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    private CachedEventSizeEstimator() {
+    }
+
+    static long estimate(CachedEvent event) {
+        // CachedEvent 자체(id, data 참조와 sequence)에 id 문자열과 data를 더합니다.
+        return OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES + PRIMITIVE_BYTES
+                + estimateValue(event.id(), 0)
+                + estimateValue(event.data(), 0);
+    }
+
+    private static long estimateValue(Object value, int depth) {
+        if (value == null) return 0;
+        if (value instanceof CharSequence text) return STRING_OVERHEAD_BYTES + 2L * text.length();
+        if (!(value instanceof Record record) || depth >= MAXIMUM_DEPTH) return VALUE_OBJECT_BYTES;
+
+        long bytes = OBJECT_HEADER_BYTES;
+        for (RecordComponent component : RECORD_COMPONENTS.get(record.getClass())) {
+            if (component.getType().isPrimitive()) {
+                bytes += PRIMITIVE_BYTES;
+                continue;
+            }
+            bytes += REFERENCE_BYTES;
+            try {
+                bytes += estimateValue(component.getAccessor().invoke(record), depth + 1);
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                bytes += VALUE_OBJECT_BYTES;
+            }
+        }
+        return bytes;
+    }
+}
@@ -2,25 +2,55 @@ package org.orury.domain.notification.infrastructure;
 
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface EmitterRepository {
 
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    /**
+     * 유저별, 전체 emitter 수가 상한을 넘으면 가장 오래된 emitter부터 종료하고 삭제합니다.
+     */
+    SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter);
 
-    void saveEventCache(String eventCacheId, Object event);
+    /**
+     * 이 노드에 연결된 유저라면 최근 이벤트 버퍼에 이벤트를 저장합니다. sequence는 재전송 기준이 되는 단조 증가 값(알림 id)입니다.
+     * 연결이 끊긴 유저의 버퍼는 더 이상 이어지지 않으므로 버립니다.
+     */
+    CachedEvent saveEventCache(Long userId, long sequence, Object event);
 
-    Map<String, SseEmitter> findAllEmitterStartWithByUserId(Long userId);
+    Map<String, SseEmitter> findAllEmitterByUserId(Long userId);
 
-    Map<String, Object> findAllEventCacheStartWithByUserId(Long userId);
+    /**
+     * 이 노드에 연결된 모든 emitter를 연결된 순서대로 조회합니다. heartbeat에 사용합니다.
+     */
+    List<UserEmitter> findAllEmitters();
 
-    void deleteEmitterById(String emitterId);
+    /**
+     * lastSequence 이후의 이벤트를 sequence 순서대로 조회합니다.
+     * 이 노드의 버퍼가 그 이벤트를 모두 담고 있다고 보장할 수 없다면 비어 있는 Optional을 돌려줍니다.
+     */
+    Optional<List<CachedEvent>> findAllEventCacheAfter(Long userId, long lastSequence);
 
-    void deleteAllEmitterStartWithUserId(String userId);
+    void deleteEmitterById(Long userId, String emitterId);
 
-    void deleteAllEventCacheStartWithUserId(String userId);
+    void deleteAllEmitterByUserId(Long userId);
+
+    void deleteAllEventCacheByUserId(Long userId);
 
     Map<String, SseEmitter> getAllEmitters();
 
     Map<String, Object> getAllEvents();
+
+    record UserEmitter(Long userId, String emitterId, SseEmitter emitter, long connectionSequence) {
+    }
+
+    /**
+     * id: SSE event id("{userId}_{sequence}"), 클라이언트가 Last-Event-ID로 돌려줍니다.
+     */
+    record CachedEvent(String id, long sequence, Object data) {
+        public static CachedEvent of(Long userId, long sequence, Object data) {
+            return new CachedEvent(userId + "_" + sequence, sequence, data);
+        }
+    }
 }
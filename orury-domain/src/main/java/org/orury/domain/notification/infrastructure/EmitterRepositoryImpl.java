@@ -1,96 +1,270 @@
 package org.orury.domain.notification.infrastructure;
 
-import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
-import java.util.Map;
+import java.time.Clock;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 유저 id별로 emitter와 최근 이벤트 ring buffer를 묶어 보관합니다.
+ * 알림 전송/재전송 비용은 전체 연결 수가 아니라 해당 유저의 emitter 수에 비례하고,
+ * 이벤트는 이 노드에 연결된 유저의 것만 유저당 eventCapacity개, eventTtl까지만 보관하므로 메모리가 연결 수에 비례해 고정됩니다.
+ * 보관 중인 이벤트의 어림 크기는 sse.event_cache.bytes로 내보내 실제 heap 사용량을 볼 수 있게 합니다.
+ * 연결 수도 유저당 maximumEmittersPerUser개, 노드 전체 maximumEmitters개로 제한해 file descriptor와 heap을 묶어 둡니다.
+ */
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class EmitterRepositoryImpl implements EmitterRepository {
+    private final Clock clock;
+    private final int eventCapacity;
+    private final long eventTtlMillis;
+    private final int maximumEmittersPerUser;
+    private final int maximumEmitters;
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
-    private final Logger logger = LoggerFactory.getLogger(EmitterRepositoryImpl.class);
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+    // 전체 상한을 넘었을 때 가장 오래된 연결을 찾기 위해, 연결 순서대로 정렬해 둡니다.
+    private final ConcurrentSkipListMap<Long, UserEmitter> emittersByAge = new ConcurrentSkipListMap<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final AtomicLong emitterCount = new AtomicLong();
+    private final AtomicLong cachedEventCount = new AtomicLong();
+    private final AtomicLong cachedEventBytes = new AtomicLong();
+
+    private final Counter overflowEvictedCounter;
+    private final Counter expiredEvictedCounter;
+    private final Counter userCapEvictedCounter;
+    private final Counter globalCapEvictedCounter;
+
+    @Autowired
+    public EmitterRepositoryImpl(
+            MeterRegistry meterRegistry,
+            @Value("${orury.notification.event-cache.capacity:50}") int eventCapacity,
+            @Value("${orury.notification.event-cache.ttl-ms:600000}") long eventTtlMillis,
+            @Value("${orury.notification.emitter.maximum-per-user:5}") int maximumEmittersPerUser,
+            @Value("${orury.notification.emitter.maximum:20000}") int maximumEmitters
+    ) {
+        this(meterRegistry, Clock.systemUTC(), eventCapacity, eventTtlMillis, maximumEmittersPerUser, maximumEmitters);
+    }
+
+    EmitterRepositoryImpl(
+            MeterRegistry meterRegistry,
+            Clock clock,
+            int eventCapacity,
+            long eventTtlMillis,
+            int maximumEmittersPerUser,
+            int maximumEmitters
+    ) {
+        this.clock = clock;
+        this.eventCapacity = eventCapacity;
+        this.eventTtlMillis = eventTtlMillis;
+        this.maximumEmittersPerUser = maximumEmittersPerUser;
+        this.maximumEmitters = maximumEmitters;
+
+        this.overflowEvictedCounter = meterRegistry.counter("sse.event_cache.evicted", "reason", "overflow");
+        this.expiredEvictedCounter = meterRegistry.counter("sse.event_cache.evicted", "reason", "expired");
+        this.userCapEvictedCounter = meterRegistry.counter("sse.emitters.evicted", "reason", "user_cap");
+        this.globalCapEvictedCounter = meterRegistry.counter("sse.emitters.evicted", "reason", "global_cap");
+        Gauge.builder("sse.emitters", emitterCount, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("sse.event_cache.events", cachedEventCount, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("sse.event_cache.bytes", cachedEventBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("sse.channels", channels, Map::size)
+                .register(meterRegistry);
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
-        logger.info("알람테스트 : SseEmitter save, emitterId: " + emitterId);
+    public SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter) {
+        UserEmitter saved = new UserEmitter(userId, emitterId, sseEmitter, connectionSequence.incrementAndGet());
+        List<UserEmitter> evicted = new ArrayList<>();
+        // 비어 있는 channel을 정리하는 sweep과 겹치지 않도록 compute 안에서 추가합니다.
+        channels.compute(userId, (id, channel) -> {
+            UserChannel userChannel = (channel == null) ? new UserChannel() : channel;
+            UserEmitter previous = userChannel.emitters.put(emitterId, saved);
+            if (previous == null) {
+                emitterCount.incrementAndGet();
+            } else {
+                emittersByAge.remove(previous.connectionSequence());
+            }
+            emittersByAge.put(saved.connectionSequence(), saved);
+
+            while (userChannel.emitters.size() > maximumEmittersPerUser) {
+                UserEmitter oldest = Collections.min(userChannel.emitters.values(), Comparator.comparingLong(UserEmitter::connectionSequence));
+                userChannel.emitters.remove(oldest.emitterId());
+                emittersByAge.remove(oldest.connectionSequence());
+                emitterCount.decrementAndGet();
+                userCapEvictedCounter.increment();
+                evicted.add(oldest);
+            }
+            return userChannel;
+        });
+
+        while (emitterCount.get() > maximumEmitters) {
+            Map.Entry<Long, UserEmitter> oldest = emittersByAge.firstEntry();
+            if (oldest == null) break;
+            if (remove(oldest.getValue())) {
+                globalCapEvictedCounter.increment();
+                evicted.add(oldest.getValue());
+            }
+        }
+
+        // 종료 callback이 다시 삭제를 호출하므로, channel 잠금 밖에서 종료합니다.
+        evicted.forEach(userEmitter -> userEmitter.emitter().complete());
+        log.debug("SseEmitter saved, userId: {}, emitterId: {}", userId, emitterId);
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
-        logger.info("알람테스트 : saveEventCache save, eventCacheId: " + eventCacheId);
+    public CachedEvent saveEventCache(Long userId, long sequence, Object event) {
+        CachedEvent cachedEvent = CachedEvent.of(userId, sequence, event);
+        long estimatedBytes = CachedEventSizeEstimator.estimate(cachedEvent);
+        channels.computeIfPresent(userId, (id, channel) -> {
+            if (channel.emitters.isEmpty()) {
+                // 끊긴 동안의 알림을 담지 않으므로, 이어지지 않는 buffer는 버리고 재전송은 notification 테이블에서 합니다.
+                clearEvents(channel);
+                return channel.isEmpty() ? null : channel;
+            }
+            if (channel.events == null) channel.events = new SseEventBuffer(eventCapacity);
+            long bytesBefore = channel.events.bytes();
+            int overflowed = channel.events.add(cachedEvent, estimatedBytes, clock.millis());
+            cachedEventBytes.addAndGet(channel.events.bytes() - bytesBefore);
+            cachedEventCount.addAndGet(1L - overflowed);
+            overflowEvictedCounter.increment(overflowed);
+            return channel;
+        });
+        return cachedEvent;
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByUserId(Long userId) {
-        // 해당 회원과 관련된 모든 Emitter 조회
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId.toString() + "_"))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findAllEmitterByUserId(Long userId) {
+        UserChannel channel = channels.get(userId);
+        if (channel == null) return Map.of();
+        Map<String, SseEmitter> emitters = new HashMap<>();
+        channel.emitters.forEach((emitterId, userEmitter) -> emitters.put(emitterId, userEmitter.emitter()));
+        return emitters;
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByUserId(Long userId) {
-        // 해당 회원과 관련된 모든 EventCache 조회
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId.toString() + "_"))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public List<UserEmitter> findAllEmitters() {
+        return new ArrayList<>(emittersByAge.values());
+    }
 
+    @Override
+    public Optional<List<CachedEvent>> findAllEventCacheAfter(Long userId, long lastSequence) {
+        UserChannel channel = channels.get(userId);
+        SseEventBuffer events = (channel == null) ? null : channel.events;
+        if (events == null) return Optional.empty();
+        return Optional.ofNullable(events.findAllAfter(lastSequence, clock.millis() - eventTtlMillis));
     }
 
-    // TODO : 맵에 저장된 모든 Emitter 조회하는 메소드 구현
     @Override
-    public Map<String, SseEmitter> getAllEmitters() {
-        return Collections.unmodifiableMap(emitters);
+    public void deleteEmitterById(Long userId, String emitterId) {
+        channels.computeIfPresent(userId, (id, channel) -> {
+            UserEmitter removed = channel.emitters.remove(emitterId);
+            if (removed != null) {
+                emittersByAge.remove(removed.connectionSequence());
+                emitterCount.decrementAndGet();
+                log.debug("SseEmitter deleted, userId: {}, emitterId: {}", userId, emitterId);
+            }
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    // 같은 emitterId로 다시 연결된 emitter는 지우지 않습니다.
+    private boolean remove(UserEmitter userEmitter) {
+        boolean[] removed = {false};
+        channels.computeIfPresent(userEmitter.userId(), (id, channel) -> {
+            removed[0] = channel.emitters.remove(userEmitter.emitterId(), userEmitter);
+            if (removed[0]) emitterCount.decrementAndGet();
+            return channel.isEmpty() ? null : channel;
+        });
+        emittersByAge.remove(userEmitter.connectionSequence(), userEmitter);
+        return removed[0];
     }
 
-    // TODO : 맵에 저장된 모든 EventCache 조회하는 메소드 구현
     @Override
-    public Map<String, Object> getAllEvents() {
-        return Collections.unmodifiableMap(eventCache);
+    public void deleteAllEmitterByUserId(Long userId) {
+        channels.computeIfPresent(userId, (id, channel) -> {
+            channel.emitters.values().forEach(userEmitter -> emittersByAge.remove(userEmitter.connectionSequence()));
+            emitterCount.addAndGet(-channel.emitters.size());
+            channel.emitters.clear();
+            return channel.isEmpty() ? null : channel;
+        });
     }
 
     @Override
-    public void deleteEmitterById(String emitterId) {
-        emitters.remove(emitterId);
-        logger.info("알람테스트 : deleteEmitterById, emitterId: " + emitterId);
+    public void deleteAllEventCacheByUserId(Long userId) {
+        // 회원 탈퇴 등에 사용
+        channels.computeIfPresent(userId, (id, channel) -> {
+            clearEvents(channel);
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    private void clearEvents(UserChannel channel) {
+        if (channel.events == null) return;
+        cachedEventCount.addAndGet(-channel.events.size());
+        cachedEventBytes.addAndGet(-channel.events.bytes());
+        channel.events = null;
     }
 
     @Override
-    public void deleteAllEmitterStartWithUserId(String userId) {
-        // 해당 회원과 관련된 모든 Emitter 삭제
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userId.toString() + "_")) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public Map<String, SseEmitter> getAllEmitters() {
+        Map<String, SseEmitter> allEmitters = new HashMap<>();
+        emittersByAge.values().forEach(userEmitter -> allEmitters.put(userEmitter.emitterId(), userEmitter.emitter()));
+        return Collections.unmodifiableMap(allEmitters);
     }
 
     @Override
-    public void deleteAllEventCacheStartWithUserId(String userId) {
-        // 해당 회원과 관련된 모든 EventCache 삭제
-        // 회원 탈퇴 등에 사용
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userId.toString() + "_")) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public Map<String, Object> getAllEvents() {
+        long expiredBefore = clock.millis() - eventTtlMillis;
+        Map<String, Object> allEvents = new HashMap<>();
+        channels.values().stream()
+                .map(channel -> channel.events)
+                .filter(Objects::nonNull)
+                .flatMap(events -> events.findAll(expiredBefore).stream())
+                .forEach(event -> allEvents.put(event.id(), event.data()));
+        return Collections.unmodifiableMap(allEvents);
+    }
+
+    /**
+     * 만료된 이벤트를 버리고, emitter도 이벤트도 남지 않은 유저의 channel을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${orury.notification.event-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long expiredBefore = clock.millis() - eventTtlMillis;
+        channels.keySet().forEach(userId -> channels.computeIfPresent(userId, (id, channel) -> {
+            if (channel.events != null) {
+                long bytesBefore = channel.events.bytes();
+                int expired = channel.events.evictExpired(expiredBefore);
+                cachedEventBytes.addAndGet(channel.events.bytes() - bytesBefore);
+                cachedEventCount.addAndGet(-expired);
+                expiredEvictedCounter.increment(expired);
+                if (channel.events.size() == 0) channel.events = null;
+            }
+            return channel.isEmpty() ? null : channel;
+        }));
     }
 
-    // TODO:  Notification의 isRead가 1이 되었을 때 해당 Notification을 가지고 있는 모든 이벤트 캐시도 삭제될 수 있는 메소드 추가하기
+    private static class UserChannel {
+        private final Map<String, UserEmitter> emitters = new ConcurrentHashMap<>();
+        // 알림을 받은 적 없는 유저는 buffer를 만들지 않습니다.
+        private volatile SseEventBuffer events;
+
+        private boolean isEmpty() {
+            return emitters.isEmpty() && events == null;
+        }
+    }
 }
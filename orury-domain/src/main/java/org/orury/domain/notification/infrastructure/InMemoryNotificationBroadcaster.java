@@ -0,0 +1,29 @@
+package org.orury.domain.notification.infrastructure;
+
+import org.orury.domain.notification.domain.NotificationBroadcaster;
+import org.orury.domain.notification.domain.dto.NotificationEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 한 프로세스 안에서만 알림을 전달하는 broadcaster입니다. 테스트나 단일 노드 실행에 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "orury.notification.broadcaster", havingValue = "in-memory")
+public class InMemoryNotificationBroadcaster implements NotificationBroadcaster {
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NotificationEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+}
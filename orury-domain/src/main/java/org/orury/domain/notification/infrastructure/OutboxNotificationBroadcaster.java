@@ -0,0 +1,155 @@
+package org.orury.domain.notification.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.notification.domain.NotificationBroadcaster;
+import org.orury.domain.notification.domain.dto.NotificationEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * notification 테이블을 outbox로 사용하는 broadcaster입니다.
+ * 알림 저장이 곧 발행이고, 각 노드는 주기적으로 마지막으로 전달한 id 이후의 행을 읽어 listener에 전달합니다.
+ * AUTO_INCREMENT id는 커밋 순서와 다를 수 있으므로, 건너뛴 id는 gapGrace 동안 따로 다시 읽어 늦게 커밋된 알림을 놓치지 않습니다.
+ * 새 알림은 비어 있는 id와 관계없이 계속 이어서 읽으므로, 롤백된 id 하나가 전달을 막지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orury.notification.broadcaster", havingValue = "outbox", matchIfMissing = true)
+public class OutboxNotificationBroadcaster implements NotificationBroadcaster {
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM notification";
+    private static final String SELECT_NOTIFICATIONS = "SELECT id, user_id, title, content, url, is_read, created_at, updated_at FROM notification ";
+    private static final String SELECT_NOTIFICATIONS_AFTER = SELECT_NOTIFICATIONS + "WHERE id > ? ORDER BY id LIMIT ?";
+    private static final RowMapper<NotificationEvent> NOTIFICATION_EVENT_MAPPER = (resultSet, rowNum) -> NotificationEvent.of(
+            resultSet.getLong("id"),
+            resultSet.getLong("user_id"),
+            resultSet.getString("title"),
+            resultSet.getString("content"),
+            resultSet.getString("url"),
+            resultSet.getInt("is_read"),
+            toLocalDateTime(resultSet.getTimestamp("created_at")),
+            toLocalDateTime(resultSet.getTimestamp("updated_at"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final long gapGraceMillis;
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 마지막으로 전달한 id입니다. 이보다 작은 id 중 아직 전달하지 못한 id는 gapFirstSeenAt에 처음 본 시각과 함께 둡니다.
+    private Long lastDeliveredId;
+    private final NavigableMap<Long, Long> gapFirstSeenAt = new TreeMap<>();
+
+    private final Counter deliveredCounter;
+    private final Counter skippedGapCounter;
+
+    @Autowired
+    public OutboxNotificationBroadcaster(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${orury.notification.outbox.batch-size:500}") int batchSize,
+            @Value("${orury.notification.outbox.gap-grace-ms:5000}") long gapGraceMillis
+    ) {
+        this(jdbcTemplate, meterRegistry, Clock.systemUTC(), batchSize, gapGraceMillis);
+    }
+
+    OutboxNotificationBroadcaster(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, Clock clock, int batchSize, long gapGraceMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.gapGraceMillis = gapGraceMillis;
+
+        this.deliveredCounter = meterRegistry.counter("notification.outbox.delivered");
+        this.skippedGapCounter = meterRegistry.counter("notification.outbox.skipped_gaps");
+        Gauge.builder("notification.outbox.open_gaps", this, broadcaster -> broadcaster.gapFirstSeenAt.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 행이 커밋되면 다음 poll에서 모든 노드가 읽으므로, 따로 보낼 것이 없습니다.
+     */
+    @Override
+    public void publish(NotificationEvent event) {
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${orury.notification.outbox.poll-interval-ms:500}")
+    public synchronized void poll() {
+        // 알림을 받을 listener가 없는 애플리케이션(batch, admin)은 읽지 않습니다.
+        if (listeners.isEmpty()) return;
+        // 처음 poll할 때는 이전 알림을 다시 보내지 않도록 현재 마지막 id부터 시작합니다.
+        if (lastDeliveredId == null) {
+            lastDeliveredId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+            return;
+        }
+
+        long now = clock.millis();
+        pollGaps();
+        List<NotificationEvent> events = jdbcTemplate.query(SELECT_NOTIFICATIONS_AFTER, NOTIFICATION_EVENT_MAPPER, lastDeliveredId, batchSize);
+        for (NotificationEvent event : events) {
+            for (long id = lastDeliveredId + 1; id < event.id(); id++) {
+                gapFirstSeenAt.put(id, now);
+            }
+            lastDeliveredId = event.id();
+            deliver(event);
+        }
+        expireGaps(now);
+    }
+
+    // 건너뛴 id 중 늦게 커밋된 알림을 오래된 id부터 batchSize개씩 다시 읽습니다.
+    private void pollGaps() {
+        if (gapFirstSeenAt.isEmpty()) return;
+        Object[] gapIds = gapFirstSeenAt.keySet().stream()
+                .limit(batchSize)
+                .toArray();
+        String placeholders = String.join(", ", Collections.nCopies(gapIds.length, "?"));
+        List<NotificationEvent> events = jdbcTemplate.query(
+                SELECT_NOTIFICATIONS + "WHERE id IN (" + placeholders + ") ORDER BY id", NOTIFICATION_EVENT_MAPPER, gapIds);
+        for (NotificationEvent event : events) {
+            if (gapFirstSeenAt.remove(event.id()) != null) deliver(event);
+        }
+    }
+
+    // 롤백되었거나 너무 늦게 커밋된 id는 포기합니다.
+    private void expireGaps(long now) {
+        gapFirstSeenAt.values().removeIf(firstSeenAt -> {
+            boolean expired = now - firstSeenAt >= gapGraceMillis;
+            if (expired) skippedGapCounter.increment();
+            return expired;
+        });
+    }
+
+    private void deliver(NotificationEvent event) {
+        for (Consumer<NotificationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException exception) {
+                log.warn("notification listener failed, notificationId: {}", event.id(), exception);
+            }
+        }
+        deliveredCounter.increment();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return (timestamp == null) ? null : timestamp.toLocalDateTime();
+    }
+}
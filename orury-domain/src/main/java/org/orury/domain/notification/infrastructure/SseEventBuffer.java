@@ -0,0 +1,102 @@
+package org.orury.domain.notification.infrastructure;
+
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 유저의 최근 이벤트를 담는 고정 크기 ring buffer입니다.
+ * 가득 차면 가장 오래된 이벤트를 덮어쓰고, ttl이 지난 이벤트는 조회/정리 시 버립니다.
+ * 담고 있는 이벤트의 어림 크기(byte)도 함께 셉니다.
+ * coveredAfter보다 큰 sequence의 이벤트는 이 노드가 받은 것을 모두 담고 있고, 그보다 앞선 재전송은 이 buffer로 할 수 없습니다.
+ * 모든 메소드는 buffer 단위로 동기화됩니다.
+ */
+class SseEventBuffer {
+    private final CachedEvent[] events;
+    private final long[] savedAt;
+    private final long[] eventBytes;
+    private int head;
+    private int size;
+    private long bytes;
+    private long coveredAfter = Long.MAX_VALUE;
+
+    SseEventBuffer(int capacity) {
+        this.events = new CachedEvent[capacity];
+        this.savedAt = new long[capacity];
+        this.eventBytes = new long[capacity];
+    }
+
+    /**
+     * @return 덮어써서 버려진 이벤트 수(0 또는 1)
+     */
+    synchronized int add(CachedEvent event, long estimatedBytes, long now) {
+        if (coveredAfter == Long.MAX_VALUE) coveredAfter = event.sequence();
+        int tail = (head + size) % events.length;
+        int overflowed = 0;
+        if (size == events.length) {
+            coveredAfter = Math.max(coveredAfter, events[tail].sequence());
+            bytes -= eventBytes[tail];
+            head = (head + 1) % events.length;
+            overflowed = 1;
+        } else {
+            size++;
+        }
+        events[tail] = event;
+        savedAt[tail] = now;
+        eventBytes[tail] = estimatedBytes;
+        bytes += estimatedBytes;
+        return overflowed;
+    }
+
+    /**
+     * @return lastSequence 이후의 이벤트를 sequence 순서대로, 그 중 하나라도 버려졌거나 만료되었다면 null
+     */
+    synchronized List<CachedEvent> findAllAfter(long lastSequence, long expiredBefore) {
+        if (lastSequence < coveredAfter) return null;
+        List<CachedEvent> found = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % events.length;
+            if (events[index].sequence() <= lastSequence) continue;
+            if (savedAt[index] < expiredBefore) return null;
+            found.add(events[index]);
+        }
+        // outbox에서 늦게 커밋된 알림은 sequence 순서와 다르게 들어올 수 있습니다.
+        found.sort(Comparator.comparingLong(CachedEvent::sequence));
+        return found;
+    }
+
+    synchronized List<CachedEvent> findAll(long expiredBefore) {
+        List<CachedEvent> found = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % events.length;
+            if (savedAt[index] >= expiredBefore) found.add(events[index]);
+        }
+        return found;
+    }
+
+    /**
+     * @return 만료되어 버려진 이벤트 수
+     */
+    synchronized int evictExpired(long expiredBefore) {
+        int evicted = 0;
+        while (size > 0 && savedAt[head] < expiredBefore) {
+            coveredAfter = Math.max(coveredAfter, events[head].sequence());
+            bytes -= eventBytes[head];
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+            evicted++;
+        }
+        return evicted;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+}
@@ -1,10 +1,12 @@
 package org.orury.domain.post.domain;
 
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.entity.Post;
 import org.orury.domain.post.domain.entity.PostLikePK;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,8 @@ public interface PostReader {
 
     boolean isPostLiked(Long userId, Long postId);
 
+    LikedIds findLikedPostIds(Long userId, Collection<Long> postIds);
+
     boolean existsByPostLikePK(PostLikePK postLikePK);
 
     List<Post> findAll();
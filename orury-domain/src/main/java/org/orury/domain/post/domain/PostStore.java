@@ -12,7 +12,7 @@ public interface PostStore {
 
     void delete(PostLike postLike);
 
-    void updateViewCount(Long id);
+    void updateViewCount(Long userId, Long postId);
 
     void deletePostLikesByUserId(Long id);
 
@@ -29,13 +29,14 @@ public class Post extends AuditingField {
     @Column(name = "content", nullable = false)
     private String content;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수와 좋아요 수는 PostViewCountBuffer, CounterDeltaBuffer의 증감 UPDATE로만 갱신합니다.
+    @Column(name = "view_count", nullable = false, updatable = false)
     private int viewCount;
 
     @Column(name = "comment_count", nullable = false)
     private int commentCount;
 
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private int likeCount;
 
     @Convert(converter = PostImagesConverter.class)
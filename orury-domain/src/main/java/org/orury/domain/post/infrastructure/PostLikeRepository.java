@@ -3,7 +3,10 @@ package org.orury.domain.post.infrastructure;
 import org.orury.domain.post.domain.entity.PostLike;
 import org.orury.domain.post.domain.entity.PostLikePK;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikePK> {
@@ -12,4 +15,8 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikePK>
     boolean existsByPostLikePK(PostLikePK postLikePK);
 
     List<PostLike> findByPostLikePK_UserId(Long userId);
+
+    @Query("SELECT pl.postLikePK.postId FROM post_like pl " +
+            "WHERE pl.postLikePK.userId = :userId AND pl.postLikePK.postId IN :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
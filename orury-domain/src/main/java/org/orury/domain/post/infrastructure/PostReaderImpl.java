@@ -5,6 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.orury.common.error.code.PostErrorCode;
 import org.orury.common.error.exception.InfraImplException;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.PostReader;
 import org.orury.domain.post.domain.entity.Post;
 import org.orury.domain.post.domain.entity.PostLikePK;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,37 +26,45 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 public class PostReaderImpl implements PostReader {
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String FULLTEXT_OPERATORS = "+-<>()~*@";
+
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public List<Post> findByCategoryOrderByIdDesc(int category, Long cursor, Pageable pageable) {
-        return (cursor.equals(NumberConstants.FIRST_CURSOR))
+        return withPendingLikes((cursor.equals(NumberConstants.FIRST_CURSOR))
                 ? postRepository.findByCategoryOrderByIdDesc(category, pageable)
-                : postRepository.findByCategoryAndIdLessThanOrderByIdDesc(category, cursor, pageable);
+                : postRepository.findByCategoryAndIdLessThanOrderByIdDesc(category, cursor, pageable));
     }
 
     @Override
     public List<Post> findBySearchWordOrderByIdDesc(String searchWord, Long cursor) {
+        var keyword = toFullTextQuery(searchWord);
+        if (keyword.isEmpty()) return List.of();
         var pageable = PageRequest.of(0, NumberConstants.POST_PAGINATION_SIZE);
-        return (cursor.equals(NumberConstants.FIRST_CURSOR))
-                ? postRepository.findBySearchWordOrderByIdDesc(searchWord, pageable)
-                : postRepository.findBySearchWordOrderByIdDescWithCursor(searchWord, cursor, pageable);
+        return withPendingLikes((cursor.equals(NumberConstants.FIRST_CURSOR))
+                ? postRepository.findBySearchWordOrderByIdDesc(keyword, pageable)
+                : postRepository.findBySearchWordOrderByIdDescWithCursor(keyword, cursor, pageable));
     }
 
     @Override
     public List<Post> findBySearchWordOrderByLikeCountDesc(String searchWord, Long cursor, int lastLikeCount) {
+        var keyword = toFullTextQuery(searchWord);
+        if (keyword.isEmpty()) return List.of();
         var pageable = PageRequest.of(0, NumberConstants.POST_PAGINATION_SIZE);
-        return (cursor.equals(NumberConstants.FIRST_CURSOR))
-                ? postRepository.findBySearchWordOrderByLikeCountDesc(searchWord, pageable)
-                : postRepository.findBySearchWordOrderByLikeCountDescWithCursor(searchWord, cursor, lastLikeCount, pageable);
+        return withPendingLikes((cursor.equals(NumberConstants.FIRST_CURSOR))
+                ? postRepository.findBySearchWordOrderByLikeCountDesc(keyword, pageable)
+                : postRepository.findBySearchWordOrderByLikeCountDescWithCursor(keyword, cursor, lastLikeCount, pageable));
     }
 
     @Override
     public List<Post> findByUserIdOrderByIdDesc(Long userId, Long cursor, Pageable pageable) {
-        return (cursor.equals(NumberConstants.FIRST_CURSOR))
+        return withPendingLikes((cursor.equals(NumberConstants.FIRST_CURSOR))
                 ? postRepository.findByUserIdOrderByIdDesc(userId, pageable)
-                : postRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable);
+                : postRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable));
     }
 
     @Override
@@ -60,12 +72,14 @@ public class PostReaderImpl implements PostReader {
         return postRepository.findByLikeCountGreaterThanEqualAndCreatedAtGreaterThanEqualOrderByLikeCountDescCreatedAtDesc
                 (NumberConstants.HOT_POSTS_BOUNDARY,
                         LocalDateTime.now().minusMonths(1L),
-                        pageable);
+                        pageable)
+                .map(this::withPendingLikes);
     }
 
     @Override
     public Optional<Post> findById(Long id) {
-        return postRepository.findById(id);
+        return postRepository.findById(id)
+                .map(this::withPendingLikes);
     }
 
     @Override
@@ -73,6 +87,12 @@ public class PostReaderImpl implements PostReader {
         return postLikeRepository.existsPostLikeByPostLikePK_UserIdAndPostLikePK_PostId(userId, postId);
     }
 
+    @Override
+    public LikedIds findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) return LikedIds.empty();
+        return LikedIds.from(postLikeRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds));
+    }
+
     @Override
     public boolean existsByPostLikePK(PostLikePK postLikePK) {
         if (!postRepository.existsById(postLikePK.getPostId()))
@@ -84,4 +104,46 @@ public class PostReaderImpl implements PostReader {
     public List<Post> findAll() {
         return postRepository.findAll();
     }
+
+    private List<Post> withPendingLikes(List<Post> posts) {
+        return posts.stream()
+                .map(this::withPendingLikes)
+                .toList();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 변화량을 덧씌운 사본을 반환합니다. 변화량이 없으면 조회한 엔티티를 그대로 반환합니다.
+     */
+    private Post withPendingLikes(Post post) {
+        long pendingLikes = counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, post.getId());
+        if (pendingLikes == 0) return post;
+        return Post.of(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getViewCount(),
+                post.getCommentCount(),
+                post.getLikeCount() + (int) pendingLikes,
+                post.getImages(),
+                post.getCategory(),
+                post.getUser(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 검색어를 ngram FULLTEXT 인덱스용 BOOLEAN MODE 식으로 바꿉니다.
+     * ngram_token_size(2)보다 짧은 검색어는 prefix 검색("클*"), 그 외에는 phrase 검색("클라이밍")으로
+     * 기존 LIKE '%검색어%'와 거의 같은 범위를 찾습니다. 검색어가 비어있다면 빈 문자열을 반환합니다.
+     */
+    static String toFullTextQuery(String searchWord) {
+        if (searchWord == null) return "";
+        String keyword = searchWord.replace("\"", " ").strip();
+        if (keyword.isEmpty()) return "";
+        if (keyword.codePointCount(0, keyword.length()) < NGRAM_TOKEN_SIZE) {
+            return FULLTEXT_OPERATORS.indexOf(keyword.charAt(0)) >= 0 ? "" : keyword + "*";
+        }
+        return "\"" + keyword + "\"";
+    }
 }
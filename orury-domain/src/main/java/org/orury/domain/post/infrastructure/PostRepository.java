@@ -27,36 +27,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findByUserId(Long userId);
 
-    @Query("SELECT p " +
+    // keyword는 MATCH ... AGAINST의 BOOLEAN MODE 식입니다. (PostReaderImpl.toFullTextQuery 참고)
+    @Query(value = "SELECT p.* " +
             "FROM post p " +
-            "WHERE LOWER(p.title) LIKE CONCAT('%',LOWER(:keyword),'%') OR LOWER(p.content) LIKE CONCAT('%',LOWER(:keyword),'%') " +
-            "ORDER BY p.id DESC")
+            "WHERE MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY p.id DESC", nativeQuery = true)
     List<Post> findBySearchWordOrderByIdDesc(String keyword, Pageable pageable);
 
-    @Query("SELECT p " +
+    @Query(value = "SELECT p.* " +
             "FROM post p " +
-            "WHERE (LOWER(p.title) LIKE CONCAT('%',LOWER(:keyword),'%') OR LOWER(p.content) LIKE CONCAT('%',LOWER(:keyword),'%')) " +
-            "AND (p.id < :cursor) " +
-            "ORDER BY p.id DESC")
+            "WHERE MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "AND p.id < :cursor " +
+            "ORDER BY p.id DESC", nativeQuery = true)
     List<Post> findBySearchWordOrderByIdDescWithCursor(String keyword, Long cursor, Pageable pageable);
 
-    @Query("SELECT p " +
+    @Query(value = "SELECT p.* " +
             "FROM post p " +
-            "WHERE LOWER(p.title) LIKE CONCAT('%',LOWER(:keyword),'%') OR LOWER(p.content) LIKE CONCAT('%',LOWER(:keyword),'%') " +
-            "ORDER BY p.likeCount DESC, p.id DESC")
+            "WHERE MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY p.like_count DESC, p.id DESC", nativeQuery = true)
     List<Post> findBySearchWordOrderByLikeCountDesc(String keyword, Pageable pageable);
 
-    @Query("SELECT p " +
+    @Query(value = "SELECT p.* " +
             "FROM post p " +
-            "WHERE (LOWER(p.title) LIKE CONCAT('%',LOWER(:keyword),'%') OR LOWER(p.content) LIKE CONCAT('%',LOWER(:keyword),'%')) " +
-            "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :cursor)) " +
-            "ORDER BY p.likeCount DESC, p.id DESC")
+            "WHERE MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "AND (p.like_count < :likeCount OR (p.like_count = :likeCount AND p.id < :cursor)) " +
+            "ORDER BY p.like_count DESC, p.id DESC", nativeQuery = true)
     List<Post> findBySearchWordOrderByLikeCountDescWithCursor(String keyword, Long cursor, int likeCount, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE post SET viewCount = viewCount + 1 WHERE id = :id")
-    void updateViewCount(Long id);
-
     @Modifying
     @Query("UPDATE post SET commentCount = commentCount + 1 WHERE id = :id")
     void increaseCommentCount(Long id);
@@ -64,12 +61,4 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Modifying
     @Query("UPDATE post SET commentCount = commentCount - 1 WHERE id = :id")
     void decreaseCommentCount(Long id);
-
-    @Modifying
-    @Query("UPDATE post SET likeCount = likeCount + 1 WHERE id = :id")
-    void increaseLikeCount(Long id);
-
-    @Modifying
-    @Query("UPDATE post SET likeCount = likeCount - 1 WHERE id = :id")
-    void decreaseLikeCount(Long id);
 }
\ No newline at end of file
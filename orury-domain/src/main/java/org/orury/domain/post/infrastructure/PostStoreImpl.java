@@ -3,6 +3,8 @@ package org.orury.domain.post.infrastructure;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.orury.common.util.S3Folder;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
 import org.orury.domain.image.domain.ImageStore;
 import org.orury.domain.post.domain.PostStore;
 import org.orury.domain.post.domain.entity.Post;
@@ -16,22 +18,24 @@ public class PostStoreImpl implements PostStore {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final ImageStore imageStore;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public void save(PostLike postLike) {
         postLikeRepository.save(postLike);
-        postRepository.increaseLikeCount(postLike.getPostLikePK().getPostId());
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, postLike.getPostLikePK().getPostId(), 1);
     }
 
     @Override
     public void delete(PostLike postLike) {
         postLikeRepository.delete(postLike);
-        postRepository.decreaseLikeCount(postLike.getPostLikePK().getPostId());
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, postLike.getPostLikePK().getPostId(), -1);
     }
 
     @Override
-    public void updateViewCount(Long id) {
-        postRepository.updateViewCount(id);
+    public void updateViewCount(Long userId, Long postId) {
+        postViewCountBuffer.increase(userId, postId);
     }
 
     @Override
@@ -39,8 +43,7 @@ public class PostStoreImpl implements PostStore {
         postLikeRepository.findByPostLikePK_UserId(id)
                 .forEach(
                         postLike -> {
-                            postRepository.decreaseCommentCount(postLike.getPostLikePK()
-                                    .getPostId());
+                            counterDeltaBuffer.add(CounterColumn.POST_LIKE, postLike.getPostLikePK().getPostId(), -1);
                             postLikeRepository.delete(postLike);
                         }
                 );
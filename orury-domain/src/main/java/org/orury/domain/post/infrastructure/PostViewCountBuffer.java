@@ -0,0 +1,159 @@
+package org.orury.domain.post.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.orury.domain.global.counter.IncrementBatchWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수를 메모리에 모아 두었다가, 주기적으로(그리고 종료 시) 한 번의 batch UPDATE로 반영합니다.
+ * batch는 IncrementBatchWriter가 한 트랜잭션으로 반영하고, 실패하면 전부 롤백한 뒤 버퍼로 되돌립니다.
+ * 같은 유저가 dedupWindow 안에 같은 게시글을 다시 조회하면 조회수를 올리지 않습니다.
+ */
+@Component
+public class PostViewCountBuffer {
+    private static final String UPDATE_VIEW_COUNT = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+    private final IncrementBatchWriter incrementBatchWriter;
+    private final Clock clock;
+    private final long dedupWindowMillis;
+    private final int maximumPendingPosts;
+    private final int maximumDedupEntries;
+
+    // 증가와 flush의 제거가 서로의 조회수를 잃지 않도록, 게시글별로 compute 안에서만 값을 바꿉니다.
+    private final Map<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<ViewKey, Long> lastViewedAt = new ConcurrentHashMap<>();
+    private volatile long lastFlushedAt;
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter flushFailureCounter;
+
+    @Autowired
+    public PostViewCountBuffer(
+            IncrementBatchWriter incrementBatchWriter,
+            MeterRegistry meterRegistry,
+            @Value("${orury.post.view-count.dedup-window-ms:600000}") long dedupWindowMillis,
+            @Value("${orury.post.view-count.maximum-pending-posts:10000}") int maximumPendingPosts,
+            @Value("${orury.post.view-count.maximum-dedup-entries:200000}") int maximumDedupEntries
+    ) {
+        this(incrementBatchWriter, meterRegistry, Clock.systemUTC(), dedupWindowMillis, maximumPendingPosts, maximumDedupEntries);
+    }
+
+    PostViewCountBuffer(
+            IncrementBatchWriter incrementBatchWriter,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            long dedupWindowMillis,
+            int maximumPendingPosts,
+            int maximumDedupEntries
+    ) {
+        this.incrementBatchWriter = incrementBatchWriter;
+        this.clock = clock;
+        this.dedupWindowMillis = dedupWindowMillis;
+        this.maximumPendingPosts = maximumPendingPosts;
+        this.maximumDedupEntries = maximumDedupEntries;
+        this.lastFlushedAt = clock.millis();
+
+        this.flushedCounter = meterRegistry.counter("post.view_count.flushed");
+        this.droppedCounter = meterRegistry.counter("post.view_count.dropped");
+        this.deduplicatedCounter = meterRegistry.counter("post.view_count.deduplicated");
+        this.flushFailureCounter = meterRegistry.counter("post.view_count.flush.failures");
+        Gauge.builder("post.view_count.pending_posts", pendingCounts, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("post.view_count.flush.lag", this, buffer -> (buffer.clock.millis() - buffer.lastFlushedAt) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void increase(Long userId, Long postId) {
+        long now = clock.millis();
+        if (isDuplicatedView(new ViewKey(userId, postId), now)) {
+            deduplicatedCounter.increment();
+            return;
+        }
+
+        boolean[] dropped = {false};
+        pendingCounts.compute(postId, (id, count) -> {
+            if (count != null) return count + 1;
+            // 새 게시글 id로 버퍼가 한없이 커지지 않도록, 상한을 넘으면 다음 flush까지 버립니다.
+            if (pendingCounts.size() >= maximumPendingPosts) {
+                dropped[0] = true;
+                return null;
+            }
+            return 1L;
+        });
+        if (dropped[0]) droppedCounter.increment();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${orury.post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long now = clock.millis();
+        lastViewedAt.values().removeIf(viewedAt -> now - viewedAt >= dedupWindowMillis);
+
+        List<Object[]> increments = drain();
+        if (increments.isEmpty()) {
+            lastFlushedAt = now;
+            return;
+        }
+
+        // 반영하지 못한 조회수는 버퍼로 되돌려 다음 flush에서 다시 시도합니다.
+        boolean written = incrementBatchWriter.write(UPDATE_VIEW_COUNT, increments,
+                (postId, count) -> pendingCounts.merge(postId, count, Long::sum));
+        if (!written) {
+            flushFailureCounter.increment();
+            return;
+        }
+        flushedCounter.increment(increments.stream().mapToLong(increment -> (long) increment[0]).sum());
+        lastFlushedAt = now;
+    }
+
+    /**
+     * 버퍼의 조회수를 [증가량, 게시글 id] 목록으로 꺼냅니다. 락 경합을 줄이기 위해 id 오름차순으로 정렬합니다.
+     * 꺼낸 게시글은 버퍼에서 제거하고, 그 뒤의 조회는 새 값으로 다시 쌓입니다.
+     */
+    private List<Object[]> drain() {
+        List<Object[]> increments = new ArrayList<>();
+        pendingCounts.keySet().forEach(postId -> pendingCounts.computeIfPresent(postId, (id, count) -> {
+            increments.add(new Object[]{count, id});
+            return null;
+        }));
+        increments.sort((left, right) -> Long.compare((Long) left[1], (Long) right[1]));
+        return increments;
+    }
+
+    // 같은 유저의 동시 조회 중 하나만 세도록, 판별과 기록을 compute 안에서 함께 합니다.
+    private boolean isDuplicatedView(ViewKey viewKey, long now) {
+        boolean[] duplicated = {false};
+        lastViewedAt.compute(viewKey, (key, viewedAt) -> {
+            if (viewedAt != null && now - viewedAt < dedupWindowMillis) {
+                duplicated[0] = true;
+                return viewedAt;
+            }
+            // 중복 판별용 맵이 가득 차면 새 유저/게시글 조합은 기록하지 않고 조회수만 올립니다.
+            if (viewedAt == null && lastViewedAt.size() >= maximumDedupEntries) return null;
+            return now;
+        });
+        return duplicated[0];
+    }
+
+    private record ViewKey(Long userId, Long postId) {
+    }
+}
@@ -41,16 +41,17 @@ public class Review extends AuditingField {
     @Column(name = "score", nullable = false)
     private float score;
 
-    @Column(name = "want_to_go_count", nullable = false)
+    // 리액션 수는 CounterDeltaBuffer의 증감 UPDATE로만 갱신합니다.
+    @Column(name = "want_to_go_count", nullable = false, updatable = false)
     private int wantToGoCount;
 
-    @Column(name = "helped_count", nullable = false)
+    @Column(name = "helped_count", nullable = false, updatable = false)
     private int helpedCount;
 
-    @Column(name = "great_count", nullable = false)
+    @Column(name = "great_count", nullable = false, updatable = false)
     private int greatCount;
 
-    @Column(name = "funny_count", nullable = false)
+    @Column(name = "funny_count", nullable = false, updatable = false)
     private int funnyCount;
 
     @ManyToOne(optional = false)
@@ -2,6 +2,8 @@ package org.orury.domain.review.infrastructure;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
 import org.orury.domain.review.domain.ReviewReader;
 import org.orury.domain.review.domain.entity.Review;
 import org.orury.domain.review.domain.entity.ReviewReaction;
@@ -18,10 +20,11 @@ import java.util.Optional;
 public class ReviewReaderImpl implements ReviewReader {
     private final ReviewRepository reviewRepository;
     private final ReviewReactionRepository reviewReactionRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public List<Review> findByGymId(Long gymId) {
-        return reviewRepository.findByGymId(gymId);
+        return withPendingReactions(reviewRepository.findByGymId(gymId));
     }
 
     @Override
@@ -31,27 +34,28 @@ public class ReviewReaderImpl implements ReviewReader {
 
     @Override
     public List<Review> findByGymIdOrderByIdDesc(Long gymId, Pageable pageable) {
-        return reviewRepository.findByGymIdOrderByIdDesc(gymId, pageable);
+        return withPendingReactions(reviewRepository.findByGymIdOrderByIdDesc(gymId, pageable));
     }
 
     @Override
     public List<Review> findByGymIdAndIdLessThanOrderByIdDesc(Long gymId, Long cursor, Pageable pageable) {
-        return reviewRepository.findByGymIdAndIdLessThanOrderByIdDesc(gymId, cursor, pageable);
+        return withPendingReactions(reviewRepository.findByGymIdAndIdLessThanOrderByIdDesc(gymId, cursor, pageable));
     }
 
     @Override
     public List<Review> findByUserIdOrderByIdDesc(Long userId, Pageable pageable) {
-        return reviewRepository.findByUserIdOrderByIdDesc(userId, pageable);
+        return withPendingReactions(reviewRepository.findByUserIdOrderByIdDesc(userId, pageable));
     }
 
     @Override
     public List<Review> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Pageable pageable) {
-        return reviewRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable);
+        return withPendingReactions(reviewRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable));
     }
 
     @Override
     public Optional<Review> findById(Long id) {
-        return reviewRepository.findById(id);
+        return reviewRepository.findById(id)
+                .map(this::withPendingReactions);
     }
 
     @Override
@@ -63,4 +67,37 @@ public class ReviewReaderImpl implements ReviewReader {
     public List<ReviewReaction> findReviewReactionsByUserId(Long userId) {
         return reviewReactionRepository.findByReviewReactionPK_UserId(userId);
     }
+
+    private List<Review> withPendingReactions(List<Review> reviews) {
+        return reviews.stream()
+                .map(this::withPendingReactions)
+                .toList();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 리액션 변화량을 덧씌운 사본을 반환합니다. 변화량이 없으면 조회한 엔티티를 그대로 반환합니다.
+     */
+    private Review withPendingReactions(Review review) {
+        long wantToGo = counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_WANT_TO_GO, review.getId());
+        long helped = counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_HELPED, review.getId());
+        long great = counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_GREAT, review.getId());
+        long funny = counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_FUNNY, review.getId());
+        if (wantToGo == 0 && helped == 0 && great == 0 && funny == 0) return review;
+        return Review.of(
+                review.getId(),
+                review.getContent(),
+                review.getImages(),
+                review.getScore(),
+                review.getWantToGoCount() + (int) wantToGo,
+                review.getHelpedCount() + (int) helped,
+                review.getGreatCount() + (int) great,
+                review.getFunnyCount() + (int) funny,
+                review.getUser(),
+                review.getGym(),
+                review.getCreatedAt(),
+                review.getUpdatedAt(),
+                review.getDescription(),
+                review.getDifficulty()
+        );
+    }
 }
@@ -2,6 +2,8 @@ package org.orury.domain.review.infrastructure;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
 import org.orury.domain.review.domain.ReviewStore;
 import org.orury.domain.review.domain.entity.Review;
 import org.orury.domain.review.domain.entity.ReviewReaction;
@@ -13,20 +15,22 @@ import org.springframework.stereotype.Component;
 public class ReviewStoreImpl implements ReviewStore {
     private final ReviewRepository reviewRepository;
     private final ReviewReactionRepository reviewReactionRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
 
     @Override
     public void increaseReactionCount(Long reviewId, int reactionType) {
-        reviewRepository.increaseReactionCount(reviewId, reactionType);
+        counterDeltaBuffer.add(CounterColumn.ofReactionType(reactionType), reviewId, 1);
     }
 
     @Override
     public void decreaseReactionCount(Long reviewId, int reactionType) {
-        reviewRepository.decreaseReactionCount(reviewId, reactionType);
+        counterDeltaBuffer.add(CounterColumn.ofReactionType(reactionType), reviewId, -1);
     }
 
     @Override
     public void updateReactionCount(Long reviewId, int oldReactionType, int newReactionType) {
-        reviewRepository.updateReactionCount(reviewId, oldReactionType, newReactionType);
+        counterDeltaBuffer.add(CounterColumn.ofReactionType(oldReactionType), reviewId, -1);
+        counterDeltaBuffer.add(CounterColumn.ofReactionType(newReactionType), reviewId, 1);
     }
 
     @Override
@@ -54,7 +58,7 @@ public class ReviewStoreImpl implements ReviewStore {
         reviewReactionRepository.findByReviewReactionPK_UserId(id)
                 .forEach(
                         reviewReaction -> {
-                            reviewRepository.decreaseReactionCount(reviewReaction.getReviewReactionPK()
+                            decreaseReactionCount(reviewReaction.getReviewReactionPK()
                                     .getReviewId(), reviewReaction.getReactionType());
                             reviewReactionRepository.delete(reviewReaction);
                         }
@@ -0,0 +1,6 @@
+ALTER TABLE `crew`
+    ADD COLUMN last_meeting_at DATETIME NULL;
+
+CREATE INDEX `IDX_crew_last_meeting_at` ON `crew` (`last_meeting_at`);
+
+CREATE INDEX `IDX_crew_meeting_crew_id_created_at` ON `crew_meeting` (`crew_id`, `created_at`);
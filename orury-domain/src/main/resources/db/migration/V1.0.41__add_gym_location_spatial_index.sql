@@ -0,0 +1,4 @@
+ALTER TABLE `gym`
+    ADD COLUMN location POINT SRID 0 GENERATED ALWAYS AS (POINT(`longitude`, `latitude`)) STORED NOT NULL;
+
+CREATE SPATIAL INDEX `SPX_gym_location` ON `gym` (`location`);
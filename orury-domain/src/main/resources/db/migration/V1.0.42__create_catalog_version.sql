@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS `catalog_version`
+(
+    `name`       VARCHAR(50) NOT NULL,
+    `version`    BIGINT      NOT NULL DEFAULT 0,
+    `updated_at` DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (`name`)
+);
+
+INSERT INTO `catalog_version` (`name`, `version`)
+VALUES ('gym', 0);
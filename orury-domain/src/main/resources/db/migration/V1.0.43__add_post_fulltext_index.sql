@@ -0,0 +1,2 @@
+ALTER TABLE `post`
+    ADD FULLTEXT INDEX `FTX_post_title_content` (`title`, `content`) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+ALTER TABLE `gym`
+    ADD COLUMN source_hash CHAR(64) NULL COMMENT '카카오 원본 데이터의 SHA-256, 배치가 변경 여부 판단에 사용';
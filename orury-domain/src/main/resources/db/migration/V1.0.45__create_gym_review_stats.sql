@@ -0,0 +1,34 @@
+CREATE TABLE IF NOT EXISTS `gym_review_stats`
+(
+    `gym_id`         BIGINT        NOT NULL COMMENT '암장 ID',
+    `score_counts`   VARCHAR(1000) NULL COMMENT '점수별 리뷰 개수, "점수:개수"를 점수 오름차순으로 쉼표로 연결',
+    `monthly_scores` VARCHAR(500)  NULL COMMENT '1~12월 "점수합:개수"를 쉼표로 연결',
+    PRIMARY KEY (`gym_id`)
+);
+
+ALTER TABLE `gym_review_stats` ADD CONSTRAINT `FK_gym_TO_gym_review_stats_1` FOREIGN KEY (`gym_id`)
+    REFERENCES `gym` (`id`)
+    ON DELETE CASCADE;
+
+-- 기존 리뷰로 통계를 채웁니다. 이후에는 리뷰 변경 시 증감하고, 배치(gymReviewStatsJob)가 주기적으로 다시 계산합니다.
+INSERT INTO `gym_review_stats` (`gym_id`, `score_counts`, `monthly_scores`)
+SELECT r.gym_id,
+       (SELECT GROUP_CONCAT(CONCAT(s.score, ':', s.review_count) ORDER BY s.score SEPARATOR ',')
+        FROM (SELECT gym_id, score, COUNT(*) AS review_count FROM review GROUP BY gym_id, score) s
+        WHERE s.gym_id = r.gym_id),
+       CONCAT_WS(',',
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 1 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 1)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 2 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 2)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 3 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 3)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 4 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 4)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 5 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 5)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 6 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 6)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 7 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 7)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 8 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 8)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 9 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 9)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 10 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 10)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 11 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 11)),
+           CONCAT(IFNULL(SUM(CASE WHEN MONTH(r.created_at) = 12 THEN r.score END), 0), ':', SUM(MONTH(r.created_at) = 12))
+       )
+FROM review r
+GROUP BY r.gym_id;
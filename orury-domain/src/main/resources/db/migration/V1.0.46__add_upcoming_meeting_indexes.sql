@@ -0,0 +1,4 @@
+-- 유저의 다가오는 일정 조회: 참여 일정을 user_id로 찾고, 일정은 시작시간으로 거른다.
+CREATE INDEX `IDX_crew_meeting_member_user_id_meeting_id` ON `crew_meeting_member` (`user_id`, `meeting_id`);
+
+CREATE INDEX `IDX_crew_meeting_start_time_crew_id` ON `crew_meeting` (`start_time`, `crew_id`);
@@ -0,0 +1,18 @@
+-- 리프레시토큰 원문 대신 SHA-256 hex를 고유 인덱스로 조회하고, 만료된 토큰은 배치(refreshTokenSweepJob)가 expires_at 인덱스로 지운다.
+ALTER TABLE `refresh_token`
+    ADD COLUMN `token_hash` CHAR(64) NULL,
+    ADD COLUMN `expires_at` DATETIME NULL;
+
+-- 기존 토큰의 만료시각은 마지막 발급 시각에서 리프레시토큰 유효기간(7일) 뒤로 잡는다.
+UPDATE `refresh_token`
+SET `token_hash` = SHA2(`value`, 256),
+    `expires_at` = COALESCE(`updated_at`, `created_at`) + INTERVAL 7 DAY;
+
+ALTER TABLE `refresh_token`
+    DROP COLUMN `value`,
+    MODIFY `token_hash` CHAR(64) NOT NULL,
+    MODIFY `expires_at` DATETIME NOT NULL;
+
+CREATE UNIQUE INDEX `UK_refresh_token_token_hash` ON `refresh_token` (`token_hash`);
+
+CREATE INDEX `IDX_refresh_token_expires_at` ON `refresh_token` (`expires_at`);
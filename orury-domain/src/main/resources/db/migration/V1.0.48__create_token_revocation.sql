@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS `token_revocation`
+(
+    `id`         BIGINT      NOT NULL AUTO_INCREMENT COMMENT '폐기 ID, 증가 순서대로 읽어 새 폐기만 가져온다',
+    `user_id`    BIGINT      NOT NULL COMMENT '토큰을 폐기한 유저 ID',
+    `revoked_at` DATETIME(6) NOT NULL COMMENT '이 시각 이전에 발급된 토큰을 폐기',
+    PRIMARY KEY (`id`)
+);
@@ -0,0 +1,5 @@
+-- 영역 검색이 인메모리 gym 카탈로그로 옮겨가 읽는 곳이 없으므로, gym 쓰기마다 유지되던 공간 인덱스와 생성 컬럼을 제거한다.
+DROP INDEX `SPX_gym_location` ON `gym`;
+
+ALTER TABLE `gym`
+    DROP COLUMN `location`;
@@ -0,0 +1,10 @@
+-- DATETIME 은 시간대가 없어 쓰는 쪽과 읽는 쪽의 시간대가 다르면 watermark 가 몇 시간씩 어긋나므로, 토큰 iat 와 바로 비교할 수 있는 epoch millis 로 바꾼다.
+ALTER TABLE `token_revocation`
+    ADD COLUMN `revoked_at_millis` BIGINT NOT NULL DEFAULT 0 COMMENT '이 시각(epoch millis) 이전에 발급된 토큰을 폐기';
+
+-- 기존 행은 DB 세션 시간대로 옮긴다. 액세스 토큰 유효기간이 지나면 쓰이지 않는 값이다.
+UPDATE `token_revocation`
+SET `revoked_at_millis` = ROUND(UNIX_TIMESTAMP(`revoked_at`) * 1000);
+
+ALTER TABLE `token_revocation`
+    DROP COLUMN `revoked_at`;
@@ -0,0 +1,2 @@
+-- 폐기는 id 대신 폐기 시각으로 최근 것만 읽는다. AUTO_INCREMENT id 는 커밋 순서와 달라 id cursor 로는 늦게 커밋된 폐기를 놓친다.
+CREATE INDEX `IDX_token_revocation_revoked_at_millis` ON `token_revocation` (`revoked_at_millis`);
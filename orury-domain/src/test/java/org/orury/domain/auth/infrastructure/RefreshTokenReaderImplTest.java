@@ -4,7 +4,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.orury.domain.config.InfrastructureTest;
 
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.only;
 
@@ -12,12 +16,14 @@ import static org.mockito.Mockito.only;
 class RefreshTokenReaderImplTest extends InfrastructureTest {
 
     @Test
+    @DisplayName("리프레시토큰 원문을 받아, 원문의 SHA-256 hex로 만료되지 않은 토큰인지 조회한다.")
     void existsByValue() {
         // given & when
         refreshTokenReader.existsByValue("testRefreshTokenValue");
 
         // then
         then(refreshTokenRepository).should(only())
-                .existsByValue(any(String.class));
+                .existsByTokenHashAndExpiresAtAfter(eq(RefreshTokenHash.of("testRefreshTokenValue")), any(LocalDateTime.class));
+        assertEquals(64, RefreshTokenHash.of("testRefreshTokenValue").length());
     }
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package org.orury.domain.auth.infrastructure;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.orury.domain.auth.domain.entity.RefreshToken;
 import org.orury.domain.config.InfrastructureTest;
 
-import static org.mockito.ArgumentMatchers.any;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.internal.verification.VerificationModeFactory.only;
@@ -16,11 +19,15 @@ class RefreshTokenStoreImplTest extends InfrastructureTest {
     @Test
     void save() {
         // given & when
-        refreshTokenStore.save(25781L, "testRefreshTokenValue");
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+        refreshTokenStore.save(25781L, "testRefreshTokenValue", expiresAt);
 
         // then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
         then(refreshTokenRepository).should(only())
-                .save(any(RefreshToken.class));
+                .save(captor.capture());
+        assertEquals(RefreshTokenHash.of("testRefreshTokenValue"), captor.getValue().getTokenHash());
+        assertEquals(expiresAt, captor.getValue().getExpiresAt());
     }
 
     @Test
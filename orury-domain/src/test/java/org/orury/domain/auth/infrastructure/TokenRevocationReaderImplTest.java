@@ -0,0 +1,24 @@
+package org.orury.domain.auth.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.config.InfrastructureTest;
+import org.springframework.data.domain.PageRequest;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.only;
+
+@DisplayName("[Reader] 토큰 폐기 ReaderImpl 테스트")
+class TokenRevocationReaderImplTest extends InfrastructureTest {
+
+    @Test
+    @DisplayName("폐기 시각 이후의 폐기 중 cursor 뒤의 것을 id 순서로 size개까지 조회한다.")
+    void findRevocationsSince() {
+        // given & when
+        tokenRevocationReader.findRevocationsSince(1_000L, 10L, 500);
+
+        // then
+        then(tokenRevocationRepository).should(only())
+                .findByRevokedAtMillisGreaterThanAndIdGreaterThanOrderByIdAsc(1_000L, 10L, PageRequest.of(0, 500));
+    }
+}
@@ -0,0 +1,35 @@
+package org.orury.domain.auth.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.orury.domain.auth.domain.entity.TokenRevocation;
+import org.orury.domain.config.InfrastructureTest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.only;
+
+@DisplayName("[Store] 토큰 폐기 StoreImpl 테스트")
+class TokenRevocationStoreImplTest extends InfrastructureTest {
+
+    @Test
+    @DisplayName("유저 id를 받아, 지금 시각을 watermark로 하는 폐기 기록을 남긴다.")
+    void revoke() {
+        // given
+        long before = Instant.now().toEpochMilli();
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+
+        // when
+        tokenRevocationStore.revoke(1L);
+
+        // then
+        then(tokenRevocationRepository).should(only())
+                .save(captor.capture());
+        assertThat(captor.getValue().getId()).isNull();
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getRevokedAtMillis()).isGreaterThanOrEqualTo(before);
+    }
+}
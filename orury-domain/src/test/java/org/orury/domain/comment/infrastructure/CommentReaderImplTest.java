@@ -6,6 +6,7 @@ import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.comment.domain.entity.CommentLikePK;
 import org.orury.domain.config.InfrastructureTest;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.Collections;
@@ -14,6 +15,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -138,6 +140,26 @@ class CommentReaderImplTest extends InfrastructureTest {
         assertFalse(commentReader.existsCommentLikeByUserIdAndCommentId(userId, commentId));
     }
 
+    @Test
+    @DisplayName("유저id와 댓글id 목록이 들어오면, 한 번의 조회로 유저가 좋아요한 댓글id만 담아 반환한다.")
+    void when_UserIdAndCommentIds_Then_ReturnLikedCommentIds() {
+        // given
+        Long userId = 7L;
+        List<Long> commentIds = List.of(8L, 9L);
+
+        given(commentLikeRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIds))
+                .willReturn(List.of(9L));
+
+        // when
+        LikedIds likedIds = commentReader.findLikedCommentIds(userId, commentIds);
+
+        // then
+        assertFalse(likedIds.contains(8L));
+        assertTrue(likedIds.contains(9L));
+        then(commentLikeRepository).should(times(1))
+                .findCommentIdsByUserIdAndCommentIdIn(anyLong(), anyCollection());
+    }
+
     @Test
     @DisplayName("게시글Id와 최종값이 아닌 cursor가 들어오면, (cursor 다음의 페이지만큼의) 해당 게시글의 댓글 목록을 댓글/대댓글 모두 작성순으로 정렬하여 반환한다.")
     void when_PostIdAndNotLastCursor_Then_RetrieveNextPageOfCommentsOfPostOrderByCreatedDesc() {
@@ -161,16 +183,6 @@ class CommentReaderImplTest extends InfrastructureTest {
                 comment2,
                 comment3
         );
-        List<Comment> childCommentsFor1 = List.of(
-                comment1_1,
-                comment1_2,
-                comment1_3
-        );
-        List<Comment> childCommentsFor3 = List.of(
-                comment3_1,
-                comment3_2,
-                comment3_3
-        );
 
         List<Comment> expectedComments = List.of(
                 comment1, comment1_1, comment1_2, comment1_3,
@@ -178,10 +190,14 @@ class CommentReaderImplTest extends InfrastructureTest {
                 comment3, comment3_1, comment3_2, comment3_3
         );
 
-        given(commentRepository.findByPostIdAndParentIdAndIdGreaterThanOrderByIdAsc(postId, NumberConstants.PARENT_COMMENT, cursor, pageRequest))
+        List<Comment> childComments = List.of(
+                comment1_1, comment1_2, comment3_1, comment3_2, comment3_3, comment1_3
+        );
+
+        given(commentRepository.findParentCommentsWithUserByPostIdAndCursor(postId, NumberConstants.PARENT_COMMENT, cursor, pageRequest))
                 .willReturn(parentComments);
-        given(commentRepository.findByParentIdOrderByIdAsc(anyLong()))
-                .willReturn(childCommentsFor1, Collections.emptyList(), childCommentsFor3);
+        given(commentRepository.findChildCommentsWithUserByParentIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(childComments);
 
         // when
         List<Comment> actualComments = commentReader.getCommentsByPostIdAndCursor(postId, cursor, pageRequest);
@@ -190,9 +206,9 @@ class CommentReaderImplTest extends InfrastructureTest {
         assertEquals(expectedComments, actualComments);
 
         then(commentRepository).should(times(1))
-                .findByPostIdAndParentIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), anyLong(), any());
-        then(commentRepository).should(times(parentComments.size()))
-                .findByParentIdOrderByIdAsc(anyLong());
+                .findParentCommentsWithUserByPostIdAndCursor(anyLong(), anyLong(), anyLong(), any());
+        then(commentRepository).should(times(1))
+                .findChildCommentsWithUserByParentIdIn(anyCollection());
     }
 
     @Test
@@ -210,9 +226,9 @@ class CommentReaderImplTest extends InfrastructureTest {
         assertEquals(Collections.emptyList(), actualComments);
 
         then(commentRepository).should(never())
-                .findByPostIdAndParentIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), anyLong(), any());
+                .findParentCommentsWithUserByPostIdAndCursor(anyLong(), anyLong(), anyLong(), any());
         then(commentRepository).should(never())
-                .findByParentIdOrderByIdAsc(anyLong());
+                .findChildCommentsWithUserByParentIdIn(anyCollection());
     }
 
     @Test
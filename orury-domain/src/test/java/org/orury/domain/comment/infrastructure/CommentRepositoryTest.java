@@ -0,0 +1,77 @@
+package org.orury.domain.comment.infrastructure;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.comment.domain.dto.CommentDto;
+import org.orury.domain.comment.domain.entity.Comment;
+import org.orury.domain.config.RepositoryTest;
+import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.post.domain.entity.Post;
+import org.orury.domain.user.domain.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.orury.domain.CommentDomainFixture.TestComment.createChildComment;
+import static org.orury.domain.CommentDomainFixture.TestComment.createParentComment;
+import static org.orury.domain.PostDomainFixture.TestPost.createPost;
+import static org.orury.domain.UserDomainFixture.TestUser.createUser;
+
+@RepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("[Repository] 댓글 스레드 조회 쿼리 수 테스트")
+class CommentRepositoryTest {
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        User postWriter = entityManager.persist(createUser().id(null).email("writer@orury.com").build().get());
+        post = entityManager.persist(createPost().id(null).user(postWriter).build().get());
+        for (int i = 0; i < 3; i++) {
+            User parentWriter = entityManager.persist(createUser().id(null).email("parent" + i + "@orury.com").build().get());
+            Comment parent = entityManager.persist(createParentComment().id(null).post(post).user(parentWriter).build().get());
+            for (int j = 0; j < 2; j++) {
+                User childWriter = entityManager.persist(createUser().id(null).email("child" + i + j + "@orury.com").build().get());
+                entityManager.persist(createChildComment().id(null).parentId(parent.getId()).post(post).user(childWriter).build().get());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("부모 댓글 한 페이지와 그 대댓글을, 작성자와 게시글까지 포함해 두 번의 쿼리로 조회한다.")
+    void when_FindThreadPage_Then_ExecuteTwoStatements() {
+        // when
+        List<Comment> parents = commentRepository.findParentCommentsWithUserByPostIdAndCursor(
+                post.getId(), NumberConstants.PARENT_COMMENT, NumberConstants.FIRST_CURSOR, PageRequest.of(0, NumberConstants.COMMENT_PAGINATION_SIZE));
+        List<Comment> children = commentRepository.findChildCommentsWithUserByParentIdIn(
+                parents.stream().map(Comment::getId).toList());
+        parents.forEach(CommentDto::from);
+        children.forEach(CommentDto::from);
+
+        // then
+        assertThat(parents).hasSize(3);
+        assertThat(children).hasSize(6);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
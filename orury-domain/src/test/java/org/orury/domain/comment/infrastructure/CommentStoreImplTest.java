@@ -5,9 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.orury.domain.comment.domain.entity.Comment;
 import org.orury.domain.comment.domain.entity.CommentLike;
 import org.orury.domain.config.InfrastructureTest;
+import org.orury.domain.global.counter.CounterColumn;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
@@ -50,11 +52,11 @@ class CommentStoreImplTest extends InfrastructureTest {
     }
 
     @Test
-    @DisplayName("댓글 삭제 시, 댓글 삭제처리 및 저장하고, 댓글에 달린 좋아요를 삭제하고, 게시글의 댓글 수를 감소시켜야 한다.")
+    @DisplayName("댓글 삭제 시, 댓글 삭제처리 및 저장하고, 댓글에 달린 좋아요를 삭제하고(좋아요 수를 0으로), 게시글의 댓글 수를 감소시켜야 한다.")
     void when_DeleteComment_Then_DeleteCommentAndDeleteCommentLikesAndDecreaseCommentCountsOfPost() {
         // given
         Long commentId = 2L;
-        Comment comment = createComment(commentId).build().get();
+        Comment comment = createComment(commentId).likeCount(3).build().get();
 
         // when
         commentStore.deleteComment(comment);
@@ -66,6 +68,7 @@ class CommentStoreImplTest extends InfrastructureTest {
                 .deleteByCommentLikePK_CommentId(anyLong());
         then(postRepository).should(times(1))
                 .decreaseCommentCount(anyLong());
+        assertEquals(-3, counterDeltaBuffer.pendingDelta(CounterColumn.COMMENT_LIKE, commentId));
     }
 
     @Test
@@ -80,8 +83,7 @@ class CommentStoreImplTest extends InfrastructureTest {
         // then
         then(commentLikeRepository).should(times(1))
                 .save(any());
-        then(commentRepository).should(times(1))
-                .increaseLikeCount(anyLong());
+        assertEquals(1, counterDeltaBuffer.pendingDelta(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId()));
     }
 
     @Test
@@ -96,8 +98,7 @@ class CommentStoreImplTest extends InfrastructureTest {
         // then
         then(commentLikeRepository).should(times(1))
                 .delete(any());
-        then(commentRepository).should(times(1))
-                .decreaseLikeCount(anyLong());
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId()));
     }
 
     @Test
@@ -120,8 +121,8 @@ class CommentStoreImplTest extends InfrastructureTest {
         // then
         then(commentLikeRepository).should(times(1))
                 .findByCommentLikePK_UserId(anyLong());
-        then(commentRepository).should(times(commentLikes.size()))
-                .decreaseLikeCount(anyLong());
+        commentLikes.forEach(commentLike -> assertEquals(-1,
+                counterDeltaBuffer.pendingDelta(CounterColumn.COMMENT_LIKE, commentLike.getCommentLikePK().getCommentId())));
         then(commentLikeRepository).should(times(commentLikes.size()))
                 .delete(any());
     }
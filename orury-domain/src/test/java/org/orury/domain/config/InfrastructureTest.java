@@ -1,5 +1,6 @@
 package org.orury.domain.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -10,9 +11,14 @@ import org.orury.domain.admin.domain.AdminStoreImpl;
 import org.orury.domain.admin.infrastructure.AdminRepository;
 import org.orury.domain.auth.domain.RefreshTokenReader;
 import org.orury.domain.auth.domain.RefreshTokenStore;
+import org.orury.domain.auth.domain.TokenRevocationReader;
+import org.orury.domain.auth.domain.TokenRevocationStore;
 import org.orury.domain.auth.infrastructure.RefreshTokenReaderImpl;
 import org.orury.domain.auth.infrastructure.RefreshTokenRepository;
 import org.orury.domain.auth.infrastructure.RefreshTokenStoreImpl;
+import org.orury.domain.auth.infrastructure.TokenRevocationReaderImpl;
+import org.orury.domain.auth.infrastructure.TokenRevocationRepository;
+import org.orury.domain.auth.infrastructure.TokenRevocationStoreImpl;
 import org.orury.domain.comment.domain.CommentReader;
 import org.orury.domain.comment.domain.CommentStore;
 import org.orury.domain.comment.infrastructure.CommentLikeRepository;
@@ -21,11 +27,15 @@ import org.orury.domain.comment.infrastructure.CommentRepository;
 import org.orury.domain.comment.infrastructure.CommentStoreImpl;
 import org.orury.domain.crew.domain.*;
 import org.orury.domain.crew.infrastructures.*;
+import org.orury.domain.global.counter.CounterDeltaBuffer;
+import org.orury.domain.global.counter.IncrementBatchWriter;
 import org.orury.domain.gym.domain.GymReader;
 import org.orury.domain.gym.domain.GymStore;
+import org.orury.domain.gym.infrastructure.GymCatalog;
 import org.orury.domain.gym.infrastructure.GymLikeRepository;
 import org.orury.domain.gym.infrastructure.GymReaderImpl;
 import org.orury.domain.gym.infrastructure.GymRepository;
+import org.orury.domain.gym.infrastructure.GymReviewStatsRepository;
 import org.orury.domain.gym.infrastructure.GymStoreImpl;
 import org.orury.domain.image.domain.ImageReader;
 import org.orury.domain.image.domain.ImageStore;
@@ -45,6 +55,7 @@ import org.orury.domain.post.infrastructure.PostLikeRepository;
 import org.orury.domain.post.infrastructure.PostReaderImpl;
 import org.orury.domain.post.infrastructure.PostRepository;
 import org.orury.domain.post.infrastructure.PostStoreImpl;
+import org.orury.domain.post.infrastructure.PostViewCountBuffer;
 import org.orury.domain.review.domain.ReviewReader;
 import org.orury.domain.review.domain.ReviewStore;
 import org.orury.domain.review.infrastructure.ReviewReactionRepository;
@@ -56,7 +67,9 @@ import org.orury.domain.user.domain.ReportStore;
 import org.orury.domain.user.domain.UserReader;
 import org.orury.domain.user.domain.UserStore;
 import org.orury.domain.user.infrastucture.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.mockito.Mockito.mock;
 
@@ -71,6 +84,13 @@ public abstract class InfrastructureTest {
     protected RefreshTokenRepository refreshTokenRepository;
     protected RefreshTokenReader refreshTokenReader;
     protected RefreshTokenStore refreshTokenStore;
+    protected TokenRevocationRepository tokenRevocationRepository;
+    protected TokenRevocationReader tokenRevocationReader;
+    protected TokenRevocationStore tokenRevocationStore;
+    //counter
+    protected JdbcTemplate jdbcTemplate;
+    protected IncrementBatchWriter incrementBatchWriter;
+    protected CounterDeltaBuffer counterDeltaBuffer;
     //comment
     protected CommentReader commentReader;
     protected CommentStore commentStore;
@@ -94,6 +114,8 @@ public abstract class InfrastructureTest {
     protected GymStore gymStore;
     protected GymRepository gymRepository;
     protected GymLikeRepository gymLikeRepository;
+    protected GymReviewStatsRepository gymReviewStatsRepository;
+    protected GymCatalog gymCatalog;
     //meeting
     protected MeetingReader meetingReader;
     protected MeetingStore meetingStore;
@@ -110,6 +132,7 @@ public abstract class InfrastructureTest {
     protected PostLikeRepository postLikeRepository;
     protected PostReader postReader;
     protected PostStore postStore;
+    protected PostViewCountBuffer postViewCountBuffer;
     //image
     protected ImageReader imageReader;
     protected ImageStore imageStore;
@@ -131,8 +154,12 @@ public abstract class InfrastructureTest {
         //admin
         adminRepository = mock(AdminRepository.class);
 
+        //counter
+        jdbcTemplate = mock(JdbcTemplate.class);
+
         //auth
         refreshTokenRepository = mock(RefreshTokenRepository.class);
+        tokenRevocationRepository = mock(TokenRevocationRepository.class);
 
         //post
         postRepository = mock(PostRepository.class);
@@ -162,6 +189,7 @@ public abstract class InfrastructureTest {
         //gym
         gymRepository = mock(GymRepository.class);
         gymLikeRepository = mock(GymLikeRepository.class);
+        gymReviewStatsRepository = mock(GymReviewStatsRepository.class);
 
         //review
         reviewRepository = mock(ReviewRepository.class);
@@ -171,15 +199,20 @@ public abstract class InfrastructureTest {
         imageReader = mock(ImageReader.class);
         imageStore = mock(ImageStore.class);
 
+        //counter
+        incrementBatchWriter = new IncrementBatchWriter(jdbcTemplate, mock(PlatformTransactionManager.class));
+        counterDeltaBuffer = new CounterDeltaBuffer(incrementBatchWriter, new SimpleMeterRegistry());
         //admin
         adminReader = new AdminReaderImpl(adminRepository);
         adminStore = new AdminStoreImpl(adminRepository);
         //auth
         refreshTokenReader = new RefreshTokenReaderImpl(refreshTokenRepository);
         refreshTokenStore = new RefreshTokenStoreImpl(refreshTokenRepository);
+        tokenRevocationReader = new TokenRevocationReaderImpl(tokenRevocationRepository);
+        tokenRevocationStore = new TokenRevocationStoreImpl(tokenRevocationRepository);
         //comment
-        commentReader = new CommentReaderImpl(commentRepository, commentLikeRepository);
-        commentStore = new CommentStoreImpl(commentRepository, commentLikeRepository, postRepository);
+        commentReader = new CommentReaderImpl(commentRepository, commentLikeRepository, counterDeltaBuffer);
+        commentStore = new CommentStoreImpl(commentRepository, commentLikeRepository, postRepository, counterDeltaBuffer);
         //crew
         crewApplicationReader = new CrewApplicationReaderImpl(crewApplicationRepository, userRepository);
         crewApplicationStore = new CrewApplicationStoreImpl(crewApplicationRepository, crewRepository, crewMemberRepository);
@@ -190,22 +223,24 @@ public abstract class InfrastructureTest {
         crewTagReader = new CrewTagReaderImpl(crewTagRepository);
         crewTagStore = new CrewTagStoreImpl(crewTagRepository);
         //gym
-        gymReader = new GymReaderImpl(gymRepository, gymLikeRepository);
-        gymStore = new GymStoreImpl(gymRepository, gymLikeRepository);
+        gymCatalog = new GymCatalog(gymRepository, counterDeltaBuffer);
+        gymReader = new GymReaderImpl(gymCatalog, gymLikeRepository, gymReviewStatsRepository);
+        gymStore = new GymStoreImpl(gymRepository, gymLikeRepository, gymCatalog, counterDeltaBuffer, gymReviewStatsRepository);
         //meeting
-        meetingReader = new MeetingReaderImpl(meetingRepository, meetingMemberRepository, crewMemberRepository);
-        meetingStore = new MeetingStoreImpl(meetingRepository);
+        meetingReader = new MeetingReaderImpl(meetingRepository);
+        meetingStore = new MeetingStoreImpl(meetingRepository, crewRepository);
         meetingMemberReader = new MeetingMemberReaderImpl(meetingMemberRepository, userRepository);
         meetingMemberStore = new MeetingMemberStoreImpl(meetingMemberRepository, meetingRepository);
         //notice
         noticeReader = new NoticeReaderImpl(noticeRepository);
         noticeStore = new NoticeStoreImpl(noticeRepository);
         //post
-        postReader = new PostReaderImpl(postRepository, postLikeRepository);
-        postStore = new PostStoreImpl(postRepository, postLikeRepository, imageStore);
+        postReader = new PostReaderImpl(postRepository, postLikeRepository, counterDeltaBuffer);
+        postViewCountBuffer = new PostViewCountBuffer(incrementBatchWriter, new SimpleMeterRegistry(), 600_000L, 10_000, 200_000);
+        postStore = new PostStoreImpl(postRepository, postLikeRepository, imageStore, postViewCountBuffer, counterDeltaBuffer);
         //review
-        reviewReader = new ReviewReaderImpl(reviewRepository, reviewReactionRepository);
-        reviewStore = new ReviewStoreImpl(reviewRepository, reviewReactionRepository);
+        reviewReader = new ReviewReaderImpl(reviewRepository, reviewReactionRepository, counterDeltaBuffer);
+        reviewStore = new ReviewStoreImpl(reviewRepository, reviewReactionRepository, counterDeltaBuffer);
         //user
         userReader = new UserReaderImpl(userRepository);
         userStore = new UserStoreImpl(userRepository);
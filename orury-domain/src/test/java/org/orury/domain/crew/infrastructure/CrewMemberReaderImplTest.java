@@ -11,13 +11,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.*;
 import static org.orury.domain.CrewDomainFixture.TestCrewMember.createCrewMember;
+import static org.orury.domain.UserDomainFixture.TestUser.createUser;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("[Reader] 크루멤버 ReaderImpl 테스트")
@@ -90,4 +93,30 @@ class CrewMemberReaderImplTest extends InfrastructureTest {
         then(crewMemberRepository).should(only())
                 .getCrewMemberByCrewMemberPK_CrewIdAndCrewMemberPK_UserId(anyLong(), anyLong());
     }
+
+    @DisplayName("크루id 목록과 최대 조회수를 받아, 크루별 크루 생성자를 제외한 멤버 목록을 한 번에 조회한다.")
+    @Test
+    void getOtherCrewMembersByCrewIdsMaximum() {
+        // given
+        List<Object[]> memberIds = List.of(
+                new Object[]{1L, 11L},
+                new Object[]{1L, 12L},
+                new Object[]{2L, 11L}
+        );
+        given(crewMemberRepository.findOtherMemberIdsByCrewIdsMaximum(anyList(), anyInt()))
+                .willReturn(memberIds);
+        given(userRepository.findAllById(anySet()))
+                .willReturn(List.of(createUser(11L).build().get(), createUser(12L).build().get()));
+
+        // when
+        Map<Long, List<User>> members = crewMemberReader.getOtherCrewMembersByCrewIdsMaximum(List.of(1L, 2L), 3);
+
+        // then
+        assertThat(members.get(1L)).extracting(User::getId).containsExactly(11L, 12L);
+        assertThat(members.get(2L)).extracting(User::getId).containsExactly(11L);
+        then(crewMemberRepository).should(only())
+                .findOtherMemberIdsByCrewIdsMaximum(anyList(), anyInt());
+        then(userRepository).should(only())
+                .findAllById(anySet());
+    }
 }
@@ -67,7 +67,7 @@ class CrewReaderImplTest extends InfrastructureTest {
 
         // then
         then(crewRepository).should(only())
-                .findDistinctCrewsOrderByMeetingCreatedAtDesc(any(Pageable.class));
+                .findByLastMeetingAtIsNotNullOrderByLastMeetingAtDesc(any(Pageable.class));
     }
 
     @DisplayName("Pageable을 받아, 생성일자 최신순의 크루 목록을 조회한다")
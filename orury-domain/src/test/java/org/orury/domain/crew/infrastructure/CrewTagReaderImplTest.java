@@ -9,12 +9,15 @@ import org.orury.domain.crew.domain.entity.CrewTag;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.only;
+import static org.orury.domain.CrewDomainFixture.TestCrew.createCrew;
 import static org.orury.domain.CrewDomainFixture.TestCrewTag.createCrewTag;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,4 +45,37 @@ class CrewTagReaderImplTest extends InfrastructureTest {
         then(crewTagRepository).should(only())
                 .findCrewTagByCrewId(anyLong());
     }
+
+    @DisplayName("크루id 목록을 받아, 크루별 크루태그 목록을 한 번에 조회한다.")
+    @Test
+    void getTagsByCrewIds() {
+        // given
+        List<CrewTag> crewTags = List.of(
+                createCrewTag().crew(createCrew(1L).build().get()).tag("tag1").build().get(),
+                createCrewTag().crew(createCrew(1L).build().get()).tag("tag2").build().get(),
+                createCrewTag().crew(createCrew(2L).build().get()).tag("tag3").build().get()
+        );
+        given(crewTagRepository.findByCrewIdIn(anyList()))
+                .willReturn(crewTags);
+
+        // when
+        Map<Long, List<String>> tags = crewTagReader.getTagsByCrewIds(List.of(1L, 2L));
+
+        // then
+        assertThat(tags.get(1L)).containsExactly("tag1", "tag2");
+        assertThat(tags.get(2L)).containsExactly("tag3");
+        then(crewTagRepository).should(only())
+                .findByCrewIdIn(anyList());
+    }
+
+    @DisplayName("빈 크루id 목록을 받으면, 조회하지 않고 빈 결과를 반환한다.")
+    @Test
+    void getTagsByEmptyCrewIds() {
+        // given & when
+        Map<Long, List<String>> tags = crewTagReader.getTagsByCrewIds(List.of());
+
+        // then
+        assertThat(tags).isEmpty();
+        then(crewTagRepository).shouldHaveNoInteractions();
+    }
 }
@@ -0,0 +1,178 @@
+package org.orury.domain.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Config] replica 라우팅 DataSource 테스트")
+class DataSourceRouterTest {
+    private static final long READ_YOUR_WRITES_WINDOW_MILLIS = 5_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+    private DataSource writeDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+        writeDataSource = h2("primary");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이 아니면 primary로 보낸다.")
+    void when_NotReadOnly_Then_RouteToPrimary() throws SQLException {
+        // given
+        DataSourceRouter router = router(replica("read-0", "replica0", 1));
+
+        // when & then
+        assertThat(connectedUrl(router)).contains("primary");
+        assertThat(routedCount("write", "write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상인 replica들로 가중치에 따라 나눠 보낸다.")
+    void when_ReadOnly_Then_RouteToReplicasByWeight() throws SQLException {
+        // given
+        DataSourceRouter router = router(replica("read-0", "replica0", 3), replica("read-1", "replica1", 1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        for (int i = 0; i < 400; i++) {
+            assertThat(connectedUrl(router)).contains("replica");
+        }
+
+        // then
+        assertThat(routedCount("read-0", "read")).isGreaterThan(routedCount("read-1", "read"));
+        assertThat(routedCount("read-1", "read")).isPositive();
+        assertThat(routedCount("read-0", "read") + routedCount("read-1", "read")).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("정상인 replica가 없으면 읽기도 primary로 보낸다.")
+    void when_NoHealthyReplica_Then_RouteToPrimary() throws SQLException {
+        // given
+        ReadReplica replica = replica("read-0", "replica0", 1);
+        replica.markUnhealthy(10L, "lagging");
+        DataSourceRouter router = router(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(connectedUrl(router)).contains("primary");
+        assertThat(routedCount("write", "no_healthy_replica")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("replica 연결에 실패하면, 그 replica를 라우팅에서 빼고 이번 읽기는 primary로 보낸다.")
+    void when_ReplicaConnectionFails_Then_FailoverToPrimary() throws SQLException {
+        // given
+        DataSource brokenDataSource = mock(DataSource.class);
+        given(brokenDataSource.getConnection())
+                .willThrow(new SQLException("Connection refused"));
+        ReadReplica replica = new ReadReplica("read-0", brokenDataSource, 1, meterRegistry);
+        DataSourceRouter router = router(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(connectedUrl(router)).contains("primary");
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(routedCount("write", "failover")).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("replica", "read-0").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("replica 연결 풀이 고갈되어 연결에 실패하면, replica는 라우팅에 남기고 이번 읽기만 primary로 보낸다.")
+    void when_ReplicaPoolExhausted_Then_FailoverWithoutEjecting() throws SQLException {
+        // given
+        DataSource busyDataSource = mock(DataSource.class);
+        given(busyDataSource.getConnection())
+                .willThrow(new SQLTransientConnectionException("read-0 - Connection is not available, request timed out after 1000ms."));
+        ReadReplica replica = new ReadReplica("read-0", busyDataSource, 1, meterRegistry);
+        DataSourceRouter router = router(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(connectedUrl(router)).contains("primary");
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(routedCount("write", "replica_busy")).isEqualTo(1);
+        assertThat(routedCount("write", "failover")).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 커밋한 유저의 읽기는 잠시 primary로 보내고, 시간이 지나면 다시 replica로 보낸다.")
+    void when_UserWroteRecently_Then_ReadFromPrimaryWithinWindow() throws SQLException {
+        // given
+        DataSourceRouter router = router(replica("read-0", "replica0", 1));
+        ReadYourWritesContext.bind(1L);
+        commitWriteTransaction(router);
+
+        // when & then
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(connectedUrl(router)).contains("primary");
+        assertThat(routedCount("write", "read_your_writes")).isEqualTo(1);
+
+        ReadYourWritesContext.bind(2L);
+        assertThat(connectedUrl(router)).contains("replica0");
+
+        ReadYourWritesContext.bind(1L);
+        given(clock.millis()).willReturn(READ_YOUR_WRITES_WINDOW_MILLIS);
+        assertThat(connectedUrl(router)).contains("replica0");
+    }
+
+    private void commitWriteTransaction(DataSourceRouter router) throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        connectedUrl(router);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private DataSourceRouter router(ReadReplica... replicas) {
+        return new DataSourceRouter(writeDataSource, List.of(replicas), READ_YOUR_WRITES_WINDOW_MILLIS, meterRegistry, clock);
+    }
+
+    private ReadReplica replica(String name, String database, int weight) {
+        return new ReadReplica(name, h2(database), weight, meterRegistry);
+    }
+
+    private DataSource h2(String database) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private String connectedUrl(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private double routedCount(String target, String reason) {
+        return meterRegistry.counter("datasource.routing", "target", target, "reason", reason).count();
+    }
+}
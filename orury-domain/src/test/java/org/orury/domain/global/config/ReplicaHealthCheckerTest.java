@@ -0,0 +1,110 @@
+package org.orury.domain.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Config] replica health check 테스트")
+class ReplicaHealthCheckerTest {
+    private static final String LAG_QUERY = "SELECT Seconds_Behind_Source FROM replica_status";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource replicaDataSource;
+    private ReadReplica replica;
+    private ReplicaHealthChecker replicaHealthChecker;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        replicaDataSource = new DriverManagerDataSource("jdbc:h2:mem:health_replica;DB_CLOSE_DELAY=-1", "sa", "");
+        execute("DROP TABLE IF EXISTS replica_status");
+        execute("CREATE TABLE replica_status (Seconds_Behind_Source BIGINT)");
+
+        replica = new ReadReplica("read-0", replicaDataSource, 1, meterRegistry);
+        replicaHealthChecker = checker(replica);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치 이내면 라우팅에 두고 지연 값을 기록한다.")
+    void when_LagWithinThreshold_Then_Healthy() throws SQLException {
+        // given
+        execute("INSERT INTO replica_status VALUES (1)");
+
+        // when
+        replicaHealthChecker.check();
+
+        // then
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(meterRegistry.get("datasource.replica.lag.seconds").tag("replica", "read-0").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 라우팅에서 빼고, 따라잡으면 다시 넣는다.")
+    void when_LagExceedsThreshold_Then_EjectUntilCaughtUp() throws SQLException {
+        // given
+        execute("INSERT INTO replica_status VALUES (3)");
+
+        // when & then
+        replicaHealthChecker.check();
+        assertThat(replica.isHealthy()).isFalse();
+
+        execute("UPDATE replica_status SET Seconds_Behind_Source = 0");
+        replicaHealthChecker.check();
+        assertThat(replica.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제 상태가 없거나 지연 값이 NULL이면 복제가 멈춘 것으로 보고 라우팅에서 뺀다.")
+    void when_ReplicationStopped_Then_Eject() throws SQLException {
+        // given
+        execute("INSERT INTO replica_status VALUES (NULL)");
+
+        // when
+        replicaHealthChecker.check();
+
+        // then
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("replica에 연결할 수 없으면 라우팅에서 뺀다.")
+    void when_ConnectionFails_Then_Eject() throws SQLException {
+        // given
+        DataSource brokenDataSource = mock(DataSource.class);
+        given(brokenDataSource.getConnection())
+                .willThrow(new SQLException("Connection refused"));
+        ReadReplica brokenReplica = new ReadReplica("read-1", brokenDataSource, 1, meterRegistry);
+
+        // when
+        checker(brokenReplica).check();
+
+        // then
+        assertThat(brokenReplica.isHealthy()).isFalse();
+    }
+
+    private ReplicaHealthChecker checker(ReadReplica... replicas) {
+        DataSource writeDataSource = new DriverManagerDataSource("jdbc:h2:mem:health_primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSourceRouter router = new DataSourceRouter(writeDataSource, List.of(replicas), 5_000L, meterRegistry);
+        return new ReplicaHealthChecker(router, LAG_QUERY, LAG_COLUMN, 2L, 2_000L);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
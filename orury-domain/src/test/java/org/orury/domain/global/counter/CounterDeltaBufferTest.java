@@ -0,0 +1,150 @@
+package org.orury.domain.global.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("[Buffer] 카운터 변화량 버퍼 테스트")
+class CounterDeltaBufferTest {
+    private static final String UPDATE_POST_LIKE = "UPDATE post SET like_count = like_count + ? WHERE id = ?";
+    private static final String UPDATE_REVIEW_GREAT = "UPDATE review SET great_count = great_count + ? WHERE id = ?";
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private CounterDeltaBuffer counterDeltaBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        counterDeltaBuffer = new CounterDeltaBuffer(new IncrementBatchWriter(jdbcTemplate, mock(PlatformTransactionManager.class)), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 행의 변화량은 합쳐지고, 컬럼마다 id 오름차순의 batch UPDATE 한 번으로 반영된다.")
+    void when_Flush_Then_BatchUpdateCoalescedDeltasPerColumn() {
+        // given
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, 20L, 1);
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, 10L, 1);
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, 20L, 1);
+        counterDeltaBuffer.add(CounterColumn.REVIEW_GREAT, 10L, -1);
+
+        // when
+        counterDeltaBuffer.flush();
+
+        // then
+        assertThat(captureBatchUpdate(UPDATE_POST_LIKE)).containsExactly(new Object[]{1L, 10L}, new Object[]{2L, 20L});
+        assertThat(captureBatchUpdate(UPDATE_REVIEW_GREAT)).containsExactly(new Object[]{-1L, 10L});
+        assertThat(counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, 20L)).isZero();
+        assertThat(meterRegistry.get("counter.delta.pending_rows").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 후 취소처럼 합이 0이 된 행은 DB에 쓰지 않는다.")
+    void when_DeltaCancelledOut_Then_SkipUpdate() {
+        // given
+        counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, 1L, 1);
+        counterDeltaBuffer.add(CounterColumn.COMMENT_LIKE, 1L, -1);
+
+        // when
+        counterDeltaBuffer.flush();
+
+        // then
+        then(jdbcTemplate).should(never())
+                .batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 변화량을 버퍼로 되돌려, 계속 덧씌워 보여주고 다음 flush에서 다시 반영한다.")
+    void when_FlushFailed_Then_KeepDeltaForNextFlush() {
+        // given
+        counterDeltaBuffer.add(CounterColumn.GYM_LIKE, 1L, 1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        counterDeltaBuffer.flush();
+
+        // then
+        assertThat(counterDeltaBuffer.pendingDelta(CounterColumn.GYM_LIKE, 1L)).isEqualTo(1);
+        assertThat(meterRegistry.counter("counter.delta.flush.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("batch의 두 번째 행이 실패하면 앞서 반영된 행까지 롤백되어, 다시 반영해도 카운터가 정확하다.")
+    void when_SecondRowOfBatchFails_Then_RollbackAndKeepCountsExact() {
+        // given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:counter_delta;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate h2JdbcTemplate = new JdbcTemplate(dataSource);
+        h2JdbcTemplate.execute("DROP TABLE IF EXISTS post");
+        h2JdbcTemplate.execute("CREATE TABLE post (id BIGINT PRIMARY KEY, like_count INT NOT NULL CHECK (like_count >= 0))");
+        h2JdbcTemplate.update("INSERT INTO post (id, like_count) VALUES (10, 5), (20, 0)");
+        CounterDeltaBuffer buffer = new CounterDeltaBuffer(
+                new IncrementBatchWriter(h2JdbcTemplate, new DataSourceTransactionManager(dataSource)), meterRegistry);
+        buffer.add(CounterColumn.POST_LIKE, 10L, 1);
+        buffer.add(CounterColumn.POST_LIKE, 20L, -1);
+
+        // when
+        buffer.flush();
+        h2JdbcTemplate.update("UPDATE post SET like_count = 3 WHERE id = 20");
+        buffer.flush();
+
+        // then
+        assertThat(likeCount(h2JdbcTemplate, 10L)).isEqualTo(6);
+        assertThat(likeCount(h2JdbcTemplate, 20L)).isEqualTo(2);
+        assertThat(buffer.pendingDelta(CounterColumn.POST_LIKE, 10L)).isZero();
+        assertThat(meterRegistry.counter("counter.delta.flush.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록한 변화량은 커밋된 뒤에만 반영된다.")
+    void when_AddInTransaction_Then_RecordAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterDeltaBuffer.add(CounterColumn.POST_LIKE, 1L, 1);
+            assertThat(counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, 1L)).isZero();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, 1L)).isEqualTo(1);
+    }
+
+    private int likeCount(JdbcTemplate jdbcTemplate, Long id) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Integer.class, id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatchUpdate(String sql) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should()
+                .batchUpdate(eq(sql), captor.capture());
+        return captor.getValue();
+    }
+}
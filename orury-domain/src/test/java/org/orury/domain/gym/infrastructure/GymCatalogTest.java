@@ -0,0 +1,176 @@
+package org.orury.domain.gym.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.config.InfrastructureTest;
+import org.orury.domain.gym.domain.entity.Gym;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.orury.domain.GymDomainFixture.TestGym.createGym;
+import static org.orury.domain.GymDomainFixture.TestGymLike.createGymLike;
+
+@DisplayName("[Catalog] 암장 인메모리 카탈로그 테스트")
+class GymCatalogTest extends InfrastructureTest {
+
+    @Test
+    @DisplayName("한 번도 조회되지 않은 카탈로그는 갱신 주기가 와도 DB를 조회하지 않는다.")
+    void when_NotLoaded_Then_RefreshDoesNothing() {
+        // when
+        gymCatalog.refresh();
+
+        // then
+        then(gymRepository).should(never())
+                .findCatalogVersion();
+        then(gymRepository).should(never())
+                .findAll();
+    }
+
+    @Test
+    @DisplayName("GymStore에서 좋아요를 생성하면, 다음 갱신 전에도 카탈로그의 likeCount에 반영된다.")
+    void when_GymLikeCreated_Then_OverlayLikeCount() {
+        // given
+        Long gymId = 1L;
+        Long userId = 2L;
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(gymId).likeCount(13).build().get()));
+
+        // when
+        gymStore.createGymLike(createGymLike(gymId, userId).build().get());
+
+        // then
+        assertEquals(14, gymCatalog.findGymById(gymId).get().getLikeCount());
+    }
+
+    @Test
+    @DisplayName("리뷰 생성/수정/삭제로 바뀐 reviewCount와 totalScore가 카탈로그에 반영된다.")
+    void when_ReviewCountersChanged_Then_OverlayReviewCounters() {
+        // given
+        Long gymId = 1L;
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(gymId).reviewCount(2).totalScore(8f).build().get()));
+
+        // when
+        gymStore.increaseReviewCountAndTotalScore(gymId, 4f);
+        gymStore.updateTotalScore(gymId, 4f, 5f);
+        gymStore.decreaseReviewCountAndTotalScore(gymId, 3f);
+
+        // then
+        Gym gym = gymCatalog.findGymById(gymId).get();
+        assertEquals(2, gym.getReviewCount());
+        assertEquals(10f, gym.getTotalScore());
+    }
+
+    @Test
+    @DisplayName("catalog_version이 그대로면, 갱신 시 카운터만 DB 값으로 맞추고 이전 변화량은 버린다.")
+    void when_SameVersion_Then_RefreshOnlyCounters() {
+        // given
+        Long gymId = 1L;
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(gymId).likeCount(13).build().get()));
+        given(gymRepository.findAllCounters())
+                .willReturn(List.<Object[]>of(new Object[]{gymId, 20, 3, 12.5f}));
+        gymCatalog.findGymById(gymId);
+        gymCatalog.addCounters(gymId, 1, 0, 0f);
+
+        // when
+        gymCatalog.refresh();
+
+        // then
+        Gym gym = gymCatalog.findGymById(gymId).get();
+        assertEquals(20, gym.getLikeCount());
+        assertEquals(3, gym.getReviewCount());
+        assertEquals(12.5f, gym.getTotalScore());
+        then(gymRepository).should(times(1))
+                .findAll();
+    }
+
+    @Test
+    @DisplayName("배치가 catalog_version을 올렸다면, 갱신 시 전체 암장을 다시 적재한다.")
+    void when_VersionChanged_Then_ReloadCatalog() {
+        // given
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L, 2L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(1L).build().get()))
+                .willReturn(List.of(createGym(1L).build().get(), createGym(2L).build().get()));
+        assertFalse(gymCatalog.existsGymById(2L));
+
+        // when
+        gymCatalog.refresh();
+
+        // then
+        assertTrue(gymCatalog.existsGymById(2L));
+        then(gymRepository).should(times(2))
+                .findAll();
+        then(gymRepository).should(never())
+                .findAllCounters();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 바뀐 카운터는 커밋된 뒤에만 카탈로그에 반영된다.")
+    void when_CountersChangedInTransaction_Then_OverlayAfterCommit() {
+        // given
+        Long gymId = 1L;
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(gymId).likeCount(13).build().get()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            gymCatalog.addCounters(gymId, 1, 0, 0f);
+            int beforeCommit = gymCatalog.findGymById(gymId).get().getLikeCount();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertEquals(13, beforeCommit);
+            assertEquals(14, gymCatalog.findGymById(gymId).get().getLikeCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("갱신 중에 더해진 변화량은 다음 갱신에서 DB 값에 포함된 만큼 빠져, 계속 두 번 세지지 않는다.")
+    void when_CountersChangedDuringRefresh_Then_SubtractOnNextRefresh() {
+        // given
+        Long gymId = 1L;
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(createGym(gymId).likeCount(13).build().get()));
+        gymCatalog.findGymById(gymId);
+        gymCatalog.addCounters(gymId, 1, 0, 0f);
+        willAnswer(invocation -> {
+            // DB를 읽는 사이 커밋된 좋아요입니다. 읽은 값에는 두 좋아요가 모두 포함됩니다.
+            gymCatalog.addCounters(gymId, 1, 0, 0f);
+            return List.<Object[]>of(new Object[]{gymId, 15, 0, 0f});
+        }).willReturn(List.<Object[]>of(new Object[]{gymId, 15, 0, 0f}))
+                .given(gymRepository).findAllCounters();
+
+        // when
+        gymCatalog.refresh();
+        gymCatalog.refresh();
+
+        // then
+        assertEquals(15, gymCatalog.findGymById(gymId).get().getLikeCount());
+    }
+}
@@ -4,21 +4,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.orury.domain.config.InfrastructureTest;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.gym.domain.entity.Gym;
 import org.orury.domain.gym.domain.entity.GymLikePK;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.DayOfWeek;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.orury.domain.GymDomainFixture.TestGym.createGym;
 import static org.orury.domain.GymDomainFixture.TestGymLike.createGymLike;
@@ -28,20 +32,23 @@ import static org.orury.domain.GymDomainFixture.TestGymLikePK.createGymLikePK;
 class GymReaderImplTest extends InfrastructureTest {
 
     @Test
-    @DisplayName("존재하는 암장id가 들어오면, 정상적으로 Gym Entity를 반환한다.")
+    @DisplayName("존재하는 암장id가 들어오면, 카탈로그에서 Gym Entity를 반환하고 이후 조회는 DB를 거치지 않는다.")
     void should_RetrieveGymById() {
         // given
         Long gymId = 3L;
         Gym gym = createGym(gymId).build().get();
-
-        given(gymRepository.findById(gymId))
-                .willReturn(Optional.of(gym));
+        givenCatalog(gym);
 
         // when
-        gymReader.findGymById(gymId);
+        Optional<Gym> firstGym = gymReader.findGymById(gymId);
+        Optional<Gym> secondGym = gymReader.findGymById(gymId);
 
         // then
+        assertEquals(Optional.of(gym), firstGym);
+        assertEquals(gym.getName(), secondGym.get().getName());
         then(gymRepository).should(times(1))
+                .findAll();
+        then(gymRepository).should(never())
                 .findById(anyLong());
     }
 
@@ -50,15 +57,10 @@ class GymReaderImplTest extends InfrastructureTest {
     void when_NotExistingGymId_Then_NotFoundException() {
         // given
         Long gymId = 4L;
-
-        given(gymRepository.findById(gymId))
-                .willReturn(Optional.empty());
+        givenCatalog(createGym(1L).build().get());
 
         // when & then
-        gymReader.findGymById(gymId);
-
-        then(gymRepository).should(times(1))
-                .findById(anyLong());
+        assertEquals(Optional.empty(), gymReader.findGymById(gymId));
     }
 
     @Test
@@ -66,42 +68,37 @@ class GymReaderImplTest extends InfrastructureTest {
     void when_ExistingGymId_Then_ReturnTrue() {
         // given
         Long gymId = 7L;
-
-        given(gymRepository.existsById(gymId))
-                .willReturn(true);
+        givenCatalog(createGym(gymId).build().get());
 
         // when & then
         assertTrue(gymReader.existsGymById(gymId));
     }
 
     @Test
-    @DisplayName("존재하지 않는 암장id가 들어오면, true를 반환한다.")
+    @DisplayName("존재하지 않는 암장id가 들어오면, false를 반환한다.")
     void when_NotExistingGymId_Then_ReturnFalse() {
         Long gymId = 8L;
-
-        given(gymRepository.existsById(gymId))
-                .willReturn(false);
+        givenCatalog(createGym(7L).build().get());
 
         // when & then
         assertFalse(gymReader.existsGymById(gymId));
     }
 
     @Test
-    @DisplayName("암장명에 검색어를 포함하는 암장 리스트를 반환한다.")
+    @DisplayName("암장명, 지번주소, 도로명주소 중 하나에 검색어를 포함하는 암장 리스트를 반환한다. (공백, 대소문자 무시)")
     void when_AnyGymContainsSearchWordInTitle_Then_ReturnGymList() {
         // given
-        String searchWord = "더클라임";
-        List<Gym> gyms = List.of(createGym(1L).build().get(), createGym(2L).build().get());
-
-        given(gymRepository.findByNameContainingOrAddressContainingOrRoadAddressContaining(searchWord, searchWord, searchWord))
-                .willReturn(gyms);
+        String searchWord = "더 클라임";
+        Gym nameMatched = createGym(1L).name("더클라임 강남점").build().get();
+        Gym addressMatched = createGym(2L).name("다른암장").address("서울 더클라임동").build().get();
+        Gym notMatched = createGym(3L).name("다른암장").build().get();
+        givenCatalog(nameMatched, addressMatched, notMatched);
 
         // when
-        gymReader.findGymsBySearchWord(searchWord);
+        List<Gym> gyms = gymReader.findGymsBySearchWord(searchWord, 0, 0, 10);
 
         // then
-        then(gymRepository).should(times(1))
-                .findByNameContainingOrAddressContainingOrRoadAddressContaining(anyString(), anyString(), anyString());
+        assertEquals(List.of(nameMatched, addressMatched), gyms);
     }
 
     @Test
@@ -109,38 +106,104 @@ class GymReaderImplTest extends InfrastructureTest {
     void when_EveryGymDoesNotContainsSearchWordInTitle_Then_EmptyList() {
         // given
         String searchWord = "축구공";
-        List<Gym> emptyList = Collections.emptyList();
+        givenCatalog(createGym(1L).build().get(), createGym(2L).build().get());
+
+        // when
+        List<Gym> gyms = gymReader.findGymsBySearchWord(searchWord, 0, 0, 10);
 
-        given(gymRepository.findByNameContainingOrAddressContainingOrRoadAddressContaining(searchWord, searchWord, searchWord))
-                .willReturn(emptyList);
+        // then
+        assertEquals(Collections.emptyList(), gyms);
+    }
+
+    @Test
+    @DisplayName("초성으로 검색하면, 암장명의 초성과 일치하는 암장 리스트를 반환한다.")
+    void when_SearchByChoseong_Then_ReturnGymList() {
+        // given
+        Gym theClimb = createGym(1L).name("더클라임 신림점").build().get();
+        Gym climbingPark = createGym(2L).name("클라이밍파크").build().get();
+        givenCatalog(theClimb, climbingPark);
 
         // when
-        gymReader.findGymsBySearchWord(searchWord);
+        List<Gym> choseongGyms = gymReader.findGymsBySearchWord("ㄷㅋㄹㅇ", 0, 0, 10);
+        List<Gym> mixedGyms = gymReader.findGymsBySearchWord("클ㄹ", 0, 0, 10);
 
         // then
-        then(gymRepository).should(times(1))
-                .findByNameContainingOrAddressContainingOrRoadAddressContaining(anyString(), anyString(), anyString());
+        assertEquals(List.of(theClimb), choseongGyms);
+        assertEquals(List.of(climbingPark, theClimb), mixedGyms);
     }
 
     @Test
-    @DisplayName("주어진 좌표 범위 내에 있는 암장 리스트를 반환한다.")
-    void when_GymsInAreaGrid_Then_ReturnGymList() {
+    @DisplayName("검색 결과는 텍스트 일치도와 거리를 합한 점수 순으로 limit개만큼 반환한다.")
+    void when_SearchWord_Then_RankByTextScoreAndDistance() {
+        // given
+        double latitude = 37.5;
+        double longitude = 127.0;
+        Gym exactFar = createGym(1L).name("클라임").latitude(35.1).longitude(129.0).build().get();
+        Gym prefixNear = createGym(2L).name("클라임 강남").latitude(37.5).longitude(127.0).build().get();
+        Gym substringNear = createGym(3L).name("더클라임").latitude(37.5).longitude(127.0).build().get();
+        Gym addressNear = createGym(4L).name("다른암장").roadAddress("클라임로 1").latitude(37.5).longitude(127.0).build().get();
+        givenCatalog(exactFar, prefixNear, substringNear, addressNear);
+
+        // when
+        List<Gym> gyms = gymReader.findGymsBySearchWord("클라임", latitude, longitude, 3);
+
+        // then
+        assertEquals(List.of(prefixNear, substringNear, exactFar), gyms);
+    }
+
+    @Test
+    @DisplayName("주어진 좌표 범위 내에 있는 암장 리스트를 기준 좌표와 가까운 순으로 limit개만큼 반환한다.")
+    void when_GymsInAreaGrid_Then_ReturnNearestGymList() {
         // given
         Double bottom = 37.5;
         Double top = 37.6;
         Double left = 127.0;
         Double right = 127.1;
-        List<Gym> gyms = List.of(createGym(1L).build().get(), createGym(2L).build().get());
-
-        given(gymRepository.findByLatitudeBetweenAndLongitudeBetweenOrderByLikeCount(bottom, top, left, right))
-                .willReturn(gyms);
+        double latitude = 37.55;
+        double longitude = 127.05;
+        Gym farGym = createGym(1L).latitude(37.59).longitude(127.09).build().get();
+        Gym nearestGym = createGym(2L).latitude(37.551).longitude(127.051).build().get();
+        Gym middleGym = createGym(3L).latitude(37.56).longitude(127.06).build().get();
+        Gym outOfGridGym = createGym(4L).latitude(37.55).longitude(127.2).build().get();
+        givenCatalog(farGym, nearestGym, middleGym, outOfGridGym);
 
         // when
-        gymReader.findGymsInAreaGrid(Map.of("bottom", bottom, "top", top, "left", left, "right", right));
+        List<Gym> actualGyms = gymReader.findGymsInAreaGrid(Map.of("bottom", bottom, "top", top, "left", left, "right", right), latitude, longitude, 2);
 
         // then
-        then(gymRepository).should(times(1))
-                .findByLatitudeBetweenAndLongitudeBetweenOrderByLikeCount(bottom, top, left, right);
+        assertEquals(List.of(nearestGym, middleGym), actualGyms);
+    }
+
+    @Test
+    @DisplayName("영업시간 문자열은 분 단위로 변환돼, 여는 시각 이상 닫는 시각 미만이면 영업 중으로 판단한다.")
+    void when_MinuteIsInBusinessHours_Then_ReturnTrue() {
+        // given
+        Long gymId = 5L;
+        givenCatalog(createGym(gymId).serviceMon("10:00-22:30").build().get());
+
+        // when & then
+        assertTrue(gymReader.isDoingBusiness(gymId, DayOfWeek.MONDAY, 10 * 60));
+        assertTrue(gymReader.isDoingBusiness(gymId, DayOfWeek.MONDAY, 22 * 60 + 29));
+        assertFalse(gymReader.isDoingBusiness(gymId, DayOfWeek.MONDAY, 9 * 60 + 59));
+        assertFalse(gymReader.isDoingBusiness(gymId, DayOfWeek.MONDAY, 22 * 60 + 30));
+    }
+
+    @Test
+    @DisplayName("영업시간이 비어있거나 올바르지 않은 형식이면, false를 반환한다.")
+    void when_InvalidBusinessHours_Then_ReturnFalse() {
+        // given
+        Long gymId = 6L;
+        givenCatalog(createGym(gymId)
+                .serviceMon(null)
+                .serviceTue("12시30분~23시")
+                .serviceWed("10:00-24:00")
+                .build().get());
+
+        // when & then
+        assertFalse(gymReader.isDoingBusiness(gymId, DayOfWeek.MONDAY, 12 * 60));
+        assertFalse(gymReader.isDoingBusiness(gymId, DayOfWeek.TUESDAY, 13 * 60));
+        assertFalse(gymReader.isDoingBusiness(gymId, DayOfWeek.WEDNESDAY, 13 * 60));
+        assertFalse(gymReader.isDoingBusiness(99L, DayOfWeek.MONDAY, 13 * 60));
     }
 
     @Test
@@ -157,13 +220,13 @@ class GymReaderImplTest extends InfrastructureTest {
                         createGymLike(10L, userId).build().get()
                 ));
 
-        given(gymRepository.findById(anyLong()))
-                .willReturn(Optional.of(createGym(1L).build().get()));
+        givenCatalog(createGym(10L).build().get(), createGym(11L).build().get());
 
         // when
-        gymReader.findGymsByUserLiked(userId, cursor, pageRequest);
+        List<Gym> gyms = gymReader.findGymsByUserLiked(userId, cursor, pageRequest);
 
         // then
+        assertEquals(List.of(11L, 10L), gyms.stream().map(Gym::getId).toList());
         then(gymLikeRepository).should(times(1))
                 .findByGymLikePK_UserIdOrderByGymLikePKDesc(anyLong(), any(Pageable.class));
         then(gymLikeRepository).should(times(0))
@@ -184,11 +247,10 @@ class GymReaderImplTest extends InfrastructureTest {
                         createGymLike(10L, userId).build().get()
                 ));
 
-        given(gymRepository.findById(anyLong()))
-                .willReturn(Optional.of(createGym(1L).build().get()));
+        givenCatalog(createGym(10L).build().get(), createGym(11L).build().get());
 
         // when
-        gymReader.findGymsByUserLiked(userId, cursor, pageRequest);
+        List<Gym> gyms = gymReader.findGymsByUserLiked(userId, cursor, pageRequest);
 
         // then
         then(gymLikeRepository).should(times(0))
@@ -249,4 +311,44 @@ class GymReaderImplTest extends InfrastructureTest {
         // when & then
         assertFalse(gymReader.existsGymLikeByUserIdAndGymId(userId, gymId));
     }
+
+    @Test
+    @DisplayName("userId와 gymId 목록을 받으면, 한 번의 조회로 유저가 좋아요한 암장id만 담아 반환한다.")
+    void when_UserIdAndGymIds_Then_ReturnLikedGymIds() {
+        // given
+        Long userId = 2L;
+        List<Long> gymIds = List.of(5L, 6L, 7L);
+
+        given(gymLikeRepository.findGymIdsByUserIdAndGymIdIn(userId, gymIds))
+                .willReturn(List.of(7L, 5L));
+
+        // when
+        LikedIds likedIds = gymReader.findLikedGymIds(userId, gymIds);
+
+        // then
+        assertTrue(likedIds.contains(5L));
+        assertFalse(likedIds.contains(6L));
+        assertTrue(likedIds.contains(7L));
+        then(gymLikeRepository).should(times(1))
+                .findGymIdsByUserIdAndGymIdIn(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("조회할 gymId가 없으면, 쿼리 없이 빈 LikedIds를 반환한다.")
+    void when_EmptyGymIds_Then_ReturnEmptyLikedIdsWithoutQuery() {
+        // when
+        LikedIds likedIds = gymReader.findLikedGymIds(2L, List.of());
+
+        // then
+        assertEquals(0, likedIds.size());
+        then(gymLikeRepository).should(never())
+                .findGymIdsByUserIdAndGymIdIn(anyLong(), anyCollection());
+    }
+
+    private void givenCatalog(Gym... gyms) {
+        given(gymRepository.findCatalogVersion())
+                .willReturn(1L);
+        given(gymRepository.findAll())
+                .willReturn(List.of(gyms));
+    }
 }
@@ -3,10 +3,18 @@ package org.orury.domain.gym.infrastructure;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.orury.domain.config.InfrastructureTest;
+import org.orury.domain.global.counter.CounterColumn;
 import org.orury.domain.gym.domain.entity.GymLike;
+import org.orury.domain.gym.domain.entity.GymReviewStats;
+import org.orury.domain.gym.domain.entity.GymReviewStats.MonthlyScore;
 
+import java.time.Month;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -66,6 +74,61 @@ class GymStoreImplTest extends InfrastructureTest {
                 .subtractTotalScore(anyLong(), anyFloat());
     }
 
+    @Test
+    @DisplayName("리뷰가 생성되면, 암장 리뷰 통계 행을 잠근 뒤 해당 점수와 달의 개수를 늘린다.")
+    void should_AddReviewStats() {
+        // given
+        Long gymId = 4L;
+        GymReviewStats stats = GymReviewStats.of(gymId);
+        given(gymReviewStatsRepository.findByGymIdForUpdate(gymId))
+                .willReturn(Optional.of(stats));
+
+        // when
+        gymStore.addReviewStats(gymId, 4.5f, Month.MAY);
+
+        // then
+        assertEquals(Map.of(4.5f, 1), stats.getScoreCounts());
+        assertEquals(new MonthlyScore(4.5, 1), stats.getMonthlyScores().get(Month.MAY.getValue() - 1));
+        then(gymReviewStatsRepository).should(times(1))
+                .insertIfAbsent(gymId);
+    }
+
+    @Test
+    @DisplayName("리뷰 점수가 바뀌면, 기존 점수의 개수를 줄이고 새 점수의 개수를 늘린다. 개수가 0이 된 점수는 통계에서 빠진다.")
+    void should_UpdateReviewStats() {
+        // given
+        Long gymId = 5L;
+        GymReviewStats stats = GymReviewStats.of(gymId);
+        stats.add(3.5f, Month.JUNE, 1);
+        given(gymReviewStatsRepository.findByGymIdForUpdate(gymId))
+                .willReturn(Optional.of(stats));
+
+        // when
+        gymStore.updateReviewStats(gymId, 3.5f, 5f, Month.JUNE);
+
+        // then
+        assertEquals(Map.of(5f, 1), stats.getScoreCounts());
+        assertEquals(new MonthlyScore(5, 1), stats.getMonthlyScores().get(Month.JUNE.getValue() - 1));
+    }
+
+    @Test
+    @DisplayName("리뷰가 삭제되어 해당 달의 리뷰가 없어지면, 그 달의 점수합과 개수를 0으로 되돌린다.")
+    void should_RemoveReviewStats() {
+        // given
+        Long gymId = 6L;
+        GymReviewStats stats = GymReviewStats.of(gymId);
+        stats.add(4.3f, Month.JULY, 1);
+        given(gymReviewStatsRepository.findByGymIdForUpdate(gymId))
+                .willReturn(Optional.of(stats));
+
+        // when
+        gymStore.removeReviewStats(gymId, 4.3f, Month.JULY);
+
+        // then
+        assertTrue(stats.getScoreCounts().isEmpty());
+        assertEquals(new MonthlyScore(0, 0), stats.getMonthlyScores().get(Month.JULY.getValue() - 1));
+    }
+
     @Test
     @DisplayName("성공적으로 GymLike를 생성하고 Gym의 likeCount를 1만큼 늘려야 한다.")
     void should_CreateGymLikeAndIncreaseGymLIkeCount() {
@@ -78,8 +141,7 @@ class GymStoreImplTest extends InfrastructureTest {
         // then
         then(gymLikeRepository).should(times(1))
                 .save(any());
-        then(gymRepository).should(times(1))
-                .increaseLikeCount(anyLong());
+        assertEquals(1, counterDeltaBuffer.pendingDelta(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId()));
     }
 
     @Test
@@ -94,8 +156,7 @@ class GymStoreImplTest extends InfrastructureTest {
         // then
         then(gymLikeRepository).should(times(1))
                 .delete(any());
-        then(gymRepository).should(times(1))
-                .decreaseLikeCount(anyLong());
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId()));
     }
 
     @Test
@@ -118,8 +179,8 @@ class GymStoreImplTest extends InfrastructureTest {
         // then
         then(gymLikeRepository).should(times(1))
                 .findByGymLikePK_UserId(anyLong());
-        then(gymRepository).should(times(gymLikes.size()))
-                .decreaseLikeCount(anyLong());
+        gymLikes.forEach(gymLike -> assertEquals(-1,
+                counterDeltaBuffer.pendingDelta(CounterColumn.GYM_LIKE, gymLike.getGymLikePK().getGymId())));
         then(gymLikeRepository).should(times(gymLikes.size()))
                 .delete(any());
     }
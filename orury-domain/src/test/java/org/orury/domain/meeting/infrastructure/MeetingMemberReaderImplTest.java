@@ -5,16 +5,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orury.domain.config.InfrastructureTest;
-import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.meeting.domain.entity.Meeting;
 import org.orury.domain.meeting.domain.entity.MeetingMember;
 import org.orury.domain.user.domain.entity.User;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -41,19 +44,56 @@ class MeetingMemberReaderImplTest extends InfrastructureTest {
                 .existsByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserId(anyLong(), anyLong());
     }
 
-    @DisplayName("일정id, 일정생성자id, 유저id를 받아, 일정생성자를 제외한 다른 일정멤버목록을 조회한다.")
+    @DisplayName("유저id와 일정id목록을 받아, 유저가 참여한 일정id를 한 번에 조회한다.")
     @Test
-    void getOtherMeetingMembersByMeetingIdMaximum() {
+    void findParticipatedMeetingIds() {
+        // given
+        given(meetingMemberRepository.findMeetingIdsByUserIdAndMeetingIdIn(1L, List.of(3L, 2L, 1L)))
+                .willReturn(List.of(3L, 1L));
+
+        // when
+        LikedIds participatedMeetingIds = meetingMemberReader.findParticipatedMeetingIds(1L, List.of(3L, 2L, 1L));
+
+        // then
+        assertEquals(2, participatedMeetingIds.size());
+        assertTrue(participatedMeetingIds.contains(3L));
+        assertFalse(participatedMeetingIds.contains(2L));
+        assertTrue(participatedMeetingIds.contains(1L));
+        then(meetingMemberRepository).should(only())
+                .findMeetingIdsByUserIdAndMeetingIdIn(anyLong(), anyList());
+    }
+
+    @DisplayName("일정id목록이 비어 있으면, 조회하지 않고 빈 집합을 반환한다.")
+    @Test
+    void findParticipatedMeetingIds_EmptyMeetingIds() {
         // given & when
-        meetingMemberReader.getOtherMeetingMembersByMeetingIdMaximum(
-                mock(Meeting.class).getId(),
-                mock(User.class).getId(),
-                NumberConstants.MAXIMUM_OF_MEETING_THUMBNAILS
-        );
+        LikedIds participatedMeetingIds = meetingMemberReader.findParticipatedMeetingIds(1L, List.of());
+
+        // then
+        assertEquals(0, participatedMeetingIds.size());
+        then(meetingMemberRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("일정id목록을 받아, 일정생성자를 제외한 멤버의 프로필사진을 한 번에 조회하고 일정마다 최대 개수까지 담는다.")
+    @Test
+    void findOtherMemberProfileImagesByMeetingIds() {
+        // given
+        given(meetingMemberRepository.findOtherMemberProfileImagesByMeetingIdIn(List.of(3L, 2L)))
+                .willReturn(List.of(
+                        new Object[]{2L, "image21"},
+                        new Object[]{3L, "image31"},
+                        new Object[]{3L, "image32"},
+                        new Object[]{3L, "image33"}
+                ));
+
+        // when
+        Map<Long, List<String>> profileImages = meetingMemberReader.findOtherMemberProfileImagesByMeetingIds(List.of(3L, 2L), 2);
 
         // then
+        assertEquals(List.of("image31", "image32"), profileImages.get(3L));
+        assertEquals(List.of("image21"), profileImages.get(2L));
         then(meetingMemberRepository).should(only())
-                .findByMeetingMemberPK_MeetingIdAndMeetingMemberPK_UserIdNot(anyLong(), anyLong(), any(PageRequest.class));
+                .findOtherMemberProfileImagesByMeetingIdIn(anyList());
     }
 
     @DisplayName("일정id를 받아, 일정에 참여한 멤버목록을 조회한다.")
@@ -6,13 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orury.domain.config.InfrastructureTest;
 import org.orury.domain.crew.domain.entity.Crew;
+import org.orury.domain.global.constants.NumberConstants;
 import org.orury.domain.meeting.domain.entity.Meeting;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
@@ -60,4 +64,33 @@ class MeetingReaderImplTest extends InfrastructureTest {
         then(meetingRepository).should(only())
                 .findByCrew_IdAndStartTimeBeforeOrderByIdDesc(anyLong(), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+
+    @DisplayName("첫 cursor를 받아, 유저가 참여한 다가오는 일정목록을 시작시간 순으로 한 번에 조회한다.")
+    @Test
+    void getUpcomingMeetingsByUserId_FirstCursor() {
+        // given & when
+        meetingReader.getUpcomingMeetingsByUserId(
+                1L, NumberConstants.FIRST_CURSOR, null, PageRequest.of(0, NumberConstants.MEETING_PAGINATION_SIZE)
+        );
+
+        // then
+        then(meetingRepository).should(only())
+                .findUpcomingMeetingsByUserId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @DisplayName("cursor와 시작시간을 받아, cursor 일정을 다시 조회하지 않고 그 (시작시간, id) 이후의 다가오는 일정목록을 조회한다.")
+    @Test
+    void getUpcomingMeetingsByUserId_WithCursor() {
+        // given
+        LocalDateTime cursorStartTime = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+        // when
+        meetingReader.getUpcomingMeetingsByUserId(
+                1L, 35L, cursorStartTime, PageRequest.of(0, NumberConstants.MEETING_PAGINATION_SIZE)
+        );
+
+        // then
+        then(meetingRepository).should(only())
+                .findUpcomingMeetingsByUserIdWithCursor(eq(1L), any(LocalDateTime.class), eq(cursorStartTime), eq(35L), any(Pageable.class));
+    }
+}
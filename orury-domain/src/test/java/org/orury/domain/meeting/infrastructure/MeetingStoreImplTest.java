@@ -6,16 +6,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orury.domain.crew.domain.entity.Crew;
+import org.orury.domain.crew.infrastructures.CrewRepository;
 import org.orury.domain.meeting.domain.MeetingStore;
 import org.orury.domain.meeting.domain.entity.Meeting;
 import org.orury.domain.user.domain.entity.User;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.*;
+import static org.orury.domain.MeetingDomainFixture.TestMeeting.createMeeting;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("[Store] 일정 StoreImpl 테스트")
@@ -23,25 +28,32 @@ import static org.mockito.Mockito.only;
 class MeetingStoreImplTest {
     private MeetingStore meetingStore;
     private MeetingRepository meetingRepository;
+    private CrewRepository crewRepository;
 
     @BeforeEach
     void setUp() {
         meetingRepository = mock(MeetingRepository.class);
+        crewRepository = mock(CrewRepository.class);
 
-        meetingStore = new MeetingStoreImpl(meetingRepository);
+        meetingStore = new MeetingStoreImpl(meetingRepository, crewRepository);
     }
 
-    @DisplayName("일정을 받아, 일정을 저장한다.")
+    @DisplayName("일정을 받아, 일정을 저장하고 크루의 마지막 일정 생성일자를 갱신한다.")
     @Test
     void createMeeting() {
-        // given && when
-        meetingStore.createMeeting(
-                mock(Meeting.class)
-        );
+        // given
+        Meeting meeting = createMeeting(1L).build().get();
+        given(meetingRepository.save(any(Meeting.class)))
+                .willReturn(meeting);
+
+        // when
+        meetingStore.createMeeting(meeting);
 
         // then
         then(meetingRepository).should(only())
                 .save(any(Meeting.class));
+        then(crewRepository).should(only())
+                .updateLastMeetingAt(meeting.getCrew().getId(), meeting.getCreatedAt());
     }
 
     @DisplayName("일정을 받아, 일정을 저장한다.")
@@ -55,19 +67,43 @@ class MeetingStoreImplTest {
         // then
         then(meetingRepository).should(only())
                 .save(any(Meeting.class));
+        then(crewRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("일정id를 받아, 일정을 삭제한다.")
+    @DisplayName("일정id를 받아, 일정을 삭제하고 크루의 마지막 일정 생성일자를 재계산한다.")
     @Test
     void deleteMeeting() {
-        // given && when
-        meetingStore.deleteMeeting(
-                mock(Meeting.class).getId()
-        );
+        // given
+        Meeting meeting = createMeeting(1L).build().get();
+        given(meetingRepository.findById(anyLong()))
+                .willReturn(Optional.of(meeting));
+
+        // when
+        meetingStore.deleteMeeting(meeting.getId());
 
         // then
-        then(meetingRepository).should(only())
-                .deleteById(anyLong());
+        then(meetingRepository).should(times(1))
+                .findById(anyLong());
+        then(meetingRepository).should(times(1))
+                .delete(meeting);
+        then(crewRepository).should(only())
+                .refreshLastMeetingAt(meeting.getCrew().getId());
+    }
+
+    @DisplayName("존재하지 않는 일정id를 받으면, 아무것도 삭제하지 않는다.")
+    @Test
+    void deleteNotExistingMeeting() {
+        // given
+        given(meetingRepository.findById(anyLong()))
+                .willReturn(Optional.empty());
+
+        // when
+        meetingStore.deleteMeeting(1L);
+
+        // then
+        then(meetingRepository).should(never())
+                .delete(any(Meeting.class));
+        then(crewRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("유저id와 일정id를 받아, 유저가 주최한 일정을 모두 삭제한다.")
@@ -81,6 +117,8 @@ class MeetingStoreImplTest {
 
         // then
         then(meetingRepository).should(only())
-                .deleteAllByUser_IdAndCrew_Id(anyLong(), anyLong());
+                .deleteAllByUser_IdAndCrew_Id(any(), any());
+        then(crewRepository).should(only())
+                .refreshLastMeetingAt(any());
     }
-}
\ No newline at end of file
+}
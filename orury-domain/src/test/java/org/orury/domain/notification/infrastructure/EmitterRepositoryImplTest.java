@@ -0,0 +1,206 @@
+package org.orury.domain.notification.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.notification.infrastructure.EmitterRepository.CachedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("[Repository] 유저별 SSE emitter 저장소 테스트")
+class EmitterRepositoryImplTest {
+    private static final long EVENT_TTL_MILLIS = 600_000L;
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private EmitterRepositoryImpl emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.millis()).willReturn(0L);
+        emitterRepository = new EmitterRepositoryImpl(meterRegistry, clock, 3, EVENT_TTL_MILLIS, 2, 3);
+    }
+
+    @Test
+    @DisplayName("유저 id로 그 유저의 emitter만 조회한다.")
+    void when_FindAllEmitterByUserId_Then_ReturnOnlyUsersEmitters() {
+        // given
+        SseEmitter emitter = new SseEmitter();
+        emitterRepository.save(1L, "1_100", emitter);
+        emitterRepository.save(11L, "11_100", new SseEmitter());
+
+        // when & then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).containsOnlyKeys("1_100");
+        assertThat(emitterRepository.findAllEmitterByUserId(2L)).isEmpty();
+        assertThat(meterRegistry.get("sse.emitters").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("emitter를 삭제하면, 남은 것이 없는 유저의 channel도 정리된다.")
+    void when_DeleteLastEmitter_Then_RemoveChannel() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+
+        // when
+        emitterRepository.deleteEmitterById(1L, "1_100");
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).isEmpty();
+        assertThat(meterRegistry.get("sse.channels").gauge().value()).isZero();
+        assertThat(meterRegistry.get("sse.emitters").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("유저당 emitter 수가 상한을 넘으면, 그 유저의 가장 오래된 emitter를 종료하고 삭제한다.")
+    void when_UserCapExceeded_Then_EvictUsersOldestEmitter() {
+        // given
+        SseEmitter oldest = mock(SseEmitter.class);
+        emitterRepository.save(1L, "1_100", oldest);
+        emitterRepository.save(1L, "1_200", new SseEmitter());
+
+        // when
+        emitterRepository.save(1L, "1_300", new SseEmitter());
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).containsOnlyKeys("1_200", "1_300");
+        then(oldest).should().complete();
+        assertThat(meterRegistry.counter("sse.emitters.evicted", "reason", "user_cap").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 emitter 수가 상한을 넘으면, 유저와 관계없이 가장 오래된 emitter를 종료하고 삭제한다.")
+    void when_GlobalCapExceeded_Then_EvictOldestEmitter() {
+        // given
+        SseEmitter oldest = mock(SseEmitter.class);
+        emitterRepository.save(1L, "1_100", oldest);
+        emitterRepository.save(2L, "2_100", new SseEmitter());
+        emitterRepository.save(3L, "3_100", new SseEmitter());
+
+        // when
+        emitterRepository.save(4L, "4_100", new SseEmitter());
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).isEmpty();
+        assertThat(emitterRepository.findAllEmitters())
+                .extracting(EmitterRepository.UserEmitter::emitterId)
+                .containsExactly("2_100", "3_100", "4_100");
+        then(oldest).should().complete();
+        assertThat(meterRegistry.get("sse.emitters").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.counter("sse.emitters.evicted", "reason", "global_cap").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 sequence 이후의 이벤트만 순서대로 재전송 대상으로 조회한다.")
+    void when_FindAllEventCacheAfter_Then_ReturnEventsAfterSequence() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        emitterRepository.save(2L, "2_100", new SseEmitter());
+        CachedEvent first = emitterRepository.saveEventCache(1L, 1L, "first");
+        CachedEvent second = emitterRepository.saveEventCache(1L, 2L, "second");
+        CachedEvent third = emitterRepository.saveEventCache(1L, 3L, "third");
+        emitterRepository.saveEventCache(2L, 4L, "other");
+
+        // when & then
+        assertThat(third.id()).isEqualTo("1_3");
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, first.sequence()))
+                .hasValueSatisfying(events -> assertThat(events).containsExactly(second, third));
+    }
+
+    @Test
+    @DisplayName("버퍼가 담기 전의 이벤트부터 재전송해야 하면, 버퍼로 재전송할 수 없다고 알린다.")
+    void when_LastSequenceBeforeBuffer_Then_ReturnEmpty() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        emitterRepository.saveEventCache(1L, 5L, "first cached");
+
+        // when & then
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, 3L)).isEmpty();
+        assertThat(emitterRepository.findAllEventCacheAfter(2L, 3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이 노드에 연결되지 않은 유저의 이벤트는 담지 않고, 연결이 끊긴 뒤의 이벤트가 오면 버퍼를 버린다.")
+    void when_UserNotConnected_Then_DoNotCacheEvents() {
+        // given
+        emitterRepository.saveEventCache(2L, 1L, "not connected");
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        emitterRepository.saveEventCache(1L, 2L, "connected");
+        emitterRepository.deleteEmitterById(1L, "1_100");
+
+        // when
+        emitterRepository.saveEventCache(1L, 3L, "missed");
+
+        // then
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, 2L)).isEmpty();
+        assertThat(meterRegistry.get("sse.event_cache.events").gauge().value()).isZero();
+        assertThat(meterRegistry.get("sse.channels").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("유저당 보관 개수를 넘으면 가장 오래된 이벤트부터 덮어쓴다.")
+    void when_BufferFull_Then_OverwriteOldest() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        CachedEvent first = emitterRepository.saveEventCache(1L, 1L, "1");
+        CachedEvent second = emitterRepository.saveEventCache(1L, 2L, "2");
+        CachedEvent third = emitterRepository.saveEventCache(1L, 3L, "3");
+        CachedEvent fourth = emitterRepository.saveEventCache(1L, 4L, "4");
+
+        // when & then
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, first.sequence()))
+                .hasValueSatisfying(events -> assertThat(events).containsExactly(second, third, fourth));
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, 0L)).isEmpty();
+        assertThat(meterRegistry.get("sse.event_cache.events").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.counter("sse.event_cache.evicted", "reason", "overflow").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 이벤트는 버퍼로 재전송하지 않고, 정리 주기에 버려져 channel도 제거된다.")
+    void when_EventExpired_Then_SkipAndEvict() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        emitterRepository.saveEventCache(1L, 1L, "first");
+        emitterRepository.saveEventCache(1L, 2L, "old");
+        emitterRepository.deleteEmitterById(1L, "1_100");
+        given(clock.millis()).willReturn(EVENT_TTL_MILLIS + 1);
+
+        // when
+        var found = emitterRepository.findAllEventCacheAfter(1L, 1L);
+        emitterRepository.evictExpired();
+
+        // then
+        assertThat(found).isEmpty();
+        assertThat(meterRegistry.get("sse.event_cache.events").gauge().value()).isZero();
+        assertThat(meterRegistry.get("sse.event_cache.bytes").gauge().value()).isZero();
+        assertThat(meterRegistry.get("sse.channels").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 중인 이벤트의 어림 크기를 더하고, 덮어쓴 이벤트의 크기는 뺀다.")
+    void when_SaveEventCache_Then_TrackEstimatedBytes() {
+        // given
+        emitterRepository.save(1L, "1_100", new SseEmitter());
+        emitterRepository.saveEventCache(1L, 1L, "a".repeat(1_000));
+        double oneLargeEvent = meterRegistry.get("sse.event_cache.bytes").gauge().value();
+        emitterRepository.saveEventCache(1L, 2L, "b");
+        emitterRepository.saveEventCache(1L, 3L, "c");
+
+        // when
+        emitterRepository.saveEventCache(1L, 4L, "d");
+
+        // then
+        assertThat(oneLargeEvent).isGreaterThan(2_000);
+        assertThat(meterRegistry.get("sse.event_cache.bytes").gauge().value())
+                .isPositive()
+                .isLessThan(oneLargeEvent);
+    }
+}
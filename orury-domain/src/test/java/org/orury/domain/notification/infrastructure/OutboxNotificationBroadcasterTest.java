@@ -0,0 +1,149 @@
+package org.orury.domain.notification.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orury.domain.notification.domain.dto.NotificationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("[Broadcaster] notification 테이블 outbox broadcaster 테스트")
+class OutboxNotificationBroadcasterTest {
+    private static final long GAP_GRACE_MILLIS = 5000L;
+    private static final int BATCH_SIZE = 2;
+
+    private JdbcTemplate jdbcTemplate;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxNotificationBroadcaster broadcaster;
+    private final List<Long> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.millis()).willReturn(0L);
+        broadcaster = new OutboxNotificationBroadcaster(jdbcTemplate, meterRegistry, clock, BATCH_SIZE, GAP_GRACE_MILLIS);
+    }
+
+    @Test
+    @DisplayName("처음 poll하면 마지막 id부터 시작하고, 이후 저장된 알림을 id 순서대로 listener에 전달한다.")
+    void when_Poll_Then_DeliverNotificationsAfterStartId() {
+        // given
+        broadcaster.subscribe(event -> received.add(event.id()));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(10L);
+        broadcaster.poll();
+        givenNotificationsAfter(10L, 11L, 12L);
+
+        // when
+        broadcaster.poll();
+
+        // then
+        assertThat(received).containsExactly(11L, 12L);
+        assertThat(meterRegistry.counter("notification.outbox.delivered").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비어 있는 id는 따로 다시 읽어, 늦게 커밋된 알림도 한 번만 전달한다.")
+    void when_IdGap_Then_WaitForLateCommit() {
+        // given
+        broadcaster.subscribe(event -> received.add(event.id()));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(10L);
+        broadcaster.poll();
+        givenNotificationsAfter(10L, 11L, 13L);
+        broadcaster.poll();
+
+        // when
+        givenGapNotifications(12L);
+        broadcaster.poll();
+        broadcaster.poll();
+
+        // then
+        assertThat(received).containsExactly(11L, 13L, 12L);
+    }
+
+    @Test
+    @DisplayName("gap grace가 지나도 채워지지 않은 id는 포기하고 다음 id로 넘어간다.")
+    void when_GapExpired_Then_SkipGap() {
+        // given
+        broadcaster.subscribe(event -> received.add(event.id()));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(10L);
+        broadcaster.poll();
+        givenNotificationsAfter(10L, 12L);
+        broadcaster.poll();
+
+        // when
+        given(clock.millis()).willReturn(GAP_GRACE_MILLIS);
+        broadcaster.poll();
+
+        // then
+        assertThat(received).containsExactly(12L);
+        assertThat(meterRegistry.counter("notification.outbox.skipped_gaps").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.outbox.open_gaps").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("비어 있는 id 뒤에 batch 크기 이상 쌓여 있어도, 전달한 알림을 다시 읽지 않고 새 알림을 이어서 전달한다.")
+    void when_GapBeforeFullBatch_Then_KeepDeliveringNewNotifications() {
+        // given
+        broadcaster.subscribe(event -> received.add(event.id()));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(10L);
+        broadcaster.poll();
+        givenNotificationsAfter(10L, 12L, 13L);
+        broadcaster.poll();
+
+        // when
+        givenNotificationsAfter(13L, 14L, 15L);
+        broadcaster.poll();
+
+        // then
+        assertThat(received).containsExactly(12L, 13L, 14L, 15L);
+        assertThat(meterRegistry.get("notification.outbox.open_gaps").gauge().value()).isEqualTo(1);
+        then(jdbcTemplate).should(times(1))
+                .query(contains("id >"), any(RowMapper.class), eq(10L), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("listener가 없는 애플리케이션에서는 notification 테이블을 읽지 않는다.")
+    void when_NoListener_Then_SkipPoll() {
+        // when
+        broadcaster.poll();
+
+        // then
+        then(jdbcTemplate).should(never())
+                .queryForObject(anyString(), eq(Long.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenNotificationsAfter(long cursor, Long... ids) {
+        List<NotificationEvent> events = Arrays.stream(ids)
+                .map(id -> NotificationEvent.of(id, 1L, "title", "content", "url", 0, null, null))
+                .toList();
+        given(jdbcTemplate.query(contains("id >"), any(RowMapper.class), eq(cursor), eq(BATCH_SIZE)))
+                .willReturn(events);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenGapNotifications(Long id) {
+        given(jdbcTemplate.query(contains("id IN"), any(RowMapper.class), eq(id)))
+                .willReturn(List.of(NotificationEvent.of(id, 1L, "title", "content", "url", 0, null, null)));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.orury.domain.PostDomainFixture;
 import org.orury.domain.config.InfrastructureTest;
 import org.orury.domain.global.constants.NumberConstants;
+import org.orury.domain.global.counter.CounterColumn;
+import org.orury.domain.global.domain.LikedIds;
 import org.orury.domain.post.domain.entity.Post;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -76,16 +79,17 @@ class PostReaderTest extends InfrastructureTest {
     void when_FindByTitleContainingOrContentContainingOrderByLikeCountDescWithFirstCursor_Then_Success() {
         // given
         String searchWord = "test";
+        String keyword = "\"test\"";
         Long cursor = NumberConstants.FIRST_CURSOR;
         int likeCount = 10;
-        given(postRepository.findBySearchWordOrderByLikeCountDesc(searchWord, pageable)).willReturn(expectedPosts);
+        given(postRepository.findBySearchWordOrderByLikeCountDesc(keyword, pageable)).willReturn(expectedPosts);
 
         // when
         List<Post> result = postReader.findBySearchWordOrderByLikeCountDesc(searchWord, cursor, likeCount);
 
         // then
         assertSame(expectedPosts, result);
-        verify(postRepository, times(1)).findBySearchWordOrderByLikeCountDesc(searchWord, pageable);
+        verify(postRepository, times(1)).findBySearchWordOrderByLikeCountDesc(keyword, pageable);
     }
 
     @DisplayName("제목 또는 내용에 검색어가 포함된 게시글과 첫번째 아닌 커서로 목록 조회(인기순) - 성공")
@@ -93,16 +97,17 @@ class PostReaderTest extends InfrastructureTest {
     void when_FindByTitleContainingOrContentContainingOrderByLikeCountDescWithNonFirstCursor_Then_Success() {
         // given
         String searchWord = "test";
+        String keyword = "\"test\"";
         Long cursor = 10L;
         int likeCount = 10;
-        given(postRepository.findBySearchWordOrderByLikeCountDescWithCursor(searchWord, cursor, likeCount, pageable)).willReturn(expectedPosts);
+        given(postRepository.findBySearchWordOrderByLikeCountDescWithCursor(keyword, cursor, likeCount, pageable)).willReturn(expectedPosts);
 
         // when
         List<Post> result = postReader.findBySearchWordOrderByLikeCountDesc(searchWord, cursor, likeCount);
 
         // then
         assertSame(expectedPosts, result);
-        verify(postRepository, times(1)).findBySearchWordOrderByLikeCountDescWithCursor(searchWord, cursor, likeCount, pageable);
+        verify(postRepository, times(1)).findBySearchWordOrderByLikeCountDescWithCursor(keyword, cursor, likeCount, pageable);
     }
 
 
@@ -111,15 +116,16 @@ class PostReaderTest extends InfrastructureTest {
     void when_FindByTitleContainingOrContentContainingOrderByIdDescWithFirstCursor_Then_Success() {
         // given
         String searchWord = "test";
+        String keyword = "\"test\"";
         Long cursor = NumberConstants.FIRST_CURSOR;
-        given(postRepository.findBySearchWordOrderByIdDesc(searchWord, pageable)).willReturn(expectedPosts);
+        given(postRepository.findBySearchWordOrderByIdDesc(keyword, pageable)).willReturn(expectedPosts);
 
         // when
         List<Post> result = postReader.findBySearchWordOrderByIdDesc(searchWord, cursor);
 
         // then
         assertSame(expectedPosts, result);
-        verify(postRepository, times(1)).findBySearchWordOrderByIdDesc(searchWord, pageable);
+        verify(postRepository, times(1)).findBySearchWordOrderByIdDesc(keyword, pageable);
     }
 
     @DisplayName("제목 또는 내용에 검색어가 포함된 게시글과 첫번째 아닌 커서로 목록 조회 - 성공")
@@ -127,15 +133,37 @@ class PostReaderTest extends InfrastructureTest {
     void when_FindByTitleContainingOrContentContainingOrderByIdDescWithNonFirstCursor_Then_Success() {
         // given
         String searchWord = "test";
+        String keyword = "\"test\"";
         Long cursor = 10L;
-        given(postRepository.findBySearchWordOrderByIdDescWithCursor(searchWord, cursor, pageable)).willReturn(expectedPosts);
+        given(postRepository.findBySearchWordOrderByIdDescWithCursor(keyword, cursor, pageable)).willReturn(expectedPosts);
 
         // when
         List<Post> result = postReader.findBySearchWordOrderByIdDesc(searchWord, cursor);
 
         // then
         assertSame(expectedPosts, result);
-        verify(postRepository, times(1)).findBySearchWordOrderByIdDescWithCursor(searchWord, cursor, pageable);
+        verify(postRepository, times(1)).findBySearchWordOrderByIdDescWithCursor(keyword, cursor, pageable);
+    }
+
+    @DisplayName("검색어가 비어있다면, DB를 조회하지 않고 빈 목록을 반환 - 성공")
+    @Test
+    void when_BlankSearchWord_Then_EmptyListWithoutQuery() {
+        // when
+        List<Post> result = postReader.findBySearchWordOrderByIdDesc(" \" ", NumberConstants.FIRST_CURSOR);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(postRepository, never()).findBySearchWordOrderByIdDesc(any(), any());
+    }
+
+    @DisplayName("검색어는 ngram 토큰 크기에 따라 FULLTEXT BOOLEAN MODE의 phrase 또는 prefix 식으로 변환 - 성공")
+    @Test
+    void when_ToFullTextQuery_Then_PhraseOrPrefix() {
+        assertEquals("\"클라이밍 암장\"", PostReaderImpl.toFullTextQuery(" 클라이밍 암장 "));
+        assertEquals("\"a b\"", PostReaderImpl.toFullTextQuery("a\"b"));
+        assertEquals("클*", PostReaderImpl.toFullTextQuery("클"));
+        assertEquals("", PostReaderImpl.toFullTextQuery("-"));
+        assertEquals("", PostReaderImpl.toFullTextQuery(null));
     }
 
     @DisplayName("유저 id로 유저가 작성한 가장 최근 게시글 목록 조회 - 성공")
@@ -205,6 +233,22 @@ class PostReaderTest extends InfrastructureTest {
         verify(postRepository, times(1)).findById(postId);
     }
 
+    @DisplayName("게시글 id로 게시글 조회 - 아직 반영되지 않은 좋아요 변화량을 덧씌워 반환")
+    @Test
+    void when_FindByIdWithPendingLikes_Then_OverlayLikeCount() {
+        // given
+        Long postId = 1L;
+        given(postRepository.findById(postId)).willReturn(Optional.of(expectedPost));
+        counterDeltaBuffer.add(CounterColumn.POST_LIKE, postId, 1);
+
+        // when
+        var result = postReader.findById(postId);
+
+        // then
+        assertEquals(expectedPost.getLikeCount() + 1, result.get().getLikeCount());
+        assertEquals(expectedPost.getViewCount(), result.get().getViewCount());
+    }
+
     @DisplayName("게시글 id로 게시글 조회 - null 반환")
     @Test
     void when_FindById_Then_ReturnNull() {
@@ -237,6 +281,24 @@ class PostReaderTest extends InfrastructureTest {
         verify(postLikeRepository).existsPostLikeByPostLikePK_UserIdAndPostLikePK_PostId(userId, postId);
     }
 
+    @DisplayName("유저 아이디와 게시글 아이디 목록으로 좋아요한 게시글 아이디를 한 번에 조회한다. - 성공")
+    @Test
+    void given_UserIdAndPostIds_When_FindLikedPostIds_Then_ReturnLikedIds() {
+        // given
+        Long userId = 1L;
+        List<Long> postIds = List.of(3L, 2L, 1L);
+        given(postLikeRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds)).willReturn(List.of(3L, 1L));
+
+        // when
+        LikedIds likedIds = postReader.findLikedPostIds(userId, postIds);
+
+        // then
+        assertTrue(likedIds.contains(3L));
+        assertFalse(likedIds.contains(2L));
+        assertTrue(likedIds.contains(1L));
+        verify(postLikeRepository, times(1)).findPostIdsByUserIdAndPostIdIn(userId, postIds);
+    }
+
     @DisplayName("게시글 전부 조회 - 성공")
     @Test
     void when_FindAll_Then_Success() {
@@ -6,14 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.orury.common.util.S3Folder;
 import org.orury.domain.PostDomainFixture;
 import org.orury.domain.config.InfrastructureTest;
+import org.orury.domain.global.counter.CounterColumn;
 import org.orury.domain.post.domain.entity.Post;
 import org.orury.domain.post.domain.entity.PostLike;
 
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -55,11 +58,11 @@ class PostStoreTest extends InfrastructureTest {
     void should_SavePostLike_Success() {
         // given
         given(postLikeRepository.save(any(PostLike.class))).willReturn(expectedPostLike);
-        willDoNothing().given(postRepository).increaseLikeCount(expectedPostLike.getPostLikePK().getPostId());
         // when
         postStore.save(expectedPostLike);
         // then
         verify(postLikeRepository, times(1)).save(any(PostLike.class));
+        assertEquals(1, counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, expectedPostLike.getPostLikePK().getPostId()));
     }
 
     @DisplayName("게시글 좋아요 삭제 - 성공")
@@ -67,26 +70,26 @@ class PostStoreTest extends InfrastructureTest {
     void should_DeletePostLike_Success() {
         // given
         willDoNothing().given(postLikeRepository).delete(any(PostLike.class));
-        willDoNothing().given(postRepository).decreaseLikeCount(expectedPostLike.getPostLikePK().getPostId());
         // when
         postStore.delete(expectedPostLike);
         // then
         verify(postLikeRepository, times(1)).delete(any(PostLike.class));
-        verify(postRepository, times(1)).decreaseLikeCount(expectedPostLike.getPostLikePK().getPostId());
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, expectedPostLike.getPostLikePK().getPostId()));
     }
 
     @DisplayName("게시글 조회수 증가 - 성공")
     @Test
     void should_UpdateViewCount_Success() {
         // given
-        willDoNothing().given(postRepository).updateViewCount(expectedPost.getId());
+        Long userId = 1L;
         // when
-        postStore.updateViewCount(expectedPost.getId());
+        postStore.updateViewCount(userId, expectedPost.getId());
+        postViewCountBuffer.flush();
         // then
-        verify(postRepository, times(1)).updateViewCount(expectedPost.getId());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
     }
 
-    @DisplayName("유저 id와 관련된 게시글 좋아요 삭제 및 조회 수 감소 - 성공")
+    @DisplayName("유저 id와 관련된 게시글 좋아요 삭제 및 좋아요 수 감소 - 성공")
     @Test
     void should_DeletePostLikesByUserId_Success() {
         // given
@@ -100,7 +103,9 @@ class PostStoreTest extends InfrastructureTest {
         // then
         verify(postLikeRepository, times(1)).findByPostLikePK_UserId(expectedPostLike.getPostLikePK().getUserId());
         verify(postLikeRepository, times(9)).delete(any(PostLike.class));
-        verify(postRepository, times(9)).decreaseCommentCount(any(Long.class));
+        IntStream.range(1, 10)
+                .forEach(i -> assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.POST_LIKE, (long) i)));
+        verify(postRepository, never()).decreaseCommentCount(any(Long.class));
     }
 
     @DisplayName("유저 id와 관련된 게시글 삭제 - 성공")
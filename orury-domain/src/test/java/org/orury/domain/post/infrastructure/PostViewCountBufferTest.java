@@ -0,0 +1,243 @@
+package org.orury.domain.post.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.orury.domain.global.counter.IncrementBatchWriter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("[Buffer] 게시글 조회수 write-behind 버퍼 테스트")
+class PostViewCountBufferTest {
+    private static final long DEDUP_WINDOW_MILLIS = 600_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.millis()).willReturn(0L);
+        postViewCountBuffer = new PostViewCountBuffer(new IncrementBatchWriter(jdbcTemplate, mock(PlatformTransactionManager.class)), meterRegistry, clock, DEDUP_WINDOW_MILLIS, 2, 100);
+    }
+
+    @Test
+    @DisplayName("여러 유저의 조회는 게시글별로 합산되어, id 오름차순의 한 번의 batch UPDATE로 반영된다.")
+    void when_Flush_Then_BatchUpdateAggregatedCounts() {
+        // given
+        postViewCountBuffer.increase(1L, 20L);
+        postViewCountBuffer.increase(2L, 20L);
+        postViewCountBuffer.increase(3L, 10L);
+
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        List<Object[]> increments = captureBatchUpdate();
+        assertThat(increments).containsExactly(new Object[]{1L, 10L}, new Object[]{2L, 20L});
+        assertThat(meterRegistry.counter("post.view_count.flushed").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 유저가 dedup window 안에 다시 조회하면, 조회수를 올리지 않는다.")
+    void when_SameUserViewsWithinWindow_Then_Deduplicate() {
+        // given
+        postViewCountBuffer.increase(1L, 10L);
+        given(clock.millis()).willReturn(DEDUP_WINDOW_MILLIS - 1);
+        postViewCountBuffer.increase(1L, 10L);
+        given(clock.millis()).willReturn(DEDUP_WINDOW_MILLIS);
+        postViewCountBuffer.increase(1L, 10L);
+
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        assertThat(captureBatchUpdate()).containsExactly(new Object[]{2L, 10L});
+        assertThat(meterRegistry.counter("post.view_count.deduplicated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 게시글 수가 상한에 닿으면, 새 게시글의 조회는 버리고 dropped로 기록한다.")
+    void when_BufferFull_Then_DropNewPost() {
+        // given
+        postViewCountBuffer.increase(1L, 10L);
+        postViewCountBuffer.increase(1L, 20L);
+
+        // when
+        postViewCountBuffer.increase(1L, 30L);
+        postViewCountBuffer.increase(2L, 20L);
+
+        // then
+        assertThat(meterRegistry.counter("post.view_count.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.view_count.pending_posts").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 조회수를 버퍼로 되돌리고, 다음 flush에서 다시 반영한다.")
+    void when_FlushFailed_Then_RetryOnNextFlush() {
+        // given
+        postViewCountBuffer.increase(1L, 10L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"))
+                .willReturn(new int[]{1});
+        postViewCountBuffer.flush();
+        postViewCountBuffer.increase(2L, 10L);
+        given(clock.millis()).willReturn(5_000L);
+
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        List<Object[]> increments = captureBatchUpdate(2);
+        assertThat(increments).containsExactly(new Object[]{2L, 10L});
+        assertThat(meterRegistry.counter("post.view_count.flush.failures").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.view_count.flush.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch의 두 번째 행이 실패하면 앞서 반영된 행까지 롤백되어, 다시 반영해도 조회수가 정확하다.")
+    void when_SecondRowOfBatchFails_Then_RollbackAndKeepCountsExact() {
+        // given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:post_view_count;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate h2JdbcTemplate = new JdbcTemplate(dataSource);
+        h2JdbcTemplate.execute("DROP TABLE IF EXISTS post");
+        h2JdbcTemplate.execute("CREATE TABLE post (id BIGINT PRIMARY KEY, view_count INT NOT NULL CHECK (view_count <= 100))");
+        h2JdbcTemplate.update("INSERT INTO post (id, view_count) VALUES (10, 5), (20, 100)");
+        PostViewCountBuffer buffer = new PostViewCountBuffer(
+                new IncrementBatchWriter(h2JdbcTemplate, new DataSourceTransactionManager(dataSource)),
+                meterRegistry, clock, DEDUP_WINDOW_MILLIS, 2, 100);
+        buffer.increase(1L, 10L);
+        buffer.increase(1L, 20L);
+
+        // when
+        buffer.flush();
+        h2JdbcTemplate.update("UPDATE post SET view_count = 0 WHERE id = 20");
+        buffer.flush();
+
+        // then
+        assertThat(viewCount(h2JdbcTemplate, 10L)).isEqualTo(6);
+        assertThat(viewCount(h2JdbcTemplate, 20L)).isEqualTo(1);
+        assertThat(meterRegistry.counter("post.view_count.flush.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수가 없으면 DB에 쓰지 않는다.")
+    void when_NothingPending_Then_SkipUpdate() {
+        // when
+        postViewCountBuffer.flush();
+
+        // then
+        then(jdbcTemplate).should(never())
+                .batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("flush와 조회가 동시에 일어나도, 조회수를 잃거나 두 번 세지 않는다.")
+    void when_FlushConcurrentlyWithViews_Then_CountEveryView() throws Exception {
+        // given
+        AtomicLong written = new AtomicLong();
+        willAnswer(invocation -> {
+            List<Object[]> increments = invocation.getArgument(1);
+            increments.forEach(increment -> written.addAndGet((Long) increment[0]));
+            return new int[increments.size()];
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+        int threads = 4;
+        int viewsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int thread = 0; thread < threads; thread++) {
+            long firstUserId = (long) thread * viewsPerThread;
+            executor.execute(() -> {
+                for (int view = 0; view < viewsPerThread; view++) {
+                    postViewCountBuffer.increase(firstUserId + view, 10L);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            postViewCountBuffer.flush();
+        }
+        postViewCountBuffer.flush();
+        executor.shutdown();
+
+        // then
+        assertThat(written.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("같은 유저가 동시에 같은 게시글을 조회해도, 조회수는 한 번만 오른다.")
+    void when_SameUserViewsConcurrently_Then_CountOnce() throws Exception {
+        // given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    postViewCountBuffer.increase(1L, 10L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        postViewCountBuffer.flush();
+
+        // then
+        assertThat(captureBatchUpdate()).containsExactly(new Object[]{1L, 10L});
+        assertThat(meterRegistry.counter("post.view_count.deduplicated").count()).isEqualTo(threads - 1);
+    }
+
+    private int viewCount(JdbcTemplate jdbcTemplate, Long postId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM post WHERE id = ?", Integer.class, postId);
+    }
+
+    private List<Object[]> captureBatchUpdate() {
+        return captureBatchUpdate(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatchUpdate(int times) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(times))
+                .batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+}
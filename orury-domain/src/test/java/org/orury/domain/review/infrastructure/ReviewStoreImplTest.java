@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orury.domain.config.InfrastructureTest;
+import org.orury.domain.global.counter.CounterColumn;
 import org.orury.domain.review.domain.entity.Review;
 import org.orury.domain.review.domain.entity.ReviewReaction;
 import org.orury.domain.review.domain.entity.ReviewReactionPK;
@@ -12,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.*;
 import static org.orury.domain.ReviewDomainFixture.TestReview.createReview;
 import static org.orury.domain.ReviewDomainFixture.TestReviewReaction.createReviewReaction;
@@ -33,8 +35,7 @@ class ReviewStoreImplTest extends InfrastructureTest {
         reviewStore.increaseReactionCount(reviewId, reactionType);
 
         // then
-        then(reviewRepository).should(times(1))
-                .increaseReactionCount(reviewId, reactionType);
+        assertEquals(1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_WANT_TO_GO, reviewId));
     }
 
     @DisplayName("리뷰에 대한 반응의 수를 감소시킨다.")
@@ -48,8 +49,7 @@ class ReviewStoreImplTest extends InfrastructureTest {
         reviewStore.decreaseReactionCount(reviewId, reactionType);
 
         // then
-        then(reviewRepository).should(times(1))
-                .decreaseReactionCount(reviewId, reactionType);
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_WANT_TO_GO, reviewId));
     }
 
     @DisplayName("리뷰에 대한 반응의 수를 업데이트 시킨다.")
@@ -64,8 +64,8 @@ class ReviewStoreImplTest extends InfrastructureTest {
         reviewStore.updateReactionCount(reviewId, oldReactionType, newReactionType);
 
         // then
-        then(reviewRepository).should(times(1))
-                .updateReactionCount(reviewId, oldReactionType, newReactionType);
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_WANT_TO_GO, reviewId));
+        assertEquals(1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_HELPED, reviewId));
     }
 
     @DisplayName("리뷰를 성공적으로 저장한다.")
@@ -151,8 +151,9 @@ class ReviewStoreImplTest extends InfrastructureTest {
         reviewStore.deleteReviewReactionsByUserId(userId);
 
         // then
-        then(reviewRepository).should(times(reactions.size()))
-                .decreaseReactionCount(anyLong(), anyInt());
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_WANT_TO_GO, reviewId));
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_HELPED, reviewId));
+        assertEquals(-1, counterDeltaBuffer.pendingDelta(CounterColumn.REVIEW_GREAT, reviewId));
         then(reviewReactionRepository).should(times(reactions.size()))
                 .delete(any());
     }